@@ -3,8 +3,11 @@ package org.ringbuffer;
 import eu.menzani.lang.Assume;
 import eu.menzani.lang.CopiedClass;
 import eu.menzani.lang.Numbers;
+import eu.menzani.object.ObjectFactory;
 import org.ringbuffer.wait.BusyWaitStrategy;
 import org.ringbuffer.wait.HintBusyWaitStrategy;
+import org.ringbuffer.wait.SignalBusyWaitStrategy;
+import org.ringbuffer.wait.ThreadLocalBusyWaitStrategy;
 
 public abstract class AbstractRingBufferBuilder<T> {
     private Boolean oneWriter;
@@ -12,6 +15,8 @@ public abstract class AbstractRingBufferBuilder<T> {
     protected RingBufferType type = RingBufferType.CLEARING;
     private BusyWaitStrategy writeBusyWaitStrategy;
     private BusyWaitStrategy readBusyWaitStrategy;
+    private ObjectFactory<? extends BusyWaitStrategy> writeBusyWaitStrategyFactory;
+    private ObjectFactory<? extends BusyWaitStrategy> readBusyWaitStrategyFactory;
     protected boolean copyClass;
     // All fields are copied in <init>(AbstractRingBufferBuilder<?>)
 
@@ -24,6 +29,8 @@ public abstract class AbstractRingBufferBuilder<T> {
         type = builder.type;
         writeBusyWaitStrategy = builder.writeBusyWaitStrategy;
         readBusyWaitStrategy = builder.readBusyWaitStrategy;
+        writeBusyWaitStrategyFactory = builder.writeBusyWaitStrategyFactory;
+        readBusyWaitStrategyFactory = builder.readBusyWaitStrategyFactory;
         copyClass = builder.copyClass;
     }
 
@@ -70,12 +77,27 @@ public abstract class AbstractRingBufferBuilder<T> {
         type = RingBufferType.LOCKFREE;
     }
 
+    protected void lockfree0(BusyWaitStrategy busyWaitStrategy) {
+        type = RingBufferType.LOCKFREE;
+        writeBusyWaitStrategy = busyWaitStrategy;
+    }
+
     public abstract AbstractRingBufferBuilder<T> waitingWith(BusyWaitStrategy busyWaitStrategy);
 
     protected void waitingWith0(BusyWaitStrategy busyWaitStrategy) {
         readBusyWaitStrategy = busyWaitStrategy;
     }
 
+    protected void writingWith0(ObjectFactory<? extends BusyWaitStrategy> busyWaitStrategyFactory) {
+        Assume.notNull(busyWaitStrategyFactory);
+        writeBusyWaitStrategyFactory = busyWaitStrategyFactory;
+    }
+
+    protected void readingWith0(ObjectFactory<? extends BusyWaitStrategy> busyWaitStrategyFactory) {
+        Assume.notNull(busyWaitStrategyFactory);
+        readBusyWaitStrategyFactory = busyWaitStrategyFactory;
+    }
+
     /**
      * A separate ring buffer implementation will be created to allow inlining of polymorphic calls.
      *
@@ -117,6 +139,49 @@ public abstract class AbstractRingBufferBuilder<T> {
         if (oneWriter == null) {
             throw new IllegalStateException("You must call either oneWriter() or manyWriters().");
         }
+        if (writeBusyWaitStrategy instanceof SignalBusyWaitStrategy && !isWriteSignalSupported()) {
+            throw new IllegalStateException("SignalBusyWaitStrategy cannot be passed to blocking() for this ring buffer.");
+        }
+        if (readBusyWaitStrategy instanceof SignalBusyWaitStrategy && !isReadSignalSupported()) {
+            throw new IllegalStateException("SignalBusyWaitStrategy cannot be passed to waitingWith() for this ring buffer.");
+        }
+    }
+
+    /**
+     * Must be called by {@link #validate()} if the created ring buffer lets many writers wait at the same time
+     * without holding a monitor, since only the default strategy can be shared by them.
+     */
+    protected void validateConcurrentWriters() {
+        if (!oneWriter && writeBusyWaitStrategyFactory == null &&
+                getWriteBusyWaitStrategy() != HintBusyWaitStrategy.DEFAULT_INSTANCE) {
+            throw new IllegalStateException("You must call writingWith().");
+        }
+    }
+
+    /**
+     * Same as {@link #validateConcurrentWriters()}, but for readers.
+     */
+    protected void validateConcurrentReaders() {
+        if (!oneReader && readBusyWaitStrategyFactory == null &&
+                getReadBusyWaitStrategy() != HintBusyWaitStrategy.DEFAULT_INSTANCE) {
+            throw new IllegalStateException("You must call readingWith().");
+        }
+    }
+
+    /**
+     * @return {@code true} if the created ring buffer signals a {@link SignalBusyWaitStrategy} passed to
+     * {@code waitingWith()}, and only one reader at a time can wait on it
+     */
+    protected boolean isReadSignalSupported() {
+        return false;
+    }
+
+    /**
+     * @return {@code true} if the created ring buffer signals a {@link SignalBusyWaitStrategy} passed to
+     * {@code blocking()}, and only one writer at a time can wait on it
+     */
+    protected boolean isWriteSignalSupported() {
+        return false;
     }
 
     protected abstract T create(RingBufferConcurrency concurrency, RingBufferType type);
@@ -128,10 +193,16 @@ public abstract class AbstractRingBufferBuilder<T> {
     }
 
     protected BusyWaitStrategy getWriteBusyWaitStrategy() {
+        if (writeBusyWaitStrategyFactory != null) {
+            return new ThreadLocalBusyWaitStrategy(writeBusyWaitStrategyFactory);
+        }
         return writeBusyWaitStrategy;
     }
 
     protected BusyWaitStrategy getReadBusyWaitStrategy() {
+        if (readBusyWaitStrategyFactory != null) {
+            return new ThreadLocalBusyWaitStrategy(readBusyWaitStrategyFactory);
+        }
         if (readBusyWaitStrategy == null) {
             return HintBusyWaitStrategy.getDefault();
         }
@@ -0,0 +1,30 @@
+package org.ringbuffer;
+
+import eu.menzani.lang.Assume;
+
+class OccupancyResizePolicy implements ResizePolicy {
+    private final long minCapacity;
+    private final long maxCapacity;
+
+    OccupancyResizePolicy(long minCapacity, long maxCapacity) {
+        AbstractRingBufferBuilder.validateCapacityPowerOfTwo(minCapacity);
+        AbstractRingBufferBuilder.validateCapacityPowerOfTwo(maxCapacity);
+        Assume.notLesser(maxCapacity, minCapacity);
+        this.minCapacity = minCapacity;
+        this.maxCapacity = maxCapacity;
+    }
+
+    @Override
+    public long getNewCapacity(long capacity, long size) {
+        if (size >= capacity - capacity / 4L) {
+            if (capacity < maxCapacity) {
+                return capacity * 2L;
+            }
+        } else if (size < capacity / 4L) {
+            if (capacity > minCapacity) {
+                return capacity / 2L;
+            }
+        }
+        return capacity;
+    }
+}
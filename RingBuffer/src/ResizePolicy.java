@@ -0,0 +1,31 @@
+package org.ringbuffer;
+
+/**
+ * Decides when a resizable ring buffer grows or shrinks. It is consulted by the writer when the ring buffer is full,
+ * and every time the writer wraps around the buffer. On wrap-around, a smaller capacity is only applied once it has
+ * been returned 8 times in a row, so that the buffer is not reallocated whenever the load fluctuates.
+ * Writes that could never fit grow the ring buffer regardless of the policy.
+ */
+public interface ResizePolicy {
+    /**
+     * @param capacity the current capacity
+     * @param size     the number of elements, or bytes, in the ring buffer
+     * @return the new capacity, which must be a power of 2, or {@code capacity} to keep it
+     */
+    long getNewCapacity(long capacity, long size);
+
+    /**
+     * The ring buffer is only resized by calling {@code resize()}.
+     */
+    static ResizePolicy manual() {
+        return (capacity, size) -> capacity;
+    }
+
+    /**
+     * Doubles the capacity when the ring buffer is at least three quarters full, up to {@code maxCapacity},
+     * and halves it when it is less than a quarter full, down to {@code minCapacity}.
+     */
+    static ResizePolicy occupancy(long minCapacity, long maxCapacity) {
+        return new OccupancyResizePolicy(minCapacity, maxCapacity);
+    }
+}
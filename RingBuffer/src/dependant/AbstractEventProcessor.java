@@ -0,0 +1,107 @@
+package org.ringbuffer.dependant;
+
+import eu.menzani.atomic.AtomicInt;
+import eu.menzani.lang.Lang;
+import eu.menzani.system.ThreadManipulation;
+import org.ringbuffer.wait.BusyWaitStrategy;
+
+abstract class AbstractEventProcessor {
+    private static final long STATE = Lang.objectFieldOffset(AbstractEventProcessor.class, "state");
+
+    private static final int RUNNING = 0;
+    private static final int DRAINING = 1;
+    private static final int HALTED = 2;
+
+    private final Thread thread;
+    private final BusyWaitStrategy idleBusyWaitStrategy;
+    private final ThreadManipulation threadManipulation;
+
+    private int state;
+
+    AbstractEventProcessor(String name, BusyWaitStrategy idleBusyWaitStrategy, ThreadManipulation threadManipulation) {
+        thread = new Thread(this::run, name);
+        this.idleBusyWaitStrategy = idleBusyWaitStrategy;
+        this.threadManipulation = threadManipulation;
+    }
+
+    public void start() {
+        thread.start();
+    }
+
+    /**
+     * Exceptions thrown by the handler are passed to {@code exceptionHandler}, and the batch goes on.
+     * By default, they are passed to the uncaught exception handler of the thread group.
+     * Must be called before {@link #start()}.
+     */
+    public void setExceptionHandler(Thread.UncaughtExceptionHandler exceptionHandler) {
+        thread.setUncaughtExceptionHandler(exceptionHandler);
+    }
+
+    /**
+     * Waits for the current batch to be handled, then terminates the thread.
+     * Elements still in the ring buffer are not handled.
+     *
+     * @throws IllegalStateException if {@link #start()} was not called
+     */
+    public void halt() throws InterruptedException {
+        validateStarted();
+        AtomicInt.setOpaque(this, STATE, HALTED);
+        thread.join();
+    }
+
+    /**
+     * Handles all elements in the ring buffer, then terminates the thread.
+     * Writers must have stopped writing before this method is called.
+     *
+     * @throws IllegalStateException if {@link #start()} was not called
+     */
+    public void drainAndHalt() throws InterruptedException {
+        validateStarted();
+        AtomicInt.setOpaque(this, STATE, DRAINING);
+        thread.join();
+    }
+
+    private void validateStarted() {
+        if (thread.getState() == Thread.State.NEW) {
+            throw new IllegalStateException("You must call start().");
+        }
+    }
+
+    private void run() {
+        threadManipulation.applyToCurrentThread();
+
+        var idleBusyWaitStrategy = this.idleBusyWaitStrategy;
+        boolean idle = false;
+        while (true) {
+            int state = AtomicInt.getOpaque(this, STATE);
+            if (state == HALTED) {
+                break;
+            }
+            if (processBatch()) {
+                idle = false;
+            } else {
+                if (state == DRAINING) {
+                    break;
+                }
+                if (!idle) {
+                    idleBusyWaitStrategy.reset();
+                    idle = true;
+                }
+                idleBusyWaitStrategy.tick();
+            }
+        }
+    }
+
+    /**
+     * @return {@code false} if the ring buffer was empty
+     */
+    abstract boolean processBatch();
+
+    /**
+     * Must be called by {@link #processBatch()} for exceptions thrown by the handler,
+     * so that the rest of the batch is still handled and the thread does not terminate.
+     */
+    void handleException(RuntimeException e) {
+        thread.getUncaughtExceptionHandler().uncaughtException(thread, e);
+    }
+}
@@ -1,49 +1,254 @@
 package org.ringbuffer.dependant;
 
+import eu.menzani.atomic.AtomicInt;
+import eu.menzani.lang.Assume;
+import eu.menzani.lang.Lang;
 import eu.menzani.object.ObjectFactory;
 import eu.menzani.object.ObjectPool;
 import eu.menzani.object.PoolObject;
-import org.ringbuffer.object.LockfreeRingBuffer;
-import org.ringbuffer.object.RingBuffer;
+import org.ringbuffer.object.LockfreeStack;
 
+/**
+ * Each thread keeps two magazines of objects, so that most operations do not touch shared state.
+ * When both are exhausted, a thread exchanges a whole magazine with the shared depot, which is made of two
+ * {@link LockfreeStack}s: a full magazine when it runs out of objects, an empty one when it has too many.
+ * If the depot has no full magazines, new objects are created with the filler.
+ * If it has no room for a full magazine, its objects are deallocated, and an empty magazine is left to the garbage
+ * collector.
+ * <p>
+ * The magazines of a thread are kept until it terminates, and the objects in them are lost with it.
+ * Threads that terminate while the pool is still used should call {@link #releaseMagazines()} first.
+ * <p>
+ * {@link #isEmpty()} and {@link #isFull()} refer to the depot, since objects in magazines are only visible to the
+ * thread that owns them.
+ * <p>
+ * The pool used to be backed by a pre-filled ring buffer, and keeps its name for compatibility.
+ */
 public class ConcurrentPrefilledRingBufferObjectPool<T extends PoolObject> implements ObjectPool<T> {
-    private final LockfreeRingBuffer<T> ringBuffer;
+    private static final long NUM_FULL_MAGAZINES, MIN_NUM_FULL_MAGAZINES;
+
+    static {
+        final Class<?> clazz = ConcurrentPrefilledRingBufferObjectPool.class;
+        NUM_FULL_MAGAZINES = Lang.objectFieldOffset(clazz, "numFullMagazines");
+        MIN_NUM_FULL_MAGAZINES = Lang.objectFieldOffset(clazz, "minNumFullMagazines");
+    }
+
+    private static final int DEFAULT_MAGAZINE_SIZE = 32;
+
+    private final int magazineSize;
+    private final ObjectFactory<T> filler;
+    private final LockfreeStack<Magazine<T>> fullMagazines;
+    private final LockfreeStack<Magazine<T>> emptyMagazines;
+    private final ThreadLocal<Magazines<T>> magazines = ThreadLocal.withInitial(this::newMagazines);
+
+    private int numFullMagazines;
+    private int minNumFullMagazines;
 
     public ConcurrentPrefilledRingBufferObjectPool(int capacity, ObjectFactory<T> filler) {
-        ringBuffer = RingBuffer.<T>withCapacity(capacity)
-                .manyWriters()
-                .manyReaders()
-                .lockfree()
-                .build();
+        this(capacity, DEFAULT_MAGAZINE_SIZE, filler);
+    }
+
+    /**
+     * @param capacity the maximum number of objects in the depot, half of which are created up front
+     */
+    public ConcurrentPrefilledRingBufferObjectPool(int capacity, int magazineSize, ObjectFactory<T> filler) {
+        Assume.notLesser(magazineSize, 1);
+        Assume.notLesser(capacity, magazineSize * 2);
+        this.magazineSize = magazineSize;
+        this.filler = filler;
+        int depotCapacity = capacity / magazineSize;
+        fullMagazines = new LockfreeStack<>(depotCapacity);
+        emptyMagazines = new LockfreeStack<>(depotCapacity);
 
-        capacity /= 2;
-        for (int i = 0; i < capacity; i++) {
-            ringBuffer.put(filler.newInstance());
+        int numFullMagazines = depotCapacity / 2;
+        for (int i = 0; i < numFullMagazines; i++) {
+            Magazine<T> magazine = new Magazine<>(magazineSize);
+            while (magazine.isNotFull()) {
+                magazine.push(filler.newInstance());
+            }
+            fullMagazines.put(magazine);
         }
+        this.numFullMagazines = numFullMagazines;
+        minNumFullMagazines = numFullMagazines;
+    }
+
+    private Magazines<T> newMagazines() {
+        return new Magazines<>(new Magazine<>(magazineSize), new Magazine<>(magazineSize));
     }
 
     @Override
     public T release() {
-        return ringBuffer.take();
+        Magazines<T> magazines = this.magazines.get();
+        Magazine<T> loaded = magazines.loaded;
+        if (loaded.isNotEmpty()) {
+            return loaded.pop();
+        }
+        Magazine<T> previous = magazines.previous;
+        if (previous.isNotEmpty()) {
+            magazines.loaded = previous;
+            magazines.previous = loaded;
+            return previous.pop();
+        }
+        Magazine<T> full = takeFullMagazine();
+        if (full == null) {
+            return filler.newInstance();
+        }
+        putEmptyMagazine(previous);
+        magazines.previous = loaded;
+        magazines.loaded = full;
+        return full.pop();
     }
 
     @Override
     public void acquire(T object) {
-        ringBuffer.put(object);
+        Magazines<T> magazines = this.magazines.get();
+        Magazine<T> loaded = magazines.loaded;
+        if (loaded.isNotFull()) {
+            loaded.push(object);
+            return;
+        }
+        Magazine<T> previous = magazines.previous;
+        if (previous.isNotFull()) {
+            magazines.loaded = previous;
+            magazines.previous = loaded;
+            previous.push(object);
+            return;
+        }
+        if (!putFullMagazine(previous)) {
+            previous.deallocate();
+        }
+        Magazine<T> empty = emptyMagazines.take();
+        if (empty == null) {
+            empty = new Magazine<>(magazineSize);
+        }
+        magazines.previous = loaded;
+        magazines.loaded = empty;
+        empty.push(object);
+    }
+
+    /**
+     * Returns the objects of the calling thread to the depot, and removes its magazines.
+     */
+    public void releaseMagazines() {
+        Magazines<T> magazines = this.magazines.get();
+        this.magazines.remove();
+        Magazine<T> loaded = magazines.loaded;
+        Magazine<T> previous = magazines.previous;
+        while (previous.isNotEmpty() && loaded.isNotFull()) {
+            loaded.push(previous.pop());
+        }
+        releaseMagazine(loaded);
+        releaseMagazine(previous);
     }
 
+    private void releaseMagazine(Magazine<T> magazine) {
+        if (magazine.isNotEmpty() && putFullMagazine(magazine)) {
+            return;
+        }
+        magazine.deallocate();
+        putEmptyMagazine(magazine);
+    }
+
+    private void putEmptyMagazine(Magazine<T> magazine) {
+        // If the depot has no room, the magazine is left to the garbage collector
+        emptyMagazines.put(magazine);
+    }
+
+    private Magazine<T> takeFullMagazine() {
+        Magazine<T> magazine = fullMagazines.take();
+        if (magazine != null) {
+            int numFullMagazines = AtomicInt.getAndAddVolatile(this, NUM_FULL_MAGAZINES, -1) - 1;
+            if (numFullMagazines < AtomicInt.getAcquire(this, MIN_NUM_FULL_MAGAZINES)) {
+                AtomicInt.setRelease(this, MIN_NUM_FULL_MAGAZINES, numFullMagazines);
+            }
+        }
+        return magazine;
+    }
+
+    private boolean putFullMagazine(Magazine<T> magazine) {
+        if (fullMagazines.put(magazine)) {
+            AtomicInt.getAndAddVolatile(this, NUM_FULL_MAGAZINES, 1);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * @return {@code true} if the depot has no room for a full magazine
+     */
     @Override
     public boolean isFull() {
-        throw new UnsupportedOperationException();
+        return AtomicInt.getAcquire(this, NUM_FULL_MAGAZINES) == fullMagazines.getCapacity();
     }
 
+    /**
+     * @return {@code true} if the depot has no full magazines
+     */
     @Override
     public boolean isEmpty() {
-        throw new UnsupportedOperationException();
+        return AtomicInt.getAcquire(this, NUM_FULL_MAGAZINES) == 0;
     }
 
+    /**
+     * Deallocates the objects of the full magazines that stayed in the depot since the previous call,
+     * as they exceed the working set of the pool.
+     */
     @Override
     public void gc() {
-        throw new UnsupportedOperationException();
+        int numIdleMagazines = AtomicInt.getAcquire(this, MIN_NUM_FULL_MAGAZINES);
+        for (int i = 0; i < numIdleMagazines; i++) {
+            Magazine<T> magazine = takeFullMagazine();
+            if (magazine == null) {
+                break;
+            }
+            magazine.deallocate();
+            putEmptyMagazine(magazine);
+        }
+        AtomicInt.setRelease(this, MIN_NUM_FULL_MAGAZINES, AtomicInt.getAcquire(this, NUM_FULL_MAGAZINES));
+    }
+
+    private static class Magazines<T extends PoolObject> {
+        Magazine<T> loaded;
+        Magazine<T> previous;
+
+        Magazines(Magazine<T> loaded, Magazine<T> previous) {
+            this.loaded = loaded;
+            this.previous = previous;
+        }
+    }
+
+    private static class Magazine<T extends PoolObject> {
+        private final T[] objects;
+        private int size;
+
+        @SuppressWarnings("unchecked")
+        Magazine(int capacity) {
+            // The erasure of T is PoolObject
+            objects = (T[]) new PoolObject[capacity];
+        }
+
+        boolean isNotEmpty() {
+            return size != 0;
+        }
+
+        boolean isNotFull() {
+            return size != objects.length;
+        }
+
+        void push(T object) {
+            objects[size++] = object;
+        }
+
+        T pop() {
+            T object = objects[--size];
+            objects[size] = null;
+            return object;
+        }
+
+        void deallocate() {
+            while (size != 0) {
+                pop().deallocate();
+            }
+        }
     }
 }
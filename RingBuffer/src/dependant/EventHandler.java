@@ -0,0 +1,8 @@
+package org.ringbuffer.dependant;
+
+public interface EventHandler<T> {
+    /**
+     * @param endOfBatch {@code true} if {@code event} is the last one of the batch taken from the ring buffer
+     */
+    void onEvent(T event, boolean endOfBatch);
+}
@@ -0,0 +1,74 @@
+package org.ringbuffer.dependant;
+
+import eu.menzani.lang.Assume;
+import eu.menzani.system.ThreadManipulation;
+import org.ringbuffer.object.ObjectRingBuffer;
+import org.ringbuffer.wait.BusyWaitStrategy;
+import org.ringbuffer.wait.HintBusyWaitStrategy;
+
+/**
+ * Owns a thread that takes elements from {@code ringBuffer} in batches of up to {@code maxBatchSize},
+ * and passes them to {@code handler}.
+ * If the ring buffer supports multiple readers, each batch is taken and handled while holding its read monitor.
+ */
+public class EventProcessor<T> extends AbstractEventProcessor {
+    private final ObjectRingBuffer<T> ringBuffer;
+    private final EventHandler<? super T> handler;
+    private final int maxBatchSize;
+    private final Object readMonitor;
+
+    public EventProcessor(ObjectRingBuffer<T> ringBuffer, EventHandler<? super T> handler) {
+        this(ringBuffer, handler, ringBuffer.getCapacity(), HintBusyWaitStrategy.getDefault(), ThreadManipulation.doNothing());
+    }
+
+    /**
+     * @param idleBusyWaitStrategy ticked while the ring buffer is empty
+     */
+    public EventProcessor(ObjectRingBuffer<T> ringBuffer, EventHandler<? super T> handler, int maxBatchSize,
+                          BusyWaitStrategy idleBusyWaitStrategy, ThreadManipulation threadManipulation) {
+        super("EventProcessor", idleBusyWaitStrategy, threadManipulation);
+        Assume.notLesser(maxBatchSize, 1);
+        this.ringBuffer = ringBuffer;
+        this.handler = handler;
+        this.maxBatchSize = maxBatchSize;
+        readMonitor = ringBuffer.getReadMonitor();
+    }
+
+    @Override
+    boolean processBatch() {
+        if (readMonitor == null) {
+            return processBatch0();
+        }
+        synchronized (readMonitor) {
+            return processBatch0();
+        }
+    }
+
+    private boolean processBatch0() {
+        var ringBuffer = this.ringBuffer;
+        int size = ringBuffer.size();
+        if (size == 0) {
+            return false;
+        }
+        if (size > maxBatchSize) {
+            size = maxBatchSize;
+        }
+        ringBuffer.takeBatch(size);
+        var handler = this.handler;
+        for (int i = size; i > 1; i--) {
+            T element = ringBuffer.takePlain();
+            try {
+                handler.onEvent(element, false);
+            } catch (RuntimeException e) {
+                handleException(e);
+            }
+        }
+        T element = ringBuffer.takePlain();
+        try {
+            handler.onEvent(element, true);
+        } catch (RuntimeException e) {
+            handleException(e);
+        }
+        return true;
+    }
+}
@@ -0,0 +1,11 @@
+package org.ringbuffer.dependant;
+
+import org.ringbuffer.marshalling.HeapRingBuffer;
+
+public interface MarshallingEventHandler {
+    /**
+     * @param offset the offset of the message in {@code ringBuffer}
+     * @param endOfBatch {@code true} if the message is the last one of the batch taken from the ring buffer
+     */
+    void onEvent(HeapRingBuffer ringBuffer, int offset, boolean endOfBatch);
+}
@@ -0,0 +1,79 @@
+package org.ringbuffer.dependant;
+
+import eu.menzani.lang.Assume;
+import eu.menzani.system.ThreadManipulation;
+import org.ringbuffer.marshalling.HeapRingBuffer;
+import org.ringbuffer.wait.BusyWaitStrategy;
+import org.ringbuffer.wait.HintBusyWaitStrategy;
+
+/**
+ * Owns a thread that takes messages of {@code messageSize} bytes from {@code ringBuffer}
+ * in batches of up to {@code maxBatchSize}, and passes their offsets to {@code handler}.
+ * The read position is advanced once per batch.
+ * If the ring buffer supports multiple readers, each batch is taken and handled while holding its read monitor.
+ */
+public class MarshallingEventProcessor extends AbstractEventProcessor {
+    private final HeapRingBuffer ringBuffer;
+    private final MarshallingEventHandler handler;
+    private final int messageSize;
+    private final int maxBatchSize;
+    private final Object readMonitor;
+
+    public MarshallingEventProcessor(HeapRingBuffer ringBuffer, int messageSize, MarshallingEventHandler handler) {
+        this(ringBuffer, messageSize, handler, ringBuffer.getCapacity() / messageSize, HintBusyWaitStrategy.getDefault(), ThreadManipulation.doNothing());
+    }
+
+    /**
+     * @param idleBusyWaitStrategy ticked while the ring buffer is empty
+     */
+    public MarshallingEventProcessor(HeapRingBuffer ringBuffer, int messageSize, MarshallingEventHandler handler, int maxBatchSize,
+                                     BusyWaitStrategy idleBusyWaitStrategy, ThreadManipulation threadManipulation) {
+        super("MarshallingEventProcessor", idleBusyWaitStrategy, threadManipulation);
+        Assume.notLesser(messageSize, 1);
+        Assume.notLesser(maxBatchSize, 1);
+        this.ringBuffer = ringBuffer;
+        this.handler = handler;
+        this.messageSize = messageSize;
+        this.maxBatchSize = maxBatchSize;
+        readMonitor = ringBuffer.getReadMonitor();
+    }
+
+    @Override
+    boolean processBatch() {
+        if (readMonitor == null) {
+            return processBatch0();
+        }
+        synchronized (readMonitor) {
+            return processBatch0();
+        }
+    }
+
+    private boolean processBatch0() {
+        var ringBuffer = this.ringBuffer;
+        int messageSize = this.messageSize;
+        int size = ringBuffer.size() / messageSize;
+        if (size == 0) {
+            return false;
+        }
+        if (size > maxBatchSize) {
+            size = maxBatchSize;
+        }
+        int offset = ringBuffer.take(size * messageSize);
+        var handler = this.handler;
+        for (int i = size; i > 1; i--) {
+            try {
+                handler.onEvent(ringBuffer, offset, false);
+            } catch (RuntimeException e) {
+                handleException(e);
+            }
+            offset += messageSize;
+        }
+        try {
+            handler.onEvent(ringBuffer, offset, true);
+        } catch (RuntimeException e) {
+            handleException(e);
+        }
+        ringBuffer.advance(offset + messageSize);
+        return true;
+    }
+}
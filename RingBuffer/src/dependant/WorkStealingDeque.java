@@ -0,0 +1,102 @@
+package org.ringbuffer.dependant;
+
+import eu.menzani.atomic.AtomicArray;
+import eu.menzani.atomic.AtomicLong;
+import eu.menzani.lang.Lang;
+import jdk.internal.vm.annotation.Contended;
+
+/**
+ * Chase-Lev deque: the owner pushes and pops at the bottom, thieves steal from the top.
+ * Slots are cleared by the owner, including those of stolen tasks once it sees that the top has moved past them:
+ * a thief clearing its slot could erase a task pushed to it meanwhile.
+ */
+@Contended
+class WorkStealingDeque {
+    private static final long TOP = Lang.objectFieldOffset(WorkStealingDeque.class, "top");
+    private static final long BOTTOM = Lang.objectFieldOffset(WorkStealingDeque.class, "bottom");
+
+    private final int capacity;
+    private final int capacityMinusOne;
+    private final Runnable[] buffer;
+
+    @Contended
+    private long top;
+    @Contended("owner")
+    private long bottom;
+    // All slots before it have been cleared
+    @Contended("owner")
+    private long cachedTop;
+
+    WorkStealingDeque(int capacity) {
+        this.capacity = capacity;
+        capacityMinusOne = capacity - 1;
+        buffer = new Runnable[capacity];
+    }
+
+    boolean push(Runnable task) {
+        long bottom = this.bottom;
+        if (bottom - cachedTop == capacity) {
+            clearStolen(AtomicLong.getAcquire(this, TOP));
+            if (bottom - cachedTop == capacity) {
+                return false;
+            }
+        }
+        AtomicArray.setPlain(buffer, (int) bottom & capacityMinusOne, task);
+        AtomicLong.setRelease(this, BOTTOM, bottom + 1L);
+        return true;
+    }
+
+    Runnable pop() {
+        long bottom = this.bottom - 1L;
+        AtomicLong.setVolatile(this, BOTTOM, bottom);
+        long top = AtomicLong.getVolatile(this, TOP);
+        clearStolen(top);
+        if (top > bottom) {
+            AtomicLong.setOpaque(this, BOTTOM, bottom + 1L);
+            return null;
+        }
+        int index = (int) bottom & capacityMinusOne;
+        Runnable task = AtomicArray.getPlain(buffer, index);
+        if (top == bottom) {
+            if (!AtomicLong.compareAndSetVolatile(this, TOP, top, top + 1L)) {
+                task = null;
+            }
+            AtomicLong.setOpaque(this, BOTTOM, bottom + 1L);
+        }
+        // A thief reads the slot before its compare-and-set, which fails from now on
+        AtomicArray.setPlain(buffer, index, null);
+        return task;
+    }
+
+    /**
+     * Tasks before {@code top} have been taken, and a thief that read one of their slots will fail to claim it.
+     */
+    private void clearStolen(long top) {
+        var buffer = this.buffer;
+        for (long position = cachedTop; position < top; position++) {
+            AtomicArray.setPlain(buffer, (int) position & capacityMinusOne, null);
+        }
+        cachedTop = top;
+    }
+
+    Runnable steal() {
+        long top = AtomicLong.getVolatile(this, TOP);
+        long bottom = AtomicLong.getVolatile(this, BOTTOM);
+        if (top >= bottom) {
+            return null;
+        }
+        Runnable task = AtomicArray.getPlain(buffer, (int) top & capacityMinusOne);
+        if (AtomicLong.compareAndSetVolatile(this, TOP, top, top + 1L)) {
+            return task;
+        }
+        return null;
+    }
+
+    int size() {
+        long size = AtomicLong.getAcquire(this, BOTTOM) - AtomicLong.getAcquire(this, TOP);
+        if (size < 0L) {
+            return 0;
+        }
+        return (int) size;
+    }
+}
@@ -0,0 +1,180 @@
+package org.ringbuffer.dependant;
+
+import eu.menzani.atomic.AtomicBoolean;
+import eu.menzani.atomic.AtomicInt;
+import eu.menzani.lang.Assume;
+import eu.menzani.lang.Lang;
+import eu.menzani.lang.Numbers;
+import eu.menzani.system.ThreadManipulation;
+import org.ringbuffer.object.RingBuffer;
+import org.ringbuffer.wait.BusyWaitStrategy;
+import org.ringbuffer.wait.WaitBusyWaitStrategy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Supplier;
+
+/**
+ * Each worker owns a deque of {@code capacity} tasks, which it pushes to and pops from without contention.
+ * When its deque is empty, a worker takes tasks submitted from other threads,
+ * then steals up to half of the tasks of another worker, one at a time.
+ * When a deque is full, the task is run by the thread submitting it.
+ */
+public class WorkStealingScheduler {
+    private static final long TERMINATED = Lang.objectFieldOffset(WorkStealingScheduler.class, "terminated");
+    private static final long SUBMITTERS = Lang.objectFieldOffset(WorkStealingScheduler.class, "submitters");
+
+    private final WorkStealingThread[] workers;
+    private final RingBuffer<Runnable> submissions;
+
+    private boolean terminated;
+    private int submitters;
+
+    public WorkStealingScheduler(int numWorkers, int capacity) {
+        this(numWorkers, capacity, WaitBusyWaitStrategy::getDefault, ThreadManipulation.doNothing());
+    }
+
+    /**
+     * @param idleBusyWaitStrategy called once per worker, it is ticked while the worker finds no task to run.
+     */
+    public WorkStealingScheduler(int numWorkers, int capacity, Supplier<BusyWaitStrategy> idleBusyWaitStrategy, ThreadManipulation threadManipulation) {
+        Assume.notLesser(numWorkers, 1);
+        if (!Numbers.isPowerOfTwo(capacity)) {
+            throw new IllegalArgumentException("capacity must be a power of 2.");
+        }
+        workers = new WorkStealingThread[numWorkers];
+        for (int i = 0; i < numWorkers; i++) {
+            workers[i] = new WorkStealingThread(this, i, capacity, idleBusyWaitStrategy.get(), threadManipulation);
+        }
+        submissions = RingBuffer.<Runnable>withCapacity(capacity)
+                .manyWriters()
+                .manyReaders()
+                .blocking()
+                .build();
+    }
+
+    public void start() {
+        for (WorkStealingThread worker : workers) {
+            worker.start();
+        }
+    }
+
+    /**
+     * Waits for the workers to finish the tasks they are running, then terminates them.
+     * Tasks that have not been started yet are not run, and are returned instead.
+     * Calls after the first one return an empty list.
+     */
+    public List<Runnable> stop() throws InterruptedException {
+        AtomicBoolean.setVolatile(this, TERMINATED, true);
+        for (WorkStealingThread worker : workers) {
+            worker.join();
+        }
+        while (AtomicInt.getVolatile(this, SUBMITTERS) != 0) {
+            Thread.onSpinWait();
+        }
+
+        List<Runnable> notRun = new ArrayList<>();
+        for (WorkStealingThread worker : workers) {
+            for (Runnable task; (task = worker.deque.pop()) != null; ) {
+                notRun.add(task);
+            }
+        }
+        for (Runnable task; (task = submissions.poll()) != null; ) {
+            notRun.add(task);
+        }
+        return notRun;
+    }
+
+    /**
+     * If called from a worker, pushes {@code task} to its own deque.
+     *
+     * @throws RejectedExecutionException if {@link #stop()} was called
+     */
+    public void execute(Runnable task) {
+        Thread currentThread = Thread.currentThread();
+        if (currentThread instanceof WorkStealingThread) {
+            WorkStealingThread worker = (WorkStealingThread) currentThread;
+            if (worker.scheduler == this) {
+                if (isTerminated()) {
+                    throw newRejectedExecutionException();
+                }
+                if (!worker.deque.push(task)) {
+                    worker.runTask(task);
+                }
+                return;
+            }
+        }
+        // stop() waits for submitters, so that a task is either rejected or returned by it
+        AtomicInt.getAndIncrementVolatile(this, SUBMITTERS);
+        try {
+            if (AtomicBoolean.getVolatile(this, TERMINATED)) {
+                throw newRejectedExecutionException();
+            }
+            // Workers stop taking submissions once terminated, so put() could wait forever
+            while (!submissions.offer(task)) {
+                Thread.onSpinWait();
+                if (AtomicBoolean.getVolatile(this, TERMINATED)) {
+                    throw newRejectedExecutionException();
+                }
+            }
+        } finally {
+            AtomicInt.getAndDecrementVolatile(this, SUBMITTERS);
+        }
+    }
+
+    public int getNumWorkers() {
+        return workers.length;
+    }
+
+    boolean isTerminated() {
+        return AtomicBoolean.getOpaque(this, TERMINATED);
+    }
+
+    Runnable pollSubmission() {
+        return submissions.poll();
+    }
+
+    private static RejectedExecutionException newRejectedExecutionException() {
+        return new RejectedExecutionException("The scheduler has been stopped.");
+    }
+
+    Runnable steal(WorkStealingThread thief, int victimIndex) {
+        var workers = this.workers;
+        for (int i = workers.length; i > 0; i--) {
+            if (victimIndex == workers.length) {
+                victimIndex = 0;
+            }
+            WorkStealingThread victim = workers[victimIndex++];
+            if (victim != thief) {
+                Runnable task = stealUpToHalf(victim.deque, thief);
+                if (task != null) {
+                    return task;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Each task is claimed with its own compare-and-set on the top of {@code victim}: the victim pops without one,
+     * so a range claimed at once could overlap the tasks it is popping meanwhile.
+     */
+    private static Runnable stealUpToHalf(WorkStealingDeque victim, WorkStealingThread thief) {
+        Runnable task = victim.steal();
+        if (task == null) {
+            return null;
+        }
+        for (int i = victim.size() / 2; i > 0; i--) {
+            Runnable stolen = victim.steal();
+            if (stolen == null) {
+                break;
+            }
+            if (!thief.deque.push(stolen)) {
+                thief.runTask(stolen);
+                break;
+            }
+        }
+        return task;
+    }
+}
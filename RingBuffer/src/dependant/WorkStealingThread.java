@@ -0,0 +1,72 @@
+package org.ringbuffer.dependant;
+
+import eu.menzani.system.ThreadManipulation;
+import org.ringbuffer.wait.BusyWaitStrategy;
+
+class WorkStealingThread extends Thread {
+    final WorkStealingScheduler scheduler;
+    final WorkStealingDeque deque;
+    private final BusyWaitStrategy idleBusyWaitStrategy;
+    private final ThreadManipulation threadManipulation;
+
+    private int victimSeed;
+
+    WorkStealingThread(WorkStealingScheduler scheduler, int index, int capacity, BusyWaitStrategy idleBusyWaitStrategy, ThreadManipulation threadManipulation) {
+        super("WorkStealingScheduler-" + index);
+        this.scheduler = scheduler;
+        deque = new WorkStealingDeque(capacity);
+        this.idleBusyWaitStrategy = idleBusyWaitStrategy;
+        this.threadManipulation = threadManipulation;
+        victimSeed = index + 1;
+        setDaemon(true);
+    }
+
+    @Override
+    public void run() {
+        threadManipulation.applyToCurrentThread();
+
+        var scheduler = this.scheduler;
+        var deque = this.deque;
+        var idleBusyWaitStrategy = this.idleBusyWaitStrategy;
+        boolean idle = false;
+        while (!scheduler.isTerminated()) {
+            Runnable task = deque.pop();
+            if (task == null) {
+                task = scheduler.pollSubmission();
+                if (task == null) {
+                    task = scheduler.steal(this, nextVictimIndex());
+                    if (task == null) {
+                        if (!idle) {
+                            idleBusyWaitStrategy.reset();
+                            idle = true;
+                        }
+                        idleBusyWaitStrategy.tick();
+                        continue;
+                    }
+                }
+            }
+            idle = false;
+            runTask(task);
+        }
+    }
+
+    /**
+     * Tasks run by a worker must not terminate it, including those run in place of a push to its full deque.
+     */
+    void runTask(Runnable task) {
+        try {
+            task.run();
+        } catch (RuntimeException e) {
+            getUncaughtExceptionHandler().uncaughtException(this, e);
+        }
+    }
+
+    private int nextVictimIndex() {
+        int seed = victimSeed;
+        seed ^= seed << 13;
+        seed ^= seed >>> 17;
+        seed ^= seed << 5;
+        victimSeed = seed;
+        return (seed & Integer.MAX_VALUE) % scheduler.getNumWorkers();
+    }
+}
@@ -3,6 +3,8 @@ package org.ringbuffer.marshalling;
 import eu.menzani.struct.AbstractDirectBuffer;
 import org.ringbuffer.AbstractRingBuffer;
 
+import java.util.concurrent.TimeUnit;
+
 interface AbstractDirectRingBuffer extends AbstractDirectBuffer, AbstractRingBuffer {
     void put(long offset);
 
@@ -19,5 +21,12 @@ interface AbstractDirectRingBuffer extends AbstractDirectBuffer, AbstractRingBuf
      */
     long take(long size);
 
+    /**
+     * Same as {@link #take(long) take(size)}, but gives up waiting once {@code timeout} has elapsed.
+     *
+     * @return {@code -1} if the timeout elapsed before {@code size} bytes were available
+     */
+    long take(long size, long timeout, TimeUnit unit);
+
     long size();
 }
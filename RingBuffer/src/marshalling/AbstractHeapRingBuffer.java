@@ -3,6 +3,8 @@ package org.ringbuffer.marshalling;
 import eu.menzani.struct.AbstractHeapBuffer;
 import org.ringbuffer.AbstractRingBuffer;
 
+import java.util.concurrent.TimeUnit;
+
 interface AbstractHeapRingBuffer extends AbstractHeapBuffer, AbstractRingBuffer {
     void put(int offset);
 
@@ -19,5 +21,12 @@ interface AbstractHeapRingBuffer extends AbstractHeapBuffer, AbstractRingBuffer
      */
     int take(int size);
 
+    /**
+     * Same as {@link #take(int) take(size)}, but gives up waiting once {@code timeout} has elapsed.
+     *
+     * @return {@code -1} if the timeout elapsed before {@code size} bytes were available
+     */
+    int take(int size, long timeout, TimeUnit unit);
+
     int size();
 }
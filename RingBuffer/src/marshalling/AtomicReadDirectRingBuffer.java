@@ -5,6 +5,8 @@ import eu.menzani.lang.Lang;
 import jdk.internal.vm.annotation.Contended;
 import org.ringbuffer.wait.BusyWaitStrategy;
 
+import java.util.concurrent.TimeUnit;
+
 import static eu.menzani.struct.DirectBuffer.*;
 
 @Contended
@@ -63,6 +65,23 @@ class AtomicReadDirectRingBuffer implements DirectClearingRingBuffer {
         return readPosition;
     }
 
+    @Override
+    public long take(long size, long timeout, TimeUnit unit) {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        long readPosition = this.readPosition & capacityMinusOne;
+        var readBusyWaitStrategy = this.readBusyWaitStrategy;
+        readBusyWaitStrategy.reset();
+        while (isNotFullEnoughCached(readPosition, size)) {
+            if (System.nanoTime() - deadline >= 0L) {
+                return -1L;
+            }
+            readBusyWaitStrategy.tick(deadline);
+        }
+        readPosition = this.readPosition;
+        this.readPosition += size;
+        return readPosition;
+    }
+
     private boolean isNotFullEnoughCached(long readPosition, long size) {
         if (size(readPosition, cachedWritePosition) < size) {
             cachedWritePosition = AtomicLong.getAcquire(this, WRITE_POSITION) & capacityMinusOne;
@@ -5,6 +5,8 @@ import eu.menzani.lang.Lang;
 import jdk.internal.vm.annotation.Contended;
 import org.ringbuffer.wait.BusyWaitStrategy;
 
+import java.util.concurrent.TimeUnit;
+
 import static eu.menzani.struct.HeapBuffer.*;
 
 @Contended
@@ -92,6 +94,21 @@ class AtomicReadHeapBlockingRingBuffer implements HeapRingBuffer {
         return readPosition;
     }
 
+    @Override
+    public int take(int size, long timeout, TimeUnit unit) {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        int readPosition = this.readPosition & capacityMinusOne;
+        var readBusyWaitStrategy = this.readBusyWaitStrategy;
+        readBusyWaitStrategy.reset();
+        while (isNotFullEnoughCached(readPosition, size)) {
+            if (System.nanoTime() - deadline >= 0L) {
+                return -1;
+            }
+            readBusyWaitStrategy.tick(deadline);
+        }
+        return readPosition;
+    }
+
     private boolean isNotFullEnoughCached(int readPosition, int size) {
         if (size(readPosition, cachedWritePosition) < size) {
             cachedWritePosition = AtomicInt.getAcquire(this, WRITE_POSITION) & capacityMinusOne;
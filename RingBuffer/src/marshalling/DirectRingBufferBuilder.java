@@ -47,6 +47,14 @@ public final class DirectRingBufferBuilder extends AbstractDirectRingBufferBuild
         throw new AssertionError();
     }
 
+    /**
+     * The capacity can be changed by the writer, manually or following a {@link org.ringbuffer.ResizePolicy}.
+     * Requires {@link #oneWriter()} and {@link #oneReader()}.
+     */
+    public ResizableDirectRingBufferBuilder resizable() {
+        return new ResizableDirectRingBufferBuilder(this);
+    }
+
     @Override
     public DirectRingBufferBuilder waitingWith(BusyWaitStrategy busyWaitStrategy) {
         super.waitingWith0(busyWaitStrategy);
@@ -2,6 +2,7 @@ package org.ringbuffer.marshalling;
 
 import org.ringbuffer.AbstractRingBufferBuilder;
 import org.ringbuffer.wait.BusyWaitStrategy;
+import org.ringbuffer.wait.SignalBusyWaitStrategy;
 
 public final class HeapRingBufferBuilder extends AbstractHeapRingBufferBuilder<HeapRingBuffer> {
     HeapRingBufferBuilder(HeapClearingRingBufferBuilder builder) {
@@ -47,6 +48,14 @@ public final class HeapRingBufferBuilder extends AbstractHeapRingBufferBuilder<H
         throw new AssertionError();
     }
 
+    /**
+     * The capacity can be changed by the writer, manually or following a {@link org.ringbuffer.ResizePolicy}.
+     * Requires {@link #oneWriter()} and {@link #oneReader()}.
+     */
+    public ResizableHeapRingBufferBuilder resizable() {
+        return new ResizableHeapRingBufferBuilder(this);
+    }
+
     @Override
     public HeapRingBufferBuilder waitingWith(BusyWaitStrategy busyWaitStrategy) {
         super.waitingWith0(busyWaitStrategy);
@@ -87,4 +96,38 @@ public final class HeapRingBufferBuilder extends AbstractHeapRingBufferBuilder<H
         }
         throw new AssertionError();
     }
+
+    // Many writers synchronize on the ring buffer, and many readers on its read monitor
+    @Override
+    protected boolean isReadSignalSupported() {
+        return true;
+    }
+
+    @Override
+    protected boolean isWriteSignalSupported() {
+        return true;
+    }
+
+    /**
+     * If {@link SignalBusyWaitStrategy} is passed to {@link #waitingWith(BusyWaitStrategy)}, then {@code put()} signals
+     * the waiting reader. If it is passed to {@code blocking(BusyWaitStrategy)}, then {@code advance()} signals the
+     * waiting writer.
+     */
+    @Override
+    public HeapRingBuffer build() {
+        HeapRingBuffer ringBuffer = super.build();
+        SignalBusyWaitStrategy readSignal = asSignal(getReadBusyWaitStrategy());
+        SignalBusyWaitStrategy writeSignal = asSignal(getWriteBusyWaitStrategy());
+        if (readSignal == null && writeSignal == null) {
+            return ringBuffer;
+        }
+        return new SignallingHeapRingBuffer(ringBuffer, readSignal, writeSignal);
+    }
+
+    private static SignalBusyWaitStrategy asSignal(BusyWaitStrategy busyWaitStrategy) {
+        if (busyWaitStrategy instanceof SignalBusyWaitStrategy) {
+            return (SignalBusyWaitStrategy) busyWaitStrategy;
+        }
+        return null;
+    }
 }
@@ -0,0 +1,84 @@
+package org.ringbuffer.marshalling;
+
+import org.ringbuffer.ResizePolicy;
+import org.ringbuffer.wait.BusyWaitStrategy;
+
+public final class ResizableDirectRingBufferBuilder extends AbstractDirectRingBufferBuilder<ResizableDirectRingBuffer> {
+    private ResizePolicy resizePolicy = ResizePolicy.manual();
+    // All fields are copied in <init>(DirectRingBufferBuilder)
+
+    ResizableDirectRingBufferBuilder(DirectRingBufferBuilder builder) {
+        super(builder);
+    }
+
+    @Override
+    public ResizableDirectRingBufferBuilder oneWriter() {
+        super.oneWriter0();
+        return this;
+    }
+
+    @Override
+    public ResizableDirectRingBufferBuilder manyWriters() {
+        super.manyWriters0();
+        return this;
+    }
+
+    @Override
+    public ResizableDirectRingBufferBuilder oneReader() {
+        super.oneReader0();
+        return this;
+    }
+
+    @Override
+    public ResizableDirectRingBufferBuilder manyReaders() {
+        super.manyReaders0();
+        return this;
+    }
+
+    @Override
+    protected ResizableDirectRingBufferBuilder blocking() {
+        throw new AssertionError();
+    }
+
+    @Override
+    protected ResizableDirectRingBufferBuilder blocking(BusyWaitStrategy busyWaitStrategy) {
+        throw new AssertionError();
+    }
+
+    @Override
+    protected ResizableDirectRingBufferBuilder lockfree() {
+        throw new AssertionError();
+    }
+
+    public ResizableDirectRingBufferBuilder resizingWith(ResizePolicy resizePolicy) {
+        this.resizePolicy = resizePolicy;
+        return this;
+    }
+
+    @Override
+    public ResizableDirectRingBufferBuilder waitingWith(BusyWaitStrategy busyWaitStrategy) {
+        super.waitingWith0(busyWaitStrategy);
+        return this;
+    }
+
+    @Override
+    public ResizableDirectRingBufferBuilder copyClass() {
+        super.copyClass0();
+        return this;
+    }
+
+    @Override
+    protected ResizableDirectRingBuffer create(RingBufferConcurrency concurrency, RingBufferType type) {
+        if (concurrency != RingBufferConcurrency.VOLATILE) {
+            throw new IllegalStateException("You must call oneWriter() and oneReader() before resizable().");
+        }
+        if (copyClass) {
+            return instantiateCopy(VolatileDirectBlockingResizableRingBuffer.class);
+        }
+        return new VolatileDirectBlockingResizableRingBuffer(this);
+    }
+
+    ResizePolicy getResizePolicy() {
+        return resizePolicy;
+    }
+}
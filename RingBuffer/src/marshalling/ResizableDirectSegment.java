@@ -0,0 +1,72 @@
+package org.ringbuffer.marshalling;
+
+import eu.menzani.atomic.AtomicArray;
+import eu.menzani.atomic.AtomicLong;
+import eu.menzani.lang.Lang;
+import eu.menzani.struct.DirectBuffer;
+import eu.menzani.system.Garbage;
+
+/**
+ * The buffer of a resizable ring buffer, from the time it was created to the time it was replaced by {@link #next}.
+ */
+class ResizableDirectSegment {
+    private static final long READ_POSITION = Lang.objectFieldOffset(ResizableDirectSegment.class, "readPosition");
+    private static final long WRITE_POSITION = Lang.objectFieldOffset(ResizableDirectSegment.class, "writePosition");
+
+    final long capacity;
+    final long capacityMinusOne;
+    final long buffer;
+
+    long readPosition;
+    long writePosition;
+    // Single element, accessed with AtomicArray
+    private final ResizableDirectSegment[] next = new ResizableDirectSegment[1];
+
+    ResizableDirectSegment(long capacity) {
+        this.capacity = capacity;
+        capacityMinusOne = capacity - 1L;
+        buffer = DirectBuffer.allocate(capacity);
+        Garbage.freeMemory(this, new long[]{buffer});
+    }
+
+    long getReadPosition() {
+        return AtomicLong.getAcquire(this, READ_POSITION) & capacityMinusOne;
+    }
+
+    void setReadPosition(long offset) {
+        AtomicLong.setRelease(this, READ_POSITION, offset);
+    }
+
+    long getWritePosition() {
+        return AtomicLong.getAcquire(this, WRITE_POSITION) & capacityMinusOne;
+    }
+
+    void setWritePosition(long offset) {
+        AtomicLong.setRelease(this, WRITE_POSITION, offset);
+    }
+
+    long freeSpace(long writePosition, long readPosition) {
+        if (writePosition >= readPosition) {
+            return capacity - (writePosition - readPosition);
+        }
+        return readPosition - writePosition;
+    }
+
+    long size(long readPosition, long writePosition) {
+        if (writePosition >= readPosition) {
+            return writePosition - readPosition;
+        }
+        return capacity - (readPosition - writePosition);
+    }
+
+    ResizableDirectSegment getNext() {
+        return AtomicArray.getAcquire(next, 0);
+    }
+
+    /**
+     * Called by the writer after its last write to this segment.
+     */
+    void setNext(ResizableDirectSegment next) {
+        AtomicArray.setRelease(this.next, 0, next);
+    }
+}
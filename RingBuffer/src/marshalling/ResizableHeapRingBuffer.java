@@ -0,0 +1,10 @@
+package org.ringbuffer.marshalling;
+
+public interface ResizableHeapRingBuffer extends HeapRingBuffer {
+    /**
+     * Replaces the buffer the writer writes to with a new one of the given {@code capacity}, which must be a power of 2.
+     * Bytes already in the ring buffer are not copied: the reader moves to the new buffer once it has taken them.
+     * Must only be called by the writer, and not between {@link #next(int) next()} and {@link #put(int) put()}.
+     */
+    void resize(int capacity);
+}
@@ -0,0 +1,84 @@
+package org.ringbuffer.marshalling;
+
+import org.ringbuffer.ResizePolicy;
+import org.ringbuffer.wait.BusyWaitStrategy;
+
+public final class ResizableHeapRingBufferBuilder extends AbstractHeapRingBufferBuilder<ResizableHeapRingBuffer> {
+    private ResizePolicy resizePolicy = ResizePolicy.manual();
+    // All fields are copied in <init>(HeapRingBufferBuilder)
+
+    ResizableHeapRingBufferBuilder(HeapRingBufferBuilder builder) {
+        super(builder);
+    }
+
+    @Override
+    public ResizableHeapRingBufferBuilder oneWriter() {
+        super.oneWriter0();
+        return this;
+    }
+
+    @Override
+    public ResizableHeapRingBufferBuilder manyWriters() {
+        super.manyWriters0();
+        return this;
+    }
+
+    @Override
+    public ResizableHeapRingBufferBuilder oneReader() {
+        super.oneReader0();
+        return this;
+    }
+
+    @Override
+    public ResizableHeapRingBufferBuilder manyReaders() {
+        super.manyReaders0();
+        return this;
+    }
+
+    @Override
+    protected ResizableHeapRingBufferBuilder blocking() {
+        throw new AssertionError();
+    }
+
+    @Override
+    protected ResizableHeapRingBufferBuilder blocking(BusyWaitStrategy busyWaitStrategy) {
+        throw new AssertionError();
+    }
+
+    @Override
+    protected ResizableHeapRingBufferBuilder lockfree() {
+        throw new AssertionError();
+    }
+
+    public ResizableHeapRingBufferBuilder resizingWith(ResizePolicy resizePolicy) {
+        this.resizePolicy = resizePolicy;
+        return this;
+    }
+
+    @Override
+    public ResizableHeapRingBufferBuilder waitingWith(BusyWaitStrategy busyWaitStrategy) {
+        super.waitingWith0(busyWaitStrategy);
+        return this;
+    }
+
+    @Override
+    public ResizableHeapRingBufferBuilder copyClass() {
+        super.copyClass0();
+        return this;
+    }
+
+    @Override
+    protected ResizableHeapRingBuffer create(RingBufferConcurrency concurrency, RingBufferType type) {
+        if (concurrency != RingBufferConcurrency.VOLATILE) {
+            throw new IllegalStateException("You must call oneWriter() and oneReader() before resizable().");
+        }
+        if (copyClass) {
+            return instantiateCopy(VolatileHeapBlockingResizableRingBuffer.class);
+        }
+        return new VolatileHeapBlockingResizableRingBuffer(this);
+    }
+
+    ResizePolicy getResizePolicy() {
+        return resizePolicy;
+    }
+}
@@ -0,0 +1,70 @@
+package org.ringbuffer.marshalling;
+
+import eu.menzani.atomic.AtomicArray;
+import eu.menzani.atomic.AtomicInt;
+import eu.menzani.lang.Lang;
+import eu.menzani.struct.HeapBuffer;
+
+/**
+ * The buffer of a resizable ring buffer, from the time it was created to the time it was replaced by {@link #next}.
+ */
+class ResizableHeapSegment {
+    private static final long READ_POSITION = Lang.objectFieldOffset(ResizableHeapSegment.class, "readPosition");
+    private static final long WRITE_POSITION = Lang.objectFieldOffset(ResizableHeapSegment.class, "writePosition");
+
+    final int capacity;
+    final int capacityMinusOne;
+    final byte[] buffer;
+
+    int readPosition;
+    int writePosition;
+    // Single element, accessed with AtomicArray
+    private final ResizableHeapSegment[] next = new ResizableHeapSegment[1];
+
+    ResizableHeapSegment(int capacity) {
+        this.capacity = capacity;
+        capacityMinusOne = capacity - 1;
+        buffer = HeapBuffer.allocate(capacity);
+    }
+
+    int getReadPosition() {
+        return AtomicInt.getAcquire(this, READ_POSITION) & capacityMinusOne;
+    }
+
+    void setReadPosition(int offset) {
+        AtomicInt.setRelease(this, READ_POSITION, offset);
+    }
+
+    int getWritePosition() {
+        return AtomicInt.getAcquire(this, WRITE_POSITION) & capacityMinusOne;
+    }
+
+    void setWritePosition(int offset) {
+        AtomicInt.setRelease(this, WRITE_POSITION, offset);
+    }
+
+    int freeSpace(int writePosition, int readPosition) {
+        if (writePosition >= readPosition) {
+            return capacity - (writePosition - readPosition);
+        }
+        return readPosition - writePosition;
+    }
+
+    int size(int readPosition, int writePosition) {
+        if (writePosition >= readPosition) {
+            return writePosition - readPosition;
+        }
+        return capacity - (readPosition - writePosition);
+    }
+
+    ResizableHeapSegment getNext() {
+        return AtomicArray.getAcquire(next, 0);
+    }
+
+    /**
+     * Called by the writer after its last write to this segment.
+     */
+    void setNext(ResizableHeapSegment next) {
+        AtomicArray.setRelease(this.next, 0, next);
+    }
+}
@@ -0,0 +1,153 @@
+package org.ringbuffer.marshalling;
+
+import org.ringbuffer.wait.SignalBusyWaitStrategy;
+
+import java.util.concurrent.TimeUnit;
+
+class SignallingHeapRingBuffer implements HeapRingBuffer {
+    private final HeapRingBuffer ringBuffer;
+    private final SignalBusyWaitStrategy readSignal;
+    private final SignalBusyWaitStrategy writeSignal;
+
+    SignallingHeapRingBuffer(HeapRingBuffer ringBuffer, SignalBusyWaitStrategy readSignal, SignalBusyWaitStrategy writeSignal) {
+        this.ringBuffer = ringBuffer;
+        this.readSignal = readSignal;
+        this.writeSignal = writeSignal;
+    }
+
+    @Override
+    public int getCapacity() {
+        return ringBuffer.getCapacity();
+    }
+
+    @Override
+    public int next(int size) {
+        return ringBuffer.next(size);
+    }
+
+    @Override
+    public void put(int offset) {
+        ringBuffer.put(offset);
+        if (readSignal != null) {
+            readSignal.signal();
+        }
+    }
+
+    @Override
+    public int take(int size) {
+        return ringBuffer.take(size);
+    }
+
+    @Override
+    public int take(int size, long timeout, TimeUnit unit) {
+        return ringBuffer.take(size, timeout, unit);
+    }
+
+    @Override
+    public void advance(int offset) {
+        ringBuffer.advance(offset);
+        if (writeSignal != null) {
+            writeSignal.signal();
+        }
+    }
+
+    @Override
+    public int size() {
+        return ringBuffer.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return ringBuffer.isEmpty();
+    }
+
+    @Override
+    public boolean isNotEmpty() {
+        return ringBuffer.isNotEmpty();
+    }
+
+    @Override
+    public void writeByte(int offset, byte value) {
+        ringBuffer.writeByte(offset, value);
+    }
+
+    @Override
+    public byte readByte(int offset) {
+        return ringBuffer.readByte(offset);
+    }
+
+    @Override
+    public void writeChar(int offset, char value) {
+        ringBuffer.writeChar(offset, value);
+    }
+
+    @Override
+    public char readChar(int offset) {
+        return ringBuffer.readChar(offset);
+    }
+
+    @Override
+    public void writeShort(int offset, short value) {
+        ringBuffer.writeShort(offset, value);
+    }
+
+    @Override
+    public short readShort(int offset) {
+        return ringBuffer.readShort(offset);
+    }
+
+    @Override
+    public void writeInt(int offset, int value) {
+        ringBuffer.writeInt(offset, value);
+    }
+
+    @Override
+    public int readInt(int offset) {
+        return ringBuffer.readInt(offset);
+    }
+
+    @Override
+    public void writeLong(int offset, long value) {
+        ringBuffer.writeLong(offset, value);
+    }
+
+    @Override
+    public long readLong(int offset) {
+        return ringBuffer.readLong(offset);
+    }
+
+    @Override
+    public void writeBoolean(int offset, boolean value) {
+        ringBuffer.writeBoolean(offset, value);
+    }
+
+    @Override
+    public boolean readBoolean(int offset) {
+        return ringBuffer.readBoolean(offset);
+    }
+
+    @Override
+    public void writeFloat(int offset, float value) {
+        ringBuffer.writeFloat(offset, value);
+    }
+
+    @Override
+    public float readFloat(int offset) {
+        return ringBuffer.readFloat(offset);
+    }
+
+    @Override
+    public void writeDouble(int offset, double value) {
+        ringBuffer.writeDouble(offset, value);
+    }
+
+    @Override
+    public double readDouble(int offset) {
+        return ringBuffer.readDouble(offset);
+    }
+
+    @Override
+    public Object getReadMonitor() {
+        return ringBuffer.getReadMonitor();
+    }
+}
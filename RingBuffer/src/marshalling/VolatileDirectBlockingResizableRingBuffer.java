@@ -0,0 +1,305 @@
+package org.ringbuffer.marshalling;
+
+import eu.menzani.lang.Numbers;
+import jdk.internal.vm.annotation.Contended;
+import org.ringbuffer.ResizePolicy;
+import org.ringbuffer.wait.BusyWaitStrategy;
+
+import java.util.concurrent.TimeUnit;
+
+import static eu.menzani.struct.DirectBuffer.*;
+
+@Contended
+class VolatileDirectBlockingResizableRingBuffer implements ResizableDirectRingBuffer {
+    private static final int SHRINK_WRAP_AROUNDS = 8;
+
+    private final BusyWaitStrategy readBusyWaitStrategy;
+    private final BusyWaitStrategy writeBusyWaitStrategy;
+    private final ResizePolicy resizePolicy;
+
+    @Contended("write")
+    private ResizableDirectSegment writeSegment;
+    @Contended("write")
+    private long cachedReadPosition;
+    @Contended("write")
+    private int shrinkWrapArounds;
+    @Contended("read")
+    private ResizableDirectSegment readSegment;
+    @Contended("read")
+    private long cachedWritePosition;
+
+    VolatileDirectBlockingResizableRingBuffer(ResizableDirectRingBufferBuilder builder) {
+        readBusyWaitStrategy = builder.getReadBusyWaitStrategy();
+        writeBusyWaitStrategy = builder.getWriteBusyWaitStrategy();
+        resizePolicy = builder.getResizePolicy();
+        ResizableDirectSegment segment = new ResizableDirectSegment(builder.getCapacity());
+        writeSegment = segment;
+        readSegment = segment;
+    }
+
+    @Override
+    public long getCapacity() {
+        return writeSegment.capacity;
+    }
+
+    @Override
+    public void resize(long capacity) {
+        if (!Numbers.isPowerOfTwo(capacity)) {
+            throw new IllegalArgumentException("capacity must be a power of 2.");
+        }
+        ResizableDirectSegment segment = new ResizableDirectSegment(capacity);
+        writeSegment.setNext(segment);
+        writeSegment = segment;
+        cachedReadPosition = 0L;
+    }
+
+    @Override
+    public long next(long size) {
+        ResizableDirectSegment segment = writeSegment;
+        long writePosition = segment.writePosition & segment.capacityMinusOne;
+        if (isThereNotEnoughFreeSpaceCached(segment, writePosition, size)) {
+            segment = grow(segment, writePosition, size);
+            writePosition = segment.writePosition & segment.capacityMinusOne;
+            var writeBusyWaitStrategy = this.writeBusyWaitStrategy;
+            writeBusyWaitStrategy.reset();
+            while (isThereNotEnoughFreeSpaceCached(segment, writePosition, size)) {
+                writeBusyWaitStrategy.tick();
+            }
+        }
+        return writePosition;
+    }
+
+    private boolean isThereNotEnoughFreeSpaceCached(ResizableDirectSegment segment, long writePosition, long size) {
+        if (segment.freeSpace(writePosition, cachedReadPosition) <= size) {
+            cachedReadPosition = segment.getReadPosition();
+            return segment.freeSpace(writePosition, cachedReadPosition) <= size;
+        }
+        return false;
+    }
+
+    /**
+     * Called when there is not enough free space for the next message.
+     */
+    private ResizableDirectSegment grow(ResizableDirectSegment segment, long writePosition, long size) {
+        if (size >= segment.capacity) {
+            // The message would never fit, whatever the resize policy
+            resize(Long.highestOneBit(size) << 1);
+            return writeSegment;
+        }
+        long newCapacity = resizePolicy.getNewCapacity(segment.capacity, segment.size(cachedReadPosition, writePosition));
+        if (newCapacity > segment.capacity && newCapacity > size) {
+            resize(newCapacity);
+            return writeSegment;
+        }
+        return segment;
+    }
+
+    @Override
+    public void put(long offset) {
+        ResizableDirectSegment segment = writeSegment;
+        segment.setWritePosition(offset);
+        if (offset > segment.capacityMinusOne) {
+            afterWrapAround(segment, offset & segment.capacityMinusOne);
+        }
+    }
+
+    /**
+     * Shrinks only after the resize policy has asked for it on {@value #SHRINK_WRAP_AROUNDS} wrap-arounds in a row,
+     * so that a fluctuating load does not allocate a new buffer on every lap.
+     */
+    private void afterWrapAround(ResizableDirectSegment segment, long writePosition) {
+        long newCapacity = resizePolicy.getNewCapacity(segment.capacity, segment.size(segment.getReadPosition(), writePosition));
+        if (newCapacity < segment.capacity) {
+            if (++shrinkWrapArounds != SHRINK_WRAP_AROUNDS) {
+                return;
+            }
+        } else if (newCapacity == segment.capacity) {
+            shrinkWrapArounds = 0;
+            return;
+        }
+        shrinkWrapArounds = 0;
+        resize(newCapacity);
+    }
+
+    @Override
+    public long take(long size) {
+        ResizableDirectSegment segment;
+        var readBusyWaitStrategy = this.readBusyWaitStrategy;
+        readBusyWaitStrategy.reset();
+        while ((segment = getReadableSegment(size)) == null) {
+            readBusyWaitStrategy.tick();
+        }
+        return segment.readPosition & segment.capacityMinusOne;
+    }
+
+    @Override
+    public long take(long size, long timeout, TimeUnit unit) {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        ResizableDirectSegment segment;
+        var readBusyWaitStrategy = this.readBusyWaitStrategy;
+        readBusyWaitStrategy.reset();
+        while ((segment = getReadableSegment(size)) == null) {
+            if (System.nanoTime() - deadline >= 0L) {
+                return -1L;
+            }
+            readBusyWaitStrategy.tick(deadline);
+        }
+        return segment.readPosition & segment.capacityMinusOne;
+    }
+
+    /**
+     * Moves to the next segment once the current one has been emptied and replaced.
+     *
+     * @return {@code null} if fewer than {@code size} bytes are available
+     */
+    private ResizableDirectSegment getReadableSegment(long size) {
+        ResizableDirectSegment segment = readSegment;
+        while (true) {
+            long readPosition = segment.readPosition & segment.capacityMinusOne;
+            if (segment.size(readPosition, cachedWritePosition) >= size) {
+                return segment;
+            }
+            cachedWritePosition = segment.getWritePosition();
+            if (cachedWritePosition == readPosition) {
+                ResizableDirectSegment next = segment.getNext();
+                if (next != null) {
+                    cachedWritePosition = segment.getWritePosition();
+                    if (cachedWritePosition == readPosition) {
+                        readSegment = segment = next;
+                        cachedWritePosition = 0L;
+                        continue;
+                    }
+                }
+            }
+            if (segment.size(readPosition, cachedWritePosition) >= size) {
+                return segment;
+            }
+            return null;
+        }
+    }
+
+    @Override
+    public void advance(long offset) {
+        readSegment.setReadPosition(offset);
+    }
+
+    @Override
+    public long size() {
+        long size = 0L;
+        for (ResizableDirectSegment segment = readSegment; segment != null; segment = segment.getNext()) {
+            size += segment.size(segment.getReadPosition(), segment.getWritePosition());
+        }
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size() == 0L;
+    }
+
+    @Override
+    public boolean isNotEmpty() {
+        return size() != 0L;
+    }
+
+    @Override
+    public void writeByte(long offset, byte value) {
+        ResizableDirectSegment segment = writeSegment;
+        putByte(segment.buffer, offset & segment.capacityMinusOne, value);
+    }
+
+    @Override
+    public void writeChar(long offset, char value) {
+        ResizableDirectSegment segment = writeSegment;
+        putChar(segment.buffer, offset & segment.capacityMinusOne, value);
+    }
+
+    @Override
+    public void writeShort(long offset, short value) {
+        ResizableDirectSegment segment = writeSegment;
+        putShort(segment.buffer, offset & segment.capacityMinusOne, value);
+    }
+
+    @Override
+    public void writeInt(long offset, int value) {
+        ResizableDirectSegment segment = writeSegment;
+        putInt(segment.buffer, offset & segment.capacityMinusOne, value);
+    }
+
+    @Override
+    public void writeLong(long offset, long value) {
+        ResizableDirectSegment segment = writeSegment;
+        putLong(segment.buffer, offset & segment.capacityMinusOne, value);
+    }
+
+    @Override
+    public void writeBoolean(long offset, boolean value) {
+        ResizableDirectSegment segment = writeSegment;
+        putBoolean(segment.buffer, offset & segment.capacityMinusOne, value);
+    }
+
+    @Override
+    public void writeFloat(long offset, float value) {
+        ResizableDirectSegment segment = writeSegment;
+        putFloat(segment.buffer, offset & segment.capacityMinusOne, value);
+    }
+
+    @Override
+    public void writeDouble(long offset, double value) {
+        ResizableDirectSegment segment = writeSegment;
+        putDouble(segment.buffer, offset & segment.capacityMinusOne, value);
+    }
+
+    @Override
+    public byte readByte(long offset) {
+        ResizableDirectSegment segment = readSegment;
+        return getByte(segment.buffer, offset & segment.capacityMinusOne);
+    }
+
+    @Override
+    public char readChar(long offset) {
+        ResizableDirectSegment segment = readSegment;
+        return getChar(segment.buffer, offset & segment.capacityMinusOne);
+    }
+
+    @Override
+    public short readShort(long offset) {
+        ResizableDirectSegment segment = readSegment;
+        return getShort(segment.buffer, offset & segment.capacityMinusOne);
+    }
+
+    @Override
+    public int readInt(long offset) {
+        ResizableDirectSegment segment = readSegment;
+        return getInt(segment.buffer, offset & segment.capacityMinusOne);
+    }
+
+    @Override
+    public long readLong(long offset) {
+        ResizableDirectSegment segment = readSegment;
+        return getLong(segment.buffer, offset & segment.capacityMinusOne);
+    }
+
+    @Override
+    public boolean readBoolean(long offset) {
+        ResizableDirectSegment segment = readSegment;
+        return getBoolean(segment.buffer, offset & segment.capacityMinusOne);
+    }
+
+    @Override
+    public float readFloat(long offset) {
+        ResizableDirectSegment segment = readSegment;
+        return getFloat(segment.buffer, offset & segment.capacityMinusOne);
+    }
+
+    @Override
+    public double readDouble(long offset) {
+        ResizableDirectSegment segment = readSegment;
+        return getDouble(segment.buffer, offset & segment.capacityMinusOne);
+    }
+
+    @Override
+    public Object getReadMonitor() {
+        return null;
+    }
+}
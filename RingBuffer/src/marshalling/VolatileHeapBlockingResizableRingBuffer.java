@@ -0,0 +1,305 @@
+package org.ringbuffer.marshalling;
+
+import eu.menzani.lang.Numbers;
+import jdk.internal.vm.annotation.Contended;
+import org.ringbuffer.ResizePolicy;
+import org.ringbuffer.wait.BusyWaitStrategy;
+
+import java.util.concurrent.TimeUnit;
+
+import static eu.menzani.struct.HeapBuffer.*;
+
+@Contended
+class VolatileHeapBlockingResizableRingBuffer implements ResizableHeapRingBuffer {
+    private static final int SHRINK_WRAP_AROUNDS = 8;
+
+    private final BusyWaitStrategy readBusyWaitStrategy;
+    private final BusyWaitStrategy writeBusyWaitStrategy;
+    private final ResizePolicy resizePolicy;
+
+    @Contended("write")
+    private ResizableHeapSegment writeSegment;
+    @Contended("write")
+    private int cachedReadPosition;
+    @Contended("write")
+    private int shrinkWrapArounds;
+    @Contended("read")
+    private ResizableHeapSegment readSegment;
+    @Contended("read")
+    private int cachedWritePosition;
+
+    VolatileHeapBlockingResizableRingBuffer(ResizableHeapRingBufferBuilder builder) {
+        readBusyWaitStrategy = builder.getReadBusyWaitStrategy();
+        writeBusyWaitStrategy = builder.getWriteBusyWaitStrategy();
+        resizePolicy = builder.getResizePolicy();
+        ResizableHeapSegment segment = new ResizableHeapSegment(builder.getCapacity());
+        writeSegment = segment;
+        readSegment = segment;
+    }
+
+    @Override
+    public int getCapacity() {
+        return writeSegment.capacity;
+    }
+
+    @Override
+    public void resize(int capacity) {
+        if (!Numbers.isPowerOfTwo(capacity)) {
+            throw new IllegalArgumentException("capacity must be a power of 2.");
+        }
+        ResizableHeapSegment segment = new ResizableHeapSegment(capacity);
+        writeSegment.setNext(segment);
+        writeSegment = segment;
+        cachedReadPosition = 0;
+    }
+
+    @Override
+    public int next(int size) {
+        ResizableHeapSegment segment = writeSegment;
+        int writePosition = segment.writePosition & segment.capacityMinusOne;
+        if (isThereNotEnoughFreeSpaceCached(segment, writePosition, size)) {
+            segment = grow(segment, writePosition, size);
+            writePosition = segment.writePosition & segment.capacityMinusOne;
+            var writeBusyWaitStrategy = this.writeBusyWaitStrategy;
+            writeBusyWaitStrategy.reset();
+            while (isThereNotEnoughFreeSpaceCached(segment, writePosition, size)) {
+                writeBusyWaitStrategy.tick();
+            }
+        }
+        return writePosition;
+    }
+
+    private boolean isThereNotEnoughFreeSpaceCached(ResizableHeapSegment segment, int writePosition, int size) {
+        if (segment.freeSpace(writePosition, cachedReadPosition) <= size) {
+            cachedReadPosition = segment.getReadPosition();
+            return segment.freeSpace(writePosition, cachedReadPosition) <= size;
+        }
+        return false;
+    }
+
+    /**
+     * Called when there is not enough free space for the next message.
+     */
+    private ResizableHeapSegment grow(ResizableHeapSegment segment, int writePosition, int size) {
+        if (size >= segment.capacity) {
+            // The message would never fit, whatever the resize policy
+            resize(Integer.highestOneBit(size) << 1);
+            return writeSegment;
+        }
+        long newCapacity = resizePolicy.getNewCapacity(segment.capacity, segment.size(cachedReadPosition, writePosition));
+        if (newCapacity > segment.capacity && newCapacity > size) {
+            resize((int) newCapacity);
+            return writeSegment;
+        }
+        return segment;
+    }
+
+    @Override
+    public void put(int offset) {
+        ResizableHeapSegment segment = writeSegment;
+        segment.setWritePosition(offset);
+        if (offset > segment.capacityMinusOne) {
+            afterWrapAround(segment, offset & segment.capacityMinusOne);
+        }
+    }
+
+    /**
+     * Shrinks only after the resize policy has asked for it on {@value #SHRINK_WRAP_AROUNDS} wrap-arounds in a row,
+     * so that a fluctuating load does not allocate a new buffer on every lap.
+     */
+    private void afterWrapAround(ResizableHeapSegment segment, int writePosition) {
+        long newCapacity = resizePolicy.getNewCapacity(segment.capacity, segment.size(segment.getReadPosition(), writePosition));
+        if (newCapacity < segment.capacity) {
+            if (++shrinkWrapArounds != SHRINK_WRAP_AROUNDS) {
+                return;
+            }
+        } else if (newCapacity == segment.capacity) {
+            shrinkWrapArounds = 0;
+            return;
+        }
+        shrinkWrapArounds = 0;
+        resize((int) newCapacity);
+    }
+
+    @Override
+    public int take(int size) {
+        ResizableHeapSegment segment;
+        var readBusyWaitStrategy = this.readBusyWaitStrategy;
+        readBusyWaitStrategy.reset();
+        while ((segment = getReadableSegment(size)) == null) {
+            readBusyWaitStrategy.tick();
+        }
+        return segment.readPosition & segment.capacityMinusOne;
+    }
+
+    @Override
+    public int take(int size, long timeout, TimeUnit unit) {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        ResizableHeapSegment segment;
+        var readBusyWaitStrategy = this.readBusyWaitStrategy;
+        readBusyWaitStrategy.reset();
+        while ((segment = getReadableSegment(size)) == null) {
+            if (System.nanoTime() - deadline >= 0L) {
+                return -1;
+            }
+            readBusyWaitStrategy.tick(deadline);
+        }
+        return segment.readPosition & segment.capacityMinusOne;
+    }
+
+    /**
+     * Moves to the next segment once the current one has been emptied and replaced.
+     *
+     * @return {@code null} if fewer than {@code size} bytes are available
+     */
+    private ResizableHeapSegment getReadableSegment(int size) {
+        ResizableHeapSegment segment = readSegment;
+        while (true) {
+            int readPosition = segment.readPosition & segment.capacityMinusOne;
+            if (segment.size(readPosition, cachedWritePosition) >= size) {
+                return segment;
+            }
+            cachedWritePosition = segment.getWritePosition();
+            if (cachedWritePosition == readPosition) {
+                ResizableHeapSegment next = segment.getNext();
+                if (next != null) {
+                    cachedWritePosition = segment.getWritePosition();
+                    if (cachedWritePosition == readPosition) {
+                        readSegment = segment = next;
+                        cachedWritePosition = 0;
+                        continue;
+                    }
+                }
+            }
+            if (segment.size(readPosition, cachedWritePosition) >= size) {
+                return segment;
+            }
+            return null;
+        }
+    }
+
+    @Override
+    public void advance(int offset) {
+        readSegment.setReadPosition(offset);
+    }
+
+    @Override
+    public int size() {
+        int size = 0;
+        for (ResizableHeapSegment segment = readSegment; segment != null; segment = segment.getNext()) {
+            size += segment.size(segment.getReadPosition(), segment.getWritePosition());
+        }
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    @Override
+    public boolean isNotEmpty() {
+        return size() != 0;
+    }
+
+    @Override
+    public void writeByte(int offset, byte value) {
+        ResizableHeapSegment segment = writeSegment;
+        putByte(segment.buffer, offset & segment.capacityMinusOne, value);
+    }
+
+    @Override
+    public void writeChar(int offset, char value) {
+        ResizableHeapSegment segment = writeSegment;
+        putChar(segment.buffer, offset & segment.capacityMinusOne, value);
+    }
+
+    @Override
+    public void writeShort(int offset, short value) {
+        ResizableHeapSegment segment = writeSegment;
+        putShort(segment.buffer, offset & segment.capacityMinusOne, value);
+    }
+
+    @Override
+    public void writeInt(int offset, int value) {
+        ResizableHeapSegment segment = writeSegment;
+        putInt(segment.buffer, offset & segment.capacityMinusOne, value);
+    }
+
+    @Override
+    public void writeLong(int offset, long value) {
+        ResizableHeapSegment segment = writeSegment;
+        putLong(segment.buffer, offset & segment.capacityMinusOne, value);
+    }
+
+    @Override
+    public void writeBoolean(int offset, boolean value) {
+        ResizableHeapSegment segment = writeSegment;
+        putBoolean(segment.buffer, offset & segment.capacityMinusOne, value);
+    }
+
+    @Override
+    public void writeFloat(int offset, float value) {
+        ResizableHeapSegment segment = writeSegment;
+        putFloat(segment.buffer, offset & segment.capacityMinusOne, value);
+    }
+
+    @Override
+    public void writeDouble(int offset, double value) {
+        ResizableHeapSegment segment = writeSegment;
+        putDouble(segment.buffer, offset & segment.capacityMinusOne, value);
+    }
+
+    @Override
+    public byte readByte(int offset) {
+        ResizableHeapSegment segment = readSegment;
+        return getByte(segment.buffer, offset & segment.capacityMinusOne);
+    }
+
+    @Override
+    public char readChar(int offset) {
+        ResizableHeapSegment segment = readSegment;
+        return getChar(segment.buffer, offset & segment.capacityMinusOne);
+    }
+
+    @Override
+    public short readShort(int offset) {
+        ResizableHeapSegment segment = readSegment;
+        return getShort(segment.buffer, offset & segment.capacityMinusOne);
+    }
+
+    @Override
+    public int readInt(int offset) {
+        ResizableHeapSegment segment = readSegment;
+        return getInt(segment.buffer, offset & segment.capacityMinusOne);
+    }
+
+    @Override
+    public long readLong(int offset) {
+        ResizableHeapSegment segment = readSegment;
+        return getLong(segment.buffer, offset & segment.capacityMinusOne);
+    }
+
+    @Override
+    public boolean readBoolean(int offset) {
+        ResizableHeapSegment segment = readSegment;
+        return getBoolean(segment.buffer, offset & segment.capacityMinusOne);
+    }
+
+    @Override
+    public float readFloat(int offset) {
+        ResizableHeapSegment segment = readSegment;
+        return getFloat(segment.buffer, offset & segment.capacityMinusOne);
+    }
+
+    @Override
+    public double readDouble(int offset) {
+        ResizableHeapSegment segment = readSegment;
+        return getDouble(segment.buffer, offset & segment.capacityMinusOne);
+    }
+
+    @Override
+    public Object getReadMonitor() {
+        return null;
+    }
+}
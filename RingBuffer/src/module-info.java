@@ -1,8 +1,11 @@
 module org.ringbuffer {
     requires transitive eu.menzani;
 
+    // ResizePolicy, and the supertypes of the builders and ring buffers of the other packages
+    exports org.ringbuffer;
     exports org.ringbuffer.object;
     exports org.ringbuffer.marshalling;
+    exports org.ringbuffer.primitive;
     exports org.ringbuffer.wait;
     exports org.ringbuffer.dependant;
 }
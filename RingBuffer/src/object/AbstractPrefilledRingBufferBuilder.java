@@ -39,6 +39,10 @@ abstract class AbstractPrefilledRingBufferBuilder<T> extends ObjectRingBufferBui
         return buffer;
     }
 
+    ObjectFactory<T> getFiller() {
+        return filler;
+    }
+
     T getDummyElement() {
         return filler.newInstance();
     }
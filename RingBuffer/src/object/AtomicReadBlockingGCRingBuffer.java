@@ -2,10 +2,12 @@ package org.ringbuffer.object;
 
 import eu.menzani.atomic.AtomicArray;
 import eu.menzani.atomic.AtomicInt;
+import eu.menzani.lang.Assume;
 import eu.menzani.lang.Lang;
 import jdk.internal.vm.annotation.Contended;
 import org.ringbuffer.wait.BusyWaitStrategy;
 
+import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 
 @Contended
@@ -64,6 +66,46 @@ class AtomicReadBlockingGCRingBuffer<T> implements RingBuffer<T> {
         AtomicInt.setRelease(this, WRITE_POSITION, newWritePosition);
     }
 
+    @Override
+    public boolean put(T element, long timeout, TimeUnit unit) {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        int writePosition = this.writePosition;
+        int newWritePosition;
+        if (writePosition == 0) {
+            newWritePosition = capacityMinusOne;
+        } else {
+            newWritePosition = writePosition - 1;
+        }
+        var writeBusyWaitStrategy = this.writeBusyWaitStrategy;
+        writeBusyWaitStrategy.reset();
+        while (isFullCached(newWritePosition)) {
+            if (System.nanoTime() - deadline >= 0L) {
+                return false;
+            }
+            writeBusyWaitStrategy.tick(deadline);
+        }
+        AtomicArray.setPlain(buffer, writePosition, element);
+        AtomicInt.setRelease(this, WRITE_POSITION, newWritePosition);
+        return true;
+    }
+
+    @Override
+    public boolean offer(T element) {
+        int writePosition = this.writePosition;
+        int newWritePosition;
+        if (writePosition == 0) {
+            newWritePosition = capacityMinusOne;
+        } else {
+            newWritePosition = writePosition - 1;
+        }
+        if (isFullCached(newWritePosition)) {
+            return false;
+        }
+        AtomicArray.setPlain(buffer, writePosition, element);
+        AtomicInt.setRelease(this, WRITE_POSITION, newWritePosition);
+        return true;
+    }
+
     private boolean isFullCached(int writePosition) {
         if (cachedReadPosition == writePosition) {
             cachedReadPosition = AtomicInt.getAcquire(this, READ_POSITION);
@@ -72,6 +114,41 @@ class AtomicReadBlockingGCRingBuffer<T> implements RingBuffer<T> {
         return false;
     }
 
+    @Override
+    public void putAll(T[] src, int offset, int length) {
+        Assume.notGreater(length, capacityMinusOne);
+        int writePosition = this.writePosition;
+        var writeBusyWaitStrategy = this.writeBusyWaitStrategy;
+        writeBusyWaitStrategy.reset();
+        while (isFullCached(writePosition, length)) {
+            writeBusyWaitStrategy.tick();
+        }
+        for (int end = offset + length; offset < end; offset++) {
+            AtomicArray.setPlain(buffer, writePosition, src[offset]);
+            if (writePosition == 0) {
+                writePosition = capacityMinusOne;
+            } else {
+                writePosition--;
+            }
+        }
+        AtomicInt.setRelease(this, WRITE_POSITION, writePosition);
+    }
+
+    private boolean isFullCached(int writePosition, int length) {
+        if (freeSpace(writePosition, cachedReadPosition) < length) {
+            cachedReadPosition = AtomicInt.getAcquire(this, READ_POSITION);
+            return freeSpace(writePosition, cachedReadPosition) < length;
+        }
+        return false;
+    }
+
+    private int freeSpace(int writePosition, int readPosition) {
+        if (writePosition <= readPosition) {
+            return capacityMinusOne - (readPosition - writePosition);
+        }
+        return writePosition - readPosition - 1;
+    }
+
     @Override
     public synchronized T take() {
         int readPosition = this.readPosition;
@@ -90,6 +167,44 @@ class AtomicReadBlockingGCRingBuffer<T> implements RingBuffer<T> {
         return element;
     }
 
+    @Override
+    public synchronized T take(long timeout, TimeUnit unit) {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        int readPosition = this.readPosition;
+        var readBusyWaitStrategy = this.readBusyWaitStrategy;
+        readBusyWaitStrategy.reset();
+        while (isEmptyCached(readPosition)) {
+            if (System.nanoTime() - deadline >= 0L) {
+                return null;
+            }
+            readBusyWaitStrategy.tick(deadline);
+        }
+        if (readPosition == 0) {
+            AtomicInt.setRelease(this, READ_POSITION, capacityMinusOne);
+        } else {
+            AtomicInt.setRelease(this, READ_POSITION, readPosition - 1);
+        }
+        T element = AtomicArray.getPlain(buffer, readPosition);
+        AtomicArray.setPlain(buffer, readPosition, null);
+        return element;
+    }
+
+    @Override
+    public synchronized T poll() {
+        int readPosition = this.readPosition;
+        if (isEmptyCached(readPosition)) {
+            return null;
+        }
+        if (readPosition == 0) {
+            AtomicInt.setRelease(this, READ_POSITION, capacityMinusOne);
+        } else {
+            AtomicInt.setRelease(this, READ_POSITION, readPosition - 1);
+        }
+        T element = AtomicArray.getPlain(buffer, readPosition);
+        AtomicArray.setPlain(buffer, readPosition, null);
+        return element;
+    }
+
     private boolean isEmptyCached(int readPosition) {
         if (cachedWritePosition == readPosition) {
             cachedWritePosition = AtomicInt.getAcquire(this, WRITE_POSITION);
@@ -126,6 +241,56 @@ class AtomicReadBlockingGCRingBuffer<T> implements RingBuffer<T> {
         return element;
     }
 
+    @Override
+    public synchronized int drain(Consumer<T> handler, int maxElements) {
+        int readPosition = this.readPosition;
+        var readBusyWaitStrategy = this.readBusyWaitStrategy;
+        readBusyWaitStrategy.reset();
+        int size;
+        while ((size = size(readPosition)) == 0) {
+            readBusyWaitStrategy.tick();
+        }
+        if (size > maxElements) {
+            size = maxElements;
+        }
+        for (int i = size; i > 0; i--) {
+            handler.accept(AtomicArray.getPlain(buffer, readPosition));
+            AtomicArray.setPlain(buffer, readPosition, null);
+            if (readPosition == 0) {
+                readPosition = capacityMinusOne;
+            } else {
+                readPosition--;
+            }
+        }
+        AtomicInt.setRelease(this, READ_POSITION, readPosition);
+        return size;
+    }
+
+    @Override
+    public synchronized int takeAvailable(T[] dst) {
+        int readPosition = this.readPosition;
+        var readBusyWaitStrategy = this.readBusyWaitStrategy;
+        readBusyWaitStrategy.reset();
+        int size;
+        while ((size = size(readPosition)) == 0) {
+            readBusyWaitStrategy.tick();
+        }
+        if (size > dst.length) {
+            size = dst.length;
+        }
+        for (int i = 0; i < size; i++) {
+            dst[i] = AtomicArray.getPlain(buffer, readPosition);
+            AtomicArray.setPlain(buffer, readPosition, null);
+            if (readPosition == 0) {
+                readPosition = capacityMinusOne;
+            } else {
+                readPosition--;
+            }
+        }
+        AtomicInt.setRelease(this, READ_POSITION, readPosition);
+        return size;
+    }
+
     @Override
     public synchronized T takeLast() {
         int position;
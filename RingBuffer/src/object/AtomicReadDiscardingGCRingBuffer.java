@@ -6,6 +6,7 @@ import eu.menzani.lang.Lang;
 import jdk.internal.vm.annotation.Contended;
 import org.ringbuffer.wait.BusyWaitStrategy;
 
+import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 
 @Contended
@@ -59,6 +60,28 @@ class AtomicReadDiscardingGCRingBuffer<T> implements RingBuffer<T> {
         }
     }
 
+    @Override
+    public boolean put(T element, long timeout, TimeUnit unit) {
+        return offer(element);
+    }
+
+    @Override
+    public boolean offer(T element) {
+        int writePosition = this.writePosition;
+        int newWritePosition;
+        if (writePosition == 0) {
+            newWritePosition = capacityMinusOne;
+        } else {
+            newWritePosition = writePosition - 1;
+        }
+        if (isNotFullCached(newWritePosition)) {
+            AtomicArray.setPlain(buffer, writePosition, element);
+            AtomicInt.setRelease(this, WRITE_POSITION, newWritePosition);
+            return true;
+        }
+        return false;
+    }
+
     private boolean isNotFullCached(int writePosition) {
         if (cachedReadPosition == writePosition) {
             cachedReadPosition = AtomicInt.getAcquire(this, READ_POSITION);
@@ -67,6 +90,35 @@ class AtomicReadDiscardingGCRingBuffer<T> implements RingBuffer<T> {
         return true;
     }
 
+    @Override
+    public void putAll(T[] src, int offset, int length) {
+        int writePosition = this.writePosition;
+        int freeSpace = freeSpace(writePosition, cachedReadPosition);
+        if (freeSpace < length) {
+            cachedReadPosition = AtomicInt.getAcquire(this, READ_POSITION);
+            freeSpace = freeSpace(writePosition, cachedReadPosition);
+            if (freeSpace < length) {
+                length = freeSpace;
+            }
+        }
+        for (int end = offset + length; offset < end; offset++) {
+            AtomicArray.setPlain(buffer, writePosition, src[offset]);
+            if (writePosition == 0) {
+                writePosition = capacityMinusOne;
+            } else {
+                writePosition--;
+            }
+        }
+        AtomicInt.setRelease(this, WRITE_POSITION, writePosition);
+    }
+
+    private int freeSpace(int writePosition, int readPosition) {
+        if (writePosition <= readPosition) {
+            return capacityMinusOne - (readPosition - writePosition);
+        }
+        return writePosition - readPosition - 1;
+    }
+
     @Override
     public synchronized T take() {
         int readPosition = this.readPosition;
@@ -85,6 +137,44 @@ class AtomicReadDiscardingGCRingBuffer<T> implements RingBuffer<T> {
         return element;
     }
 
+    @Override
+    public synchronized T take(long timeout, TimeUnit unit) {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        int readPosition = this.readPosition;
+        var readBusyWaitStrategy = this.readBusyWaitStrategy;
+        readBusyWaitStrategy.reset();
+        while (isEmptyCached(readPosition)) {
+            if (System.nanoTime() - deadline >= 0L) {
+                return null;
+            }
+            readBusyWaitStrategy.tick(deadline);
+        }
+        if (readPosition == 0) {
+            AtomicInt.setRelease(this, READ_POSITION, capacityMinusOne);
+        } else {
+            AtomicInt.setRelease(this, READ_POSITION, readPosition - 1);
+        }
+        T element = AtomicArray.getPlain(buffer, readPosition);
+        AtomicArray.setPlain(buffer, readPosition, null);
+        return element;
+    }
+
+    @Override
+    public synchronized T poll() {
+        int readPosition = this.readPosition;
+        if (isEmptyCached(readPosition)) {
+            return null;
+        }
+        if (readPosition == 0) {
+            AtomicInt.setRelease(this, READ_POSITION, capacityMinusOne);
+        } else {
+            AtomicInt.setRelease(this, READ_POSITION, readPosition - 1);
+        }
+        T element = AtomicArray.getPlain(buffer, readPosition);
+        AtomicArray.setPlain(buffer, readPosition, null);
+        return element;
+    }
+
     private boolean isEmptyCached(int readPosition) {
         if (cachedWritePosition == readPosition) {
             cachedWritePosition = AtomicInt.getAcquire(this, WRITE_POSITION);
@@ -121,6 +211,56 @@ class AtomicReadDiscardingGCRingBuffer<T> implements RingBuffer<T> {
         return element;
     }
 
+    @Override
+    public synchronized int drain(Consumer<T> handler, int maxElements) {
+        int readPosition = this.readPosition;
+        var readBusyWaitStrategy = this.readBusyWaitStrategy;
+        readBusyWaitStrategy.reset();
+        int size;
+        while ((size = size(readPosition)) == 0) {
+            readBusyWaitStrategy.tick();
+        }
+        if (size > maxElements) {
+            size = maxElements;
+        }
+        for (int i = size; i > 0; i--) {
+            handler.accept(AtomicArray.getPlain(buffer, readPosition));
+            AtomicArray.setPlain(buffer, readPosition, null);
+            if (readPosition == 0) {
+                readPosition = capacityMinusOne;
+            } else {
+                readPosition--;
+            }
+        }
+        AtomicInt.setRelease(this, READ_POSITION, readPosition);
+        return size;
+    }
+
+    @Override
+    public synchronized int takeAvailable(T[] dst) {
+        int readPosition = this.readPosition;
+        var readBusyWaitStrategy = this.readBusyWaitStrategy;
+        readBusyWaitStrategy.reset();
+        int size;
+        while ((size = size(readPosition)) == 0) {
+            readBusyWaitStrategy.tick();
+        }
+        if (size > dst.length) {
+            size = dst.length;
+        }
+        for (int i = 0; i < size; i++) {
+            dst[i] = AtomicArray.getPlain(buffer, readPosition);
+            AtomicArray.setPlain(buffer, readPosition, null);
+            if (readPosition == 0) {
+                readPosition = capacityMinusOne;
+            } else {
+                readPosition--;
+            }
+        }
+        AtomicInt.setRelease(this, READ_POSITION, readPosition);
+        return size;
+    }
+
     @Override
     public synchronized T takeLast() {
         int position;
@@ -6,6 +6,7 @@ import eu.menzani.lang.Lang;
 import jdk.internal.vm.annotation.Contended;
 import org.ringbuffer.wait.BusyWaitStrategy;
 
+import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 
 @Contended
@@ -51,6 +52,15 @@ class AtomicReadDiscardingPrefilledRingBuffer<T> implements PrefilledRingBuffer2
         return writePosition;
     }
 
+    @Override
+    public int tryNextKey() {
+        int key = writePosition;
+        if (isNotFullCached(nextPutKey(key))) {
+            return key;
+        }
+        return -1;
+    }
+
     @Override
     public int nextPutKey(int key) {
         if (key == 0) {
@@ -96,6 +106,40 @@ class AtomicReadDiscardingPrefilledRingBuffer<T> implements PrefilledRingBuffer2
         return AtomicArray.getPlain(buffer, readPosition);
     }
 
+    @Override
+    public synchronized T take(long timeout, TimeUnit unit) {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        int readPosition = this.readPosition;
+        var readBusyWaitStrategy = this.readBusyWaitStrategy;
+        readBusyWaitStrategy.reset();
+        while (isEmptyCached(readPosition)) {
+            if (System.nanoTime() - deadline >= 0L) {
+                return null;
+            }
+            readBusyWaitStrategy.tick(deadline);
+        }
+        if (readPosition == 0) {
+            AtomicInt.setRelease(this, READ_POSITION, capacityMinusOne);
+        } else {
+            AtomicInt.setRelease(this, READ_POSITION, readPosition - 1);
+        }
+        return AtomicArray.getPlain(buffer, readPosition);
+    }
+
+    @Override
+    public synchronized T poll() {
+        int readPosition = this.readPosition;
+        if (isEmptyCached(readPosition)) {
+            return null;
+        }
+        if (readPosition == 0) {
+            AtomicInt.setRelease(this, READ_POSITION, capacityMinusOne);
+        } else {
+            AtomicInt.setRelease(this, READ_POSITION, readPosition - 1);
+        }
+        return AtomicArray.getPlain(buffer, readPosition);
+    }
+
     private boolean isEmptyCached(int readPosition) {
         if (cachedWritePosition == readPosition) {
             cachedWritePosition = AtomicInt.getAcquire(this, WRITE_POSITION);
@@ -130,6 +174,54 @@ class AtomicReadDiscardingPrefilledRingBuffer<T> implements PrefilledRingBuffer2
         return AtomicArray.getPlain(buffer, readPosition);
     }
 
+    @Override
+    public synchronized int drain(Consumer<T> handler, int maxElements) {
+        int readPosition = this.readPosition;
+        var readBusyWaitStrategy = this.readBusyWaitStrategy;
+        readBusyWaitStrategy.reset();
+        int size;
+        while ((size = size(readPosition)) == 0) {
+            readBusyWaitStrategy.tick();
+        }
+        if (size > maxElements) {
+            size = maxElements;
+        }
+        for (int i = size; i > 0; i--) {
+            handler.accept(AtomicArray.getPlain(buffer, readPosition));
+            if (readPosition == 0) {
+                readPosition = capacityMinusOne;
+            } else {
+                readPosition--;
+            }
+        }
+        AtomicInt.setRelease(this, READ_POSITION, readPosition);
+        return size;
+    }
+
+    @Override
+    public synchronized int takeAvailable(T[] dst) {
+        int readPosition = this.readPosition;
+        var readBusyWaitStrategy = this.readBusyWaitStrategy;
+        readBusyWaitStrategy.reset();
+        int size;
+        while ((size = size(readPosition)) == 0) {
+            readBusyWaitStrategy.tick();
+        }
+        if (size > dst.length) {
+            size = dst.length;
+        }
+        for (int i = 0; i < size; i++) {
+            dst[i] = AtomicArray.getPlain(buffer, readPosition);
+            if (readPosition == 0) {
+                readPosition = capacityMinusOne;
+            } else {
+                readPosition--;
+            }
+        }
+        AtomicInt.setRelease(this, READ_POSITION, readPosition);
+        return size;
+    }
+
     @Override
     public synchronized T takeLast() {
         int position;
@@ -0,0 +1,285 @@
+package org.ringbuffer.object;
+
+import org.ringbuffer.wait.BusyWaitStrategy;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+class AtomicReadPriorityRingBuffer<T> implements PriorityRingBuffer<T> {
+    private final RingBuffer<T>[] lanes;
+    private final int starvationLimit;
+    private final BusyWaitStrategy readBusyWaitStrategy;
+
+    // Per lane, accessed only by the reader
+    private final int[] numTakenAhead;
+
+    AtomicReadPriorityRingBuffer(PriorityRingBufferBuilder<T> builder) {
+        lanes = builder.getLanes();
+        numTakenAhead = new int[lanes.length];
+        starvationLimit = builder.getStarvationLimit();
+        readBusyWaitStrategy = builder.getReadBusyWaitStrategy();
+    }
+
+    @Override
+    public int getCapacity() {
+        return lanes[0].getCapacity() * lanes.length;
+    }
+
+    @Override
+    public int getNumPriorities() {
+        return lanes.length;
+    }
+
+    @Override
+    public void put(T element) {
+        lanes[0].put(element);
+    }
+
+    @Override
+    public void put(T element, int priority) {
+        lanes[priority].put(element);
+    }
+
+    @Override
+    public boolean put(T element, long timeout, TimeUnit unit) {
+        return lanes[0].put(element, timeout, unit);
+    }
+
+    @Override
+    public boolean put(T element, int priority, long timeout, TimeUnit unit) {
+        return lanes[priority].put(element, timeout, unit);
+    }
+
+    @Override
+    public boolean offer(T element) {
+        return lanes[0].offer(element);
+    }
+
+    @Override
+    public boolean offer(T element, int priority) {
+        return lanes[priority].offer(element);
+    }
+
+    @Override
+    public void putAll(T[] src, int offset, int length) {
+        lanes[0].putAll(src, offset, length);
+    }
+
+    @Override
+    public T take() {
+        var readBusyWaitStrategy = this.readBusyWaitStrategy;
+        synchronized (readBusyWaitStrategy) {
+            readBusyWaitStrategy.reset();
+            RingBuffer<T> lane;
+            while ((lane = nextNotEmptyLane()) == null) {
+                readBusyWaitStrategy.tick();
+            }
+            return lane.takePlain();
+        }
+    }
+
+    @Override
+    public T take(long timeout, TimeUnit unit) {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        var readBusyWaitStrategy = this.readBusyWaitStrategy;
+        synchronized (readBusyWaitStrategy) {
+            readBusyWaitStrategy.reset();
+            RingBuffer<T> lane;
+            while ((lane = nextNotEmptyLane()) == null) {
+                if (System.nanoTime() - deadline >= 0L) {
+                    return null;
+                }
+                readBusyWaitStrategy.tick(deadline);
+            }
+            return lane.takePlain();
+        }
+    }
+
+    @Override
+    public T poll() {
+        synchronized (readBusyWaitStrategy) {
+            RingBuffer<T> lane = nextNotEmptyLane();
+            if (lane == null) {
+                return null;
+            }
+            return lane.takePlain();
+        }
+    }
+
+    /**
+     * Each lane counts the elements taken ahead of it while it was not empty, so that every lower priority lane
+     * is guaranteed an element after {@link #starvationLimit} of them, not only the highest one.
+     *
+     * @return the lowest priority lane that is not empty and has reached {@link #starvationLimit},
+     * or else the highest priority lane that is not empty
+     */
+    private RingBuffer<T> nextNotEmptyLane() {
+        RingBuffer<T>[] lanes = this.lanes;
+        int priority = lanes.length - 1;
+        while (lanes[priority].isEmpty()) {
+            if (priority == 0) {
+                return null;
+            }
+            priority--;
+        }
+        int[] numTakenAhead = this.numTakenAhead;
+        for (int i = 0; i < priority; i++) {
+            if (lanes[i].isEmpty()) {
+                numTakenAhead[i] = 0;
+            } else if (numTakenAhead[i] == starvationLimit) {
+                priority = i;
+                break;
+            }
+        }
+        for (int i = 0; i < priority; i++) {
+            if (numTakenAhead[i] != 0 || lanes[i].isNotEmpty()) {
+                numTakenAhead[i]++;
+            }
+        }
+        numTakenAhead[priority] = 0;
+        return lanes[priority];
+    }
+
+    @Override
+    public void takeBatch(int size) {
+        var readBusyWaitStrategy = this.readBusyWaitStrategy;
+        readBusyWaitStrategy.reset();
+        while (size() < size) {
+            readBusyWaitStrategy.tick();
+        }
+    }
+
+    @Override
+    public T takePlain() {
+        return nextNotEmptyLane().takePlain();
+    }
+
+    /**
+     * Elements are taken one at a time, so that elements of higher priority put while draining are taken first.
+     */
+    @Override
+    public int drain(Consumer<T> handler, int maxElements) {
+        var readBusyWaitStrategy = this.readBusyWaitStrategy;
+        synchronized (readBusyWaitStrategy) {
+            readBusyWaitStrategy.reset();
+            RingBuffer<T> lane;
+            while ((lane = nextNotEmptyLane()) == null) {
+                readBusyWaitStrategy.tick();
+            }
+            int size = 0;
+            do {
+                handler.accept(lane.takePlain());
+                size++;
+            } while (size < maxElements && (lane = nextNotEmptyLane()) != null);
+            return size;
+        }
+    }
+
+    @Override
+    public int takeAvailable(T[] dst) {
+        var readBusyWaitStrategy = this.readBusyWaitStrategy;
+        synchronized (readBusyWaitStrategy) {
+            readBusyWaitStrategy.reset();
+            RingBuffer<T> lane;
+            while ((lane = nextNotEmptyLane()) == null) {
+                readBusyWaitStrategy.tick();
+            }
+            int size = 0;
+            do {
+                dst[size++] = lane.takePlain();
+            } while (size < dst.length && (lane = nextNotEmptyLane()) != null);
+            return size;
+        }
+    }
+
+    /**
+     * Takes the most recent element of the highest priority lane that is not empty.
+     */
+    @Override
+    public T takeLast() {
+        synchronized (readBusyWaitStrategy) {
+            readBusyWaitStrategy.reset();
+            RingBuffer<T> lane;
+            while ((lane = highestNotEmptyLane()) == null) {
+                readBusyWaitStrategy.tick();
+            }
+            return lane.takeLast();
+        }
+    }
+
+    private RingBuffer<T> highestNotEmptyLane() {
+        for (int i = lanes.length - 1; i >= 0; i--) {
+            if (lanes[i].isNotEmpty()) {
+                return lanes[i];
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Iterates from the highest priority lane to the lowest.
+     */
+    @Override
+    public void forEach(Consumer<T> action) {
+        for (int i = lanes.length - 1; i >= 0; i--) {
+            lanes[i].forEach(action);
+        }
+    }
+
+    @Override
+    public boolean contains(T element) {
+        for (RingBuffer<T> lane : lanes) {
+            if (lane.contains(element)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public int size() {
+        int size = 0;
+        for (RingBuffer<T> lane : lanes) {
+            size += lane.size();
+        }
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        for (RingBuffer<T> lane : lanes) {
+            if (lane.isNotEmpty()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public boolean isNotEmpty() {
+        return !isEmpty();
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder();
+        builder.append('[');
+        for (int i = lanes.length - 1; i >= 0; i--) {
+            String laneString = lanes[i].toString();
+            if (laneString.length() > 2) {
+                builder.append(laneString, 1, laneString.length() - 1);
+                builder.append(", ");
+            }
+        }
+        if (builder.length() > 1) {
+            builder.setLength(builder.length() - 2);
+        }
+        builder.append(']');
+        return builder.toString();
+    }
+
+    @Override
+    public Object getReadMonitor() {
+        return readBusyWaitStrategy;
+    }
+}
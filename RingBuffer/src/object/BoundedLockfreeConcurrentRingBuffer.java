@@ -0,0 +1,162 @@
+package org.ringbuffer.object;
+
+import eu.menzani.atomic.AtomicInt;
+import eu.menzani.atomic.AtomicIntArray;
+import eu.menzani.lang.Assume;
+import eu.menzani.lang.Lang;
+import jdk.internal.vm.annotation.Contended;
+import org.ringbuffer.wait.BusyWaitStrategy;
+import org.ringbuffer.wait.HintBusyWaitStrategy;
+
+@Contended
+class BoundedLockfreeConcurrentRingBuffer<T> implements BoundedLockfreeRingBuffer<T> {
+    private static final long READ_POSITION, WRITE_POSITION;
+
+    static {
+        final Class<?> clazz = BoundedLockfreeConcurrentRingBuffer.class;
+        READ_POSITION = Lang.objectFieldOffset(clazz, "readPosition");
+        WRITE_POSITION = Lang.objectFieldOffset(clazz, "writePosition");
+    }
+
+    private final int capacity;
+    private final int capacityMinusOne;
+    private final T[] buffer;
+    private final int[] sequences;
+    private final BusyWaitStrategy writeBusyWaitStrategy;
+
+    @Contended
+    private int readPosition;
+    @Contended
+    private int writePosition;
+
+    BoundedLockfreeConcurrentRingBuffer(BoundedLockfreeRingBufferBuilder<T> builder) {
+        capacityMinusOne = builder.getCapacityMinusOne();
+        capacity = capacityMinusOne + 1;
+        buffer = builder.getBuffer();
+        sequences = builder.getSequences();
+        writeBusyWaitStrategy = builder.getWriteBusyWaitStrategy();
+    }
+
+    @Override
+    public int getCapacity() {
+        return capacity;
+    }
+
+    @Override
+    public void put(T element) {
+        var writeBusyWaitStrategy = this.writeBusyWaitStrategy;
+        writeBusyWaitStrategy.reset();
+        int writePosition = AtomicInt.getOpaque(this, WRITE_POSITION);
+        while (true) {
+            int index = writePosition & capacityMinusOne;
+            int difference = AtomicIntArray.getAcquire(sequences, index) - writePosition;
+            if (difference == 0) {
+                if (AtomicInt.compareAndSetVolatile(this, WRITE_POSITION, writePosition, writePosition + 1)) {
+                    buffer[index] = element;
+                    AtomicIntArray.setRelease(sequences, index, writePosition + 1);
+                    return;
+                }
+            } else if (difference < 0) {
+                writeBusyWaitStrategy.tick();
+            }
+            writePosition = AtomicInt.getOpaque(this, WRITE_POSITION);
+        }
+    }
+
+    @Override
+    public boolean offer(T element) {
+        int writePosition = AtomicInt.getOpaque(this, WRITE_POSITION);
+        while (true) {
+            int index = writePosition & capacityMinusOne;
+            int difference = AtomicIntArray.getAcquire(sequences, index) - writePosition;
+            if (difference == 0) {
+                if (AtomicInt.compareAndSetVolatile(this, WRITE_POSITION, writePosition, writePosition + 1)) {
+                    buffer[index] = element;
+                    AtomicIntArray.setRelease(sequences, index, writePosition + 1);
+                    return true;
+                }
+            } else if (difference < 0) {
+                return false;
+            }
+            writePosition = AtomicInt.getOpaque(this, WRITE_POSITION);
+        }
+    }
+
+    @Override
+    public void putAll(T[] src, int offset, int length) {
+        Assume.notGreater(length, capacity);
+        if (length == 0) {
+            return;
+        }
+        var writeBusyWaitStrategy = this.writeBusyWaitStrategy;
+        writeBusyWaitStrategy.reset();
+        int writePosition = AtomicInt.getOpaque(this, WRITE_POSITION);
+        while (true) {
+            int lastPosition = writePosition + length - 1;
+            int difference = AtomicIntArray.getAcquire(sequences, lastPosition & capacityMinusOne) - lastPosition;
+            if (difference == 0) {
+                if (AtomicInt.compareAndSetVolatile(this, WRITE_POSITION, writePosition, writePosition + length)) {
+                    break;
+                }
+            } else if (difference < 0) {
+                writeBusyWaitStrategy.tick();
+            }
+            writePosition = AtomicInt.getOpaque(this, WRITE_POSITION);
+        }
+        // The last slot is free, so the readers of all the previous slots have claimed them already
+        for (int end = offset + length; offset < end; offset++, writePosition++) {
+            int index = writePosition & capacityMinusOne;
+            while (AtomicIntArray.getAcquire(sequences, index) != writePosition) {
+                Thread.onSpinWait();
+            }
+            buffer[index] = src[offset];
+            AtomicIntArray.setRelease(sequences, index, writePosition + 1);
+        }
+    }
+
+    @Override
+    public T take() {
+        return take(HintBusyWaitStrategy.DEFAULT_INSTANCE);
+    }
+
+    @Override
+    public T take(BusyWaitStrategy busyWaitStrategy) {
+        busyWaitStrategy.reset();
+        int readPosition = AtomicInt.getOpaque(this, READ_POSITION);
+        while (true) {
+            int index = readPosition & capacityMinusOne;
+            int difference = AtomicIntArray.getAcquire(sequences, index) - (readPosition + 1);
+            if (difference == 0) {
+                if (AtomicInt.compareAndSetVolatile(this, READ_POSITION, readPosition, readPosition + 1)) {
+                    T element = buffer[index];
+                    buffer[index] = null;
+                    AtomicIntArray.setRelease(sequences, index, readPosition + capacity);
+                    return element;
+                }
+            } else if (difference < 0) {
+                busyWaitStrategy.tick();
+            }
+            readPosition = AtomicInt.getOpaque(this, READ_POSITION);
+        }
+    }
+
+    @Override
+    public T poll() {
+        int readPosition = AtomicInt.getOpaque(this, READ_POSITION);
+        while (true) {
+            int index = readPosition & capacityMinusOne;
+            int difference = AtomicIntArray.getAcquire(sequences, index) - (readPosition + 1);
+            if (difference == 0) {
+                if (AtomicInt.compareAndSetVolatile(this, READ_POSITION, readPosition, readPosition + 1)) {
+                    T element = buffer[index];
+                    buffer[index] = null;
+                    AtomicIntArray.setRelease(sequences, index, readPosition + capacity);
+                    return element;
+                }
+            } else if (difference < 0) {
+                return null;
+            }
+            readPosition = AtomicInt.getOpaque(this, READ_POSITION);
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package org.ringbuffer.object;
+
+public interface BoundedLockfreeRingBuffer<T> extends LockfreeRingBuffer<T> {
+    /**
+     * If the ring buffer is full, waits using the {@link org.ringbuffer.wait.BusyWaitStrategy}
+     * passed to {@link LockfreeRingBufferBuilder#bounded(org.ringbuffer.wait.BusyWaitStrategy)}.
+     */
+    @Override
+    void put(T element);
+
+    /**
+     * @return {@code false} if the ring buffer is full, in which case {@code element} is not put.
+     */
+    boolean offer(T element);
+
+    /**
+     * @return {@code null} if the ring buffer is empty
+     */
+    T poll();
+}
@@ -0,0 +1,139 @@
+package org.ringbuffer.object;
+
+import eu.menzani.object.ObjectFactory;
+import eu.menzani.struct.Arrays;
+import org.ringbuffer.AbstractRingBufferBuilder;
+import org.ringbuffer.wait.BusyWaitStrategy;
+
+public final class BoundedLockfreeRingBufferBuilder<T> extends AbstractRingBufferBuilder<BoundedLockfreeRingBuffer<T>> {
+    private final int capacity;
+    // All fields are copied in <init>(LockfreeRingBufferBuilder<?>, BusyWaitStrategy)
+
+    BoundedLockfreeRingBufferBuilder(LockfreeRingBufferBuilder<?> builder, BusyWaitStrategy busyWaitStrategy) {
+        super(builder);
+        capacity = builder.capacity;
+        super.blocking0(busyWaitStrategy);
+    }
+
+    @Override
+    public BoundedLockfreeRingBufferBuilder<T> oneWriter() {
+        super.oneWriter0();
+        return this;
+    }
+
+    @Override
+    public BoundedLockfreeRingBufferBuilder<T> manyWriters() {
+        super.manyWriters0();
+        return this;
+    }
+
+    @Override
+    public BoundedLockfreeRingBufferBuilder<T> oneReader() {
+        super.oneReader0();
+        return this;
+    }
+
+    @Override
+    public BoundedLockfreeRingBufferBuilder<T> manyReaders() {
+        super.manyReaders0();
+        return this;
+    }
+
+    @Override
+    protected BoundedLockfreeRingBufferBuilder<T> blocking() {
+        throw new AssertionError();
+    }
+
+    @Override
+    protected BoundedLockfreeRingBufferBuilder<T> blocking(BusyWaitStrategy busyWaitStrategy) {
+        throw new AssertionError();
+    }
+
+    @Override
+    protected BoundedLockfreeRingBufferBuilder<T> lockfree() {
+        throw new AssertionError();
+    }
+
+    @Override
+    public BoundedLockfreeRingBufferBuilder<T> waitingWith(BusyWaitStrategy busyWaitStrategy) {
+        super.waitingWith0(busyWaitStrategy);
+        return this;
+    }
+
+    /**
+     * Writers wait for free space without holding a monitor, so each thread needs its own write busy-wait strategy.
+     * Must be called with {@link #manyWriters()} if a strategy other than the default was passed to
+     * {@link LockfreeRingBufferBuilder#bounded(BusyWaitStrategy)}.
+     */
+    public BoundedLockfreeRingBufferBuilder<T> writingWith(ObjectFactory<? extends BusyWaitStrategy> busyWaitStrategyFactory) {
+        super.writingWith0(busyWaitStrategyFactory);
+        return this;
+    }
+
+    @Override
+    public BoundedLockfreeRingBufferBuilder<T> copyClass() {
+        super.copyClass0();
+        return this;
+    }
+
+    @Override
+    protected void validate() {
+        super.validate();
+        validateConcurrentWriters();
+    }
+
+    @Override
+    protected BoundedLockfreeRingBuffer<T> create(RingBufferConcurrency concurrency, RingBufferType type) {
+        if (type == RingBufferType.BLOCKING) {
+            switch (concurrency) {
+                case VOLATILE:
+                    if (copyClass) {
+                        return instantiateCopy(BoundedLockfreeVolatileRingBuffer.class);
+                    }
+                    return new BoundedLockfreeVolatileRingBuffer<>(this);
+                case ATOMIC_READ:
+                    if (copyClass) {
+                        return instantiateCopy(BoundedLockfreeAtomicReadRingBuffer.class);
+                    }
+                    return new BoundedLockfreeAtomicReadRingBuffer<>(this);
+                case ATOMIC_WRITE:
+                    if (copyClass) {
+                        return instantiateCopy(BoundedLockfreeAtomicWriteRingBuffer.class);
+                    }
+                    return new BoundedLockfreeAtomicWriteRingBuffer<>(this);
+                case CONCURRENT:
+                    if (copyClass) {
+                        return instantiateCopy(BoundedLockfreeConcurrentRingBuffer.class);
+                    }
+                    return new BoundedLockfreeConcurrentRingBuffer<>(this);
+            }
+        }
+        throw new AssertionError();
+    }
+
+    @Override
+    protected BusyWaitStrategy getWriteBusyWaitStrategy() {
+        return super.getWriteBusyWaitStrategy();
+    }
+
+    @Override
+    protected BusyWaitStrategy getReadBusyWaitStrategy() {
+        return super.getReadBusyWaitStrategy();
+    }
+
+    int getCapacityMinusOne() {
+        return capacity - 1;
+    }
+
+    T[] getBuffer() {
+        return Arrays.allocateGeneric(capacity);
+    }
+
+    int[] getSequences() {
+        int[] sequences = new int[capacity];
+        for (int i = 0; i < capacity; i++) {
+            sequences[i] = i;
+        }
+        return sequences;
+    }
+}
@@ -0,0 +1,113 @@
+package org.ringbuffer.object;
+
+import eu.menzani.atomic.AtomicIntArray;
+import jdk.internal.vm.annotation.Contended;
+import org.ringbuffer.wait.BusyWaitStrategy;
+
+@Contended
+class BoundedLockfreeVolatileRingBuffer<T> implements BoundedLockfreeRingBuffer<T> {
+    private final int capacity;
+    private final int capacityMinusOne;
+    private final T[] buffer;
+    private final int[] sequences;
+    private final BusyWaitStrategy writeBusyWaitStrategy;
+    private final BusyWaitStrategy readBusyWaitStrategy;
+
+    @Contended
+    private int readPosition;
+    @Contended
+    private int writePosition;
+
+    BoundedLockfreeVolatileRingBuffer(BoundedLockfreeRingBufferBuilder<T> builder) {
+        capacityMinusOne = builder.getCapacityMinusOne();
+        capacity = capacityMinusOne + 1;
+        buffer = builder.getBuffer();
+        sequences = builder.getSequences();
+        writeBusyWaitStrategy = builder.getWriteBusyWaitStrategy();
+        readBusyWaitStrategy = builder.getReadBusyWaitStrategy();
+    }
+
+    @Override
+    public int getCapacity() {
+        return capacity;
+    }
+
+    @Override
+    public void put(T element) {
+        int writePosition = this.writePosition;
+        int index = writePosition & capacityMinusOne;
+        var writeBusyWaitStrategy = this.writeBusyWaitStrategy;
+        writeBusyWaitStrategy.reset();
+        while (AtomicIntArray.getAcquire(sequences, index) != writePosition) {
+            writeBusyWaitStrategy.tick();
+        }
+        this.writePosition = writePosition + 1;
+        buffer[index] = element;
+        AtomicIntArray.setRelease(sequences, index, writePosition + 1);
+    }
+
+    @Override
+    public boolean offer(T element) {
+        int writePosition = this.writePosition;
+        int index = writePosition & capacityMinusOne;
+        if (AtomicIntArray.getAcquire(sequences, index) != writePosition) {
+            return false;
+        }
+        this.writePosition = writePosition + 1;
+        buffer[index] = element;
+        AtomicIntArray.setRelease(sequences, index, writePosition + 1);
+        return true;
+    }
+
+    @Override
+    public void putAll(T[] src, int offset, int length) {
+        int writePosition = this.writePosition;
+        this.writePosition = writePosition + length;
+        var writeBusyWaitStrategy = this.writeBusyWaitStrategy;
+        writeBusyWaitStrategy.reset();
+        for (int end = offset + length; offset < end; offset++, writePosition++) {
+            int index = writePosition & capacityMinusOne;
+            while (AtomicIntArray.getAcquire(sequences, index) != writePosition) {
+                writeBusyWaitStrategy.tick();
+            }
+            buffer[index] = src[offset];
+            AtomicIntArray.setRelease(sequences, index, writePosition + 1);
+        }
+    }
+
+    @Override
+    public T take() {
+        return take(readBusyWaitStrategy);
+    }
+
+    @Override
+    public T take(BusyWaitStrategy busyWaitStrategy) {
+        int readPosition = this.readPosition;
+        int index = readPosition & capacityMinusOne;
+        int nextReadPosition = readPosition + 1;
+        busyWaitStrategy.reset();
+        while (AtomicIntArray.getAcquire(sequences, index) != nextReadPosition) {
+            busyWaitStrategy.tick();
+        }
+        this.readPosition = nextReadPosition;
+        T element = buffer[index];
+        buffer[index] = null;
+        AtomicIntArray.setRelease(sequences, index, readPosition + capacity);
+        return element;
+    }
+
+    @Override
+    public T poll() {
+        int readPosition = this.readPosition;
+        int index = readPosition & capacityMinusOne;
+        int nextReadPosition = readPosition + 1;
+        if (AtomicIntArray.getAcquire(sequences, index) != nextReadPosition) {
+            return null;
+        }
+        this.readPosition = nextReadPosition;
+        T element = buffer[index];
+        buffer[index] = null;
+        AtomicIntArray.setRelease(sequences, index, readPosition + capacity);
+        return element;
+    }
+}
@@ -0,0 +1,609 @@
+package org.ringbuffer.object;
+
+import eu.menzani.atomic.AtomicArray;
+import eu.menzani.atomic.AtomicInt;
+import eu.menzani.atomic.AtomicLong;
+import eu.menzani.lang.Assume;
+import eu.menzani.lang.Lang;
+import jdk.internal.vm.annotation.Contended;
+import org.ringbuffer.wait.BusyWaitStrategy;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+@Contended
+class ClaimingConcurrentBlockingGCRingBuffer<T> implements ClaimingRingBuffer<T> {
+    private static final long READ_POSITION, WRITE_POSITION, CLAIM_POSITION, READ_CLAIM;
+    private static final long LAP_INCREMENT = 1L << 32;
+    private static final long LAP_MASK = -LAP_INCREMENT;
+
+    static {
+        final Class<?> clazz = ClaimingConcurrentBlockingGCRingBuffer.class;
+        READ_POSITION = Lang.objectFieldOffset(clazz, "readPosition");
+        READ_CLAIM = Lang.objectFieldOffset(clazz, "readClaim");
+        WRITE_POSITION = Lang.objectFieldOffset(clazz, "writePosition");
+        CLAIM_POSITION = Lang.objectFieldOffset(clazz, "claimPosition");
+    }
+
+    private final int capacity;
+    private final int capacityMinusOne;
+    private final T[] buffer;
+    private final BusyWaitStrategy readBusyWaitStrategy;
+    private final BusyWaitStrategy writeBusyWaitStrategy;
+
+    @Contended("read")
+    private int readPosition;
+    @Contended("write")
+    private int writePosition;
+    /**
+     * Lap in the upper 32 bits, next position to claim in the lower 32 bits.
+     * The lap prevents a stale compare-and-set from succeeding after the position wraps around.
+     */
+    @Contended("write")
+    private long claimPosition;
+    /**
+     * Same layout as {@code claimPosition}, for readers.
+     */
+    @Contended("read")
+    private long readClaim;
+    /**
+     * Positions claimed by {@link #takeBatch(int)}, guarded by the read monitor.
+     */
+    @Contended("read")
+    private int batchReadPosition;
+    @Contended("read")
+    private int batchPosition;
+    @Contended("read")
+    private int batchRemaining;
+
+    ClaimingConcurrentBlockingGCRingBuffer(ClaimingRingBufferBuilder<T> builder) {
+        capacity = builder.getCapacity();
+        capacityMinusOne = builder.getCapacityMinusOne();
+        buffer = builder.getBuffer();
+        readBusyWaitStrategy = builder.getReadBusyWaitStrategy();
+        writeBusyWaitStrategy = builder.getWriteBusyWaitStrategy();
+    }
+
+    @Override
+    public int getCapacity() {
+        return capacity;
+    }
+
+    @Override
+    public void put(T element) {
+        var writeBusyWaitStrategy = this.writeBusyWaitStrategy;
+        writeBusyWaitStrategy.reset();
+        long claimPosition;
+        long newClaimPosition;
+        int newWritePosition;
+        do {
+            claimPosition = AtomicLong.getAcquire(this, CLAIM_POSITION);
+            int writePosition = (int) claimPosition;
+            if (writePosition == 0) {
+                newWritePosition = capacityMinusOne;
+                newClaimPosition = claimPosition + LAP_INCREMENT + capacityMinusOne;
+            } else {
+                newWritePosition = writePosition - 1;
+                newClaimPosition = claimPosition - 1L;
+            }
+            while (AtomicInt.getAcquire(this, READ_POSITION) == newWritePosition) {
+                writeBusyWaitStrategy.tick();
+            }
+        } while (!AtomicLong.compareAndSetVolatile(this, CLAIM_POSITION, claimPosition, newClaimPosition));
+
+        int writePosition = (int) claimPosition;
+        AtomicArray.setPlain(buffer, writePosition, element);
+        publish(writePosition, newWritePosition);
+    }
+
+    @Override
+    public boolean put(T element, long timeout, TimeUnit unit) {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        var writeBusyWaitStrategy = this.writeBusyWaitStrategy;
+        writeBusyWaitStrategy.reset();
+        long claimPosition;
+        long newClaimPosition;
+        int newWritePosition;
+        do {
+            claimPosition = AtomicLong.getAcquire(this, CLAIM_POSITION);
+            int writePosition = (int) claimPosition;
+            if (writePosition == 0) {
+                newWritePosition = capacityMinusOne;
+                newClaimPosition = claimPosition + LAP_INCREMENT + capacityMinusOne;
+            } else {
+                newWritePosition = writePosition - 1;
+                newClaimPosition = claimPosition - 1L;
+            }
+            while (AtomicInt.getAcquire(this, READ_POSITION) == newWritePosition) {
+                if (System.nanoTime() - deadline >= 0L) {
+                    return false;
+                }
+                writeBusyWaitStrategy.tick(deadline);
+            }
+        } while (!AtomicLong.compareAndSetVolatile(this, CLAIM_POSITION, claimPosition, newClaimPosition));
+
+        int writePosition = (int) claimPosition;
+        AtomicArray.setPlain(buffer, writePosition, element);
+        publish(writePosition, newWritePosition);
+        return true;
+    }
+
+    @Override
+    public boolean offer(T element) {
+        long claimPosition;
+        long newClaimPosition;
+        int newWritePosition;
+        do {
+            claimPosition = AtomicLong.getAcquire(this, CLAIM_POSITION);
+            int writePosition = (int) claimPosition;
+            if (writePosition == 0) {
+                newWritePosition = capacityMinusOne;
+                newClaimPosition = claimPosition + LAP_INCREMENT + capacityMinusOne;
+            } else {
+                newWritePosition = writePosition - 1;
+                newClaimPosition = claimPosition - 1L;
+            }
+            if (AtomicInt.getAcquire(this, READ_POSITION) == newWritePosition) {
+                return false;
+            }
+        } while (!AtomicLong.compareAndSetVolatile(this, CLAIM_POSITION, claimPosition, newClaimPosition));
+
+        int writePosition = (int) claimPosition;
+        AtomicArray.setPlain(buffer, writePosition, element);
+        publish(writePosition, newWritePosition);
+        return true;
+    }
+
+    @Override
+    public void putAll(T[] src, int offset, int length) {
+        Assume.notGreater(length, capacityMinusOne);
+        var writeBusyWaitStrategy = this.writeBusyWaitStrategy;
+        writeBusyWaitStrategy.reset();
+        long claimPosition;
+        long newClaimPosition;
+        int writePosition;
+        do {
+            claimPosition = AtomicLong.getAcquire(this, CLAIM_POSITION);
+            writePosition = (int) claimPosition;
+            while (freeSpace(writePosition, AtomicInt.getAcquire(this, READ_POSITION)) < length) {
+                writeBusyWaitStrategy.tick();
+            }
+            if (writePosition < length) {
+                newClaimPosition = claimPosition + LAP_INCREMENT + capacity - length;
+            } else {
+                newClaimPosition = claimPosition - length;
+            }
+        } while (!AtomicLong.compareAndSetVolatile(this, CLAIM_POSITION, claimPosition, newClaimPosition));
+
+        int newWritePosition = writePosition;
+        for (int end = offset + length; offset < end; offset++) {
+            AtomicArray.setPlain(buffer, newWritePosition, src[offset]);
+            if (newWritePosition == 0) {
+                newWritePosition = capacityMinusOne;
+            } else {
+                newWritePosition--;
+            }
+        }
+        publish(writePosition, newWritePosition);
+    }
+
+    /**
+     * Writers make their elements visible in the order they claimed positions,
+     * so each one waits for the writers that claimed earlier positions.
+     */
+    private void publish(int writePosition, int newWritePosition) {
+        var writeBusyWaitStrategy = this.writeBusyWaitStrategy;
+        writeBusyWaitStrategy.reset();
+        while (AtomicInt.getAcquire(this, WRITE_POSITION) != writePosition) {
+            writeBusyWaitStrategy.tick();
+        }
+        AtomicInt.setRelease(this, WRITE_POSITION, newWritePosition);
+    }
+
+    private int freeSpace(int writePosition, int readPosition) {
+        if (writePosition <= readPosition) {
+            return capacityMinusOne - (readPosition - writePosition);
+        }
+        return writePosition - readPosition - 1;
+    }
+
+    @Override
+    public T take() {
+        var readBusyWaitStrategy = this.readBusyWaitStrategy;
+        readBusyWaitStrategy.reset();
+        long readClaim;
+        long newReadClaim;
+        int readPosition;
+        int newReadPosition;
+        do {
+            readClaim = AtomicLong.getAcquire(this, READ_CLAIM);
+            readPosition = (int) readClaim;
+            while (AtomicInt.getAcquire(this, WRITE_POSITION) == readPosition) {
+                readBusyWaitStrategy.tick();
+            }
+            if (readPosition == 0) {
+                newReadPosition = capacityMinusOne;
+                newReadClaim = readClaim + LAP_INCREMENT + capacityMinusOne;
+            } else {
+                newReadPosition = readPosition - 1;
+                newReadClaim = readClaim - 1L;
+            }
+        } while (!AtomicLong.compareAndSetVolatile(this, READ_CLAIM, readClaim, newReadClaim));
+
+        T element = AtomicArray.getPlain(buffer, readPosition);
+        AtomicArray.setPlain(buffer, readPosition, null);
+        release(readPosition, newReadPosition);
+        return element;
+    }
+
+    @Override
+    public T take(long timeout, TimeUnit unit) {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        var readBusyWaitStrategy = this.readBusyWaitStrategy;
+        readBusyWaitStrategy.reset();
+        long readClaim;
+        long newReadClaim;
+        int readPosition;
+        int newReadPosition;
+        do {
+            readClaim = AtomicLong.getAcquire(this, READ_CLAIM);
+            readPosition = (int) readClaim;
+            while (AtomicInt.getAcquire(this, WRITE_POSITION) == readPosition) {
+                if (System.nanoTime() - deadline >= 0L) {
+                    return null;
+                }
+                readBusyWaitStrategy.tick(deadline);
+            }
+            if (readPosition == 0) {
+                newReadPosition = capacityMinusOne;
+                newReadClaim = readClaim + LAP_INCREMENT + capacityMinusOne;
+            } else {
+                newReadPosition = readPosition - 1;
+                newReadClaim = readClaim - 1L;
+            }
+        } while (!AtomicLong.compareAndSetVolatile(this, READ_CLAIM, readClaim, newReadClaim));
+
+        T element = AtomicArray.getPlain(buffer, readPosition);
+        AtomicArray.setPlain(buffer, readPosition, null);
+        release(readPosition, newReadPosition);
+        return element;
+    }
+
+    @Override
+    public T poll() {
+        long readClaim;
+        long newReadClaim;
+        int readPosition;
+        int newReadPosition;
+        do {
+            readClaim = AtomicLong.getAcquire(this, READ_CLAIM);
+            readPosition = (int) readClaim;
+            if (AtomicInt.getAcquire(this, WRITE_POSITION) == readPosition) {
+                return null;
+            }
+            if (readPosition == 0) {
+                newReadPosition = capacityMinusOne;
+                newReadClaim = readClaim + LAP_INCREMENT + capacityMinusOne;
+            } else {
+                newReadPosition = readPosition - 1;
+                newReadClaim = readClaim - 1L;
+            }
+        } while (!AtomicLong.compareAndSetVolatile(this, READ_CLAIM, readClaim, newReadClaim));
+
+        T element = AtomicArray.getPlain(buffer, readPosition);
+        AtomicArray.setPlain(buffer, readPosition, null);
+        release(readPosition, newReadPosition);
+        return element;
+    }
+
+    private void release(int readPosition, int newReadPosition) {
+        var readBusyWaitStrategy = this.readBusyWaitStrategy;
+        readBusyWaitStrategy.reset();
+        while (AtomicInt.getAcquire(this, READ_POSITION) != readPosition) {
+            readBusyWaitStrategy.tick();
+        }
+        AtomicInt.setRelease(this, READ_POSITION, newReadPosition);
+    }
+
+    @Override
+    public void takeBatch(int size) {
+        int readPosition = claimBatch(size);
+        batchReadPosition = readPosition;
+        batchPosition = readPosition;
+        batchRemaining = size;
+    }
+
+    @Override
+    public T takePlain() {
+        int position = batchPosition;
+        T element = AtomicArray.getPlain(buffer, position);
+        AtomicArray.setPlain(buffer, position, null);
+        if (position == 0) {
+            position = capacityMinusOne;
+        } else {
+            position--;
+        }
+        if (--batchRemaining == 0) {
+            release(batchReadPosition, position);
+        } else {
+            batchPosition = position;
+        }
+        return element;
+    }
+
+    @Override
+    public int claimBatch(int size) {
+        var readBusyWaitStrategy = this.readBusyWaitStrategy;
+        readBusyWaitStrategy.reset();
+        long readClaim;
+        long newReadClaim;
+        int readPosition;
+        do {
+            readClaim = AtomicLong.getAcquire(this, READ_CLAIM);
+            readPosition = (int) readClaim;
+            while (size(readPosition) < size) {
+                readBusyWaitStrategy.tick();
+            }
+            if (readPosition < size) {
+                newReadClaim = readClaim + LAP_INCREMENT + capacity - size;
+            } else {
+                newReadClaim = readClaim - size;
+            }
+        } while (!AtomicLong.compareAndSetVolatile(this, READ_CLAIM, readClaim, newReadClaim));
+        return readPosition;
+    }
+
+    @Override
+    public T takePlain(int key, int index) {
+        int position = key - index;
+        if (position < 0) {
+            position += capacity;
+        }
+        T element = AtomicArray.getPlain(buffer, position);
+        AtomicArray.setPlain(buffer, position, null);
+        return element;
+    }
+
+    @Override
+    public void releaseBatch(int key, int size) {
+        int newReadPosition = key - size;
+        if (newReadPosition < 0) {
+            newReadPosition += capacity;
+        }
+        release(key, newReadPosition);
+    }
+
+    @Override
+    public int drain(Consumer<T> handler, int maxElements) {
+        var readBusyWaitStrategy = this.readBusyWaitStrategy;
+        readBusyWaitStrategy.reset();
+        long readClaim;
+        long newReadClaim;
+        int readPosition;
+        int size;
+        do {
+            readClaim = AtomicLong.getAcquire(this, READ_CLAIM);
+            readPosition = (int) readClaim;
+            while ((size = size(readPosition)) == 0) {
+                readBusyWaitStrategy.tick();
+            }
+            if (size > maxElements) {
+                size = maxElements;
+            }
+            if (readPosition < size) {
+                newReadClaim = readClaim + LAP_INCREMENT + capacity - size;
+            } else {
+                newReadClaim = readClaim - size;
+            }
+        } while (!AtomicLong.compareAndSetVolatile(this, READ_CLAIM, readClaim, newReadClaim));
+
+        int position = readPosition;
+        for (int i = size; i > 0; i--) {
+            handler.accept(AtomicArray.getPlain(buffer, position));
+            AtomicArray.setPlain(buffer, position, null);
+            if (position == 0) {
+                position = capacityMinusOne;
+            } else {
+                position--;
+            }
+        }
+        release(readPosition, position);
+        return size;
+    }
+
+    @Override
+    public int takeAvailable(T[] dst) {
+        var readBusyWaitStrategy = this.readBusyWaitStrategy;
+        readBusyWaitStrategy.reset();
+        long readClaim;
+        long newReadClaim;
+        int readPosition;
+        int size;
+        do {
+            readClaim = AtomicLong.getAcquire(this, READ_CLAIM);
+            readPosition = (int) readClaim;
+            while ((size = size(readPosition)) == 0) {
+                readBusyWaitStrategy.tick();
+            }
+            if (size > dst.length) {
+                size = dst.length;
+            }
+            if (readPosition < size) {
+                newReadClaim = readClaim + LAP_INCREMENT + capacity - size;
+            } else {
+                newReadClaim = readClaim - size;
+            }
+        } while (!AtomicLong.compareAndSetVolatile(this, READ_CLAIM, readClaim, newReadClaim));
+
+        int position = readPosition;
+        for (int i = 0; i < size; i++) {
+            dst[i] = AtomicArray.getPlain(buffer, position);
+            AtomicArray.setPlain(buffer, position, null);
+            if (position == 0) {
+                position = capacityMinusOne;
+            } else {
+                position--;
+            }
+        }
+        release(readPosition, position);
+        return size;
+    }
+
+    @Override
+    public T takeLast() {
+        var readBusyWaitStrategy = this.readBusyWaitStrategy;
+        readBusyWaitStrategy.reset();
+        long readClaim;
+        int readPosition;
+        int position;
+        do {
+            readClaim = AtomicLong.getAcquire(this, READ_CLAIM);
+            readPosition = (int) readClaim;
+            while ((position = AtomicInt.getAcquire(this, WRITE_POSITION)) == readPosition) {
+                readBusyWaitStrategy.tick();
+            }
+            if (position == capacityMinusOne) {
+                position = 0;
+            } else {
+                position++;
+            }
+        } while (!AtomicLong.compareAndSetVolatile(this, READ_CLAIM, readClaim, (readClaim & LAP_MASK) + LAP_INCREMENT + position));
+
+        if (position <= readPosition) {
+            for (int i = readPosition; i > position; i--) {
+                AtomicArray.setPlain(buffer, i, null);
+            }
+        } else {
+            takeLastSplit(readPosition, position);
+        }
+
+        T element = AtomicArray.getPlain(buffer, position);
+        release(readPosition, position);
+        return element;
+    }
+
+    private void takeLastSplit(int readPosition, int position) {
+        for (int i = readPosition; i >= 0; i--) {
+            AtomicArray.setPlain(buffer, i, null);
+        }
+        for (int i = capacityMinusOne; i > position; i--) {
+            AtomicArray.setPlain(buffer, i, null);
+        }
+    }
+
+    @Override
+    public void forEach(Consumer<T> action) {
+        int readPosition = AtomicInt.getAcquire(this, READ_POSITION);
+        int writePosition = AtomicInt.getAcquire(this, WRITE_POSITION);
+        if (writePosition <= readPosition) {
+            for (; readPosition > writePosition; readPosition--) {
+                action.accept(AtomicArray.getPlain(buffer, readPosition));
+            }
+        } else {
+            forEachSplit(action, readPosition, writePosition);
+        }
+    }
+
+    private void forEachSplit(Consumer<T> action, int readPosition, int writePosition) {
+        for (; readPosition >= 0; readPosition--) {
+            action.accept(AtomicArray.getPlain(buffer, readPosition));
+        }
+        for (readPosition = capacityMinusOne; readPosition > writePosition; readPosition--) {
+            action.accept(AtomicArray.getPlain(buffer, readPosition));
+        }
+    }
+
+    @Override
+    public boolean contains(T element) {
+        int readPosition = AtomicInt.getAcquire(this, READ_POSITION);
+        int writePosition = AtomicInt.getAcquire(this, WRITE_POSITION);
+        if (writePosition <= readPosition) {
+            for (; readPosition > writePosition; readPosition--) {
+                if (AtomicArray.getPlain(buffer, readPosition).equals(element)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        return containsSplit(element, readPosition, writePosition);
+    }
+
+    private boolean containsSplit(T element, int readPosition, int writePosition) {
+        for (; readPosition >= 0; readPosition--) {
+            if (AtomicArray.getPlain(buffer, readPosition).equals(element)) {
+                return true;
+            }
+        }
+        for (readPosition = capacityMinusOne; readPosition > writePosition; readPosition--) {
+            if (AtomicArray.getPlain(buffer, readPosition).equals(element)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public int size() {
+        return size(AtomicInt.getAcquire(this, READ_POSITION));
+    }
+
+    private int size(int readPosition) {
+        int writePosition = AtomicInt.getAcquire(this, WRITE_POSITION);
+        if (writePosition <= readPosition) {
+            return readPosition - writePosition;
+        }
+        return capacity - (writePosition - readPosition);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return isEmpty(AtomicInt.getAcquire(this, READ_POSITION), AtomicInt.getAcquire(this, WRITE_POSITION));
+    }
+
+    private static boolean isEmpty(int readPosition, int writePosition) {
+        return writePosition == readPosition;
+    }
+
+    @Override
+    public boolean isNotEmpty() {
+        return AtomicInt.getAcquire(this, READ_POSITION) != AtomicInt.getAcquire(this, WRITE_POSITION);
+    }
+
+    @Override
+    public String toString() {
+        int readPosition = AtomicInt.getAcquire(this, READ_POSITION);
+        int writePosition = AtomicInt.getAcquire(this, WRITE_POSITION);
+        if (isEmpty(readPosition, writePosition)) {
+            return "[]";
+        }
+        StringBuilder builder = new StringBuilder();
+        builder.append('[');
+        if (writePosition < readPosition) {
+            for (; readPosition > writePosition; readPosition--) {
+                builder.append(AtomicArray.getPlain(buffer, readPosition).toString());
+                builder.append(", ");
+            }
+        } else {
+            toStringSplit(builder, readPosition, writePosition);
+        }
+        builder.setLength(builder.length() - 2);
+        builder.append(']');
+        return builder.toString();
+    }
+
+    private void toStringSplit(StringBuilder builder, int readPosition, int writePosition) {
+        for (; readPosition >= 0; readPosition--) {
+            builder.append(AtomicArray.getPlain(buffer, readPosition).toString());
+            builder.append(", ");
+        }
+        for (readPosition = capacityMinusOne; readPosition > writePosition; readPosition--) {
+            builder.append(AtomicArray.getPlain(buffer, readPosition).toString());
+            builder.append(", ");
+        }
+    }
+
+    @Override
+    public Object getReadMonitor() {
+        return this;
+    }
+}
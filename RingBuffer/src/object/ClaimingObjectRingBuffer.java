@@ -0,0 +1,30 @@
+package org.ringbuffer.object;
+
+/**
+ * Readers claim elements with a compare-and-set instead of acquiring a monitor,
+ * then release them in claim order. {@link #getReadMonitor()} only needs to be used with
+ * {@link #takeBatch(int)} and {@link #takePlain()}, which share the claimed batch between calls.
+ */
+public interface ClaimingObjectRingBuffer<T> extends ObjectRingBuffer<T> {
+    /**
+     * Waits until at least {@code size} elements are available and claims them for the calling reader.
+     * Other readers will not see these elements.
+     * <p>
+     * Each element can then be taken with {@link #takePlain(int, int) takePlain(key, index)},
+     * where {@code index} ranges from {@code 0} to {@code size - 1}.
+     * Finally, {@link #releaseBatch(int, int) releaseBatch(key, size)} must be called.
+     * <p>
+     * {@code size} must be less than the capacity.
+     *
+     * @return the key of the claimed batch
+     */
+    int claimBatch(int size);
+
+    T takePlain(int key, int index);
+
+    /**
+     * Makes space available to writers. Batches are released in the order they were claimed,
+     * so this method may wait for other readers to release theirs.
+     */
+    void releaseBatch(int key, int size);
+}
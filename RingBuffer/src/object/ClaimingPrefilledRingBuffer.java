@@ -0,0 +1,18 @@
+package org.ringbuffer.object;
+
+/**
+ * Readers claim elements with a compare-and-set instead of acquiring a monitor.
+ * Since elements are reused, the slot of an element obtained from {@link #take()} may be written to
+ * as soon as it returns. To read an element safely, claim it:
+ *
+ * <pre>{@code
+ * int key = ringBuffer.claimBatch(size);
+ * for (int i = 0; i < size; i++) {
+ *     T element = ringBuffer.takePlain(key, i);
+ *     // Read element
+ * }
+ * ringBuffer.releaseBatch(key, size);
+ * }</pre>
+ */
+public interface ClaimingPrefilledRingBuffer<T> extends PrefilledRingBuffer2<T>, ClaimingObjectRingBuffer<T> {
+}
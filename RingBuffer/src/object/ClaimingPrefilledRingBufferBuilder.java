@@ -0,0 +1,117 @@
+package org.ringbuffer.object;
+
+import eu.menzani.object.ObjectFactory;
+import org.ringbuffer.AbstractRingBufferBuilder;
+import org.ringbuffer.wait.BusyWaitStrategy;
+
+public final class ClaimingPrefilledRingBufferBuilder<T> extends AbstractPrefilledRingBufferBuilder<T> {
+    ClaimingPrefilledRingBufferBuilder(PrefilledRingBufferBuilder2<T> builder) {
+        super(builder);
+    }
+
+    @Override
+    public ClaimingPrefilledRingBufferBuilder<T> fillWith(ObjectFactory<T> filler) {
+        super.fillWith0(filler);
+        return this;
+    }
+
+    @Override
+    public ClaimingPrefilledRingBufferBuilder<T> oneWriter() {
+        super.oneWriter0();
+        return this;
+    }
+
+    @Override
+    public ClaimingPrefilledRingBufferBuilder<T> manyWriters() {
+        super.manyWriters0();
+        return this;
+    }
+
+    @Override
+    public ClaimingPrefilledRingBufferBuilder<T> oneReader() {
+        super.oneReader0();
+        return this;
+    }
+
+    @Override
+    public ClaimingPrefilledRingBufferBuilder<T> manyReaders() {
+        super.manyReaders0();
+        return this;
+    }
+
+    @Override
+    protected AbstractRingBufferBuilder<?> blocking() {
+        throw new AssertionError();
+    }
+
+    @Override
+    protected AbstractRingBufferBuilder<?> blocking(BusyWaitStrategy busyWaitStrategy) {
+        throw new AssertionError();
+    }
+
+    @Override
+    ObjectRingBufferBuilder<?> discarding() {
+        throw new AssertionError();
+    }
+
+    @Override
+    protected AbstractRingBufferBuilder<?> lockfree() {
+        throw new AssertionError();
+    }
+
+    @Override
+    public ClaimingPrefilledRingBufferBuilder<T> waitingWith(BusyWaitStrategy busyWaitStrategy) {
+        super.waitingWith0(busyWaitStrategy);
+        return this;
+    }
+
+    /**
+     * Readers claim elements without holding a monitor, so each thread needs its own read busy-wait strategy.
+     * Must be called with {@link #manyReaders()} if a strategy other than the default was passed to
+     * {@link #waitingWith(BusyWaitStrategy)}.
+     */
+    public ClaimingPrefilledRingBufferBuilder<T> readingWith(ObjectFactory<? extends BusyWaitStrategy> busyWaitStrategyFactory) {
+        super.readingWith0(busyWaitStrategyFactory);
+        return this;
+    }
+
+    @Override
+    public ClaimingPrefilledRingBufferBuilder<T> copyClass() {
+        super.copyClass0();
+        return this;
+    }
+
+    @Override
+    protected void validate() {
+        super.validate();
+        if (type != RingBufferType.BLOCKING) {
+            throw new IllegalStateException("You must call blocking() before claiming().");
+        }
+        validateConcurrentReaders();
+    }
+
+    @Override
+    protected ObjectRingBuffer<T> create(RingBufferConcurrency concurrency, RingBufferType type) {
+        switch (concurrency) {
+            case VOLATILE:
+            case ATOMIC_WRITE:
+                throw new IllegalStateException("You must call manyReaders().");
+            case ATOMIC_READ:
+                if (copyClass) {
+                    return instantiateCopy(ClaimingAtomicReadBlockingPrefilledRingBuffer.class);
+                }
+                return new ClaimingAtomicReadBlockingPrefilledRingBuffer<>(this);
+            case CONCURRENT:
+                if (copyClass) {
+                    return instantiateCopy(ClaimingConcurrentBlockingPrefilledRingBuffer.class);
+                }
+                return new ClaimingConcurrentBlockingPrefilledRingBuffer<>(this);
+        }
+        throw new AssertionError();
+    }
+
+    @Override
+    public ClaimingPrefilledRingBuffer<T> build() {
+        return (ClaimingPrefilledRingBuffer<T>) super.build();
+    }
+}
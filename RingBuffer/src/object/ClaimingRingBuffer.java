@@ -0,0 +1,10 @@
+package org.ringbuffer.object;
+
+/**
+ * Writers claim a position with a compare-and-set instead of acquiring a monitor,
+ * then publish in claim order. When full, they block using the write {@link org.ringbuffer.wait.BusyWaitStrategy}.
+ * <p>
+ * If the ring buffer supports multiple readers, they claim elements in the same way.
+ */
+public interface ClaimingRingBuffer<T> extends RingBuffer<T>, ClaimingObjectRingBuffer<T> {
+}
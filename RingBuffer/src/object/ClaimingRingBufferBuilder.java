@@ -0,0 +1,168 @@
+package org.ringbuffer.object;
+
+import eu.menzani.object.ObjectFactory;
+import eu.menzani.struct.Arrays;
+import org.ringbuffer.AbstractRingBufferBuilder;
+import org.ringbuffer.wait.BusyWaitStrategy;
+
+public final class ClaimingRingBufferBuilder<T> extends AbstractRingBufferBuilder<ClaimingRingBuffer<T>> {
+    private final int capacity;
+    private boolean gcEnabled;
+    // All fields are copied in <init>(RingBufferBuilder<?>)
+
+    ClaimingRingBufferBuilder(RingBufferBuilder<?> builder) {
+        super(builder);
+        capacity = builder.capacity;
+        gcEnabled = builder.gcEnabled;
+    }
+
+    @Override
+    public ClaimingRingBufferBuilder<T> oneWriter() {
+        super.oneWriter0();
+        return this;
+    }
+
+    @Override
+    public ClaimingRingBufferBuilder<T> manyWriters() {
+        super.manyWriters0();
+        return this;
+    }
+
+    @Override
+    public ClaimingRingBufferBuilder<T> oneReader() {
+        super.oneReader0();
+        return this;
+    }
+
+    @Override
+    public ClaimingRingBufferBuilder<T> manyReaders() {
+        super.manyReaders0();
+        return this;
+    }
+
+    @Override
+    protected ClaimingRingBufferBuilder<T> blocking() {
+        throw new AssertionError();
+    }
+
+    @Override
+    protected ClaimingRingBufferBuilder<T> blocking(BusyWaitStrategy busyWaitStrategy) {
+        throw new AssertionError();
+    }
+
+    @Override
+    protected ClaimingRingBufferBuilder<T> lockfree() {
+        throw new AssertionError();
+    }
+
+    @Override
+    public ClaimingRingBufferBuilder<T> waitingWith(BusyWaitStrategy busyWaitStrategy) {
+        super.waitingWith0(busyWaitStrategy);
+        return this;
+    }
+
+    /**
+     * Writers claim positions without holding a monitor, so each thread needs its own write busy-wait strategy.
+     * Must be called with {@link #manyWriters()} if a strategy other than the default was passed to
+     * {@link RingBufferBuilder#blocking(BusyWaitStrategy)}.
+     */
+    public ClaimingRingBufferBuilder<T> writingWith(ObjectFactory<? extends BusyWaitStrategy> busyWaitStrategyFactory) {
+        super.writingWith0(busyWaitStrategyFactory);
+        return this;
+    }
+
+    /**
+     * Readers claim elements without holding a monitor, so each thread needs its own read busy-wait strategy.
+     * Must be called with {@link #manyReaders()} if a strategy other than the default was passed to
+     * {@link #waitingWith(BusyWaitStrategy)}.
+     */
+    public ClaimingRingBufferBuilder<T> readingWith(ObjectFactory<? extends BusyWaitStrategy> busyWaitStrategyFactory) {
+        super.readingWith0(busyWaitStrategyFactory);
+        return this;
+    }
+
+    @Override
+    public ClaimingRingBufferBuilder<T> copyClass() {
+        super.copyClass0();
+        return this;
+    }
+
+    public ClaimingRingBufferBuilder<T> withGC() {
+        gcEnabled = true;
+        return this;
+    }
+
+    @Override
+    protected void validate() {
+        super.validate();
+        if (type != RingBufferType.BLOCKING) {
+            throw new IllegalStateException("You must call blocking() before claiming().");
+        }
+        validateConcurrentWriters();
+        validateConcurrentReaders();
+    }
+
+    @Override
+    protected ClaimingRingBuffer<T> create(RingBufferConcurrency concurrency, RingBufferType type) {
+        switch (concurrency) {
+            case VOLATILE:
+                throw new IllegalStateException("You must call either manyWriters() or manyReaders().");
+            case ATOMIC_READ:
+                if (gcEnabled) {
+                    if (copyClass) {
+                        return instantiateCopy(ClaimingAtomicReadBlockingGCRingBuffer.class);
+                    }
+                    return new ClaimingAtomicReadBlockingGCRingBuffer<>(this);
+                }
+                if (copyClass) {
+                    return instantiateCopy(ClaimingAtomicReadBlockingRingBuffer.class);
+                }
+                return new ClaimingAtomicReadBlockingRingBuffer<>(this);
+            case ATOMIC_WRITE:
+                if (gcEnabled) {
+                    if (copyClass) {
+                        return instantiateCopy(ClaimingAtomicWriteBlockingGCRingBuffer.class);
+                    }
+                    return new ClaimingAtomicWriteBlockingGCRingBuffer<>(this);
+                }
+                if (copyClass) {
+                    return instantiateCopy(ClaimingAtomicWriteBlockingRingBuffer.class);
+                }
+                return new ClaimingAtomicWriteBlockingRingBuffer<>(this);
+            case CONCURRENT:
+                if (gcEnabled) {
+                    if (copyClass) {
+                        return instantiateCopy(ClaimingConcurrentBlockingGCRingBuffer.class);
+                    }
+                    return new ClaimingConcurrentBlockingGCRingBuffer<>(this);
+                }
+                if (copyClass) {
+                    return instantiateCopy(ClaimingConcurrentBlockingRingBuffer.class);
+                }
+                return new ClaimingConcurrentBlockingRingBuffer<>(this);
+        }
+        throw new AssertionError();
+    }
+
+    @Override
+    protected BusyWaitStrategy getWriteBusyWaitStrategy() {
+        return super.getWriteBusyWaitStrategy();
+    }
+
+    @Override
+    protected BusyWaitStrategy getReadBusyWaitStrategy() {
+        return super.getReadBusyWaitStrategy();
+    }
+
+    int getCapacity() {
+        return capacity;
+    }
+
+    int getCapacityMinusOne() {
+        return capacity - 1;
+    }
+
+    T[] getBuffer() {
+        return Arrays.allocateGeneric(capacity);
+    }
+}
@@ -0,0 +1,128 @@
+package org.ringbuffer.object;
+
+import eu.menzani.concurrent.ThreadLocal;
+import eu.menzani.struct.Arrays;
+import jdk.internal.vm.annotation.Contended;
+import org.ringbuffer.wait.BusyWaitStrategy;
+import org.ringbuffer.wait.HintBusyWaitStrategy;
+
+@Contended
+class ConcurrentConflatingRingBuffer<T> implements ConflatingRingBuffer<T> {
+    private final int capacity;
+    private final int capacityMinusOne;
+    private final T[] buffer;
+    private final long[] keys;
+    private final ConflationIndex index;
+
+    private int readPosition;
+    private int writePosition;
+    private boolean isFull;
+
+    ConcurrentConflatingRingBuffer(int capacity) {
+        this.capacity = capacity;
+        capacityMinusOne = capacity - 1;
+        buffer = Arrays.allocateGeneric(capacity);
+        keys = new long[capacity];
+        index = new ConflationIndex(capacity);
+    }
+
+    @Override
+    public int getCapacity() {
+        return capacity;
+    }
+
+    @Override
+    public synchronized void put(long key, T element) {
+        int position = index.get(key);
+        if (position != -1) {
+            buffer[position] = element;
+            return;
+        }
+        int writePosition = this.writePosition;
+        if (isFull) {
+            // The element that is going to be read is at writePosition
+            index.remove(keys[writePosition]);
+            if (writePosition == 0) {
+                readPosition = capacityMinusOne;
+            } else {
+                readPosition--;
+            }
+        }
+        buffer[writePosition] = element;
+        keys[writePosition] = key;
+        index.put(key, writePosition);
+        if (writePosition == 0) {
+            writePosition = capacityMinusOne;
+        } else {
+            writePosition--;
+        }
+        this.writePosition = writePosition;
+        isFull = writePosition == readPosition;
+    }
+
+    @Override
+    public T take() {
+        return take(HintBusyWaitStrategy.DEFAULT_INSTANCE);
+    }
+
+    @Override
+    public T take(@ThreadLocal BusyWaitStrategy busyWaitStrategy) {
+        busyWaitStrategy.reset();
+        while (true) {
+            synchronized (this) {
+                if (writePosition != readPosition || isFull) {
+                    return takeUnsynchronized();
+                }
+            }
+            busyWaitStrategy.tick();
+        }
+    }
+
+    @Override
+    public synchronized T poll() {
+        if (writePosition != readPosition || isFull) {
+            return takeUnsynchronized();
+        }
+        return null;
+    }
+
+    private T takeUnsynchronized() {
+        int readPosition = this.readPosition;
+        isFull = false;
+        if (readPosition == 0) {
+            this.readPosition = capacityMinusOne;
+        } else {
+            this.readPosition--;
+        }
+        index.remove(keys[readPosition]);
+        T element = buffer[readPosition];
+        buffer[readPosition] = null;
+        return element;
+    }
+
+    @Override
+    public synchronized int size() {
+        int writePosition = this.writePosition;
+        int readPosition = this.readPosition;
+        if (writePosition < readPosition) {
+            return readPosition - writePosition;
+        }
+        if (writePosition > readPosition) {
+            return capacity - (writePosition - readPosition);
+        }
+        if (isFull) {
+            return capacity;
+        }
+        return 0;
+    }
+
+    @Override
+    public synchronized boolean isEmpty() {
+        return writePosition == readPosition && !isFull;
+    }
+
+    @Override
+    public synchronized boolean isNotEmpty() {
+        return writePosition != readPosition || isFull;
+    }
+}
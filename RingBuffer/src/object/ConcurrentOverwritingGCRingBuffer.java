@@ -77,6 +77,23 @@ public class ConcurrentOverwritingGCRingBuffer<T> implements OverwritingRingBuff
         }
     }
 
+    @Override
+    public synchronized T poll() {
+        int readPosition = this.readPosition;
+        if (writePosition != readPosition || isFull) {
+            isFull = false;
+            if (readPosition == 0) {
+                this.readPosition = capacityMinusOne;
+            } else {
+                this.readPosition--;
+            }
+            T element = buffer[readPosition];
+            buffer[readPosition] = null;
+            return element;
+        }
+        return null;
+    }
+
     @Override
     public synchronized int size() {
         int writePosition = this.writePosition;
@@ -77,6 +77,21 @@ public class ConcurrentOverwritingPrefilledRingBuffer<T> implements OverwritingP
         }
     }
 
+    @Override
+    public synchronized T poll() {
+        int readPosition = this.readPosition;
+        if (writePosition != readPosition || isFull) {
+            isFull = false;
+            if (readPosition == 0) {
+                this.readPosition = capacityMinusOne;
+            } else {
+                this.readPosition--;
+            }
+            return buffer[readPosition];
+        }
+        return null;
+    }
+
     @Override
     public synchronized int size() {
         int writePosition = this.writePosition;
@@ -75,6 +75,21 @@ public class ConcurrentOverwritingRingBuffer<T> implements OverwritingRingBuffer
         }
     }
 
+    @Override
+    public synchronized T poll() {
+        int readPosition = this.readPosition;
+        if (writePosition != readPosition || isFull) {
+            isFull = false;
+            if (readPosition == 0) {
+                this.readPosition = capacityMinusOne;
+            } else {
+                this.readPosition--;
+            }
+            return buffer[readPosition];
+        }
+        return null;
+    }
+
     @Override
     public synchronized int size() {
         int writePosition = this.writePosition;
@@ -0,0 +1,316 @@
+package org.ringbuffer.object;
+
+import eu.menzani.atomic.AtomicArray;
+import org.ringbuffer.wait.BusyWaitStrategy;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+class ConcurrentStripedRingBuffer<T> implements RingBuffer<T> {
+    private static final int WRITER_STRIDE = 16;
+
+    private final RingBuffer<T>[] lanes;
+    private final Thread[] writers;
+    private final BusyWaitStrategy readBusyWaitStrategy;
+
+    private int readLane;
+
+    ConcurrentStripedRingBuffer(StripedRingBufferBuilder<T> builder) {
+        lanes = builder.getLanes();
+        writers = new Thread[lanes.length * WRITER_STRIDE];
+        readBusyWaitStrategy = builder.getReadBusyWaitStrategy();
+    }
+
+    /**
+     * Starts from the lane of the current thread, so that writers do not contend as long as their IDs are spread
+     * over the lanes, and moves on to the next lane when another writer owns it.
+     * Ownership is taken with a compare-and-set on every write: it is not contended while each writer keeps to its
+     * own lane, but it costs as much as an uncontended lock. Writers are not bound to a lane, since there can be
+     * more of them than lanes.
+     * Writer slots are {@value #WRITER_STRIDE} elements apart to avoid false sharing.
+     */
+    private int acquireLane() {
+        Thread currentThread = Thread.currentThread();
+        int lane = (int) (currentThread.getId() % lanes.length);
+        while (!AtomicArray.compareAndSetVolatile(writers, lane * WRITER_STRIDE, null, currentThread)) {
+            if (++lane == lanes.length) {
+                lane = 0;
+                Thread.onSpinWait();
+            }
+        }
+        return lane;
+    }
+
+    private void releaseLane(int lane) {
+        AtomicArray.setRelease(writers, lane * WRITER_STRIDE, null);
+    }
+
+    @Override
+    public int getCapacity() {
+        return lanes[0].getCapacity() * lanes.length;
+    }
+
+    @Override
+    public void put(T element) {
+        int lane = acquireLane();
+        try {
+            lanes[lane].put(element);
+        } finally {
+            releaseLane(lane);
+        }
+    }
+
+    @Override
+    public boolean put(T element, long timeout, TimeUnit unit) {
+        int lane = acquireLane();
+        try {
+            return lanes[lane].put(element, timeout, unit);
+        } finally {
+            releaseLane(lane);
+        }
+    }
+
+    @Override
+    public boolean offer(T element) {
+        int lane = acquireLane();
+        try {
+            return lanes[lane].offer(element);
+        } finally {
+            releaseLane(lane);
+        }
+    }
+
+    @Override
+    public void putAll(T[] src, int offset, int length) {
+        int lane = acquireLane();
+        try {
+            lanes[lane].putAll(src, offset, length);
+        } finally {
+            releaseLane(lane);
+        }
+    }
+
+    @Override
+    public T take() {
+        var readBusyWaitStrategy = this.readBusyWaitStrategy;
+        synchronized (readBusyWaitStrategy) {
+            readBusyWaitStrategy.reset();
+            RingBuffer<T> lane;
+            while ((lane = nextNotEmptyLane()) == null) {
+                readBusyWaitStrategy.tick();
+            }
+            return lane.takePlain();
+        }
+    }
+
+    @Override
+    public T take(long timeout, TimeUnit unit) {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        var readBusyWaitStrategy = this.readBusyWaitStrategy;
+        synchronized (readBusyWaitStrategy) {
+            readBusyWaitStrategy.reset();
+            RingBuffer<T> lane;
+            while ((lane = nextNotEmptyLane()) == null) {
+                if (System.nanoTime() - deadline >= 0L) {
+                    return null;
+                }
+                readBusyWaitStrategy.tick(deadline);
+            }
+            return lane.takePlain();
+        }
+    }
+
+    @Override
+    public T poll() {
+        synchronized (readBusyWaitStrategy) {
+            RingBuffer<T> lane = nextNotEmptyLane();
+            if (lane == null) {
+                return null;
+            }
+            return lane.takePlain();
+        }
+    }
+
+    private RingBuffer<T> nextNotEmptyLane() {
+        int readLane = this.readLane;
+        for (int i = lanes.length; i > 0; i--) {
+            RingBuffer<T> lane = lanes[readLane];
+            if (++readLane == lanes.length) {
+                readLane = 0;
+            }
+            if (lane.isNotEmpty()) {
+                this.readLane = readLane;
+                return lane;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public void takeBatch(int size) {
+        var readBusyWaitStrategy = this.readBusyWaitStrategy;
+        readBusyWaitStrategy.reset();
+        while (size() < size) {
+            readBusyWaitStrategy.tick();
+        }
+    }
+
+    @Override
+    public T takePlain() {
+        return nextNotEmptyLane().takePlain();
+    }
+
+    @Override
+    public int drain(Consumer<T> handler, int maxElements) {
+        var readBusyWaitStrategy = this.readBusyWaitStrategy;
+        synchronized (readBusyWaitStrategy) {
+            readBusyWaitStrategy.reset();
+            int size;
+            while ((size = drainLanes(handler, maxElements)) == 0) {
+                readBusyWaitStrategy.tick();
+            }
+            return size;
+        }
+    }
+
+    /**
+     * Starts from the lane after the last one that was read, like {@link #nextNotEmptyLane()},
+     * so that lanes read last are not starved when {@code maxElements} is reached.
+     */
+    private int drainLanes(Consumer<T> handler, int maxElements) {
+        int readLane = this.readLane;
+        int size = 0;
+        for (int i = lanes.length; i > 0 && size < maxElements; i--) {
+            RingBuffer<T> lane = lanes[readLane];
+            if (++readLane == lanes.length) {
+                readLane = 0;
+            }
+            if (lane.isNotEmpty()) {
+                size += lane.drain(handler, maxElements - size);
+                this.readLane = readLane;
+            }
+        }
+        return size;
+    }
+
+    @Override
+    public int takeAvailable(T[] dst) {
+        var readBusyWaitStrategy = this.readBusyWaitStrategy;
+        synchronized (readBusyWaitStrategy) {
+            readBusyWaitStrategy.reset();
+            int size;
+            while ((size = takeAvailableFromLanes(dst)) == 0) {
+                readBusyWaitStrategy.tick();
+            }
+            return size;
+        }
+    }
+
+    private int takeAvailableFromLanes(T[] dst) {
+        int readLane = this.readLane;
+        int size = 0;
+        for (int i = lanes.length; i > 0 && size < dst.length; i--) {
+            RingBuffer<T> lane = lanes[readLane];
+            if (++readLane == lanes.length) {
+                readLane = 0;
+            }
+            int laneSize = lane.size();
+            if (laneSize != 0) {
+                for (; laneSize > 0 && size < dst.length; laneSize--) {
+                    dst[size++] = lane.takePlain();
+                }
+                this.readLane = readLane;
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Lanes are not ordered with respect to each other, so {@link RingBuffer#takeLast()} is called on every lane
+     * that is not empty, and the element of the last one is returned.
+     */
+    @Override
+    public T takeLast() {
+        synchronized (readBusyWaitStrategy) {
+            readBusyWaitStrategy.reset();
+            while (isEmpty()) {
+                readBusyWaitStrategy.tick();
+            }
+            return takeLastFromLanes();
+        }
+    }
+
+    private T takeLastFromLanes() {
+        T element = null;
+        for (RingBuffer<T> lane : lanes) {
+            if (lane.isNotEmpty()) {
+                element = lane.takeLast();
+            }
+        }
+        return element;
+    }
+
+    @Override
+    public void forEach(Consumer<T> action) {
+        for (RingBuffer<T> lane : lanes) {
+            lane.forEach(action);
+        }
+    }
+
+    @Override
+    public boolean contains(T element) {
+        for (RingBuffer<T> lane : lanes) {
+            if (lane.contains(element)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public int size() {
+        int size = 0;
+        for (RingBuffer<T> lane : lanes) {
+            size += lane.size();
+        }
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        for (RingBuffer<T> lane : lanes) {
+            if (lane.isNotEmpty()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public boolean isNotEmpty() {
+        return !isEmpty();
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder();
+        builder.append('[');
+        for (RingBuffer<T> lane : lanes) {
+            String laneString = lane.toString();
+            if (laneString.length() > 2) {
+                builder.append(laneString, 1, laneString.length() - 1);
+                builder.append(", ");
+            }
+        }
+        if (builder.length() > 1) {
+            builder.setLength(builder.length() - 2);
+        }
+        builder.append(']');
+        return builder.toString();
+    }
+
+    @Override
+    public Object getReadMonitor() {
+        return readBusyWaitStrategy;
+    }
+}
@@ -0,0 +1,14 @@
+package org.ringbuffer.object;
+
+/**
+ * Keeps at most one element per key: elements are taken in the order their keys were first put since they were last
+ * taken, and each one is the latest element put with its key.
+ */
+public interface ConflatingRingBuffer<T> extends OverwritingObjectRingBuffer<T> {
+    /**
+     * If an element with the same {@code key} has not been taken yet, then it is replaced in place.
+     * Otherwise, {@code element} is put after the others, discarding the element that is going to be read
+     * if the ring buffer is full.
+     */
+    void put(long key, T element);
+}
@@ -0,0 +1,77 @@
+package org.ringbuffer.object;
+
+import eu.menzani.lang.Numbers;
+
+import java.util.Arrays;
+
+/**
+ * Maps keys to buffer positions with open addressing and linear probing, so that no allocation is performed.
+ * It has room for twice the capacity of the ring buffer, so that probe sequences stay short.
+ */
+class ConflationIndex {
+    private static final int NO_POSITION = -1;
+
+    private final int mask;
+    private final long[] keys;
+    private final int[] positions;
+
+    ConflationIndex(int capacity) {
+        int length = Numbers.getNextPowerOfTwo(capacity * 2);
+        mask = length - 1;
+        keys = new long[length];
+        positions = new int[length];
+        Arrays.fill(positions, NO_POSITION);
+    }
+
+    int slotOf(long key) {
+        long hash = key * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+
+    /**
+     * @return {@code -1} if {@code key} is not present
+     */
+    int get(long key) {
+        for (int slot = slotOf(key); ; slot = (slot + 1) & mask) {
+            int position = positions[slot];
+            if (position == NO_POSITION || keys[slot] == key) {
+                return position;
+            }
+        }
+    }
+
+    /**
+     * {@code key} must not be present.
+     */
+    void put(long key, int position) {
+        int slot = slotOf(key);
+        while (positions[slot] != NO_POSITION) {
+            slot = (slot + 1) & mask;
+        }
+        keys[slot] = key;
+        positions[slot] = position;
+    }
+
+    void remove(long key) {
+        int slot = slotOf(key);
+        while (keys[slot] != key) {
+            if (positions[slot] == NO_POSITION) {
+                return;
+            }
+            slot = (slot + 1) & mask;
+        }
+        if (positions[slot] == NO_POSITION) {
+            return;
+        }
+        // Shift back the following entries that would no longer be reachable
+        for (int next = (slot + 1) & mask; positions[next] != NO_POSITION; next = (next + 1) & mask) {
+            int nextSlot = slotOf(keys[next]);
+            if (next > slot ? nextSlot <= slot || nextSlot > next : nextSlot <= slot && nextSlot > next) {
+                keys[slot] = keys[next];
+                positions[slot] = positions[next];
+                slot = next;
+            }
+        }
+        positions[slot] = NO_POSITION;
+    }
+}
@@ -35,6 +35,14 @@ class LockfreeAtomicWriteRingBuffer<T> implements LockfreeRingBuffer<T> {
         AtomicArray.setRelease(buffer, AtomicInt.getAndIncrementVolatile(this, WRITE_POSITION) & capacityMinusOne, element);
     }
 
+    @Override
+    public void putAll(T[] src, int offset, int length) {
+        int writePosition = AtomicInt.getAndAddVolatile(this, WRITE_POSITION, length);
+        for (int end = offset + length; offset < end; offset++) {
+            AtomicArray.setRelease(buffer, writePosition++ & capacityMinusOne, src[offset]);
+        }
+    }
+
     @Override
     public T take() {
         return take(readBusyWaitStrategy);
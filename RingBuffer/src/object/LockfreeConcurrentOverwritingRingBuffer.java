@@ -0,0 +1,148 @@
+package org.ringbuffer.object;
+
+import eu.menzani.atomic.AtomicArray;
+import eu.menzani.atomic.AtomicLong;
+import eu.menzani.atomic.AtomicLongArray;
+import eu.menzani.concurrent.ThreadLocal;
+import eu.menzani.lang.Lang;
+import eu.menzani.lang.Numbers;
+import eu.menzani.struct.Arrays;
+import jdk.internal.vm.annotation.Contended;
+import org.ringbuffer.wait.BusyWaitStrategy;
+import org.ringbuffer.wait.HintBusyWaitStrategy;
+
+/**
+ * Same as {@link ConcurrentOverwritingRingBuffer}, but no lock is taken.
+ * <p>
+ * Every slot has a stamp: {@code 2 * sequence + 1} while the element with that sequence is being written,
+ * {@code 2 * sequence + 2} once it has been written. Writers claim sequences with a fetch-and-add, and readers compare
+ * the stamp before and after reading an element, so that they detect and skip elements that have been overwritten.
+ */
+@Contended
+public class LockfreeConcurrentOverwritingRingBuffer<T> implements OverwritingRingBuffer<T> {
+    private static final long READ_SEQUENCE, WRITE_SEQUENCE;
+
+    static {
+        final Class<?> clazz = LockfreeConcurrentOverwritingRingBuffer.class;
+        READ_SEQUENCE = Lang.objectFieldOffset(clazz, "readSequence");
+        WRITE_SEQUENCE = Lang.objectFieldOffset(clazz, "writeSequence");
+    }
+
+    private final int capacity;
+    private final int capacityMinusOne;
+    private final T[] buffer;
+    private final long[] stamps;
+
+    @Contended("read")
+    private long readSequence;
+    @Contended("write")
+    private long writeSequence;
+
+    /**
+     * @param capacity must be a power of 2
+     */
+    public LockfreeConcurrentOverwritingRingBuffer(int capacity) {
+        if (!Numbers.isPowerOfTwo(capacity)) {
+            throw new IllegalArgumentException("capacity must be a power of 2.");
+        }
+        this.capacity = capacity;
+        capacityMinusOne = capacity - 1;
+        buffer = Arrays.allocateGeneric(capacity);
+        stamps = new long[capacity];
+    }
+
+    @Override
+    public int getCapacity() {
+        return capacity;
+    }
+
+    @Override
+    public void put(T element) {
+        long sequence = AtomicLong.getAndIncrementVolatile(this, WRITE_SEQUENCE);
+        int index = (int) sequence & capacityMinusOne;
+        long writingStamp = 2L * sequence + 1L;
+        long stamp;
+        do {
+            stamp = AtomicLongArray.getAcquire(stamps, index);
+            if (stamp > writingStamp) {
+                // A newer element has already been put
+                return;
+            }
+            if ((stamp & 1L) != 0L) {
+                // An older element is being written
+                Thread.onSpinWait();
+                continue;
+            }
+            if (AtomicLongArray.compareAndSetVolatile(stamps, index, stamp, writingStamp)) {
+                break;
+            }
+        } while (true);
+        AtomicArray.setPlain(buffer, index, element);
+        AtomicLongArray.setRelease(stamps, index, writingStamp + 1L);
+    }
+
+    @Override
+    public T take() {
+        return take(HintBusyWaitStrategy.DEFAULT_INSTANCE);
+    }
+
+    @Override
+    public T take(@ThreadLocal BusyWaitStrategy busyWaitStrategy) {
+        busyWaitStrategy.reset();
+        T element;
+        while ((element = poll()) == null) {
+            busyWaitStrategy.tick();
+        }
+        return element;
+    }
+
+    @Override
+    public T poll() {
+        while (true) {
+            long sequence = AtomicLong.getVolatile(this, READ_SEQUENCE);
+            int index = (int) sequence & capacityMinusOne;
+            long stamp = AtomicLongArray.getAcquire(stamps, index);
+            long writtenStamp = 2L * sequence + 2L;
+            if (stamp == writtenStamp) {
+                // Acquire, so that the stamp is checked again after the element has been read
+                T element = AtomicArray.getAcquire(buffer, index);
+                if (AtomicLongArray.getPlain(stamps, index) == stamp &&
+                        AtomicLong.compareAndSetVolatile(this, READ_SEQUENCE, sequence, sequence + 1L)) {
+                    return element;
+                }
+            } else if (stamp > writtenStamp) {
+                // The element has been overwritten, skip to the oldest one that may still be there
+                long newerSequence = (stamp - 1L) / 2L;
+                AtomicLong.compareAndSetVolatile(this, READ_SEQUENCE, sequence, Math.max(sequence + 1L, newerSequence - capacityMinusOne));
+            } else if (sequence >= AtomicLong.getVolatile(this, WRITE_SEQUENCE)) {
+                return null;
+            } else {
+                // The element is being written
+                Thread.onSpinWait();
+            }
+        }
+    }
+
+    @Override
+    public int size() {
+        long readSequence = AtomicLong.getVolatile(this, READ_SEQUENCE);
+        long size = AtomicLong.getVolatile(this, WRITE_SEQUENCE) - readSequence;
+        if (size > capacity) {
+            return capacity;
+        }
+        if (size < 0L) {
+            return 0;
+        }
+        return (int) size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return AtomicLong.getVolatile(this, WRITE_SEQUENCE) <= AtomicLong.getVolatile(this, READ_SEQUENCE);
+    }
+
+    @Override
+    public boolean isNotEmpty() {
+        return AtomicLong.getVolatile(this, WRITE_SEQUENCE) > AtomicLong.getVolatile(this, READ_SEQUENCE);
+    }
+}
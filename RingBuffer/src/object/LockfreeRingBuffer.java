@@ -2,4 +2,10 @@ package org.ringbuffer.object;
 
 public interface LockfreeRingBuffer<T> extends LockfreeObjectRingBuffer<T> {
     void put(T element);
+
+    /**
+     * Puts {@code length} elements of {@code src}, starting at {@code offset}.
+     * Space for all of them is claimed at once.
+     */
+    void putAll(T[] src, int offset, int length);
 }
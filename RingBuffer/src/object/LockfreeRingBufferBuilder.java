@@ -3,9 +3,10 @@ package org.ringbuffer.object;
 import eu.menzani.struct.Arrays;
 import org.ringbuffer.AbstractRingBufferBuilder;
 import org.ringbuffer.wait.BusyWaitStrategy;
+import org.ringbuffer.wait.HintBusyWaitStrategy;
 
 public final class LockfreeRingBufferBuilder<T> extends AbstractRingBufferBuilder<LockfreeRingBuffer<T>> {
-    private final int capacity;
+    final int capacity;
     // All fields are copied in <init>(ObjectRingBufferBuilder<?>)
 
     LockfreeRingBufferBuilder(ObjectRingBufferBuilder<?> builder) {
@@ -52,6 +53,30 @@ public final class LockfreeRingBufferBuilder<T> extends AbstractRingBufferBuilde
         throw new AssertionError();
     }
 
+    /**
+     * The ring buffer will detect when it is full: {@code put()} will wait using
+     * {@link org.ringbuffer.wait.HintBusyWaitStrategy} and {@code offer()} will return {@code false}.
+     */
+    public BoundedLockfreeRingBufferBuilder<T> bounded() {
+        return bounded(HintBusyWaitStrategy.getDefault());
+    }
+
+    /**
+     * The ring buffer will detect when it is full: {@code put()} will wait using {@code busyWaitStrategy}
+     * and {@code offer()} will return {@code false}.
+     */
+    public BoundedLockfreeRingBufferBuilder<T> bounded(BusyWaitStrategy busyWaitStrategy) {
+        return new BoundedLockfreeRingBufferBuilder<>(this, busyWaitStrategy);
+    }
+
+    /**
+     * The ring buffer will link chunks of {@code capacity} slots as needed, so that it never becomes full.
+     * Requires {@link #oneReader()}.
+     */
+    public UnboundedLockfreeRingBufferBuilder<T> unbounded() {
+        return new UnboundedLockfreeRingBufferBuilder<>(this);
+    }
+
     @Override
     public LockfreeRingBufferBuilder<T> waitingWith(BusyWaitStrategy busyWaitStrategy) {
         super.waitingWith0(busyWaitStrategy);
@@ -0,0 +1,206 @@
+package org.ringbuffer.object;
+
+import eu.menzani.atomic.AtomicArray;
+import eu.menzani.atomic.AtomicLong;
+import eu.menzani.lang.Assume;
+import eu.menzani.lang.Lang;
+import eu.menzani.object.ObjectFactory;
+import eu.menzani.struct.Arrays;
+import jdk.internal.vm.annotation.Contended;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Same as the synchronized methods of {@link Stack}, but no lock is taken.
+ * <p>
+ * Elements are stored in nodes that are allocated up front: a node is taken from a stack of free nodes, populated
+ * and pushed onto the stack of elements, and vice versa. Both are Treiber stacks whose heads pack the index of the
+ * top node with a version, which is incremented by every change to prevent the ABA problem.
+ * <p>
+ * When a compare-and-set of the head fails, {@link #put(Object) put(T)} and {@link #take()} try to meet on a
+ * random slot of an elimination array, so that concurrent pairs cancel out without touching the head.
+ * A put allocates its offer after its first failed compare-and-set, so uncontended puts allocate nothing, and reuses
+ * it for every following attempt. Offers are never shared between puts, so that a taker cannot mistake one for
+ * another offer of the same element.
+ * <p>
+ * The {@code null} element is not supported.
+ */
+public class LockfreeStack<T> {
+    private static final long HEAD, FREE;
+
+    static {
+        final Class<?> clazz = LockfreeStack.class;
+        HEAD = Lang.objectFieldOffset(clazz, "head");
+        FREE = Lang.objectFieldOffset(clazz, "free");
+    }
+
+    private static final int NIL = -1;
+    private static final int ELIMINATION_SLOTS = 4;
+    private static final int ELIMINATION_SPINS = 64;
+
+    private final T[] elements;
+    private final int[] next;
+    private final Offer<T>[] exchanges = Offer.newArray(ELIMINATION_SLOTS);
+
+    @Contended
+    private long head = pack(NIL, 0);
+    @Contended
+    private long free = pack(0, 0);
+
+    public LockfreeStack(int capacity) {
+        Assume.notLesser(capacity, 1);
+        elements = Arrays.allocateGeneric(capacity);
+        next = new int[capacity];
+        int last = capacity - 1;
+        for (int i = 0; i < last; i++) {
+            next[i] = i + 1;
+        }
+        next[last] = NIL;
+    }
+
+    private static long pack(int index, int version) {
+        return (long) version << 32 | index & 0xFFFFFFFFL;
+    }
+
+    private static int indexOf(long head) {
+        return (int) head;
+    }
+
+    private static int versionOf(long head) {
+        return (int) (head >>> 32);
+    }
+
+    public int getCapacity() {
+        return elements.length;
+    }
+
+    /**
+     * Must be called before the stack is shared with other threads.
+     */
+    public void pushMany(int amount, ObjectFactory<T> factory) {
+        for (int i = 0; i < amount; i++) {
+            put(factory.newInstance());
+        }
+    }
+
+    public boolean isEmpty() {
+        return indexOf(AtomicLong.getVolatile(this, HEAD)) == NIL;
+    }
+
+    public boolean isNotEmpty() {
+        return indexOf(AtomicLong.getVolatile(this, HEAD)) != NIL;
+    }
+
+    /**
+     * @return {@code false} if the stack is full
+     */
+    public boolean put(T element) {
+        int node = takeFreeNode();
+        if (node == NIL) {
+            return false;
+        }
+        elements[node] = element;
+        Offer<T> offer = null;
+        while (true) {
+            long head = AtomicLong.getVolatile(this, HEAD);
+            next[node] = indexOf(head);
+            if (AtomicLong.compareAndSetVolatile(this, HEAD, head, pack(node, versionOf(head) + 1))) {
+                return true;
+            }
+            if (offer == null) {
+                offer = new Offer<>(element);
+            }
+            if (eliminatePut(offer)) {
+                elements[node] = null;
+                putFreeNode(node);
+                return true;
+            }
+        }
+    }
+
+    /**
+     * @return {@code null} if the stack is empty
+     */
+    public T take() {
+        while (true) {
+            long head = AtomicLong.getVolatile(this, HEAD);
+            int node = indexOf(head);
+            if (node == NIL) {
+                return null;
+            }
+            if (AtomicLong.compareAndSetVolatile(this, HEAD, head, pack(next[node], versionOf(head) + 1))) {
+                T element = elements[node];
+                elements[node] = null;
+                putFreeNode(node);
+                return element;
+            }
+            T element = eliminateTake();
+            if (element != null) {
+                return element;
+            }
+        }
+    }
+
+    private int takeFreeNode() {
+        while (true) {
+            long free = AtomicLong.getVolatile(this, FREE);
+            int node = indexOf(free);
+            if (node == NIL) {
+                return NIL;
+            }
+            if (AtomicLong.compareAndSetVolatile(this, FREE, free, pack(next[node], versionOf(free) + 1))) {
+                return node;
+            }
+        }
+    }
+
+    private void putFreeNode(int node) {
+        while (true) {
+            long free = AtomicLong.getVolatile(this, FREE);
+            next[node] = indexOf(free);
+            if (AtomicLong.compareAndSetVolatile(this, FREE, free, pack(node, versionOf(free) + 1))) {
+                return;
+            }
+        }
+    }
+
+    private boolean eliminatePut(Offer<T> offer) {
+        int slot = ThreadLocalRandom.current().nextInt(ELIMINATION_SLOTS);
+        if (AtomicArray.getVolatile(exchanges, slot) != null) {
+            return false;
+        }
+        if (!AtomicArray.compareAndSetVolatile(exchanges, slot, null, offer)) {
+            return false;
+        }
+        for (int i = 0; i < ELIMINATION_SPINS; i++) {
+            if (AtomicArray.getVolatile(exchanges, slot) != offer) {
+                return true;
+            }
+            Thread.onSpinWait();
+        }
+        // If the offer cannot be withdrawn, then it has been taken in the meantime
+        return !AtomicArray.compareAndSetVolatile(exchanges, slot, offer, null);
+    }
+
+    private T eliminateTake() {
+        int slot = ThreadLocalRandom.current().nextInt(ELIMINATION_SLOTS);
+        Offer<T> offer = AtomicArray.getVolatile(exchanges, slot);
+        if (offer != null && AtomicArray.compareAndSetVolatile(exchanges, slot, offer, null)) {
+            return offer.element;
+        }
+        return null;
+    }
+
+    private static class Offer<T> {
+        final T element;
+
+        Offer(T element) {
+            this.element = element;
+        }
+
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        static <T> Offer<T>[] newArray(int length) {
+            return new Offer[length];
+        }
+    }
+}
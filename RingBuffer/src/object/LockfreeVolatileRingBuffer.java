@@ -31,6 +31,15 @@ class LockfreeVolatileRingBuffer<T> implements LockfreeRingBuffer<T> {
         AtomicArray.setRelease(buffer, writePosition++ & capacityMinusOne, element);
     }
 
+    @Override
+    public void putAll(T[] src, int offset, int length) {
+        int writePosition = this.writePosition;
+        this.writePosition = writePosition + length;
+        for (int end = offset + length; offset < end; offset++) {
+            AtomicArray.setRelease(buffer, writePosition++ & capacityMinusOne, src[offset]);
+        }
+    }
+
     @Override
     public T take() {
         return take(readBusyWaitStrategy);
@@ -0,0 +1,45 @@
+package org.ringbuffer.object;
+
+/**
+ * Every element is seen by every reader: each {@link MulticastReader} has its own cursor,
+ * and the writer waits for the slowest one before reusing a slot.
+ *
+ * <pre>{@code
+ * long sequence = ringBuffer.nextSequence();
+ * T element = ringBuffer.next(sequence);
+ * // Populate element
+ * ringBuffer.put(sequence);
+ * }</pre>
+ * <p>
+ * Each reader must be used by one thread only:
+ *
+ * <pre>{@code
+ * MulticastReader<T> reader = ringBuffer.getReader(index);
+ * T element = reader.take();
+ * // Read element, which is valid until the next take() or release()
+ * }</pre>
+ * <p>
+ * Readers can depend on each other, see {@link MulticastPrefilledRingBufferBuilder#dependsOn(int, int...)}.
+ */
+public interface MulticastPrefilledRingBuffer<T> {
+    int getCapacity();
+
+    /**
+     * If the slot is still being read, waits using the {@link org.ringbuffer.wait.BusyWaitStrategy}
+     * passed to {@link PrefilledRingBufferBuilder#blocking(org.ringbuffer.wait.BusyWaitStrategy)}.
+     */
+    long nextSequence();
+
+    /**
+     * @return the same as {@link #nextSequence()}, or {@code -1} if the ring buffer is full
+     */
+    long tryNextSequence();
+
+    T next(long sequence);
+
+    void put(long sequence);
+
+    MulticastReader<T> getReader(int index);
+
+    int getNumReaders();
+}
@@ -0,0 +1,161 @@
+package org.ringbuffer.object;
+
+import eu.menzani.lang.Assume;
+import eu.menzani.object.ObjectFactory;
+import eu.menzani.struct.Arrays;
+import org.ringbuffer.AbstractRingBufferBuilder;
+import org.ringbuffer.wait.BusyWaitStrategy;
+
+public final class MulticastPrefilledRingBufferBuilder<T> extends AbstractRingBufferBuilder<MulticastPrefilledRingBuffer<T>> {
+    private final int capacity;
+    private final ObjectFactory<T> filler;
+    private int numReaders;
+    private int[][] dependencies;
+    // All fields are copied in <init>(PrefilledRingBufferBuilder2<T>)
+
+    MulticastPrefilledRingBufferBuilder(PrefilledRingBufferBuilder2<T> builder) {
+        super(builder);
+        capacity = builder.capacity;
+        filler = builder.getFiller();
+    }
+
+    @Override
+    public MulticastPrefilledRingBufferBuilder<T> oneWriter() {
+        super.oneWriter0();
+        return this;
+    }
+
+    @Override
+    public MulticastPrefilledRingBufferBuilder<T> manyWriters() {
+        super.manyWriters0();
+        return this;
+    }
+
+    @Override
+    public MulticastPrefilledRingBufferBuilder<T> oneReader() {
+        super.oneReader0();
+        return this;
+    }
+
+    @Override
+    public MulticastPrefilledRingBufferBuilder<T> manyReaders() {
+        super.manyReaders0();
+        return this;
+    }
+
+    public MulticastPrefilledRingBufferBuilder<T> readers(int numReaders) {
+        Assume.notLesser(numReaders, 1);
+        this.numReaders = numReaders;
+        dependencies = new int[numReaders][];
+        return this;
+    }
+
+    /**
+     * {@code reader} will only take an element after all of {@code dependencies} have released it,
+     * so that stages of a pipeline can work in place on the same element.
+     * The writer then only waits for readers which no other reader depends on.
+     * <p>
+     * A reader can only depend on readers with a lower index.
+     */
+    public MulticastPrefilledRingBufferBuilder<T> dependsOn(int reader, int... dependencies) {
+        if (this.dependencies == null) {
+            throw new IllegalStateException("You must call readers() before dependsOn().");
+        }
+        if (reader < 1 || reader >= numReaders) {
+            throw new IllegalArgumentException("reader must be at least 1 and lesser than the number of readers.");
+        }
+        for (int dependency : dependencies) {
+            if (dependency < 0 || dependency >= reader) {
+                throw new IllegalArgumentException("A reader can only depend on readers with a lower index.");
+            }
+        }
+        this.dependencies[reader] = dependencies.clone();
+        return this;
+    }
+
+    @Override
+    protected MulticastPrefilledRingBufferBuilder<T> blocking() {
+        throw new AssertionError();
+    }
+
+    @Override
+    protected MulticastPrefilledRingBufferBuilder<T> blocking(BusyWaitStrategy busyWaitStrategy) {
+        throw new AssertionError();
+    }
+
+    @Override
+    protected MulticastPrefilledRingBufferBuilder<T> lockfree() {
+        throw new AssertionError();
+    }
+
+    @Override
+    public MulticastPrefilledRingBufferBuilder<T> waitingWith(BusyWaitStrategy busyWaitStrategy) {
+        super.waitingWith0(busyWaitStrategy);
+        return this;
+    }
+
+    @Override
+    public MulticastPrefilledRingBufferBuilder<T> copyClass() {
+        super.copyClass0();
+        return this;
+    }
+
+    @Override
+    protected void validate() {
+        super.validate();
+        validateCapacityPowerOfTwo(capacity);
+        if (type != RingBufferType.BLOCKING) {
+            throw new IllegalStateException("You must call blocking() before multicast().");
+        }
+        if (numReaders == 0) {
+            throw new IllegalStateException("You must call readers().");
+        }
+    }
+
+    @Override
+    protected MulticastPrefilledRingBuffer<T> create(RingBufferConcurrency concurrency, RingBufferType type) {
+        if (concurrency == RingBufferConcurrency.VOLATILE) {
+            if (copyClass) {
+                return instantiateCopy(VolatileMulticastPrefilledRingBuffer.class);
+            }
+            return new VolatileMulticastPrefilledRingBuffer<>(this);
+        }
+        throw new IllegalStateException("You must call oneWriter() and oneReader().");
+    }
+
+    @Override
+    protected BusyWaitStrategy getWriteBusyWaitStrategy() {
+        return super.getWriteBusyWaitStrategy();
+    }
+
+    @Override
+    protected BusyWaitStrategy getReadBusyWaitStrategy() {
+        return super.getReadBusyWaitStrategy();
+    }
+
+    int getCapacity() {
+        return capacity;
+    }
+
+    int getCapacityMinusOne() {
+        return capacity - 1;
+    }
+
+    T[] getBuffer() {
+        T[] buffer = Arrays.allocateGeneric(capacity);
+        Arrays.fill(buffer, filler);
+        return buffer;
+    }
+
+    int getNumReaders() {
+        return numReaders;
+    }
+
+    int[] getDependencies(int reader) {
+        int[] dependencies = this.dependencies[reader];
+        if (dependencies == null) {
+            return new int[0];
+        }
+        return dependencies;
+    }
+}
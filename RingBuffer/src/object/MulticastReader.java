@@ -0,0 +1,40 @@
+package org.ringbuffer.object;
+
+import org.ringbuffer.wait.BusyWaitStrategy;
+
+import java.util.function.Consumer;
+
+public interface MulticastReader<T> {
+    /**
+     * Releases the element previously taken, then waits for the next one using the
+     * {@link BusyWaitStrategy} passed to {@link MulticastPrefilledRingBufferBuilder#waitingWith(BusyWaitStrategy)}.
+     * That strategy is shared by all readers, so if it is not stateless, {@link #take(BusyWaitStrategy)}
+     * must be used instead.
+     */
+    T take();
+
+    T take(BusyWaitStrategy busyWaitStrategy);
+
+    /**
+     * Same as {@link #take()}, but returns {@code null} instead of waiting if no element is available.
+     */
+    T poll();
+
+    /**
+     * Releases the element previously taken without waiting for the next one.
+     */
+    void release();
+
+    /**
+     * Waits until at least one element is available, then passes to {@code handler} as many elements as are
+     * available, up to {@code maxElements}. They are all released once {@code handler} has returned.
+     *
+     * @return the number of elements taken
+     */
+    int drain(Consumer<T> handler, int maxElements);
+
+    /**
+     * @return the sequence of the next element that will be taken
+     */
+    long getSequence();
+}
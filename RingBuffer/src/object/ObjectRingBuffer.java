@@ -2,6 +2,7 @@ package org.ringbuffer.object;
 
 import org.ringbuffer.AbstractRingBuffer;
 
+import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 
 public interface ObjectRingBuffer<T> extends AbstractRingBuffer {
@@ -20,6 +21,20 @@ public interface ObjectRingBuffer<T> extends AbstractRingBuffer {
      */
     T take();
 
+    /**
+     * Same as {@link #take()}, but gives up waiting once {@code timeout} has elapsed.
+     * The deadline is checked before every {@link org.ringbuffer.wait.BusyWaitStrategy#tick(long) tick}
+     * of the ring buffer strategy, so the waiting behaviour is otherwise the same.
+     *
+     * @return {@code null} if the timeout elapsed before an element was available
+     */
+    T take(long timeout, TimeUnit unit);
+
+    /**
+     * Same as {@link #take()}, but returns {@code null} instead of waiting if the ring buffer is empty.
+     */
+    T poll();
+
     /**
      * If the ring buffer supports at least one reader and writer, then this method allows to take
      * elements in batches. When it returns, at least {@code size} elements are available,
@@ -45,6 +60,25 @@ public interface ObjectRingBuffer<T> extends AbstractRingBuffer {
      */
     T takePlain();
 
+    /**
+     * Waits until at least one element is available, then passes to {@code handler} as many elements as are
+     * available, up to {@code maxElements}. The read position is made visible to writers only once,
+     * after all elements have been handled, so the size of each batch adapts to the load.
+     * <p>
+     * If {@link #take()} requires external synchronization, then so does this method.
+     *
+     * @return the number of elements taken
+     */
+    int drain(Consumer<T> handler, int maxElements);
+
+    /**
+     * Same as {@link #drain(Consumer, int) drain(handler, dst.length)}, but elements are stored
+     * into {@code dst} starting at index {@code 0}.
+     *
+     * @return the number of elements taken
+     */
+    int takeAvailable(T[] dst);
+
     T takeLast();
 
     /**
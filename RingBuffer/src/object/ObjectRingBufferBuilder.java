@@ -6,6 +6,7 @@ import org.ringbuffer.wait.BusyWaitStrategy;
 
 abstract class ObjectRingBufferBuilder<T> extends AbstractRingBufferBuilder<ObjectRingBuffer<T>> {
     final int capacity;
+    boolean powerOfTwo;
     // All fields are copied in <init>(ObjectRingBufferBuilder<?>)
 
     ObjectRingBufferBuilder(int capacity) {
@@ -16,6 +17,7 @@ abstract class ObjectRingBufferBuilder<T> extends AbstractRingBufferBuilder<Obje
     ObjectRingBufferBuilder(ObjectRingBufferBuilder<?> builder) {
         super(builder);
         capacity = builder.capacity;
+        powerOfTwo = builder.powerOfTwo;
     }
 
     abstract ObjectRingBufferBuilder<?> discarding();
@@ -24,6 +26,11 @@ abstract class ObjectRingBufferBuilder<T> extends AbstractRingBufferBuilder<Obje
         type = RingBufferType.DISCARDING;
     }
 
+    void powerOfTwo0() {
+        validateCapacityPowerOfTwo(capacity);
+        powerOfTwo = true;
+    }
+
     @Override
     protected void lockfree0() {
         validateCapacityPowerOfTwo(capacity);
@@ -10,6 +10,11 @@ public interface OverwritingObjectRingBuffer<T> {
 
     T take(@ThreadLocal BusyWaitStrategy busyWaitStrategy);
 
+    /**
+     * @return {@code null} if the ring buffer is empty
+     */
+    T poll();
+
     int size();
 
     boolean isEmpty();
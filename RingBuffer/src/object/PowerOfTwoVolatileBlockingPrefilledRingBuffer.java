@@ -0,0 +1,270 @@
+package org.ringbuffer.object;
+
+import eu.menzani.atomic.AtomicArray;
+import eu.menzani.atomic.AtomicInt;
+import eu.menzani.lang.Lang;
+import jdk.internal.vm.annotation.Contended;
+import org.ringbuffer.wait.BusyWaitStrategy;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+@Contended
+class PowerOfTwoVolatileBlockingPrefilledRingBuffer<T> implements PrefilledRingBuffer2<T> {
+    private static final long READ_POSITION, WRITE_POSITION;
+
+    static {
+        final Class<?> clazz = PowerOfTwoVolatileBlockingPrefilledRingBuffer.class;
+        READ_POSITION = Lang.objectFieldOffset(clazz, "readPosition");
+        WRITE_POSITION = Lang.objectFieldOffset(clazz, "writePosition");
+    }
+
+    private final int capacity;
+    private final int capacityMinusOne;
+    private final T[] buffer;
+    private final BusyWaitStrategy readBusyWaitStrategy;
+    private final BusyWaitStrategy writeBusyWaitStrategy;
+
+    @Contended("read")
+    private int readPosition;
+    @Contended("write")
+    private int writePosition;
+    @Contended("write")
+    private int cachedReadPosition;
+    @Contended("read")
+    private int cachedWritePosition;
+
+    PowerOfTwoVolatileBlockingPrefilledRingBuffer(PrefilledRingBufferBuilder2<T> builder) {
+        capacity = builder.getCapacity();
+        capacityMinusOne = builder.getCapacityMinusOne();
+        buffer = builder.getBuffer();
+        readBusyWaitStrategy = builder.getReadBusyWaitStrategy();
+        writeBusyWaitStrategy = builder.getWriteBusyWaitStrategy();
+    }
+
+    @Override
+    public int getCapacity() {
+        return capacity;
+    }
+
+    @Override
+    public int nextKey() {
+        return writePosition & capacityMinusOne;
+    }
+
+    @Override
+    public int tryNextKey() {
+        int writePosition = this.writePosition;
+        if (isFullCached(writePosition + 1)) {
+            return -1;
+        }
+        return writePosition & capacityMinusOne;
+    }
+
+    @Override
+    public int nextPutKey(int key) {
+        return writePosition + 1;
+    }
+
+    @Override
+    public T next(int key, int putKey) {
+        var writeBusyWaitStrategy = this.writeBusyWaitStrategy;
+        writeBusyWaitStrategy.reset();
+        while (isFullCached(putKey)) {
+            writeBusyWaitStrategy.tick();
+        }
+        return AtomicArray.getPlain(buffer, key);
+    }
+
+    private boolean isFullCached(int writePosition) {
+        if (writePosition - cachedReadPosition == capacity) {
+            cachedReadPosition = AtomicInt.getAcquire(this, READ_POSITION);
+            return writePosition - cachedReadPosition == capacity;
+        }
+        return false;
+    }
+
+    @Override
+    public void put(int putKey) {
+        AtomicInt.setRelease(this, WRITE_POSITION, putKey);
+    }
+
+    @Override
+    public T take() {
+        int readPosition = this.readPosition;
+        var readBusyWaitStrategy = this.readBusyWaitStrategy;
+        readBusyWaitStrategy.reset();
+        while (isEmptyCached(readPosition)) {
+            readBusyWaitStrategy.tick();
+        }
+        AtomicInt.setRelease(this, READ_POSITION, readPosition + 1);
+        return AtomicArray.getPlain(buffer, readPosition & capacityMinusOne);
+    }
+
+    @Override
+    public T take(long timeout, TimeUnit unit) {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        int readPosition = this.readPosition;
+        var readBusyWaitStrategy = this.readBusyWaitStrategy;
+        readBusyWaitStrategy.reset();
+        while (isEmptyCached(readPosition)) {
+            if (System.nanoTime() - deadline >= 0L) {
+                return null;
+            }
+            readBusyWaitStrategy.tick(deadline);
+        }
+        AtomicInt.setRelease(this, READ_POSITION, readPosition + 1);
+        return AtomicArray.getPlain(buffer, readPosition & capacityMinusOne);
+    }
+
+    @Override
+    public T poll() {
+        int readPosition = this.readPosition;
+        if (isEmptyCached(readPosition)) {
+            return null;
+        }
+        AtomicInt.setRelease(this, READ_POSITION, readPosition + 1);
+        return AtomicArray.getPlain(buffer, readPosition & capacityMinusOne);
+    }
+
+    private boolean isEmptyCached(int readPosition) {
+        if (cachedWritePosition == readPosition) {
+            cachedWritePosition = AtomicInt.getAcquire(this, WRITE_POSITION);
+            return cachedWritePosition == readPosition;
+        }
+        return false;
+    }
+
+    @Override
+    public void takeBatch(int size) {
+        int readPosition = this.readPosition;
+        var readBusyWaitStrategy = this.readBusyWaitStrategy;
+        readBusyWaitStrategy.reset();
+        while (size(readPosition) < size) {
+            readBusyWaitStrategy.tick();
+        }
+    }
+
+    @Override
+    public T takePlain() {
+        int readPosition = this.readPosition;
+        AtomicInt.setRelease(this, READ_POSITION, readPosition + 1);
+        return AtomicArray.getPlain(buffer, readPosition & capacityMinusOne);
+    }
+
+    @Override
+    public int drain(Consumer<T> handler, int maxElements) {
+        int readPosition = this.readPosition;
+        var readBusyWaitStrategy = this.readBusyWaitStrategy;
+        readBusyWaitStrategy.reset();
+        int size;
+        while ((size = size(readPosition)) == 0) {
+            readBusyWaitStrategy.tick();
+        }
+        if (size > maxElements) {
+            size = maxElements;
+        }
+        for (int end = readPosition + size; readPosition != end; readPosition++) {
+            int index = readPosition & capacityMinusOne;
+            handler.accept(AtomicArray.getPlain(buffer, index));
+        }
+        AtomicInt.setRelease(this, READ_POSITION, readPosition);
+        return size;
+    }
+
+    @Override
+    public int takeAvailable(T[] dst) {
+        int readPosition = this.readPosition;
+        var readBusyWaitStrategy = this.readBusyWaitStrategy;
+        readBusyWaitStrategy.reset();
+        int size;
+        while ((size = size(readPosition)) == 0) {
+            readBusyWaitStrategy.tick();
+        }
+        if (size > dst.length) {
+            size = dst.length;
+        }
+        for (int i = 0; i < size; i++, readPosition++) {
+            int index = readPosition & capacityMinusOne;
+            dst[i] = AtomicArray.getPlain(buffer, index);
+        }
+        AtomicInt.setRelease(this, READ_POSITION, readPosition);
+        return size;
+    }
+
+    @Override
+    public T takeLast() {
+        int position;
+        var readBusyWaitStrategy = this.readBusyWaitStrategy;
+        readBusyWaitStrategy.reset();
+        while ((position = AtomicInt.getAcquire(this, WRITE_POSITION)) == readPosition) {
+            readBusyWaitStrategy.tick();
+        }
+        position--;
+        readPosition = position;
+        return AtomicArray.getPlain(buffer, position & capacityMinusOne);
+    }
+
+    @Override
+    public void forEach(Consumer<T> action) {
+        int readPosition = AtomicInt.getAcquire(this, READ_POSITION);
+        int writePosition = AtomicInt.getAcquire(this, WRITE_POSITION);
+        for (; readPosition != writePosition; readPosition++) {
+            action.accept(AtomicArray.getPlain(buffer, readPosition & capacityMinusOne));
+        }
+    }
+
+    @Override
+    public boolean contains(T element) {
+        int readPosition = AtomicInt.getAcquire(this, READ_POSITION);
+        int writePosition = AtomicInt.getAcquire(this, WRITE_POSITION);
+        for (; readPosition != writePosition; readPosition++) {
+            if (AtomicArray.getPlain(buffer, readPosition & capacityMinusOne).equals(element)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public int size() {
+        return size(AtomicInt.getAcquire(this, READ_POSITION));
+    }
+
+    private int size(int readPosition) {
+        return AtomicInt.getAcquire(this, WRITE_POSITION) - readPosition;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return AtomicInt.getAcquire(this, WRITE_POSITION) == AtomicInt.getAcquire(this, READ_POSITION);
+    }
+
+    @Override
+    public boolean isNotEmpty() {
+        return AtomicInt.getAcquire(this, WRITE_POSITION) != AtomicInt.getAcquire(this, READ_POSITION);
+    }
+
+    @Override
+    public String toString() {
+        int readPosition = AtomicInt.getAcquire(this, READ_POSITION);
+        int writePosition = AtomicInt.getAcquire(this, WRITE_POSITION);
+        if (writePosition == readPosition) {
+            return "[]";
+        }
+        StringBuilder builder = new StringBuilder();
+        builder.append('[');
+        for (; readPosition != writePosition; readPosition++) {
+            builder.append(AtomicArray.getPlain(buffer, readPosition & capacityMinusOne).toString());
+            builder.append(", ");
+        }
+        builder.setLength(builder.length() - 2);
+        builder.append(']');
+        return builder.toString();
+    }
+
+    @Override
+    public Object getReadMonitor() {
+        return null;
+    }
+}
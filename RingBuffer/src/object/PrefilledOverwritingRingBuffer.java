@@ -1,13 +1,48 @@
 package org.ringbuffer.object;
 
+import org.ringbuffer.AbstractRingBuffer;
+
+import java.util.function.BiConsumer;
+
 /**
+ * One writer populates elements in place, and overwrites the oldest ones when the ring buffer is full:
+ *
  * <pre>{@code
- * synchronized (ringBuffer) {
- *     T element = ringBuffer.next();
- *     // Populate element
- * }
+ * T element = ringBuffer.next();
+ * // Populate element
+ * ringBuffer.put();
  * }</pre>
+ * <p>
+ * Readers do not take elements, but copy the latest ones optimistically and retry if they were populated meanwhile,
+ * so that they never block the writer, which never takes a lock. The copier may observe an element while it is
+ * being populated, in which case the copy is discarded, so it must not fail nor keep references to the element.
+ * <p>
+ * It does not extend {@link ObjectRingBuffer}, since taking elements would hand out references to elements that the
+ * writer populates in place. {@link #getReadMonitor()} returns {@code null}, since readers need no synchronization.
  */
-public interface PrefilledOverwritingRingBuffer<T> extends ObjectRingBuffer<T> {
+public interface PrefilledOverwritingRingBuffer<T> extends AbstractRingBuffer {
+    int getCapacity();
+
     T next();
+
+    void put();
+
+    /**
+     * Copies the latest element into {@code copy}.
+     *
+     * @return {@code false} if no element has been put yet
+     */
+    <C> boolean readLatest(C copy, BiConsumer<T, C> copier);
+
+    /**
+     * Copies up to {@code copies.length} of the latest elements, from the newest to the oldest.
+     *
+     * @return the number of elements copied
+     */
+    <C> int readLatestBatch(C[] copies, BiConsumer<T, C> copier);
+
+    /**
+     * @return the number of elements that have been put, up to the capacity
+     */
+    int size();
 }
@@ -20,10 +20,28 @@ package org.ringbuffer.object;
  *     ringBuffer.put(putKey);
  * }
  * }</pre>
+ * <p>
+ * {@link #tryNextKey()} can be used in place of {@link #nextKey()} to avoid waiting, or discarding the element,
+ * when the ring buffer is full:
+ *
+ * <pre>{@code
+ * int key = ringBuffer.tryNextKey();
+ * if (key != -1) {
+ *     int putKey = ringBuffer.nextPutKey(key);
+ *     T element = ringBuffer.next(key, putKey);
+ *     // Populate element
+ *     ringBuffer.put(putKey);
+ * }
+ * }</pre>
  */
 public interface PrefilledRingBuffer2<T> extends ObjectRingBuffer<T> {
     int nextKey();
 
+    /**
+     * @return the same as {@link #nextKey()}, or {@code -1} if the ring buffer is full
+     */
+    int tryNextKey();
+
     int nextPutKey(int key);
 
     T next(int key, int putKey);
@@ -62,6 +62,15 @@ public final class PrefilledRingBufferBuilder<T> extends AbstractPrefilledRingBu
         return new LockfreePrefilledRingBufferBuilder<>(this);
     }
 
+    /**
+     * Positions grow without wrapping and are masked to index the buffer, so that no branch is taken on wrap-around.
+     * Requires a power of 2 capacity, {@link #oneWriter()} and {@link #oneReader()}.
+     */
+    public PrefilledRingBufferBuilder<T> powerOfTwo() {
+        super.powerOfTwo0();
+        return this;
+    }
+
     @Override
     public PrefilledRingBufferBuilder<T> waitingWith(BusyWaitStrategy busyWaitStrategy) {
         super.waitingWith0(busyWaitStrategy);
@@ -76,9 +85,18 @@ public final class PrefilledRingBufferBuilder<T> extends AbstractPrefilledRingBu
 
     @Override
     protected ObjectRingBuffer<T> create(RingBufferConcurrency concurrency, RingBufferType type) {
+        if (powerOfTwo && concurrency != RingBufferConcurrency.VOLATILE) {
+            throw new IllegalStateException("You must call oneWriter() and oneReader() with powerOfTwo().");
+        }
         if (type == RingBufferType.CLEARING) {
             switch (concurrency) {
                 case VOLATILE:
+                    if (powerOfTwo) {
+                        if (copyClass) {
+                            return instantiateCopy(PowerOfTwoVolatilePrefilledRingBuffer.class);
+                        }
+                        return new PowerOfTwoVolatilePrefilledRingBuffer<>(this);
+                    }
                     if (copyClass) {
                         return instantiateCopy(VolatilePrefilledRingBuffer.class);
                     }
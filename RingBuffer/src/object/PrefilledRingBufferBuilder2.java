@@ -59,6 +59,33 @@ public final class PrefilledRingBufferBuilder2<T> extends AbstractPrefilledRingB
         throw new AssertionError();
     }
 
+    /**
+     * Readers claim elements with a compare-and-set instead of acquiring a monitor.
+     * Requires {@link PrefilledRingBufferBuilder#blocking()} and {@link #manyReaders()}.
+     * Multiple writers still need external synchronization.
+     */
+    public ClaimingPrefilledRingBufferBuilder<T> claiming() {
+        return new ClaimingPrefilledRingBufferBuilder<>(this);
+    }
+
+    /**
+     * Every element is seen by every reader, each of which has its own cursor.
+     * Requires a power of 2 capacity, {@link PrefilledRingBufferBuilder#blocking()}, {@link #oneWriter()}
+     * and {@link #oneReader()}, where the latter means that each reader is used by one thread.
+     */
+    public MulticastPrefilledRingBufferBuilder<T> multicast() {
+        return new MulticastPrefilledRingBufferBuilder<>(this);
+    }
+
+    /**
+     * Positions grow without wrapping and are masked to index the buffer, so that no branch is taken on wrap-around.
+     * Requires a power of 2 capacity, {@link #oneWriter()} and {@link #oneReader()}.
+     */
+    public PrefilledRingBufferBuilder2<T> powerOfTwo() {
+        super.powerOfTwo0();
+        return this;
+    }
+
     @Override
     public PrefilledRingBufferBuilder2<T> waitingWith(BusyWaitStrategy busyWaitStrategy) {
         super.waitingWith0(busyWaitStrategy);
@@ -73,15 +100,30 @@ public final class PrefilledRingBufferBuilder2<T> extends AbstractPrefilledRingB
 
     @Override
     protected ObjectRingBuffer<T> create(RingBufferConcurrency concurrency, RingBufferType type) {
+        if (powerOfTwo && concurrency != RingBufferConcurrency.VOLATILE) {
+            throw new IllegalStateException("You must call oneWriter() and oneReader() with powerOfTwo().");
+        }
         switch (concurrency) {
             case VOLATILE:
                 switch (type) {
                     case BLOCKING:
+                        if (powerOfTwo) {
+                            if (copyClass) {
+                                return instantiateCopy(PowerOfTwoVolatileBlockingPrefilledRingBuffer.class);
+                            }
+                            return new PowerOfTwoVolatileBlockingPrefilledRingBuffer<>(this);
+                        }
                         if (copyClass) {
                             return instantiateCopy(VolatileBlockingPrefilledRingBuffer.class);
                         }
                         return new VolatileBlockingPrefilledRingBuffer<>(this);
                     case DISCARDING:
+                        if (powerOfTwo) {
+                            if (copyClass) {
+                                return instantiateCopy(PowerOfTwoVolatileDiscardingPrefilledRingBuffer.class);
+                            }
+                            return new PowerOfTwoVolatileDiscardingPrefilledRingBuffer<>(this);
+                        }
                         if (copyClass) {
                             return instantiateCopy(VolatileDiscardingPrefilledRingBuffer.class);
                         }
@@ -0,0 +1,18 @@
+package org.ringbuffer.object;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Has one lane per priority level. Elements of higher priority are always taken first, unless a starvation limit is set.
+ * Priorities range from {@code 0}, the lowest and the one used by the methods without a {@code priority} parameter,
+ * to {@link #getNumPriorities()} {@code - 1}.
+ */
+public interface PriorityRingBuffer<T> extends RingBuffer<T> {
+    void put(T element, int priority);
+
+    boolean offer(T element, int priority);
+
+    boolean put(T element, int priority, long timeout, TimeUnit unit);
+
+    int getNumPriorities();
+}
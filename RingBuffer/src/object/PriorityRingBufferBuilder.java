@@ -0,0 +1,181 @@
+package org.ringbuffer.object;
+
+import eu.menzani.lang.Assume;
+import org.ringbuffer.AbstractRingBufferBuilder;
+import org.ringbuffer.wait.BusyWaitStrategy;
+
+public final class PriorityRingBufferBuilder<T> extends AbstractRingBufferBuilder<PriorityRingBuffer<T>> {
+    private final int capacity;
+    private boolean gcEnabled;
+    private int numPriorities;
+    private int starvationLimit = Integer.MAX_VALUE;
+    // All fields are copied in <init>(RingBufferBuilder<?>)
+
+    private transient boolean manyWriters;
+
+    PriorityRingBufferBuilder(RingBufferBuilder<?> builder) {
+        super(builder);
+        capacity = builder.capacity;
+        gcEnabled = builder.gcEnabled;
+    }
+
+    /**
+     * The capacity passed to {@link RingBuffer#withCapacity(int)} is the capacity of each lane.
+     */
+    public PriorityRingBufferBuilder<T> priorities(int numPriorities) {
+        Assume.notLesser(numPriorities, 2);
+        this.numPriorities = numPriorities;
+        return this;
+    }
+
+    /**
+     * After {@code starvationLimit} elements in a row have been taken from higher priority lanes while a lane was
+     * not empty, one element of that lane is taken. Each lane keeps its own count.
+     */
+    public PriorityRingBufferBuilder<T> starvationLimit(int starvationLimit) {
+        Assume.notLesser(starvationLimit, 1);
+        this.starvationLimit = starvationLimit;
+        return this;
+    }
+
+    @Override
+    public PriorityRingBufferBuilder<T> oneWriter() {
+        super.oneWriter0();
+        return this;
+    }
+
+    @Override
+    public PriorityRingBufferBuilder<T> manyWriters() {
+        super.manyWriters0();
+        return this;
+    }
+
+    @Override
+    public PriorityRingBufferBuilder<T> oneReader() {
+        super.oneReader0();
+        return this;
+    }
+
+    @Override
+    public PriorityRingBufferBuilder<T> manyReaders() {
+        super.manyReaders0();
+        return this;
+    }
+
+    @Override
+    protected PriorityRingBufferBuilder<T> blocking() {
+        throw new AssertionError();
+    }
+
+    @Override
+    protected PriorityRingBufferBuilder<T> blocking(BusyWaitStrategy busyWaitStrategy) {
+        throw new AssertionError();
+    }
+
+    @Override
+    protected PriorityRingBufferBuilder<T> lockfree() {
+        throw new AssertionError();
+    }
+
+    /**
+     * The reader waits on all lanes at once with {@code busyWaitStrategy}.
+     */
+    @Override
+    public PriorityRingBufferBuilder<T> waitingWith(BusyWaitStrategy busyWaitStrategy) {
+        super.waitingWith0(busyWaitStrategy);
+        return this;
+    }
+
+    @Override
+    public PriorityRingBufferBuilder<T> copyClass() {
+        super.copyClass0();
+        return this;
+    }
+
+    public PriorityRingBufferBuilder<T> withGC() {
+        gcEnabled = true;
+        return this;
+    }
+
+    @Override
+    protected void validate() {
+        super.validate();
+        if (numPriorities == 0) {
+            throw new IllegalStateException("You must call priorities().");
+        }
+    }
+
+    @Override
+    protected PriorityRingBuffer<T> create(RingBufferConcurrency concurrency, RingBufferType type) {
+        switch (concurrency) {
+            case VOLATILE:
+            case ATOMIC_WRITE:
+                manyWriters = concurrency == RingBufferConcurrency.ATOMIC_WRITE;
+                if (copyClass) {
+                    return instantiateCopy(VolatilePriorityRingBuffer.class);
+                }
+                return new VolatilePriorityRingBuffer<>(this);
+            case ATOMIC_READ:
+            case CONCURRENT:
+                manyWriters = concurrency == RingBufferConcurrency.CONCURRENT;
+                if (copyClass) {
+                    return instantiateCopy(AtomicReadPriorityRingBuffer.class);
+                }
+                return new AtomicReadPriorityRingBuffer<>(this);
+        }
+        throw new AssertionError();
+    }
+
+    // Lanes signal the shared read busy-wait strategy, but writers to different lanes could wait on the same write one
+    @Override
+    protected boolean isReadSignalSupported() {
+        return true;
+    }
+
+    @Override
+    protected boolean isWriteSignalSupported() {
+        return false;
+    }
+
+    @Override
+    protected BusyWaitStrategy getReadBusyWaitStrategy() {
+        return super.getReadBusyWaitStrategy();
+    }
+
+    int getStarvationLimit() {
+        return starvationLimit;
+    }
+
+    /**
+     * Each lane has one reader, the priority ring buffer, and as many writers as it.
+     * Lanes share the read busy-wait strategy, so that a {@link org.ringbuffer.wait.SignalBusyWaitStrategy}
+     * is signalled by all of them.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    RingBuffer<T>[] getLanes() {
+        RingBuffer<T>[] lanes = new RingBuffer[numPriorities];
+        for (int i = 0; i < numPriorities; i++) {
+            RingBufferBuilder<T> builder = new RingBufferBuilder<T>(capacity)
+                    .oneReader()
+                    .waitingWith(getReadBusyWaitStrategy());
+            if (manyWriters) {
+                builder.manyWriters();
+            } else {
+                builder.oneWriter();
+            }
+            switch (type) {
+                case BLOCKING:
+                    builder.blocking(getWriteBusyWaitStrategy());
+                    break;
+                case DISCARDING:
+                    builder.discarding();
+                    break;
+            }
+            if (gcEnabled) {
+                builder.withGC();
+            }
+            lanes[i] = builder.build();
+        }
+        return lanes;
+    }
+}
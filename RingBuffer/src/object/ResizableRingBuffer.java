@@ -0,0 +1,17 @@
+package org.ringbuffer.object;
+
+public interface ResizableRingBuffer<T> extends RingBuffer<T> {
+    /**
+     * Can only be called by the writer. Following elements are put into a new buffer of {@code capacity} elements,
+     * which the reader moves to once it has taken the elements left in the current one, so it never stops.
+     *
+     * @param capacity must be a power of 2
+     */
+    void resize(int capacity);
+
+    /**
+     * @return the capacity of the buffer the writer is putting elements into
+     */
+    @Override
+    int getCapacity();
+}
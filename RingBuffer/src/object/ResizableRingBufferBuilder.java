@@ -0,0 +1,110 @@
+package org.ringbuffer.object;
+
+import org.ringbuffer.AbstractRingBufferBuilder;
+import org.ringbuffer.ResizePolicy;
+import org.ringbuffer.wait.BusyWaitStrategy;
+
+public final class ResizableRingBufferBuilder<T> extends AbstractRingBufferBuilder<ResizableRingBuffer<T>> {
+    private final int capacity;
+    private ResizePolicy resizePolicy = ResizePolicy.manual();
+    // All fields are copied in <init>(RingBufferBuilder<?>)
+
+    ResizableRingBufferBuilder(RingBufferBuilder<?> builder) {
+        super(builder);
+        capacity = builder.capacity;
+        validateCapacityPowerOfTwo(capacity);
+    }
+
+    @Override
+    public ResizableRingBufferBuilder<T> oneWriter() {
+        super.oneWriter0();
+        return this;
+    }
+
+    @Override
+    public ResizableRingBufferBuilder<T> manyWriters() {
+        super.manyWriters0();
+        return this;
+    }
+
+    @Override
+    public ResizableRingBufferBuilder<T> oneReader() {
+        super.oneReader0();
+        return this;
+    }
+
+    @Override
+    public ResizableRingBufferBuilder<T> manyReaders() {
+        super.manyReaders0();
+        return this;
+    }
+
+    @Override
+    protected ResizableRingBufferBuilder<T> blocking() {
+        throw new AssertionError();
+    }
+
+    @Override
+    protected ResizableRingBufferBuilder<T> blocking(BusyWaitStrategy busyWaitStrategy) {
+        throw new AssertionError();
+    }
+
+    @Override
+    protected ResizableRingBufferBuilder<T> lockfree() {
+        throw new AssertionError();
+    }
+
+    public ResizableRingBufferBuilder<T> resizingWith(ResizePolicy resizePolicy) {
+        this.resizePolicy = resizePolicy;
+        return this;
+    }
+
+    @Override
+    public ResizableRingBufferBuilder<T> waitingWith(BusyWaitStrategy busyWaitStrategy) {
+        super.waitingWith0(busyWaitStrategy);
+        return this;
+    }
+
+    @Override
+    public ResizableRingBufferBuilder<T> copyClass() {
+        super.copyClass0();
+        return this;
+    }
+
+    @Override
+    protected void validate() {
+        super.validate();
+        if (type != RingBufferType.BLOCKING) {
+            throw new IllegalStateException("You must call blocking() before resizable().");
+        }
+    }
+
+    @Override
+    protected ResizableRingBuffer<T> create(RingBufferConcurrency concurrency, RingBufferType type) {
+        if (concurrency != RingBufferConcurrency.VOLATILE) {
+            throw new IllegalStateException("You must call oneWriter() and oneReader() before resizable().");
+        }
+        if (copyClass) {
+            return instantiateCopy(VolatileBlockingResizableRingBuffer.class);
+        }
+        return new VolatileBlockingResizableRingBuffer<>(this);
+    }
+
+    @Override
+    protected BusyWaitStrategy getWriteBusyWaitStrategy() {
+        return super.getWriteBusyWaitStrategy();
+    }
+
+    @Override
+    protected BusyWaitStrategy getReadBusyWaitStrategy() {
+        return super.getReadBusyWaitStrategy();
+    }
+
+    int getCapacity() {
+        return capacity;
+    }
+
+    ResizePolicy getResizePolicy() {
+        return resizePolicy;
+    }
+}
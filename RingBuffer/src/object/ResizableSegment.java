@@ -0,0 +1,61 @@
+package org.ringbuffer.object;
+
+import eu.menzani.atomic.AtomicArray;
+import eu.menzani.atomic.AtomicLong;
+import eu.menzani.lang.Lang;
+import eu.menzani.struct.Arrays;
+
+/**
+ * The buffer of a resizable ring buffer, from the time it was created to the time it was replaced by {@link #next}.
+ */
+class ResizableSegment<T> {
+    private static final long READ_SEQUENCE = Lang.objectFieldOffset(ResizableSegment.class, "readSequence");
+    private static final long WRITE_SEQUENCE = Lang.objectFieldOffset(ResizableSegment.class, "writeSequence");
+
+    final int capacity;
+    final int capacityMinusOne;
+    final T[] buffer;
+
+    long readSequence;
+    long writeSequence;
+    // Single element, accessed with AtomicArray
+    private final ResizableSegment<T>[] next = newNext();
+
+    ResizableSegment(int capacity) {
+        this.capacity = capacity;
+        capacityMinusOne = capacity - 1;
+        buffer = Arrays.allocateGeneric(capacity);
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static <T> ResizableSegment<T>[] newNext() {
+        return new ResizableSegment[1];
+    }
+
+    long getReadSequence() {
+        return AtomicLong.getAcquire(this, READ_SEQUENCE);
+    }
+
+    void setReadSequence(long readSequence) {
+        AtomicLong.setRelease(this, READ_SEQUENCE, readSequence);
+    }
+
+    long getWriteSequence() {
+        return AtomicLong.getAcquire(this, WRITE_SEQUENCE);
+    }
+
+    void setWriteSequence(long writeSequence) {
+        AtomicLong.setRelease(this, WRITE_SEQUENCE, writeSequence);
+    }
+
+    ResizableSegment<T> getNext() {
+        return AtomicArray.getAcquire(next, 0);
+    }
+
+    /**
+     * Called by the writer after its last write to this segment.
+     */
+    void setNext(ResizableSegment<T> next) {
+        AtomicArray.setRelease(this.next, 0, next);
+    }
+}
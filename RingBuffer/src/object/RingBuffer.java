@@ -1,5 +1,7 @@
 package org.ringbuffer.object;
 
+import java.util.concurrent.TimeUnit;
+
 /**
  * The {@code null} element may be used if the {@link #contains(Object) contains(T)} and {@link #toString()}
  * methods are never called.
@@ -7,6 +9,30 @@ package org.ringbuffer.object;
 public interface RingBuffer<T> extends ObjectRingBuffer<T> {
     void put(T element);
 
+    /**
+     * Same as {@link #put(Object) put(T)}, but returns {@code false} instead of waiting or discarding
+     * {@code element} if the ring buffer is full. If the ring buffer is neither blocking nor discarding,
+     * then this method always returns {@code true}.
+     */
+    boolean offer(T element);
+
+    /**
+     * Same as {@link #put(Object) put(T)}, but gives up waiting once {@code timeout} has elapsed.
+     * If the ring buffer is not blocking, then this method is the same as {@link #offer(Object) offer(T)}.
+     *
+     * @return {@code false} if the timeout elapsed before space was available, in which case
+     * {@code element} is not put
+     */
+    boolean put(T element, long timeout, TimeUnit unit);
+
+    /**
+     * Puts {@code length} elements of {@code src}, starting at {@code offset}, making them visible to readers at once.
+     * <p>
+     * If the ring buffer is blocking, then {@code length} must be less than the capacity.
+     * If it is discarding, then the elements that do not fit are discarded.
+     */
+    void putAll(T[] src, int offset, int length);
+
     static <T> RingBufferBuilder<T> withCapacity(int capacity) {
         return new RingBufferBuilder<>(capacity);
     }
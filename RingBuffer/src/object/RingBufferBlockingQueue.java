@@ -0,0 +1,287 @@
+package org.ringbuffer.object;
+
+import eu.menzani.lang.Assume;
+
+import java.util.AbstractQueue;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Exposes a {@link RingBuffer} as a {@link BlockingQueue}, so that it can be passed to
+ * {@link java.util.concurrent.ThreadPoolExecutor} and other code written against the standard interfaces.
+ * <p>
+ * The ring buffer should be blocking, so that {@link #offer(Object) offer(T)} fails when it is full
+ * instead of overwriting or discarding elements, and it must support as many readers and writers as there are
+ * threads using the queue. Waiting is done by the strategies of the ring buffer, which do not respond to interrupts,
+ * so it is split into slices of at most 10 milliseconds, and the interrupted status is checked before each of them.
+ * <p>
+ * Ring buffers can only be read in order, so {@link #peek()} and {@link #remove(Object)} take the elements they
+ * have to look past, and keep them in front of the ring buffer, where they are taken first. These elements still
+ * count towards {@link #size()}, but no longer towards the capacity of the ring buffer, so
+ * {@link #remainingCapacity()} can report less space than there is. {@link #iterator()} returns a snapshot
+ * taken with {@link RingBuffer#forEach(Consumer)}, whose {@code remove()} calls {@link #remove(Object)}.
+ */
+public class RingBufferBlockingQueue<T> extends AbstractQueue<T> implements BlockingQueue<T> {
+    private static final long WAIT_SLICE = TimeUnit.MILLISECONDS.toNanos(10L);
+
+    private final RingBuffer<T> ringBuffer;
+    private final ConcurrentLinkedDeque<T> front = new ConcurrentLinkedDeque<>();
+
+    public RingBufferBlockingQueue(RingBuffer<T> ringBuffer) {
+        Assume.notNull(ringBuffer);
+        this.ringBuffer = ringBuffer;
+    }
+
+    public RingBuffer<T> getRingBuffer() {
+        return ringBuffer;
+    }
+
+    @Override
+    public boolean offer(T element) {
+        checkNotNull(element);
+        return ringBuffer.offer(element);
+    }
+
+    @Override
+    public boolean offer(T element, long timeout, TimeUnit unit) throws InterruptedException {
+        checkNotNull(element);
+        long remaining = unit.toNanos(timeout);
+        long deadline = System.nanoTime() + remaining;
+        while (true) {
+            checkNotInterrupted();
+            if (ringBuffer.put(element, Math.min(remaining, WAIT_SLICE), TimeUnit.NANOSECONDS)) {
+                return true;
+            }
+            remaining = deadline - System.nanoTime();
+            if (remaining <= 0L) {
+                return false;
+            }
+        }
+    }
+
+    @Override
+    public void put(T element) throws InterruptedException {
+        checkNotNull(element);
+        do {
+            checkNotInterrupted();
+        } while (!ringBuffer.put(element, WAIT_SLICE, TimeUnit.NANOSECONDS));
+    }
+
+    @Override
+    public T poll() {
+        T element = front.pollFirst();
+        if (element != null) {
+            return element;
+        }
+        return ringBuffer.poll();
+    }
+
+    @Override
+    public T poll(long timeout, TimeUnit unit) throws InterruptedException {
+        long remaining = unit.toNanos(timeout);
+        long deadline = System.nanoTime() + remaining;
+        while (true) {
+            checkNotInterrupted();
+            T element = front.pollFirst();
+            if (element != null) {
+                return element;
+            }
+            element = ringBuffer.take(Math.min(remaining, WAIT_SLICE), TimeUnit.NANOSECONDS);
+            if (element != null) {
+                return element;
+            }
+            remaining = deadline - System.nanoTime();
+            if (remaining <= 0L) {
+                return null;
+            }
+        }
+    }
+
+    @Override
+    public T take() throws InterruptedException {
+        T element;
+        do {
+            checkNotInterrupted();
+            element = front.pollFirst();
+            if (element == null) {
+                element = ringBuffer.take(WAIT_SLICE, TimeUnit.NANOSECONDS);
+            }
+        } while (element == null);
+        return element;
+    }
+
+    /**
+     * If no element was kept in front of the ring buffer, takes the next one and keeps it there.
+     */
+    @Override
+    public T peek() {
+        synchronized (front) {
+            T element = front.peekFirst();
+            if (element == null) {
+                element = ringBuffer.poll();
+                if (element != null) {
+                    front.addFirst(element);
+                }
+            }
+            return element;
+        }
+    }
+
+    /**
+     * Takes elements from the ring buffer and keeps them in front of it, until {@code element} is found.
+     */
+    @Override
+    public boolean remove(Object element) {
+        if (element == null) {
+            return false;
+        }
+        synchronized (front) {
+            if (front.removeFirstOccurrence(element)) {
+                return true;
+            }
+            T taken;
+            while ((taken = ringBuffer.poll()) != null) {
+                if (element.equals(taken)) {
+                    return true;
+                }
+                front.addLast(taken);
+            }
+            return false;
+        }
+    }
+
+    @Override
+    public int drainTo(Collection<? super T> collection) {
+        return drainTo(collection, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Takes all available elements, up to {@code maxElements}, with a single
+     * {@link RingBuffer#drain(Consumer, int) drain}, and never waits.
+     * If the ring buffer is claiming, they are polled one by one instead, since its {@link RingBuffer#size()} also
+     * counts elements that other readers have claimed but not yet released, and a drain would wait for them to be
+     * replaced.
+     */
+    @Override
+    public int drainTo(Collection<? super T> collection, int maxElements) {
+        if (collection == this) {
+            throw new IllegalArgumentException("Cannot drain a queue into itself.");
+        }
+        if (maxElements <= 0) {
+            return 0;
+        }
+        int count = 0;
+        T element;
+        while (count < maxElements && (element = front.pollFirst()) != null) {
+            collection.add(element);
+            count++;
+        }
+        if (count == maxElements) {
+            return count;
+        }
+        if (ringBuffer instanceof ClaimingRingBuffer) {
+            while (count < maxElements && (element = ringBuffer.poll()) != null) {
+                collection.add(element);
+                count++;
+            }
+            return count;
+        }
+        Object readMonitor = ringBuffer.getReadMonitor();
+        if (readMonitor == null) {
+            return count + drainAvailable(collection, maxElements - count);
+        }
+        // Other readers must not empty the ring buffer between the check and the drain
+        synchronized (readMonitor) {
+            return count + drainAvailable(collection, maxElements - count);
+        }
+    }
+
+    private int drainAvailable(Collection<? super T> collection, int maxElements) {
+        if (ringBuffer.isEmpty()) {
+            return 0;
+        }
+        return ringBuffer.drain(collection::add, maxElements);
+    }
+
+    @Override
+    public int remainingCapacity() {
+        return Math.max(ringBuffer.getCapacity() - 1 - size(), 0);
+    }
+
+    @Override
+    public int size() {
+        return front.size() + ringBuffer.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return front.isEmpty() && ringBuffer.isEmpty();
+    }
+
+    @Override
+    public boolean contains(Object element) {
+        if (element == null) {
+            return false;
+        }
+        if (front.contains(element)) {
+            return true;
+        }
+        @SuppressWarnings("unchecked")
+        T t = (T) element;
+        return ringBuffer.contains(t);
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        List<T> snapshot = new ArrayList<>(front);
+        ringBuffer.forEach(snapshot::add);
+        return new SnapshotIterator(snapshot.iterator());
+    }
+
+    private class SnapshotIterator implements Iterator<T> {
+        private final Iterator<T> snapshot;
+        private T last;
+
+        SnapshotIterator(Iterator<T> snapshot) {
+            this.snapshot = snapshot;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return snapshot.hasNext();
+        }
+
+        @Override
+        public T next() {
+            last = snapshot.next();
+            return last;
+        }
+
+        @Override
+        public void remove() {
+            if (last == null) {
+                throw new IllegalStateException();
+            }
+            RingBufferBlockingQueue.this.remove(last);
+            last = null;
+        }
+    }
+
+    private static void checkNotNull(Object element) {
+        if (element == null) {
+            throw new NullPointerException();
+        }
+    }
+
+    private static void checkNotInterrupted() throws InterruptedException {
+        if (Thread.interrupted()) {
+            throw new InterruptedException();
+        }
+    }
+}
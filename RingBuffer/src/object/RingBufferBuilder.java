@@ -1,9 +1,10 @@
 package org.ringbuffer.object;
 
 import org.ringbuffer.wait.BusyWaitStrategy;
+import org.ringbuffer.wait.SignalBusyWaitStrategy;
 
 public final class RingBufferBuilder<T> extends ObjectRingBufferBuilder<T> {
-    private boolean gcEnabled;
+    boolean gcEnabled;
 
     RingBufferBuilder(int capacity) {
         super(capacity);
@@ -60,6 +61,63 @@ public final class RingBufferBuilder<T> extends ObjectRingBufferBuilder<T> {
         return new LockfreeRingBufferBuilder<>(this);
     }
 
+    /**
+     * Writers and readers claim positions with a compare-and-set instead of acquiring a monitor.
+     * Requires {@link #blocking()}, and either {@link #manyWriters()} or {@link #manyReaders()}.
+     */
+    public ClaimingRingBufferBuilder<T> claiming() {
+        return new ClaimingRingBufferBuilder<>(this);
+    }
+
+    /**
+     * Each element gets a 64-bit sequence, which starts from {@code 0} and never wraps.
+     * Requires {@link #blocking()}.
+     */
+    public SequencedRingBufferBuilder<T> sequenced() {
+        return new SequencedRingBufferBuilder<>(this);
+    }
+
+    /**
+     * The capacity can be changed by the writer, manually or following a {@link org.ringbuffer.ResizePolicy}.
+     * Requires a power of 2 capacity, {@link #blocking()}, {@link #oneWriter()} and {@link #oneReader()}.
+     */
+    public ResizableRingBufferBuilder<T> resizable() {
+        return new ResizableRingBufferBuilder<>(this);
+    }
+
+    /**
+     * Has one lane per priority level, and the reader waits on all of them at once.
+     * Requires {@link PriorityRingBufferBuilder#priorities(int)}.
+     */
+    public PriorityRingBufferBuilder<T> prioritized() {
+        return new PriorityRingBufferBuilder<>(this);
+    }
+
+    /**
+     * Each writer gets its own one-to-one lane, and readers drain the lanes round-robin.
+     * Requires {@link #manyWriters()}.
+     */
+    public StripedRingBufferBuilder<T> striped() {
+        return new StripedRingBufferBuilder<>(this);
+    }
+
+    /**
+     * Keeps only the latest element per key. Writers and readers synchronize on the ring buffer, so it is returned
+     * right away and supports any number of them.
+     */
+    public ConflatingRingBuffer<T> conflating() {
+        return new ConcurrentConflatingRingBuffer<>(capacity);
+    }
+
+    /**
+     * Positions grow without wrapping and are masked to index the buffer, so that no branch is taken on wrap-around.
+     * Requires a power of 2 capacity, {@link #oneWriter()} and {@link #oneReader()}.
+     */
+    public RingBufferBuilder<T> powerOfTwo() {
+        super.powerOfTwo0();
+        return this;
+    }
+
     @Override
     public RingBufferBuilder<T> waitingWith(BusyWaitStrategy busyWaitStrategy) {
         super.waitingWith0(busyWaitStrategy);
@@ -79,38 +137,77 @@ public final class RingBufferBuilder<T> extends ObjectRingBufferBuilder<T> {
 
     @Override
     protected ObjectRingBuffer<T> create(RingBufferConcurrency concurrency, RingBufferType type) {
+        if (powerOfTwo && concurrency != RingBufferConcurrency.VOLATILE) {
+            throw new IllegalStateException("You must call oneWriter() and oneReader() with powerOfTwo().");
+        }
         switch (concurrency) {
             case VOLATILE:
                 switch (type) {
                     case CLEARING:
                         if (gcEnabled) {
+                            if (powerOfTwo) {
+                                if (copyClass) {
+                                    return instantiateCopy(PowerOfTwoVolatileGCRingBuffer.class);
+                                }
+                                return new PowerOfTwoVolatileGCRingBuffer<>(this);
+                            }
                             if (copyClass) {
                                 return instantiateCopy(VolatileGCRingBuffer.class);
                             }
                             return new VolatileGCRingBuffer<>(this);
                         }
+                        if (powerOfTwo) {
+                            if (copyClass) {
+                                return instantiateCopy(PowerOfTwoVolatileRingBuffer.class);
+                            }
+                            return new PowerOfTwoVolatileRingBuffer<>(this);
+                        }
                         if (copyClass) {
                             return instantiateCopy(VolatileRingBuffer.class);
                         }
                         return new VolatileRingBuffer<>(this);
                     case BLOCKING:
                         if (gcEnabled) {
+                            if (powerOfTwo) {
+                                if (copyClass) {
+                                    return instantiateCopy(PowerOfTwoVolatileBlockingGCRingBuffer.class);
+                                }
+                                return new PowerOfTwoVolatileBlockingGCRingBuffer<>(this);
+                            }
                             if (copyClass) {
                                 return instantiateCopy(VolatileBlockingGCRingBuffer.class);
                             }
                             return new VolatileBlockingGCRingBuffer<>(this);
                         }
+                        if (powerOfTwo) {
+                            if (copyClass) {
+                                return instantiateCopy(PowerOfTwoVolatileBlockingRingBuffer.class);
+                            }
+                            return new PowerOfTwoVolatileBlockingRingBuffer<>(this);
+                        }
                         if (copyClass) {
                             return instantiateCopy(VolatileBlockingRingBuffer.class);
                         }
                         return new VolatileBlockingRingBuffer<>(this);
                     case DISCARDING:
                         if (gcEnabled) {
+                            if (powerOfTwo) {
+                                if (copyClass) {
+                                    return instantiateCopy(PowerOfTwoVolatileDiscardingGCRingBuffer.class);
+                                }
+                                return new PowerOfTwoVolatileDiscardingGCRingBuffer<>(this);
+                            }
                             if (copyClass) {
                                 return instantiateCopy(VolatileDiscardingGCRingBuffer.class);
                             }
                             return new VolatileDiscardingGCRingBuffer<>(this);
                         }
+                        if (powerOfTwo) {
+                            if (copyClass) {
+                                return instantiateCopy(PowerOfTwoVolatileDiscardingRingBuffer.class);
+                            }
+                            return new PowerOfTwoVolatileDiscardingRingBuffer<>(this);
+                        }
                         if (copyClass) {
                             return instantiateCopy(VolatileDiscardingRingBuffer.class);
                         }
@@ -228,8 +325,36 @@ public final class RingBufferBuilder<T> extends ObjectRingBufferBuilder<T> {
         throw new AssertionError();
     }
 
+    // Waiting readers and writers of ring buffers with many of them hold a lock
+    @Override
+    protected boolean isReadSignalSupported() {
+        return true;
+    }
+
+    @Override
+    protected boolean isWriteSignalSupported() {
+        return true;
+    }
+
+    /**
+     * If {@link SignalBusyWaitStrategy} is passed to {@link #waitingWith(BusyWaitStrategy)}, then writers signal
+     * waiting readers. If it is passed to {@link #blocking(BusyWaitStrategy)}, then readers signal waiting writers.
+     */
     @Override
     public RingBuffer<T> build() {
-        return (RingBuffer<T>) super.build();
+        RingBuffer<T> ringBuffer = (RingBuffer<T>) super.build();
+        SignalBusyWaitStrategy readSignal = asSignal(getReadBusyWaitStrategy());
+        SignalBusyWaitStrategy writeSignal = asSignal(getWriteBusyWaitStrategy());
+        if (readSignal == null && writeSignal == null) {
+            return ringBuffer;
+        }
+        return new SignallingRingBuffer<>(ringBuffer, readSignal, writeSignal);
+    }
+
+    private static SignalBusyWaitStrategy asSignal(BusyWaitStrategy busyWaitStrategy) {
+        if (busyWaitStrategy instanceof SignalBusyWaitStrategy) {
+            return (SignalBusyWaitStrategy) busyWaitStrategy;
+        }
+        return null;
     }
 }
@@ -0,0 +1,140 @@
+package org.ringbuffer.object;
+
+import eu.menzani.atomic.AtomicLong;
+import eu.menzani.atomic.AtomicLongArray;
+import eu.menzani.lang.Lang;
+import eu.menzani.lang.Numbers;
+import eu.menzani.object.ObjectFactory;
+import eu.menzani.struct.Arrays;
+import jdk.internal.vm.annotation.Contended;
+
+import java.lang.invoke.VarHandle;
+import java.util.function.BiConsumer;
+
+/**
+ * Every slot has a version: {@code 2 * sequence + 1} while the element with that sequence is being populated,
+ * {@code 2 * sequence + 2} once it has been put. Readers check that the version is the expected one before and after
+ * copying an element.
+ */
+@Contended
+public class SeqlockPrefilledOverwritingRingBuffer<T> implements PrefilledOverwritingRingBuffer<T> {
+    private static final long WRITE_SEQUENCE = Lang.objectFieldOffset(SeqlockPrefilledOverwritingRingBuffer.class, "writeSequence");
+
+    private final int capacity;
+    private final int capacityMinusOne;
+    private final T[] buffer;
+    private final long[] versions;
+
+    private long writeSequence;
+
+    /**
+     * @param capacity must be a power of 2
+     */
+    public SeqlockPrefilledOverwritingRingBuffer(int capacity, ObjectFactory<T> filler) {
+        if (!Numbers.isPowerOfTwo(capacity)) {
+            throw new IllegalArgumentException("capacity must be a power of 2.");
+        }
+        this.capacity = capacity;
+        capacityMinusOne = capacity - 1;
+        buffer = Arrays.allocateGeneric(capacity);
+        Arrays.fill(buffer, filler);
+        versions = new long[capacity];
+    }
+
+    @Override
+    public int getCapacity() {
+        return capacity;
+    }
+
+    @Override
+    public T next() {
+        long writeSequence = this.writeSequence;
+        int index = (int) writeSequence & capacityMinusOne;
+        AtomicLongArray.setOpaque(versions, index, 2L * writeSequence + 1L);
+        // The caller populates the element with plain stores, which no atomic access can order
+        VarHandle.storeStoreFence();
+        return buffer[index];
+    }
+
+    @Override
+    public void put() {
+        long writeSequence = this.writeSequence;
+        AtomicLongArray.setRelease(versions, (int) writeSequence & capacityMinusOne, 2L * writeSequence + 2L);
+        AtomicLong.setRelease(this, WRITE_SEQUENCE, writeSequence + 1L);
+    }
+
+    @Override
+    public <C> boolean readLatest(C copy, BiConsumer<T, C> copier) {
+        while (true) {
+            long sequence = AtomicLong.getAcquire(this, WRITE_SEQUENCE) - 1L;
+            if (sequence < 0L) {
+                return false;
+            }
+            if (copy(sequence, copy, copier)) {
+                return true;
+            }
+            Thread.onSpinWait();
+        }
+    }
+
+    @Override
+    public <C> int readLatestBatch(C[] copies, BiConsumer<T, C> copier) {
+        if (copies.length == 0) {
+            return 0;
+        }
+        while (true) {
+            long sequence = AtomicLong.getAcquire(this, WRITE_SEQUENCE) - 1L;
+            int count = 0;
+            for (long end = Math.max(sequence - Math.min(copies.length, capacity), -1L); sequence > end; sequence--) {
+                if (!copy(sequence, copies[count], copier)) {
+                    break;
+                }
+                count++;
+            }
+            if (count != 0 || sequence < 0L) {
+                return count;
+            }
+            // The writer lapped us while copying the latest element
+            Thread.onSpinWait();
+        }
+    }
+
+    /**
+     * @return {@code false} if the element with {@code sequence} has been overwritten, or is being overwritten
+     */
+    private <C> boolean copy(long sequence, C copy, BiConsumer<T, C> copier) {
+        int index = (int) sequence & capacityMinusOne;
+        long version = 2L * sequence + 2L;
+        if (AtomicLongArray.getAcquire(versions, index) != version) {
+            return false;
+        }
+        copier.accept(buffer[index], copy);
+        // The copier reads the element with plain loads, which no atomic access can order
+        VarHandle.loadLoadFence();
+        return AtomicLongArray.getPlain(versions, index) == version;
+    }
+
+    @Override
+    public int size() {
+        long writeSequence = AtomicLong.getAcquire(this, WRITE_SEQUENCE);
+        if (writeSequence > capacity) {
+            return capacity;
+        }
+        return (int) writeSequence;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return AtomicLong.getAcquire(this, WRITE_SEQUENCE) == 0L;
+    }
+
+    @Override
+    public boolean isNotEmpty() {
+        return AtomicLong.getAcquire(this, WRITE_SEQUENCE) != 0L;
+    }
+
+    @Override
+    public Object getReadMonitor() {
+        return null;
+    }
+}
@@ -0,0 +1,34 @@
+package org.ringbuffer.object;
+
+/**
+ * Each element gets a 64-bit sequence: the first element put has sequence {@code 0}, the second {@code 1}, and so on.
+ */
+public interface SequencedRingBuffer<T> extends RingBuffer<T> {
+    /**
+     * Same as {@link #put(Object) put(T)}.
+     *
+     * @return the sequence of {@code element}
+     */
+    long putAndGetSequence(T element);
+
+    /**
+     * Same as {@link #take()}, but also stores the sequence of the returned element in {@code sequence[0]},
+     * which is exact even if the ring buffer supports multiple readers.
+     */
+    T take(long[] sequence);
+
+    /**
+     * @return the sequence that the next element put will get, that is the number of elements put so far
+     */
+    long getWriteSequence();
+
+    /**
+     * @return the sequence of the next element that will be taken, that is the number of elements taken so far
+     */
+    long getReadSequence();
+
+    /**
+     * @return how many elements the readers are behind the writers
+     */
+    long getLag();
+}
@@ -0,0 +1,154 @@
+package org.ringbuffer.object;
+
+import eu.menzani.struct.Arrays;
+import org.ringbuffer.AbstractRingBufferBuilder;
+import org.ringbuffer.wait.BusyWaitStrategy;
+
+public final class SequencedRingBufferBuilder<T> extends AbstractRingBufferBuilder<SequencedRingBuffer<T>> {
+    private final int capacity;
+    private boolean gcEnabled;
+    // All fields are copied in <init>(RingBufferBuilder<?>)
+
+    SequencedRingBufferBuilder(RingBufferBuilder<?> builder) {
+        super(builder);
+        capacity = builder.capacity;
+        gcEnabled = builder.gcEnabled;
+    }
+
+    @Override
+    public SequencedRingBufferBuilder<T> oneWriter() {
+        super.oneWriter0();
+        return this;
+    }
+
+    @Override
+    public SequencedRingBufferBuilder<T> manyWriters() {
+        super.manyWriters0();
+        return this;
+    }
+
+    @Override
+    public SequencedRingBufferBuilder<T> oneReader() {
+        super.oneReader0();
+        return this;
+    }
+
+    @Override
+    public SequencedRingBufferBuilder<T> manyReaders() {
+        super.manyReaders0();
+        return this;
+    }
+
+    @Override
+    protected SequencedRingBufferBuilder<T> blocking() {
+        throw new AssertionError();
+    }
+
+    @Override
+    protected SequencedRingBufferBuilder<T> blocking(BusyWaitStrategy busyWaitStrategy) {
+        throw new AssertionError();
+    }
+
+    @Override
+    protected SequencedRingBufferBuilder<T> lockfree() {
+        throw new AssertionError();
+    }
+
+    @Override
+    public SequencedRingBufferBuilder<T> waitingWith(BusyWaitStrategy busyWaitStrategy) {
+        super.waitingWith0(busyWaitStrategy);
+        return this;
+    }
+
+    @Override
+    public SequencedRingBufferBuilder<T> copyClass() {
+        super.copyClass0();
+        return this;
+    }
+
+    public SequencedRingBufferBuilder<T> withGC() {
+        gcEnabled = true;
+        return this;
+    }
+
+    @Override
+    protected void validate() {
+        super.validate();
+        if (type != RingBufferType.BLOCKING) {
+            throw new IllegalStateException("You must call blocking() before sequenced().");
+        }
+    }
+
+    @Override
+    protected SequencedRingBuffer<T> create(RingBufferConcurrency concurrency, RingBufferType type) {
+        switch (concurrency) {
+            case VOLATILE:
+                if (gcEnabled) {
+                    if (copyClass) {
+                        return instantiateCopy(SequencedVolatileBlockingGCRingBuffer.class);
+                    }
+                    return new SequencedVolatileBlockingGCRingBuffer<>(this);
+                }
+                if (copyClass) {
+                    return instantiateCopy(SequencedVolatileBlockingRingBuffer.class);
+                }
+                return new SequencedVolatileBlockingRingBuffer<>(this);
+            case ATOMIC_READ:
+                if (gcEnabled) {
+                    if (copyClass) {
+                        return instantiateCopy(SequencedAtomicReadBlockingGCRingBuffer.class);
+                    }
+                    return new SequencedAtomicReadBlockingGCRingBuffer<>(this);
+                }
+                if (copyClass) {
+                    return instantiateCopy(SequencedAtomicReadBlockingRingBuffer.class);
+                }
+                return new SequencedAtomicReadBlockingRingBuffer<>(this);
+            case ATOMIC_WRITE:
+                if (gcEnabled) {
+                    if (copyClass) {
+                        return instantiateCopy(SequencedAtomicWriteBlockingGCRingBuffer.class);
+                    }
+                    return new SequencedAtomicWriteBlockingGCRingBuffer<>(this);
+                }
+                if (copyClass) {
+                    return instantiateCopy(SequencedAtomicWriteBlockingRingBuffer.class);
+                }
+                return new SequencedAtomicWriteBlockingRingBuffer<>(this);
+            case CONCURRENT:
+                if (gcEnabled) {
+                    if (copyClass) {
+                        return instantiateCopy(SequencedConcurrentBlockingGCRingBuffer.class);
+                    }
+                    return new SequencedConcurrentBlockingGCRingBuffer<>(this);
+                }
+                if (copyClass) {
+                    return instantiateCopy(SequencedConcurrentBlockingRingBuffer.class);
+                }
+                return new SequencedConcurrentBlockingRingBuffer<>(this);
+        }
+        throw new AssertionError();
+    }
+
+    @Override
+    protected BusyWaitStrategy getWriteBusyWaitStrategy() {
+        return super.getWriteBusyWaitStrategy();
+    }
+
+    @Override
+    protected BusyWaitStrategy getReadBusyWaitStrategy() {
+        return super.getReadBusyWaitStrategy();
+    }
+
+    int getCapacity() {
+        return capacity;
+    }
+
+    int getCapacityMinusOne() {
+        return capacity - 1;
+    }
+
+    T[] getBuffer() {
+        return Arrays.allocateGeneric(capacity);
+    }
+}
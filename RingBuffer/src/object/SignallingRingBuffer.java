@@ -0,0 +1,154 @@
+package org.ringbuffer.object;
+
+import org.ringbuffer.wait.SignalBusyWaitStrategy;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+class SignallingRingBuffer<T> implements RingBuffer<T> {
+    private final RingBuffer<T> ringBuffer;
+    private final SignalBusyWaitStrategy readSignal;
+    private final SignalBusyWaitStrategy writeSignal;
+
+    SignallingRingBuffer(RingBuffer<T> ringBuffer, SignalBusyWaitStrategy readSignal, SignalBusyWaitStrategy writeSignal) {
+        this.ringBuffer = ringBuffer;
+        this.readSignal = readSignal;
+        this.writeSignal = writeSignal;
+    }
+
+    private void signalReaders() {
+        if (readSignal != null) {
+            readSignal.signal();
+        }
+    }
+
+    private void signalWriters() {
+        if (writeSignal != null) {
+            writeSignal.signal();
+        }
+    }
+
+    @Override
+    public int getCapacity() {
+        return ringBuffer.getCapacity();
+    }
+
+    @Override
+    public void put(T element) {
+        ringBuffer.put(element);
+        signalReaders();
+    }
+
+    @Override
+    public boolean put(T element, long timeout, TimeUnit unit) {
+        if (ringBuffer.put(element, timeout, unit)) {
+            signalReaders();
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public boolean offer(T element) {
+        if (ringBuffer.offer(element)) {
+            signalReaders();
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public void putAll(T[] src, int offset, int length) {
+        ringBuffer.putAll(src, offset, length);
+        signalReaders();
+    }
+
+    @Override
+    public T take() {
+        T element = ringBuffer.take();
+        signalWriters();
+        return element;
+    }
+
+    @Override
+    public T take(long timeout, TimeUnit unit) {
+        T element = ringBuffer.take(timeout, unit);
+        signalWriters();
+        return element;
+    }
+
+    @Override
+    public T poll() {
+        T element = ringBuffer.poll();
+        signalWriters();
+        return element;
+    }
+
+    @Override
+    public void takeBatch(int size) {
+        ringBuffer.takeBatch(size);
+    }
+
+    @Override
+    public T takePlain() {
+        T element = ringBuffer.takePlain();
+        signalWriters();
+        return element;
+    }
+
+    @Override
+    public int drain(Consumer<T> handler, int maxElements) {
+        int size = ringBuffer.drain(handler, maxElements);
+        signalWriters();
+        return size;
+    }
+
+    @Override
+    public int takeAvailable(T[] dst) {
+        int size = ringBuffer.takeAvailable(dst);
+        signalWriters();
+        return size;
+    }
+
+    @Override
+    public T takeLast() {
+        T element = ringBuffer.takeLast();
+        signalWriters();
+        return element;
+    }
+
+    @Override
+    public void forEach(Consumer<T> action) {
+        ringBuffer.forEach(action);
+    }
+
+    @Override
+    public boolean contains(T element) {
+        return ringBuffer.contains(element);
+    }
+
+    @Override
+    public int size() {
+        return ringBuffer.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return ringBuffer.isEmpty();
+    }
+
+    @Override
+    public boolean isNotEmpty() {
+        return ringBuffer.isNotEmpty();
+    }
+
+    @Override
+    public String toString() {
+        return ringBuffer.toString();
+    }
+
+    @Override
+    public Object getReadMonitor() {
+        return ringBuffer.getReadMonitor();
+    }
+}
@@ -0,0 +1,179 @@
+package org.ringbuffer.object;
+
+import eu.menzani.lang.Assume;
+import eu.menzani.object.ObjectFactory;
+import org.ringbuffer.AbstractRingBufferBuilder;
+import org.ringbuffer.wait.BusyWaitStrategy;
+import org.ringbuffer.wait.HintBusyWaitStrategy;
+
+public final class StripedRingBufferBuilder<T> extends AbstractRingBufferBuilder<RingBuffer<T>> {
+    private final int capacity;
+    private boolean gcEnabled;
+    private int numLanes;
+    private ObjectFactory<? extends BusyWaitStrategy> writeBusyWaitStrategyFactory;
+    // All fields are copied in <init>(RingBufferBuilder<?>)
+
+    StripedRingBufferBuilder(RingBufferBuilder<?> builder) {
+        super(builder);
+        capacity = builder.capacity;
+        gcEnabled = builder.gcEnabled;
+    }
+
+    /**
+     * Each write goes to the lane picked by the ID of the writer thread, or to the next free one if another writer
+     * is using it, so elements from the same writer are taken in order only while it does not share its lane.
+     * Ownership of the lane is taken with a compare-and-set on every write.
+     * The capacity passed to {@link RingBuffer#withCapacity(int)} is the capacity of each lane.
+     */
+    public StripedRingBufferBuilder<T> lanes(int numLanes) {
+        Assume.notLesser(numLanes, 1);
+        this.numLanes = numLanes;
+        return this;
+    }
+
+    @Override
+    public StripedRingBufferBuilder<T> oneWriter() {
+        super.oneWriter0();
+        return this;
+    }
+
+    @Override
+    public StripedRingBufferBuilder<T> manyWriters() {
+        super.manyWriters0();
+        return this;
+    }
+
+    @Override
+    public StripedRingBufferBuilder<T> oneReader() {
+        super.oneReader0();
+        return this;
+    }
+
+    @Override
+    public StripedRingBufferBuilder<T> manyReaders() {
+        super.manyReaders0();
+        return this;
+    }
+
+    @Override
+    protected StripedRingBufferBuilder<T> blocking() {
+        throw new AssertionError();
+    }
+
+    @Override
+    protected StripedRingBufferBuilder<T> blocking(BusyWaitStrategy busyWaitStrategy) {
+        throw new AssertionError();
+    }
+
+    @Override
+    protected StripedRingBufferBuilder<T> lockfree() {
+        throw new AssertionError();
+    }
+
+    @Override
+    public StripedRingBufferBuilder<T> waitingWith(BusyWaitStrategy busyWaitStrategy) {
+        super.waitingWith0(busyWaitStrategy);
+        return this;
+    }
+
+    /**
+     * Lanes are written concurrently, so each one needs its own write busy-wait strategy.
+     * Must be called if a strategy other than the default was passed to {@link RingBufferBuilder#blocking(BusyWaitStrategy)}.
+     */
+    public StripedRingBufferBuilder<T> writingWith(ObjectFactory<? extends BusyWaitStrategy> writeBusyWaitStrategyFactory) {
+        Assume.notNull(writeBusyWaitStrategyFactory);
+        this.writeBusyWaitStrategyFactory = writeBusyWaitStrategyFactory;
+        return this;
+    }
+
+    @Override
+    public StripedRingBufferBuilder<T> copyClass() {
+        super.copyClass0();
+        return this;
+    }
+
+    public StripedRingBufferBuilder<T> withGC() {
+        gcEnabled = true;
+        return this;
+    }
+
+    @Override
+    protected void validate() {
+        super.validate();
+        if (numLanes == 0) {
+            throw new IllegalStateException("You must call lanes().");
+        }
+        if (type == RingBufferType.BLOCKING && writeBusyWaitStrategyFactory == null && numLanes > 1 &&
+                getWriteBusyWaitStrategy() != HintBusyWaitStrategy.DEFAULT_INSTANCE) {
+            throw new IllegalStateException("You must call writingWith().");
+        }
+    }
+
+    @Override
+    protected RingBuffer<T> create(RingBufferConcurrency concurrency, RingBufferType type) {
+        switch (concurrency) {
+            case VOLATILE:
+            case ATOMIC_READ:
+                throw new IllegalStateException("You must call manyWriters() before striped().");
+            case ATOMIC_WRITE:
+                if (copyClass) {
+                    return instantiateCopy(AtomicWriteStripedRingBuffer.class);
+                }
+                return new AtomicWriteStripedRingBuffer<>(this);
+            case CONCURRENT:
+                if (copyClass) {
+                    return instantiateCopy(ConcurrentStripedRingBuffer.class);
+                }
+                return new ConcurrentStripedRingBuffer<>(this);
+        }
+        throw new AssertionError();
+    }
+
+    // Lanes are built by RingBufferBuilder, and writingWith() gives each one its own write busy-wait strategy
+    @Override
+    protected boolean isReadSignalSupported() {
+        return true;
+    }
+
+    @Override
+    protected boolean isWriteSignalSupported() {
+        return true;
+    }
+
+    // Widens access to the package
+    @Override
+    protected BusyWaitStrategy getReadBusyWaitStrategy() {
+        return super.getReadBusyWaitStrategy();
+    }
+
+    private BusyWaitStrategy newWriteBusyWaitStrategy() {
+        if (writeBusyWaitStrategyFactory == null) {
+            return getWriteBusyWaitStrategy();
+        }
+        return writeBusyWaitStrategyFactory.newInstance();
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    RingBuffer<T>[] getLanes() {
+        RingBuffer<T>[] lanes = new RingBuffer[numLanes];
+        for (int i = 0; i < numLanes; i++) {
+            RingBufferBuilder<T> builder = new RingBufferBuilder<T>(capacity)
+                    .oneWriter()
+                    .oneReader()
+                    .waitingWith(getReadBusyWaitStrategy());
+            switch (type) {
+                case BLOCKING:
+                    builder.blocking(newWriteBusyWaitStrategy());
+                    break;
+                case DISCARDING:
+                    builder.discarding();
+                    break;
+            }
+            if (gcEnabled) {
+                builder.withGC();
+            }
+            lanes[i] = builder.build();
+        }
+        return lanes;
+    }
+}
@@ -0,0 +1,131 @@
+package org.ringbuffer.object;
+
+import eu.menzani.atomic.AtomicArray;
+import eu.menzani.atomic.AtomicLong;
+import eu.menzani.lang.Lang;
+import jdk.internal.vm.annotation.Contended;
+import org.ringbuffer.wait.BusyWaitStrategy;
+
+@Contended
+class UnboundedLockfreeAtomicWriteRingBuffer<T> implements UnboundedLockfreeRingBuffer<T> {
+    private static final long WRITE_SEQUENCE = Lang.objectFieldOffset(UnboundedLockfreeAtomicWriteRingBuffer.class, "writeSequence");
+    private final int capacity;
+    private final int capacityMinusOne;
+    private final int chunkShift;
+    private final BusyWaitStrategy readBusyWaitStrategy;
+
+    @Contended
+    private long writeSequence;
+    @Contended
+    private final UnboundedLockfreeChunk<T>[] writeChunk = UnboundedLockfreeChunk.newCell();
+    @Contended
+    private final UnboundedLockfreeChunk<T>[] spare = UnboundedLockfreeChunk.newCell();
+    @Contended("read")
+    private long readSequence;
+    @Contended("read")
+    private UnboundedLockfreeChunk<T> readChunk;
+
+    UnboundedLockfreeAtomicWriteRingBuffer(UnboundedLockfreeRingBufferBuilder<T> builder) {
+        capacity = builder.getCapacity();
+        capacityMinusOne = builder.getCapacityMinusOne();
+        chunkShift = Integer.numberOfTrailingZeros(capacity);
+        readBusyWaitStrategy = builder.getReadBusyWaitStrategy();
+        UnboundedLockfreeChunk<T> chunk = new UnboundedLockfreeChunk<>(capacity);
+        chunk.init(0L, null);
+        writeChunk[0] = chunk;
+        readChunk = chunk;
+    }
+
+    @Override
+    public int getCapacity() {
+        return capacity;
+    }
+
+    @Override
+    public void put(T element) {
+        long writeSequence = AtomicLong.getAndIncrementVolatile(this, WRITE_SEQUENCE);
+        AtomicArray.setRelease(getChunk(writeSequence).buffer, (int) writeSequence & capacityMinusOne, element);
+    }
+
+    @Override
+    public void putAll(T[] src, int offset, int length) {
+        long writeSequence = AtomicLong.getAndAddVolatile(this, WRITE_SEQUENCE, length);
+        UnboundedLockfreeChunk<T> chunk = null;
+        for (int end = offset + length; offset < end; offset++, writeSequence++) {
+            int writePosition = (int) writeSequence & capacityMinusOne;
+            if (chunk == null || writePosition == 0) {
+                chunk = getChunk(writeSequence);
+            }
+            AtomicArray.setRelease(chunk.buffer, writePosition, src[offset]);
+        }
+    }
+
+    /**
+     * The chunk of {@code writeSequence} cannot be drained, and so neither can the following ones:
+     * they can be reached from the last chunk, going back.
+     * The writer of the first element of a chunk links it, once the previous chunk has been linked.
+     */
+    private UnboundedLockfreeChunk<T> getChunk(long writeSequence) {
+        long index = writeSequence >>> chunkShift;
+        while (true) {
+            UnboundedLockfreeChunk<T> chunk = AtomicArray.getAcquire(writeChunk, 0);
+            long chunkIndex = chunk.getIndex();
+            if (chunkIndex >= index) {
+                for (; chunkIndex > index; chunkIndex--) {
+                    chunk = chunk.prev;
+                }
+                return chunk;
+            }
+            if (chunkIndex == index - 1L && ((int) writeSequence & capacityMinusOne) == 0) {
+                UnboundedLockfreeChunk<T> next = newChunk(index, chunk);
+                AtomicArray.setRelease(writeChunk, 0, next);
+                chunk.setNext(next);
+                return next;
+            }
+            Thread.onSpinWait();
+        }
+    }
+
+    @Override
+    public T take() {
+        return take(readBusyWaitStrategy);
+    }
+
+    @Override
+    public T take(BusyWaitStrategy busyWaitStrategy) {
+        long readSequence = this.readSequence;
+        int readPosition = (int) readSequence & capacityMinusOne;
+        UnboundedLockfreeChunk<T> chunk = readChunk;
+        busyWaitStrategy.reset();
+        if (readPosition == 0 && readSequence != 0L) {
+            UnboundedLockfreeChunk<T> next;
+            while ((next = chunk.getNext()) == null) {
+                busyWaitStrategy.tick();
+            }
+            next.prev = null;
+            if (AtomicArray.getAcquire(spare, 0) == null) {
+                AtomicArray.setRelease(spare, 0, chunk);
+            }
+            readChunk = chunk = next;
+        }
+        T[] buffer = chunk.buffer;
+        T element;
+        while ((element = AtomicArray.getAcquire(buffer, readPosition)) == null) {
+            busyWaitStrategy.tick();
+        }
+        AtomicArray.setPlain(buffer, readPosition, null);
+        this.readSequence = readSequence + 1L;
+        return element;
+    }
+
+    private UnboundedLockfreeChunk<T> newChunk(long index, UnboundedLockfreeChunk<T> prev) {
+        UnboundedLockfreeChunk<T> chunk = AtomicArray.getAcquire(spare, 0);
+        if (chunk == null) {
+            chunk = new UnboundedLockfreeChunk<>(capacity);
+        } else {
+            AtomicArray.setOpaque(spare, 0, null);
+        }
+        chunk.init(index, prev);
+        return chunk;
+    }
+}
@@ -0,0 +1,49 @@
+package org.ringbuffer.object;
+
+import eu.menzani.atomic.AtomicArray;
+import eu.menzani.atomic.AtomicLong;
+import eu.menzani.lang.Lang;
+import eu.menzani.struct.Arrays;
+
+class UnboundedLockfreeChunk<T> {
+    private static final long INDEX = Lang.objectFieldOffset(UnboundedLockfreeChunk.class, "index");
+
+    final T[] buffer;
+    UnboundedLockfreeChunk<T> prev;
+    private final UnboundedLockfreeChunk<T>[] next = newCell();
+    private long index;
+
+    UnboundedLockfreeChunk(int capacity) {
+        buffer = Arrays.allocateGeneric(capacity);
+    }
+
+    /**
+     * @return an array holding a single chunk, which can be accessed with {@link AtomicArray}
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    static <T> UnboundedLockfreeChunk<T>[] newCell() {
+        return new UnboundedLockfreeChunk[1];
+    }
+
+    /**
+     * The slots of a recycled chunk are all {@code null}, because the reader clears them.
+     * Writers that read {@link #getIndex()} see the other fields as they are set here.
+     */
+    void init(long index, UnboundedLockfreeChunk<T> prev) {
+        this.prev = prev;
+        AtomicArray.setOpaque(next, 0, null);
+        AtomicLong.setRelease(this, INDEX, index);
+    }
+
+    long getIndex() {
+        return AtomicLong.getAcquire(this, INDEX);
+    }
+
+    UnboundedLockfreeChunk<T> getNext() {
+        return AtomicArray.getAcquire(next, 0);
+    }
+
+    void setNext(UnboundedLockfreeChunk<T> next) {
+        AtomicArray.setRelease(this.next, 0, next);
+    }
+}
@@ -0,0 +1,13 @@
+package org.ringbuffer.object;
+
+/**
+ * Elements are stored in chunks of {@link #getCapacity()} slots, which are linked as writers outrun the reader,
+ * so the ring buffer never becomes full. A drained chunk is kept by the reader and reused by the next chunk needed.
+ */
+public interface UnboundedLockfreeRingBuffer<T> extends LockfreeRingBuffer<T> {
+    /**
+     * @return the capacity of each chunk
+     */
+    @Override
+    int getCapacity();
+}
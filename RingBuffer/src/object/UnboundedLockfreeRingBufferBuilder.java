@@ -0,0 +1,99 @@
+package org.ringbuffer.object;
+
+import org.ringbuffer.AbstractRingBufferBuilder;
+import org.ringbuffer.wait.BusyWaitStrategy;
+
+public final class UnboundedLockfreeRingBufferBuilder<T> extends AbstractRingBufferBuilder<UnboundedLockfreeRingBuffer<T>> {
+    private final int capacity;
+    // All fields are copied in <init>(LockfreeRingBufferBuilder<?>)
+
+    UnboundedLockfreeRingBufferBuilder(LockfreeRingBufferBuilder<?> builder) {
+        super(builder);
+        capacity = builder.capacity;
+    }
+
+    @Override
+    public UnboundedLockfreeRingBufferBuilder<T> oneWriter() {
+        super.oneWriter0();
+        return this;
+    }
+
+    @Override
+    public UnboundedLockfreeRingBufferBuilder<T> manyWriters() {
+        super.manyWriters0();
+        return this;
+    }
+
+    @Override
+    public UnboundedLockfreeRingBufferBuilder<T> oneReader() {
+        super.oneReader0();
+        return this;
+    }
+
+    @Override
+    public UnboundedLockfreeRingBufferBuilder<T> manyReaders() {
+        super.manyReaders0();
+        return this;
+    }
+
+    @Override
+    protected UnboundedLockfreeRingBufferBuilder<T> blocking() {
+        throw new AssertionError();
+    }
+
+    @Override
+    protected UnboundedLockfreeRingBufferBuilder<T> blocking(BusyWaitStrategy busyWaitStrategy) {
+        throw new AssertionError();
+    }
+
+    @Override
+    protected UnboundedLockfreeRingBufferBuilder<T> lockfree() {
+        throw new AssertionError();
+    }
+
+    @Override
+    public UnboundedLockfreeRingBufferBuilder<T> waitingWith(BusyWaitStrategy busyWaitStrategy) {
+        super.waitingWith0(busyWaitStrategy);
+        return this;
+    }
+
+    @Override
+    public UnboundedLockfreeRingBufferBuilder<T> copyClass() {
+        super.copyClass0();
+        return this;
+    }
+
+    @Override
+    protected UnboundedLockfreeRingBuffer<T> create(RingBufferConcurrency concurrency, RingBufferType type) {
+        switch (concurrency) {
+            case VOLATILE:
+                if (copyClass) {
+                    return instantiateCopy(UnboundedLockfreeVolatileRingBuffer.class);
+                }
+                return new UnboundedLockfreeVolatileRingBuffer<>(this);
+            case ATOMIC_WRITE:
+                if (copyClass) {
+                    return instantiateCopy(UnboundedLockfreeAtomicWriteRingBuffer.class);
+                }
+                return new UnboundedLockfreeAtomicWriteRingBuffer<>(this);
+            case ATOMIC_READ:
+            case CONCURRENT:
+                throw new IllegalStateException("Unbounded lock-free ring buffers support only one reader.");
+        }
+        throw new AssertionError();
+    }
+
+    // Widens access to the package
+    @Override
+    protected BusyWaitStrategy getReadBusyWaitStrategy() {
+        return super.getReadBusyWaitStrategy();
+    }
+
+    int getCapacity() {
+        return capacity;
+    }
+
+    int getCapacityMinusOne() {
+        return capacity - 1;
+    }
+}
@@ -0,0 +1,114 @@
+package org.ringbuffer.object;
+
+import eu.menzani.atomic.AtomicArray;
+import jdk.internal.vm.annotation.Contended;
+import org.ringbuffer.wait.BusyWaitStrategy;
+
+@Contended
+class UnboundedLockfreeVolatileRingBuffer<T> implements UnboundedLockfreeRingBuffer<T> {
+    private final int capacity;
+    private final int capacityMinusOne;
+    private final BusyWaitStrategy readBusyWaitStrategy;
+
+    @Contended("write")
+    private long writeSequence;
+    @Contended("write")
+    private UnboundedLockfreeChunk<T> writeChunk;
+    @Contended
+    private final UnboundedLockfreeChunk<T>[] spare = UnboundedLockfreeChunk.newCell();
+    @Contended("read")
+    private long readSequence;
+    @Contended("read")
+    private UnboundedLockfreeChunk<T> readChunk;
+
+    UnboundedLockfreeVolatileRingBuffer(UnboundedLockfreeRingBufferBuilder<T> builder) {
+        capacity = builder.getCapacity();
+        capacityMinusOne = builder.getCapacityMinusOne();
+        readBusyWaitStrategy = builder.getReadBusyWaitStrategy();
+        UnboundedLockfreeChunk<T> chunk = new UnboundedLockfreeChunk<>(capacity);
+        chunk.init(0L, null);
+        writeChunk = chunk;
+        readChunk = chunk;
+    }
+
+    @Override
+    public int getCapacity() {
+        return capacity;
+    }
+
+    @Override
+    public void put(T element) {
+        long writeSequence = this.writeSequence;
+        int writePosition = (int) writeSequence & capacityMinusOne;
+        UnboundedLockfreeChunk<T> chunk = writeChunk;
+        if (writePosition == 0 && writeSequence != 0L) {
+            chunk = nextChunk(chunk);
+        }
+        AtomicArray.setRelease(chunk.buffer, writePosition, element);
+        this.writeSequence = writeSequence + 1L;
+    }
+
+    @Override
+    public void putAll(T[] src, int offset, int length) {
+        long writeSequence = this.writeSequence;
+        UnboundedLockfreeChunk<T> chunk = writeChunk;
+        for (int end = offset + length; offset < end; offset++, writeSequence++) {
+            int writePosition = (int) writeSequence & capacityMinusOne;
+            if (writePosition == 0 && writeSequence != 0L) {
+                chunk = nextChunk(chunk);
+            }
+            AtomicArray.setRelease(chunk.buffer, writePosition, src[offset]);
+        }
+        this.writeSequence = writeSequence;
+    }
+
+    private UnboundedLockfreeChunk<T> nextChunk(UnboundedLockfreeChunk<T> chunk) {
+        UnboundedLockfreeChunk<T> next = newChunk(0L, null);
+        chunk.setNext(next);
+        writeChunk = next;
+        return next;
+    }
+
+    @Override
+    public T take() {
+        return take(readBusyWaitStrategy);
+    }
+
+    @Override
+    public T take(BusyWaitStrategy busyWaitStrategy) {
+        long readSequence = this.readSequence;
+        int readPosition = (int) readSequence & capacityMinusOne;
+        UnboundedLockfreeChunk<T> chunk = readChunk;
+        busyWaitStrategy.reset();
+        if (readPosition == 0 && readSequence != 0L) {
+            UnboundedLockfreeChunk<T> next;
+            while ((next = chunk.getNext()) == null) {
+                busyWaitStrategy.tick();
+            }
+            next.prev = null;
+            if (AtomicArray.getAcquire(spare, 0) == null) {
+                AtomicArray.setRelease(spare, 0, chunk);
+            }
+            readChunk = chunk = next;
+        }
+        T[] buffer = chunk.buffer;
+        T element;
+        while ((element = AtomicArray.getAcquire(buffer, readPosition)) == null) {
+            busyWaitStrategy.tick();
+        }
+        AtomicArray.setPlain(buffer, readPosition, null);
+        this.readSequence = readSequence + 1L;
+        return element;
+    }
+
+    private UnboundedLockfreeChunk<T> newChunk(long index, UnboundedLockfreeChunk<T> prev) {
+        UnboundedLockfreeChunk<T> chunk = AtomicArray.getAcquire(spare, 0);
+        if (chunk == null) {
+            chunk = new UnboundedLockfreeChunk<>(capacity);
+        } else {
+            AtomicArray.setOpaque(spare, 0, null);
+        }
+        chunk.init(index, prev);
+        return chunk;
+    }
+}
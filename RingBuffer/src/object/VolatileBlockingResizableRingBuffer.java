@@ -0,0 +1,411 @@
+package org.ringbuffer.object;
+
+import eu.menzani.atomic.AtomicArray;
+import eu.menzani.lang.Numbers;
+import jdk.internal.vm.annotation.Contended;
+import org.ringbuffer.ResizePolicy;
+import org.ringbuffer.wait.BusyWaitStrategy;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+@Contended
+class VolatileBlockingResizableRingBuffer<T> implements ResizableRingBuffer<T> {
+    private static final int SHRINK_WRAP_AROUNDS = 8;
+
+    private final BusyWaitStrategy writeBusyWaitStrategy;
+    private final BusyWaitStrategy readBusyWaitStrategy;
+    private final ResizePolicy resizePolicy;
+
+    @Contended("write")
+    private ResizableSegment<T> writeSegment;
+    @Contended("write")
+    private long cachedReadSequence;
+    @Contended("write")
+    private int shrinkWrapArounds;
+    @Contended("read")
+    private ResizableSegment<T> readSegment;
+    @Contended("read")
+    private long cachedWriteSequence;
+
+    VolatileBlockingResizableRingBuffer(ResizableRingBufferBuilder<T> builder) {
+        writeBusyWaitStrategy = builder.getWriteBusyWaitStrategy();
+        readBusyWaitStrategy = builder.getReadBusyWaitStrategy();
+        resizePolicy = builder.getResizePolicy();
+        ResizableSegment<T> segment = new ResizableSegment<>(builder.getCapacity());
+        writeSegment = segment;
+        readSegment = segment;
+    }
+
+    @Override
+    public int getCapacity() {
+        return writeSegment.capacity;
+    }
+
+    @Override
+    public void resize(int capacity) {
+        if (!Numbers.isPowerOfTwo(capacity)) {
+            throw new IllegalArgumentException("capacity must be a power of 2.");
+        }
+        ResizableSegment<T> segment = new ResizableSegment<>(capacity);
+        writeSegment.setNext(segment);
+        writeSegment = segment;
+        cachedReadSequence = 0L;
+    }
+
+    @Override
+    public void put(T element) {
+        ResizableSegment<T> segment = writeSegment;
+        long writeSequence = segment.writeSequence;
+        if (isFullCached(segment, writeSequence, 1)) {
+            segment = makeRoom(segment, 1);
+            writeSequence = segment.writeSequence;
+        }
+        write(segment, writeSequence, element);
+    }
+
+    @Override
+    public boolean put(T element, long timeout, TimeUnit unit) {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        ResizableSegment<T> segment = writeSegment;
+        long writeSequence = segment.writeSequence;
+        if (isFullCached(segment, writeSequence, 1)) {
+            segment = grow(segment, 1);
+            writeSequence = segment.writeSequence;
+            var writeBusyWaitStrategy = this.writeBusyWaitStrategy;
+            writeBusyWaitStrategy.reset();
+            while (isFullCached(segment, writeSequence, 1)) {
+                if (System.nanoTime() - deadline >= 0L) {
+                    return false;
+                }
+                writeBusyWaitStrategy.tick(deadline);
+            }
+        }
+        write(segment, writeSequence, element);
+        return true;
+    }
+
+    @Override
+    public boolean offer(T element) {
+        ResizableSegment<T> segment = writeSegment;
+        long writeSequence = segment.writeSequence;
+        if (isFullCached(segment, writeSequence, 1)) {
+            segment = grow(segment, 1);
+            writeSequence = segment.writeSequence;
+            if (isFullCached(segment, writeSequence, 1)) {
+                return false;
+            }
+        }
+        write(segment, writeSequence, element);
+        return true;
+    }
+
+    private void write(ResizableSegment<T> segment, long writeSequence, T element) {
+        int writePosition = (int) writeSequence & segment.capacityMinusOne;
+        AtomicArray.setPlain(segment.buffer, writePosition, element);
+        segment.setWriteSequence(writeSequence + 1L);
+        if (writePosition == segment.capacityMinusOne) {
+            afterWrapAround(segment, writeSequence + 1L);
+        }
+    }
+
+    @Override
+    public void putAll(T[] src, int offset, int length) {
+        ResizableSegment<T> segment = writeSegment;
+        long writeSequence = segment.writeSequence;
+        if (isFullCached(segment, writeSequence, length)) {
+            segment = makeRoom(segment, length);
+            writeSequence = segment.writeSequence;
+        }
+        T[] buffer = segment.buffer;
+        int capacityMinusOne = segment.capacityMinusOne;
+        boolean wrappedAround = false;
+        for (int end = offset + length; offset < end; offset++) {
+            int writePosition = (int) writeSequence++ & capacityMinusOne;
+            AtomicArray.setPlain(buffer, writePosition, src[offset]);
+            if (writePosition == capacityMinusOne) {
+                wrappedAround = true;
+            }
+        }
+        segment.setWriteSequence(writeSequence);
+        if (wrappedAround) {
+            afterWrapAround(segment, writeSequence);
+        }
+    }
+
+    private boolean isFullCached(ResizableSegment<T> segment, long writeSequence, int size) {
+        if (writeSequence + size - cachedReadSequence > segment.capacity) {
+            cachedReadSequence = segment.getReadSequence();
+            return writeSequence + size - cachedReadSequence > segment.capacity;
+        }
+        return false;
+    }
+
+    private ResizableSegment<T> makeRoom(ResizableSegment<T> segment, int size) {
+        segment = grow(segment, size);
+        long writeSequence = segment.writeSequence;
+        var writeBusyWaitStrategy = this.writeBusyWaitStrategy;
+        writeBusyWaitStrategy.reset();
+        while (isFullCached(segment, writeSequence, size)) {
+            writeBusyWaitStrategy.tick();
+        }
+        return segment;
+    }
+
+    /**
+     * Called when the ring buffer is full.
+     */
+    private ResizableSegment<T> grow(ResizableSegment<T> segment, int size) {
+        if (size > segment.capacity) {
+            // The elements would never fit, whatever the resize policy
+            resize(Numbers.getNextPowerOfTwo(size));
+            return writeSegment;
+        }
+        long newCapacity = resizePolicy.getNewCapacity(segment.capacity, segment.writeSequence - cachedReadSequence);
+        if (newCapacity > segment.capacity && newCapacity >= size) {
+            resize((int) newCapacity);
+            return writeSegment;
+        }
+        return segment;
+    }
+
+    /**
+     * Shrinks only after the resize policy has asked for it on {@value #SHRINK_WRAP_AROUNDS} wrap-arounds in a row,
+     * so that a fluctuating load does not allocate a new buffer on every lap.
+     */
+    private void afterWrapAround(ResizableSegment<T> segment, long writeSequence) {
+        long newCapacity = resizePolicy.getNewCapacity(segment.capacity, writeSequence - segment.getReadSequence());
+        if (newCapacity < segment.capacity) {
+            if (++shrinkWrapArounds != SHRINK_WRAP_AROUNDS) {
+                return;
+            }
+        } else if (newCapacity == segment.capacity) {
+            shrinkWrapArounds = 0;
+            return;
+        }
+        shrinkWrapArounds = 0;
+        resize((int) newCapacity);
+    }
+
+    @Override
+    public T take() {
+        ResizableSegment<T> segment;
+        var readBusyWaitStrategy = this.readBusyWaitStrategy;
+        readBusyWaitStrategy.reset();
+        while ((segment = getReadableSegment()) == null) {
+            readBusyWaitStrategy.tick();
+        }
+        return read(segment);
+    }
+
+    @Override
+    public T take(long timeout, TimeUnit unit) {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        ResizableSegment<T> segment;
+        var readBusyWaitStrategy = this.readBusyWaitStrategy;
+        readBusyWaitStrategy.reset();
+        while ((segment = getReadableSegment()) == null) {
+            if (System.nanoTime() - deadline >= 0L) {
+                return null;
+            }
+            readBusyWaitStrategy.tick(deadline);
+        }
+        return read(segment);
+    }
+
+    @Override
+    public T poll() {
+        ResizableSegment<T> segment = getReadableSegment();
+        if (segment == null) {
+            return null;
+        }
+        return read(segment);
+    }
+
+    /**
+     * Moves to the next segment once the current one has been emptied and replaced.
+     *
+     * @return {@code null} if the ring buffer is empty
+     */
+    private ResizableSegment<T> getReadableSegment() {
+        ResizableSegment<T> segment = readSegment;
+        while (true) {
+            long readSequence = segment.readSequence;
+            if (cachedWriteSequence != readSequence) {
+                return segment;
+            }
+            cachedWriteSequence = segment.getWriteSequence();
+            if (cachedWriteSequence != readSequence) {
+                return segment;
+            }
+            ResizableSegment<T> next = segment.getNext();
+            if (next == null) {
+                return null;
+            }
+            cachedWriteSequence = segment.getWriteSequence();
+            if (cachedWriteSequence != readSequence) {
+                return segment;
+            }
+            readSegment = segment = next;
+            cachedWriteSequence = 0L;
+        }
+    }
+
+    private T read(ResizableSegment<T> segment) {
+        long readSequence = segment.readSequence;
+        T element = AtomicArray.getPlain(segment.buffer, (int) readSequence & segment.capacityMinusOne);
+        segment.setReadSequence(readSequence + 1L);
+        return element;
+    }
+
+    @Override
+    public void takeBatch(int size) {
+        var readBusyWaitStrategy = this.readBusyWaitStrategy;
+        readBusyWaitStrategy.reset();
+        while (size() < size) {
+            readBusyWaitStrategy.tick();
+        }
+    }
+
+    @Override
+    public T takePlain() {
+        return read(getReadableSegment());
+    }
+
+    /**
+     * Only elements of the buffer the reader is taking elements from are drained.
+     */
+    @Override
+    public int drain(Consumer<T> handler, int maxElements) {
+        ResizableSegment<T> segment;
+        var readBusyWaitStrategy = this.readBusyWaitStrategy;
+        readBusyWaitStrategy.reset();
+        while ((segment = getReadableSegment()) == null) {
+            readBusyWaitStrategy.tick();
+        }
+        long readSequence = segment.readSequence;
+        int size = (int) (cachedWriteSequence - readSequence);
+        if (size > maxElements) {
+            size = maxElements;
+        }
+        T[] buffer = segment.buffer;
+        int capacityMinusOne = segment.capacityMinusOne;
+        for (int i = size; i > 0; i--) {
+            handler.accept(AtomicArray.getPlain(buffer, (int) readSequence++ & capacityMinusOne));
+        }
+        segment.setReadSequence(readSequence);
+        return size;
+    }
+
+    /**
+     * Only elements of the buffer the reader is taking elements from are taken.
+     */
+    @Override
+    public int takeAvailable(T[] dst) {
+        ResizableSegment<T> segment;
+        var readBusyWaitStrategy = this.readBusyWaitStrategy;
+        readBusyWaitStrategy.reset();
+        while ((segment = getReadableSegment()) == null) {
+            readBusyWaitStrategy.tick();
+        }
+        long readSequence = segment.readSequence;
+        int size = (int) (cachedWriteSequence - readSequence);
+        if (size > dst.length) {
+            size = dst.length;
+        }
+        T[] buffer = segment.buffer;
+        int capacityMinusOne = segment.capacityMinusOne;
+        for (int i = 0; i < size; i++) {
+            dst[i] = AtomicArray.getPlain(buffer, (int) readSequence++ & capacityMinusOne);
+        }
+        segment.setReadSequence(readSequence);
+        return size;
+    }
+
+    /**
+     * Skips to the newest buffer that has elements, discarding the ones before it.
+     */
+    @Override
+    public T takeLast() {
+        ResizableSegment<T> segment;
+        var readBusyWaitStrategy = this.readBusyWaitStrategy;
+        readBusyWaitStrategy.reset();
+        while ((segment = getReadableSegment()) == null) {
+            readBusyWaitStrategy.tick();
+        }
+        ResizableSegment<T> next;
+        while ((next = segment.getNext()) != null && next.getWriteSequence() != 0L) {
+            // The writer does not write to a segment after replacing it
+            segment.setReadSequence(segment.getWriteSequence());
+            segment = next;
+        }
+        readSegment = segment;
+        long writeSequence = segment.getWriteSequence();
+        cachedWriteSequence = writeSequence;
+        T element = AtomicArray.getPlain(segment.buffer, (int) (writeSequence - 1L) & segment.capacityMinusOne);
+        segment.setReadSequence(writeSequence);
+        return element;
+    }
+
+    @Override
+    public void forEach(Consumer<T> action) {
+        for (ResizableSegment<T> segment = readSegment; segment != null; segment = segment.getNext()) {
+            int capacityMinusOne = segment.capacityMinusOne;
+            for (long i = segment.getReadSequence(), end = segment.getWriteSequence(); i < end; i++) {
+                action.accept(AtomicArray.getPlain(segment.buffer, (int) i & capacityMinusOne));
+            }
+        }
+    }
+
+    @Override
+    public boolean contains(T element) {
+        for (ResizableSegment<T> segment = readSegment; segment != null; segment = segment.getNext()) {
+            int capacityMinusOne = segment.capacityMinusOne;
+            for (long i = segment.getReadSequence(), end = segment.getWriteSequence(); i < end; i++) {
+                if (AtomicArray.getPlain(segment.buffer, (int) i & capacityMinusOne).equals(element)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public int size() {
+        long size = 0L;
+        for (ResizableSegment<T> segment = readSegment; segment != null; segment = segment.getNext()) {
+            size += segment.getWriteSequence() - segment.getReadSequence();
+        }
+        return (int) size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    @Override
+    public boolean isNotEmpty() {
+        return size() != 0;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder();
+        builder.append('[');
+        forEach(element -> {
+            builder.append(element.toString());
+            builder.append(", ");
+        });
+        if (builder.length() > 1) {
+            builder.setLength(builder.length() - 2);
+        }
+        builder.append(']');
+        return builder.toString();
+    }
+
+    @Override
+    public Object getReadMonitor() {
+        return null;
+    }
+}
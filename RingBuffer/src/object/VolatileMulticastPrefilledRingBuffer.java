@@ -0,0 +1,128 @@
+package org.ringbuffer.object;
+
+import eu.menzani.atomic.AtomicArray;
+import eu.menzani.atomic.AtomicLong;
+import eu.menzani.lang.Lang;
+import jdk.internal.vm.annotation.Contended;
+import org.ringbuffer.wait.BusyWaitStrategy;
+
+@Contended
+class VolatileMulticastPrefilledRingBuffer<T> implements MulticastPrefilledRingBuffer<T> {
+    private static final long WRITE_SEQUENCE = Lang.objectFieldOffset(VolatileMulticastPrefilledRingBuffer.class, "writeSequence");
+
+    private final int capacity;
+    private final int capacityMinusOne;
+    private final T[] buffer;
+    private final BusyWaitStrategy writeBusyWaitStrategy;
+    private final VolatileMulticastReader<T>[] readers;
+    private final VolatileMulticastReader<T>[] gatingReaders;
+
+    @Contended("write")
+    private long writeSequence;
+    @Contended("write")
+    private long cachedGatingSequence;
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    VolatileMulticastPrefilledRingBuffer(MulticastPrefilledRingBufferBuilder<T> builder) {
+        capacity = builder.getCapacity();
+        capacityMinusOne = builder.getCapacityMinusOne();
+        buffer = builder.getBuffer();
+        writeBusyWaitStrategy = builder.getWriteBusyWaitStrategy();
+        int numReaders = builder.getNumReaders();
+        readers = new VolatileMulticastReader[numReaders];
+        boolean[] isDependency = new boolean[numReaders];
+        int numGatingReaders = numReaders;
+        for (int i = 0; i < numReaders; i++) {
+            int[] dependencyIndexes = builder.getDependencies(i);
+            VolatileMulticastReader<T>[] dependencies = new VolatileMulticastReader[dependencyIndexes.length];
+            for (int j = 0; j < dependencies.length; j++) {
+                int dependency = dependencyIndexes[j];
+                dependencies[j] = readers[dependency];
+                if (!isDependency[dependency]) {
+                    isDependency[dependency] = true;
+                    numGatingReaders--;
+                }
+            }
+            readers[i] = new VolatileMulticastReader<>(this, buffer, builder.getReadBusyWaitStrategy(), dependencies);
+        }
+        // Readers which others depend on release elements before them, so the writer does not need to wait for them
+        gatingReaders = new VolatileMulticastReader[numGatingReaders];
+        for (int i = 0, j = 0; i < numReaders; i++) {
+            if (!isDependency[i]) {
+                gatingReaders[j++] = readers[i];
+            }
+        }
+    }
+
+    @Override
+    public int getCapacity() {
+        return capacity;
+    }
+
+    @Override
+    public long nextSequence() {
+        long sequence = writeSequence;
+        var writeBusyWaitStrategy = this.writeBusyWaitStrategy;
+        writeBusyWaitStrategy.reset();
+        while (isFullCached(sequence)) {
+            writeBusyWaitStrategy.tick();
+        }
+        return sequence;
+    }
+
+    @Override
+    public long tryNextSequence() {
+        long sequence = writeSequence;
+        if (isFullCached(sequence)) {
+            return -1L;
+        }
+        return sequence;
+    }
+
+    private boolean isFullCached(long sequence) {
+        if (sequence - cachedGatingSequence >= capacity) {
+            cachedGatingSequence = getGatingSequence();
+            return sequence - cachedGatingSequence >= capacity;
+        }
+        return false;
+    }
+
+    private long getGatingSequence() {
+        long minimum = Long.MAX_VALUE;
+        for (VolatileMulticastReader<T> reader : gatingReaders) {
+            long sequence = reader.getReleasedSequence();
+            if (sequence < minimum) {
+                minimum = sequence;
+            }
+        }
+        return minimum;
+    }
+
+    @Override
+    public T next(long sequence) {
+        return AtomicArray.getPlain(buffer, (int) sequence & capacityMinusOne);
+    }
+
+    @Override
+    public void put(long sequence) {
+        AtomicLong.setRelease(this, WRITE_SEQUENCE, sequence + 1L);
+    }
+
+    long getWriteSequence() {
+        return AtomicLong.getAcquire(this, WRITE_SEQUENCE);
+    }
+
+    int getCapacityMinusOne() {
+        return capacityMinusOne;
+    }
+
+    @Override
+    public MulticastReader<T> getReader(int index) {
+        return readers[index];
+    }
+
+    @Override
+    public int getNumReaders() {
+        return readers.length;
+    }
+}
@@ -0,0 +1,114 @@
+package org.ringbuffer.object;
+
+import eu.menzani.atomic.AtomicArray;
+import eu.menzani.atomic.AtomicLong;
+import eu.menzani.lang.Lang;
+import jdk.internal.vm.annotation.Contended;
+import org.ringbuffer.wait.BusyWaitStrategy;
+
+import java.util.function.Consumer;
+
+@Contended
+class VolatileMulticastReader<T> implements MulticastReader<T> {
+    private static final long RELEASED_SEQUENCE = Lang.objectFieldOffset(VolatileMulticastReader.class, "releasedSequence");
+
+    private final VolatileMulticastPrefilledRingBuffer<T> ringBuffer;
+    private final int capacityMinusOne;
+    private final T[] buffer;
+    private final BusyWaitStrategy readBusyWaitStrategy;
+    private final VolatileMulticastReader<T>[] dependencies;
+
+    private long sequence;
+    private long releasedSequence;
+    private long cachedAvailableSequence;
+
+    VolatileMulticastReader(VolatileMulticastPrefilledRingBuffer<T> ringBuffer, T[] buffer, BusyWaitStrategy readBusyWaitStrategy, VolatileMulticastReader<T>[] dependencies) {
+        this.ringBuffer = ringBuffer;
+        capacityMinusOne = ringBuffer.getCapacityMinusOne();
+        this.buffer = buffer;
+        this.readBusyWaitStrategy = readBusyWaitStrategy;
+        this.dependencies = dependencies;
+    }
+
+    @Override
+    public T take() {
+        return take(readBusyWaitStrategy);
+    }
+
+    @Override
+    public T take(BusyWaitStrategy busyWaitStrategy) {
+        long sequence = this.sequence;
+        AtomicLong.setRelease(this, RELEASED_SEQUENCE, sequence);
+        busyWaitStrategy.reset();
+        while (isEmptyCached(sequence)) {
+            busyWaitStrategy.tick();
+        }
+        this.sequence = sequence + 1L;
+        return AtomicArray.getPlain(buffer, (int) sequence & capacityMinusOne);
+    }
+
+    @Override
+    public T poll() {
+        long sequence = this.sequence;
+        AtomicLong.setRelease(this, RELEASED_SEQUENCE, sequence);
+        if (isEmptyCached(sequence)) {
+            return null;
+        }
+        this.sequence = sequence + 1L;
+        return AtomicArray.getPlain(buffer, (int) sequence & capacityMinusOne);
+    }
+
+    private boolean isEmptyCached(long sequence) {
+        if (cachedAvailableSequence == sequence) {
+            cachedAvailableSequence = getAvailableSequence();
+            return cachedAvailableSequence == sequence;
+        }
+        return false;
+    }
+
+    private long getAvailableSequence() {
+        long availableSequence = ringBuffer.getWriteSequence();
+        for (VolatileMulticastReader<T> dependency : dependencies) {
+            long sequence = dependency.getReleasedSequence();
+            if (sequence < availableSequence) {
+                availableSequence = sequence;
+            }
+        }
+        return availableSequence;
+    }
+
+    @Override
+    public void release() {
+        AtomicLong.setRelease(this, RELEASED_SEQUENCE, sequence);
+    }
+
+    @Override
+    public int drain(Consumer<T> handler, int maxElements) {
+        long sequence = this.sequence;
+        AtomicLong.setRelease(this, RELEASED_SEQUENCE, sequence);
+        var readBusyWaitStrategy = this.readBusyWaitStrategy;
+        readBusyWaitStrategy.reset();
+        while (isEmptyCached(sequence)) {
+            readBusyWaitStrategy.tick();
+        }
+        long size = cachedAvailableSequence - sequence;
+        if (size > maxElements) {
+            size = maxElements;
+        }
+        for (long end = sequence + size; sequence != end; sequence++) {
+            handler.accept(AtomicArray.getPlain(buffer, (int) sequence & capacityMinusOne));
+        }
+        this.sequence = sequence;
+        AtomicLong.setRelease(this, RELEASED_SEQUENCE, sequence);
+        return (int) size;
+    }
+
+    @Override
+    public long getSequence() {
+        return sequence;
+    }
+
+    long getReleasedSequence() {
+        return AtomicLong.getAcquire(this, RELEASED_SEQUENCE);
+    }
+}
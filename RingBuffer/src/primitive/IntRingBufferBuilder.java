@@ -0,0 +1,164 @@
+package org.ringbuffer.primitive;
+
+import org.ringbuffer.wait.BusyWaitStrategy;
+import org.ringbuffer.wait.HintBusyWaitStrategy;
+
+public final class IntRingBufferBuilder extends PrimitiveRingBufferBuilder<IntRingBuffer> {
+    IntRingBufferBuilder(int capacity) {
+        super(capacity);
+    }
+
+    @Override
+    public IntRingBufferBuilder oneWriter() {
+        super.oneWriter0();
+        return this;
+    }
+
+    @Override
+    public IntRingBufferBuilder manyWriters() {
+        super.manyWriters0();
+        return this;
+    }
+
+    @Override
+    public IntRingBufferBuilder oneReader() {
+        super.oneReader0();
+        return this;
+    }
+
+    @Override
+    public IntRingBufferBuilder manyReaders() {
+        super.manyReaders0();
+        return this;
+    }
+
+    @Override
+    public IntRingBufferBuilder blocking() {
+        super.blocking0();
+        return this;
+    }
+
+    @Override
+    public IntRingBufferBuilder blocking(BusyWaitStrategy busyWaitStrategy) {
+        super.blocking0(busyWaitStrategy);
+        return this;
+    }
+
+    @Override
+    public IntRingBufferBuilder discarding() {
+        super.discarding0();
+        return this;
+    }
+
+    /**
+     * Each slot carries a sequence, so that writers and readers claim it with a compare-and-set.
+     * When full, {@code put()} waits using {@link HintBusyWaitStrategy} and {@code offer()} returns {@code false}.
+     */
+    @Override
+    public LockfreeIntRingBufferBuilder lockfree() {
+        return lockfree(HintBusyWaitStrategy.getDefault());
+    }
+
+    /**
+     * Same as {@link #lockfree()}, but when full {@code put()} waits using {@code busyWaitStrategy}.
+     */
+    public LockfreeIntRingBufferBuilder lockfree(BusyWaitStrategy busyWaitStrategy) {
+        super.lockfree0(busyWaitStrategy);
+        return new LockfreeIntRingBufferBuilder(this);
+    }
+
+    @Override
+    public IntRingBufferBuilder waitingWith(BusyWaitStrategy busyWaitStrategy) {
+        super.waitingWith0(busyWaitStrategy);
+        return this;
+    }
+
+    @Override
+    public IntRingBufferBuilder copyClass() {
+        super.copyClass0();
+        return this;
+    }
+
+    @Override
+    protected IntRingBuffer create(RingBufferConcurrency concurrency, RingBufferType type) {
+        switch (concurrency) {
+            case VOLATILE:
+                switch (type) {
+                    case CLEARING:
+                        if (copyClass) {
+                            return instantiateCopy(VolatileIntRingBuffer.class);
+                        }
+                        return new VolatileIntRingBuffer(this);
+                    case BLOCKING:
+                        if (copyClass) {
+                            return instantiateCopy(VolatileBlockingIntRingBuffer.class);
+                        }
+                        return new VolatileBlockingIntRingBuffer(this);
+                    case DISCARDING:
+                        if (copyClass) {
+                            return instantiateCopy(VolatileDiscardingIntRingBuffer.class);
+                        }
+                        return new VolatileDiscardingIntRingBuffer(this);
+                }
+            case ATOMIC_READ:
+                switch (type) {
+                    case CLEARING:
+                        if (copyClass) {
+                            return instantiateCopy(AtomicReadIntRingBuffer.class);
+                        }
+                        return new AtomicReadIntRingBuffer(this);
+                    case BLOCKING:
+                        if (copyClass) {
+                            return instantiateCopy(AtomicReadBlockingIntRingBuffer.class);
+                        }
+                        return new AtomicReadBlockingIntRingBuffer(this);
+                    case DISCARDING:
+                        if (copyClass) {
+                            return instantiateCopy(AtomicReadDiscardingIntRingBuffer.class);
+                        }
+                        return new AtomicReadDiscardingIntRingBuffer(this);
+                }
+            case ATOMIC_WRITE:
+                switch (type) {
+                    case CLEARING:
+                        if (copyClass) {
+                            return instantiateCopy(AtomicWriteIntRingBuffer.class);
+                        }
+                        return new AtomicWriteIntRingBuffer(this);
+                    case BLOCKING:
+                        if (copyClass) {
+                            return instantiateCopy(AtomicWriteBlockingIntRingBuffer.class);
+                        }
+                        return new AtomicWriteBlockingIntRingBuffer(this);
+                    case DISCARDING:
+                        if (copyClass) {
+                            return instantiateCopy(AtomicWriteDiscardingIntRingBuffer.class);
+                        }
+                        return new AtomicWriteDiscardingIntRingBuffer(this);
+                }
+            case CONCURRENT:
+                switch (type) {
+                    case CLEARING:
+                        if (copyClass) {
+                            return instantiateCopy(ConcurrentIntRingBuffer.class);
+                        }
+                        return new ConcurrentIntRingBuffer(this);
+                    case BLOCKING:
+                        if (copyClass) {
+                            return instantiateCopy(ConcurrentBlockingIntRingBuffer.class);
+                        }
+                        return new ConcurrentBlockingIntRingBuffer(this);
+                    case DISCARDING:
+                        if (copyClass) {
+                            return instantiateCopy(ConcurrentDiscardingIntRingBuffer.class);
+                        }
+                        return new ConcurrentDiscardingIntRingBuffer(this);
+                }
+        }
+        throw new AssertionError();
+    }
+
+    int[] getBuffer() {
+        return new int[capacity];
+    }
+}
@@ -0,0 +1,111 @@
+package org.ringbuffer.primitive;
+
+import eu.menzani.atomic.AtomicInt;
+import eu.menzani.atomic.AtomicIntArray;
+import eu.menzani.lang.Lang;
+import jdk.internal.vm.annotation.Contended;
+import org.ringbuffer.wait.BusyWaitStrategy;
+import org.ringbuffer.wait.HintBusyWaitStrategy;
+
+@Contended
+class LockfreeAtomicReadIntRingBuffer implements LockfreeIntRingBuffer {
+    private static final long READ_POSITION;
+
+    static {
+        final Class<?> clazz = LockfreeAtomicReadIntRingBuffer.class;
+        READ_POSITION = Lang.objectFieldOffset(clazz, "readPosition");
+    }
+
+    private final int capacity;
+    private final int capacityMinusOne;
+    private final int[] buffer;
+    private final int[] sequences;
+    private final BusyWaitStrategy writeBusyWaitStrategy;
+
+    @Contended
+    private int readPosition;
+    @Contended
+    private int writePosition;
+
+    LockfreeAtomicReadIntRingBuffer(LockfreeIntRingBufferBuilder builder) {
+        capacityMinusOne = builder.getCapacityMinusOne();
+        capacity = capacityMinusOne + 1;
+        buffer = builder.getBuffer();
+        sequences = builder.getSequences();
+        writeBusyWaitStrategy = builder.getWriteBusyWaitStrategy();
+    }
+
+    @Override
+    public int getCapacity() {
+        return capacity;
+    }
+
+    @Override
+    public void put(int element) {
+        int writePosition = this.writePosition;
+        int index = writePosition & capacityMinusOne;
+        var writeBusyWaitStrategy = this.writeBusyWaitStrategy;
+        writeBusyWaitStrategy.reset();
+        while (AtomicIntArray.getAcquire(sequences, index) != writePosition) {
+            writeBusyWaitStrategy.tick();
+        }
+        this.writePosition = writePosition + 1;
+        buffer[index] = element;
+        AtomicIntArray.setRelease(sequences, index, writePosition + 1);
+    }
+
+    @Override
+    public boolean offer(int element) {
+        int writePosition = this.writePosition;
+        int index = writePosition & capacityMinusOne;
+        if (AtomicIntArray.getAcquire(sequences, index) != writePosition) {
+            return false;
+        }
+        this.writePosition = writePosition + 1;
+        buffer[index] = element;
+        AtomicIntArray.setRelease(sequences, index, writePosition + 1);
+        return true;
+    }
+
+    @Override
+    public void putAll(int[] src, int offset, int length) {
+        int writePosition = this.writePosition;
+        this.writePosition = writePosition + length;
+        var writeBusyWaitStrategy = this.writeBusyWaitStrategy;
+        writeBusyWaitStrategy.reset();
+        for (int end = offset + length; offset < end; offset++, writePosition++) {
+            int index = writePosition & capacityMinusOne;
+            while (AtomicIntArray.getAcquire(sequences, index) != writePosition) {
+                writeBusyWaitStrategy.tick();
+            }
+            buffer[index] = src[offset];
+            AtomicIntArray.setRelease(sequences, index, writePosition + 1);
+        }
+    }
+
+    @Override
+    public int takeInt() {
+        return takeInt(HintBusyWaitStrategy.DEFAULT_INSTANCE);
+    }
+
+    @Override
+    public int takeInt(BusyWaitStrategy busyWaitStrategy) {
+        busyWaitStrategy.reset();
+        int readPosition = AtomicInt.getOpaque(this, READ_POSITION);
+        while (true) {
+            int index = readPosition & capacityMinusOne;
+            int difference = AtomicIntArray.getAcquire(sequences, index) - (readPosition + 1);
+            if (difference == 0) {
+                if (AtomicInt.compareAndSetVolatile(this, READ_POSITION, readPosition, readPosition + 1)) {
+                    int element = buffer[index];
+                    AtomicIntArray.setRelease(sequences, index, readPosition + capacity);
+                    return element;
+                }
+            } else if (difference < 0) {
+                busyWaitStrategy.tick();
+            }
+            readPosition = AtomicInt.getOpaque(this, READ_POSITION);
+        }
+    }
+
+}
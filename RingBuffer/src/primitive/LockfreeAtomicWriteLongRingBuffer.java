@@ -0,0 +1,137 @@
+package org.ringbuffer.primitive;
+
+import eu.menzani.atomic.AtomicInt;
+import eu.menzani.atomic.AtomicIntArray;
+import eu.menzani.lang.Assume;
+import eu.menzani.lang.Lang;
+import jdk.internal.vm.annotation.Contended;
+import org.ringbuffer.wait.BusyWaitStrategy;
+
+@Contended
+class LockfreeAtomicWriteLongRingBuffer implements LockfreeLongRingBuffer {
+    private static final long WRITE_POSITION;
+
+    static {
+        final Class<?> clazz = LockfreeAtomicWriteLongRingBuffer.class;
+        WRITE_POSITION = Lang.objectFieldOffset(clazz, "writePosition");
+    }
+
+    private final int capacity;
+    private final int capacityMinusOne;
+    private final long[] buffer;
+    private final int[] sequences;
+    private final BusyWaitStrategy writeBusyWaitStrategy;
+    private final BusyWaitStrategy readBusyWaitStrategy;
+
+    @Contended
+    private int readPosition;
+    @Contended
+    private int writePosition;
+
+    LockfreeAtomicWriteLongRingBuffer(LockfreeLongRingBufferBuilder builder) {
+        capacityMinusOne = builder.getCapacityMinusOne();
+        capacity = capacityMinusOne + 1;
+        buffer = builder.getBuffer();
+        sequences = builder.getSequences();
+        writeBusyWaitStrategy = builder.getWriteBusyWaitStrategy();
+        readBusyWaitStrategy = builder.getReadBusyWaitStrategy();
+    }
+
+    @Override
+    public int getCapacity() {
+        return capacity;
+    }
+
+    @Override
+    public void put(long element) {
+        var writeBusyWaitStrategy = this.writeBusyWaitStrategy;
+        writeBusyWaitStrategy.reset();
+        int writePosition = AtomicInt.getOpaque(this, WRITE_POSITION);
+        while (true) {
+            int index = writePosition & capacityMinusOne;
+            int difference = AtomicIntArray.getAcquire(sequences, index) - writePosition;
+            if (difference == 0) {
+                if (AtomicInt.compareAndSetVolatile(this, WRITE_POSITION, writePosition, writePosition + 1)) {
+                    buffer[index] = element;
+                    AtomicIntArray.setRelease(sequences, index, writePosition + 1);
+                    return;
+                }
+            } else if (difference < 0) {
+                writeBusyWaitStrategy.tick();
+            }
+            writePosition = AtomicInt.getOpaque(this, WRITE_POSITION);
+        }
+    }
+
+    @Override
+    public boolean offer(long element) {
+        int writePosition = AtomicInt.getOpaque(this, WRITE_POSITION);
+        while (true) {
+            int index = writePosition & capacityMinusOne;
+            int difference = AtomicIntArray.getAcquire(sequences, index) - writePosition;
+            if (difference == 0) {
+                if (AtomicInt.compareAndSetVolatile(this, WRITE_POSITION, writePosition, writePosition + 1)) {
+                    buffer[index] = element;
+                    AtomicIntArray.setRelease(sequences, index, writePosition + 1);
+                    return true;
+                }
+            } else if (difference < 0) {
+                return false;
+            }
+            writePosition = AtomicInt.getOpaque(this, WRITE_POSITION);
+        }
+    }
+
+    @Override
+    public void putAll(long[] src, int offset, int length) {
+        Assume.notGreater(length, capacity);
+        if (length == 0) {
+            return;
+        }
+        var writeBusyWaitStrategy = this.writeBusyWaitStrategy;
+        writeBusyWaitStrategy.reset();
+        int writePosition = AtomicInt.getOpaque(this, WRITE_POSITION);
+        while (true) {
+            int lastPosition = writePosition + length - 1;
+            int difference = AtomicIntArray.getAcquire(sequences, lastPosition & capacityMinusOne) - lastPosition;
+            if (difference == 0) {
+                if (AtomicInt.compareAndSetVolatile(this, WRITE_POSITION, writePosition, writePosition + length)) {
+                    break;
+                }
+            } else if (difference < 0) {
+                writeBusyWaitStrategy.tick();
+            }
+            writePosition = AtomicInt.getOpaque(this, WRITE_POSITION);
+        }
+        // The last slot is free, so the readers of all the previous slots have claimed them already
+        for (int end = offset + length; offset < end; offset++, writePosition++) {
+            int index = writePosition & capacityMinusOne;
+            while (AtomicIntArray.getAcquire(sequences, index) != writePosition) {
+                Thread.onSpinWait();
+            }
+            buffer[index] = src[offset];
+            AtomicIntArray.setRelease(sequences, index, writePosition + 1);
+        }
+    }
+
+    @Override
+    public long takeLong() {
+        return takeLong(readBusyWaitStrategy);
+    }
+
+    @Override
+    public long takeLong(BusyWaitStrategy busyWaitStrategy) {
+        int readPosition = this.readPosition;
+        int index = readPosition & capacityMinusOne;
+        int nextReadPosition = readPosition + 1;
+        busyWaitStrategy.reset();
+        while (AtomicIntArray.getAcquire(sequences, index) != nextReadPosition) {
+            busyWaitStrategy.tick();
+        }
+        this.readPosition = nextReadPosition;
+        long element = buffer[index];
+        AtomicIntArray.setRelease(sequences, index, readPosition + capacity);
+        return element;
+    }
+
+}
@@ -0,0 +1,28 @@
+package org.ringbuffer.primitive;
+
+import org.ringbuffer.wait.BusyWaitStrategy;
+
+public interface LockfreeIntRingBuffer {
+    int getCapacity();
+
+    /**
+     * If the ring buffer is full, waits using the {@link BusyWaitStrategy}
+     * passed to {@link IntRingBufferBuilder#lockfree(BusyWaitStrategy)}.
+     */
+    void put(int element);
+
+    /**
+     * @return {@code false} if the ring buffer is full, in which case {@code element} is not put.
+     */
+    boolean offer(int element);
+
+    /**
+     * Puts {@code length} elements of {@code src}, starting at {@code offset}.
+     * Space for all of them is claimed at once, so {@code length} must not be greater than the capacity.
+     */
+    void putAll(int[] src, int offset, int length);
+
+    int takeInt();
+
+    int takeInt(BusyWaitStrategy busyWaitStrategy);
+}
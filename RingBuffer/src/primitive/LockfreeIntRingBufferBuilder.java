@@ -0,0 +1,137 @@
+package org.ringbuffer.primitive;
+
+import eu.menzani.object.ObjectFactory;
+import org.ringbuffer.AbstractRingBufferBuilder;
+import org.ringbuffer.wait.BusyWaitStrategy;
+
+public final class LockfreeIntRingBufferBuilder extends AbstractRingBufferBuilder<LockfreeIntRingBuffer> {
+    private final int capacity;
+    // All fields are copied in <init>(IntRingBufferBuilder)
+
+    LockfreeIntRingBufferBuilder(IntRingBufferBuilder builder) {
+        super(builder);
+        capacity = builder.capacity;
+    }
+
+    @Override
+    public LockfreeIntRingBufferBuilder oneWriter() {
+        super.oneWriter0();
+        return this;
+    }
+
+    @Override
+    public LockfreeIntRingBufferBuilder manyWriters() {
+        super.manyWriters0();
+        return this;
+    }
+
+    @Override
+    public LockfreeIntRingBufferBuilder oneReader() {
+        super.oneReader0();
+        return this;
+    }
+
+    @Override
+    public LockfreeIntRingBufferBuilder manyReaders() {
+        super.manyReaders0();
+        return this;
+    }
+
+    @Override
+    protected LockfreeIntRingBufferBuilder blocking() {
+        throw new AssertionError();
+    }
+
+    @Override
+    protected LockfreeIntRingBufferBuilder blocking(BusyWaitStrategy busyWaitStrategy) {
+        throw new AssertionError();
+    }
+
+    @Override
+    protected LockfreeIntRingBufferBuilder lockfree() {
+        throw new AssertionError();
+    }
+
+    @Override
+    public LockfreeIntRingBufferBuilder waitingWith(BusyWaitStrategy busyWaitStrategy) {
+        super.waitingWith0(busyWaitStrategy);
+        return this;
+    }
+
+    /**
+     * Writers wait for free space without holding a monitor, so each thread needs its own write busy-wait strategy.
+     * Must be called with {@link #manyWriters()} if a strategy other than the default was passed to
+     * {@link IntRingBufferBuilder#lockfree(BusyWaitStrategy)}.
+     */
+    public LockfreeIntRingBufferBuilder writingWith(ObjectFactory<? extends BusyWaitStrategy> busyWaitStrategyFactory) {
+        super.writingWith0(busyWaitStrategyFactory);
+        return this;
+    }
+
+    @Override
+    public LockfreeIntRingBufferBuilder copyClass() {
+        super.copyClass0();
+        return this;
+    }
+
+    @Override
+    protected void validate() {
+        super.validate();
+        validateConcurrentWriters();
+    }
+
+    @Override
+    protected LockfreeIntRingBuffer create(RingBufferConcurrency concurrency, RingBufferType type) {
+        if (type == RingBufferType.LOCKFREE) {
+            switch (concurrency) {
+                case VOLATILE:
+                    if (copyClass) {
+                        return instantiateCopy(LockfreeVolatileIntRingBuffer.class);
+                    }
+                    return new LockfreeVolatileIntRingBuffer(this);
+                case ATOMIC_READ:
+                    if (copyClass) {
+                        return instantiateCopy(LockfreeAtomicReadIntRingBuffer.class);
+                    }
+                    return new LockfreeAtomicReadIntRingBuffer(this);
+                case ATOMIC_WRITE:
+                    if (copyClass) {
+                        return instantiateCopy(LockfreeAtomicWriteIntRingBuffer.class);
+                    }
+                    return new LockfreeAtomicWriteIntRingBuffer(this);
+                case CONCURRENT:
+                    if (copyClass) {
+                        return instantiateCopy(LockfreeConcurrentIntRingBuffer.class);
+                    }
+                    return new LockfreeConcurrentIntRingBuffer(this);
+            }
+        }
+        throw new AssertionError();
+    }
+
+    @Override
+    protected BusyWaitStrategy getWriteBusyWaitStrategy() {
+        return super.getWriteBusyWaitStrategy();
+    }
+
+    @Override
+    protected BusyWaitStrategy getReadBusyWaitStrategy() {
+        return super.getReadBusyWaitStrategy();
+    }
+
+    int getCapacityMinusOne() {
+        return capacity - 1;
+    }
+
+    int[] getBuffer() {
+        return new int[capacity];
+    }
+
+    int[] getSequences() {
+        int[] sequences = new int[capacity];
+        for (int i = 0; i < capacity; i++) {
+            sequences[i] = i;
+        }
+        return sequences;
+    }
+}
@@ -0,0 +1,28 @@
+package org.ringbuffer.primitive;
+
+import org.ringbuffer.wait.BusyWaitStrategy;
+
+public interface LockfreeLongRingBuffer {
+    int getCapacity();
+
+    /**
+     * If the ring buffer is full, waits using the {@link BusyWaitStrategy}
+     * passed to {@link LongRingBufferBuilder#lockfree(BusyWaitStrategy)}.
+     */
+    void put(long element);
+
+    /**
+     * @return {@code false} if the ring buffer is full, in which case {@code element} is not put.
+     */
+    boolean offer(long element);
+
+    /**
+     * Puts {@code length} elements of {@code src}, starting at {@code offset}.
+     * Space for all of them is claimed at once, so {@code length} must not be greater than the capacity.
+     */
+    void putAll(long[] src, int offset, int length);
+
+    long takeLong();
+
+    long takeLong(BusyWaitStrategy busyWaitStrategy);
+}
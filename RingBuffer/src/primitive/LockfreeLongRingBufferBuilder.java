@@ -0,0 +1,137 @@
+package org.ringbuffer.primitive;
+
+import eu.menzani.object.ObjectFactory;
+import org.ringbuffer.AbstractRingBufferBuilder;
+import org.ringbuffer.wait.BusyWaitStrategy;
+
+public final class LockfreeLongRingBufferBuilder extends AbstractRingBufferBuilder<LockfreeLongRingBuffer> {
+    private final int capacity;
+    // All fields are copied in <init>(LongRingBufferBuilder)
+
+    LockfreeLongRingBufferBuilder(LongRingBufferBuilder builder) {
+        super(builder);
+        capacity = builder.capacity;
+    }
+
+    @Override
+    public LockfreeLongRingBufferBuilder oneWriter() {
+        super.oneWriter0();
+        return this;
+    }
+
+    @Override
+    public LockfreeLongRingBufferBuilder manyWriters() {
+        super.manyWriters0();
+        return this;
+    }
+
+    @Override
+    public LockfreeLongRingBufferBuilder oneReader() {
+        super.oneReader0();
+        return this;
+    }
+
+    @Override
+    public LockfreeLongRingBufferBuilder manyReaders() {
+        super.manyReaders0();
+        return this;
+    }
+
+    @Override
+    protected LockfreeLongRingBufferBuilder blocking() {
+        throw new AssertionError();
+    }
+
+    @Override
+    protected LockfreeLongRingBufferBuilder blocking(BusyWaitStrategy busyWaitStrategy) {
+        throw new AssertionError();
+    }
+
+    @Override
+    protected LockfreeLongRingBufferBuilder lockfree() {
+        throw new AssertionError();
+    }
+
+    @Override
+    public LockfreeLongRingBufferBuilder waitingWith(BusyWaitStrategy busyWaitStrategy) {
+        super.waitingWith0(busyWaitStrategy);
+        return this;
+    }
+
+    /**
+     * Writers wait for free space without holding a monitor, so each thread needs its own write busy-wait strategy.
+     * Must be called with {@link #manyWriters()} if a strategy other than the default was passed to
+     * {@link LongRingBufferBuilder#lockfree(BusyWaitStrategy)}.
+     */
+    public LockfreeLongRingBufferBuilder writingWith(ObjectFactory<? extends BusyWaitStrategy> busyWaitStrategyFactory) {
+        super.writingWith0(busyWaitStrategyFactory);
+        return this;
+    }
+
+    @Override
+    public LockfreeLongRingBufferBuilder copyClass() {
+        super.copyClass0();
+        return this;
+    }
+
+    @Override
+    protected void validate() {
+        super.validate();
+        validateConcurrentWriters();
+    }
+
+    @Override
+    protected LockfreeLongRingBuffer create(RingBufferConcurrency concurrency, RingBufferType type) {
+        if (type == RingBufferType.LOCKFREE) {
+            switch (concurrency) {
+                case VOLATILE:
+                    if (copyClass) {
+                        return instantiateCopy(LockfreeVolatileLongRingBuffer.class);
+                    }
+                    return new LockfreeVolatileLongRingBuffer(this);
+                case ATOMIC_READ:
+                    if (copyClass) {
+                        return instantiateCopy(LockfreeAtomicReadLongRingBuffer.class);
+                    }
+                    return new LockfreeAtomicReadLongRingBuffer(this);
+                case ATOMIC_WRITE:
+                    if (copyClass) {
+                        return instantiateCopy(LockfreeAtomicWriteLongRingBuffer.class);
+                    }
+                    return new LockfreeAtomicWriteLongRingBuffer(this);
+                case CONCURRENT:
+                    if (copyClass) {
+                        return instantiateCopy(LockfreeConcurrentLongRingBuffer.class);
+                    }
+                    return new LockfreeConcurrentLongRingBuffer(this);
+            }
+        }
+        throw new AssertionError();
+    }
+
+    @Override
+    protected BusyWaitStrategy getWriteBusyWaitStrategy() {
+        return super.getWriteBusyWaitStrategy();
+    }
+
+    @Override
+    protected BusyWaitStrategy getReadBusyWaitStrategy() {
+        return super.getReadBusyWaitStrategy();
+    }
+
+    int getCapacityMinusOne() {
+        return capacity - 1;
+    }
+
+    long[] getBuffer() {
+        return new long[capacity];
+    }
+
+    int[] getSequences() {
+        int[] sequences = new int[capacity];
+        for (int i = 0; i < capacity; i++) {
+            sequences[i] = i;
+        }
+        return sequences;
+    }
+}
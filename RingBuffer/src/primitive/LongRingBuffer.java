@@ -0,0 +1,105 @@
+package org.ringbuffer.primitive;
+
+import org.ringbuffer.AbstractRingBuffer;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongConsumer;
+
+/**
+ * Same as {@link org.ringbuffer.object.RingBuffer}, but backed by a {@code long[]},
+ * so that elements are neither boxed nor reached through a reference.
+ */
+public interface LongRingBuffer extends AbstractRingBuffer {
+    int getCapacity();
+
+    void put(long element);
+
+    /**
+     * Same as {@link #put(long)}, but returns {@code false} instead of waiting or discarding
+     * {@code element} if the ring buffer is full. If the ring buffer is neither blocking nor discarding,
+     * then this method always returns {@code true}.
+     */
+    boolean offer(long element);
+
+    /**
+     * Same as {@link #put(long)}, but gives up waiting once {@code timeout} has elapsed.
+     * If the ring buffer is not blocking, then this method is the same as {@link #offer(long)}.
+     *
+     * @return {@code false} if the timeout elapsed before space was available, in which case
+     * {@code element} is not put
+     */
+    boolean put(long element, long timeout, TimeUnit unit);
+
+    /**
+     * Puts {@code length} elements of {@code src}, starting at {@code offset}, making them visible to readers at once.
+     * <p>
+     * If the ring buffer is blocking, then {@code length} must be less than the capacity.
+     * If it is discarding, then the elements that do not fit are discarded.
+     */
+    void putAll(long[] src, int offset, int length);
+
+    long takeLong();
+
+    /**
+     * If the ring buffer supports at least one reader and writer, then this method allows to take
+     * elements in batches. When it returns, at least {@code size} elements are available,
+     * and {@link #takePlainLong()} must be invoked {@code size} times to take them all.
+     * <p>
+     * Moreover, if the ring buffer supports multiple readers, then external synchronization must be performed
+     * on {@link #getReadMonitor()}.
+     */
+    void takeBatch(int size);
+
+    /**
+     * When taking elements in batches, this method must be called {@code size} times after
+     * {@link #takeBatch(int) takeBatch(size)} has returned.
+     */
+    long takePlainLong();
+
+    /**
+     * Waits until at least one element is available, then passes to {@code handler} as many elements as are
+     * available, up to {@code maxElements}.
+     *
+     * @return the number of elements taken
+     */
+    int drain(LongConsumer handler, int maxElements);
+
+    /**
+     * Same as {@link #drain(LongConsumer, int) drain(handler, dst.length)}, but elements are stored
+     * into {@code dst} starting at index {@code 0}.
+     *
+     * @return the number of elements taken
+     */
+    int takeAvailable(long[] dst);
+
+    long takeLastLong();
+
+    /**
+     * If the ring buffer supports one reader and is not blocking nor discarding,
+     * then this method can only be called from the reader thread.
+     */
+    void forEach(LongConsumer action);
+
+    /**
+     * If the ring buffer supports one reader and is not blocking nor discarding,
+     * then this method can only be called from the reader thread.
+     */
+    boolean contains(long element);
+
+    /**
+     * If the ring buffer supports one reader and is not blocking nor discarding,
+     * then this method can only be called from the reader thread.
+     */
+    int size();
+
+    /**
+     * If the ring buffer supports one reader and is not blocking nor discarding,
+     * then this method can only be called from the reader thread.
+     */
+    @Override
+    String toString();
+
+    static LongRingBufferBuilder withCapacity(int capacity) {
+        return new LongRingBufferBuilder(capacity);
+    }
+}
@@ -0,0 +1,164 @@
+package org.ringbuffer.primitive;
+
+import org.ringbuffer.wait.BusyWaitStrategy;
+import org.ringbuffer.wait.HintBusyWaitStrategy;
+
+public final class LongRingBufferBuilder extends PrimitiveRingBufferBuilder<LongRingBuffer> {
+    LongRingBufferBuilder(int capacity) {
+        super(capacity);
+    }
+
+    @Override
+    public LongRingBufferBuilder oneWriter() {
+        super.oneWriter0();
+        return this;
+    }
+
+    @Override
+    public LongRingBufferBuilder manyWriters() {
+        super.manyWriters0();
+        return this;
+    }
+
+    @Override
+    public LongRingBufferBuilder oneReader() {
+        super.oneReader0();
+        return this;
+    }
+
+    @Override
+    public LongRingBufferBuilder manyReaders() {
+        super.manyReaders0();
+        return this;
+    }
+
+    @Override
+    public LongRingBufferBuilder blocking() {
+        super.blocking0();
+        return this;
+    }
+
+    @Override
+    public LongRingBufferBuilder blocking(BusyWaitStrategy busyWaitStrategy) {
+        super.blocking0(busyWaitStrategy);
+        return this;
+    }
+
+    @Override
+    public LongRingBufferBuilder discarding() {
+        super.discarding0();
+        return this;
+    }
+
+    /**
+     * Each slot carries a sequence, so that writers and readers claim it with a compare-and-set.
+     * When full, {@code put()} waits using {@link HintBusyWaitStrategy} and {@code offer()} returns {@code false}.
+     */
+    @Override
+    public LockfreeLongRingBufferBuilder lockfree() {
+        return lockfree(HintBusyWaitStrategy.getDefault());
+    }
+
+    /**
+     * Same as {@link #lockfree()}, but when full {@code put()} waits using {@code busyWaitStrategy}.
+     */
+    public LockfreeLongRingBufferBuilder lockfree(BusyWaitStrategy busyWaitStrategy) {
+        super.lockfree0(busyWaitStrategy);
+        return new LockfreeLongRingBufferBuilder(this);
+    }
+
+    @Override
+    public LongRingBufferBuilder waitingWith(BusyWaitStrategy busyWaitStrategy) {
+        super.waitingWith0(busyWaitStrategy);
+        return this;
+    }
+
+    @Override
+    public LongRingBufferBuilder copyClass() {
+        super.copyClass0();
+        return this;
+    }
+
+    @Override
+    protected LongRingBuffer create(RingBufferConcurrency concurrency, RingBufferType type) {
+        switch (concurrency) {
+            case VOLATILE:
+                switch (type) {
+                    case CLEARING:
+                        if (copyClass) {
+                            return instantiateCopy(VolatileLongRingBuffer.class);
+                        }
+                        return new VolatileLongRingBuffer(this);
+                    case BLOCKING:
+                        if (copyClass) {
+                            return instantiateCopy(VolatileBlockingLongRingBuffer.class);
+                        }
+                        return new VolatileBlockingLongRingBuffer(this);
+                    case DISCARDING:
+                        if (copyClass) {
+                            return instantiateCopy(VolatileDiscardingLongRingBuffer.class);
+                        }
+                        return new VolatileDiscardingLongRingBuffer(this);
+                }
+            case ATOMIC_READ:
+                switch (type) {
+                    case CLEARING:
+                        if (copyClass) {
+                            return instantiateCopy(AtomicReadLongRingBuffer.class);
+                        }
+                        return new AtomicReadLongRingBuffer(this);
+                    case BLOCKING:
+                        if (copyClass) {
+                            return instantiateCopy(AtomicReadBlockingLongRingBuffer.class);
+                        }
+                        return new AtomicReadBlockingLongRingBuffer(this);
+                    case DISCARDING:
+                        if (copyClass) {
+                            return instantiateCopy(AtomicReadDiscardingLongRingBuffer.class);
+                        }
+                        return new AtomicReadDiscardingLongRingBuffer(this);
+                }
+            case ATOMIC_WRITE:
+                switch (type) {
+                    case CLEARING:
+                        if (copyClass) {
+                            return instantiateCopy(AtomicWriteLongRingBuffer.class);
+                        }
+                        return new AtomicWriteLongRingBuffer(this);
+                    case BLOCKING:
+                        if (copyClass) {
+                            return instantiateCopy(AtomicWriteBlockingLongRingBuffer.class);
+                        }
+                        return new AtomicWriteBlockingLongRingBuffer(this);
+                    case DISCARDING:
+                        if (copyClass) {
+                            return instantiateCopy(AtomicWriteDiscardingLongRingBuffer.class);
+                        }
+                        return new AtomicWriteDiscardingLongRingBuffer(this);
+                }
+            case CONCURRENT:
+                switch (type) {
+                    case CLEARING:
+                        if (copyClass) {
+                            return instantiateCopy(ConcurrentLongRingBuffer.class);
+                        }
+                        return new ConcurrentLongRingBuffer(this);
+                    case BLOCKING:
+                        if (copyClass) {
+                            return instantiateCopy(ConcurrentBlockingLongRingBuffer.class);
+                        }
+                        return new ConcurrentBlockingLongRingBuffer(this);
+                    case DISCARDING:
+                        if (copyClass) {
+                            return instantiateCopy(ConcurrentDiscardingLongRingBuffer.class);
+                        }
+                        return new ConcurrentDiscardingLongRingBuffer(this);
+                }
+        }
+        throw new AssertionError();
+    }
+
+    long[] getBuffer() {
+        return new long[capacity];
+    }
+}
@@ -0,0 +1,43 @@
+package org.ringbuffer.primitive;
+
+import org.ringbuffer.AbstractRingBufferBuilder;
+import org.ringbuffer.wait.BusyWaitStrategy;
+
+abstract class PrimitiveRingBufferBuilder<T> extends AbstractRingBufferBuilder<T> {
+    final int capacity;
+
+    PrimitiveRingBufferBuilder(int capacity) {
+        validateCapacity(capacity);
+        this.capacity = capacity;
+    }
+
+    abstract PrimitiveRingBufferBuilder<?> discarding();
+
+    void discarding0() {
+        type = RingBufferType.DISCARDING;
+    }
+
+    @Override
+    protected void lockfree0() {
+        validateCapacityPowerOfTwo(capacity);
+        super.lockfree0();
+    }
+
+    @Override
+    protected BusyWaitStrategy getWriteBusyWaitStrategy() {
+        return super.getWriteBusyWaitStrategy();
+    }
+
+    @Override
+    protected BusyWaitStrategy getReadBusyWaitStrategy() {
+        return super.getReadBusyWaitStrategy();
+    }
+
+    int getCapacity() {
+        return capacity;
+    }
+
+    int getCapacityMinusOne() {
+        return capacity - 1;
+    }
+}
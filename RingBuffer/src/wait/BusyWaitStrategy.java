@@ -8,4 +8,12 @@ public interface BusyWaitStrategy {
     void reset();
 
     void tick();
+
+    /**
+     * Called instead of {@link #tick()} by operations that give up waiting at {@code deadline},
+     * a {@link System#nanoTime()} value, so that strategies that block do not block past it.
+     */
+    default void tick(long deadline) {
+        tick();
+    }
 }
@@ -0,0 +1,84 @@
+package org.ringbuffer.wait;
+
+import eu.menzani.atomic.AtomicBoolean;
+import eu.menzani.lang.Lang;
+
+import java.lang.invoke.VarHandle;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * After spinning for {@code spinIterations} ticks, the waiter registers itself and parks until it is signalled,
+ * so that it uses no CPU and, if it is a virtual thread, unmounts from its carrier.
+ * The ring buffer is woken up by {@link #signal()}, which only unparks when a waiter is registered.
+ * <p>
+ * Ring buffers built with this strategy call {@link #signal()} themselves: with {@code waitingWith()},
+ * writers signal readers, and with {@code blocking()}, readers signal writers.
+ * Only one thread can wait on an instance at a time, so builders whose ring buffers do not call {@link #signal()},
+ * or let more threads wait concurrently, throw an {@link IllegalStateException}.
+ * Timeouts passed to {@code take()} and {@code put()} are honoured, since the waiter then parks until the deadline
+ * at most.
+ */
+public class SignalBusyWaitStrategy implements BusyWaitStrategy {
+    private static final long WAITING = Lang.objectFieldOffset(SignalBusyWaitStrategy.class, "waiting");
+
+    private final int spinIterations;
+
+    private int counter;
+    private Thread waiter;
+    private boolean waiting;
+
+    public SignalBusyWaitStrategy() {
+        this(100);
+    }
+
+    public SignalBusyWaitStrategy(int spinIterations) {
+        this.spinIterations = spinIterations;
+    }
+
+    /**
+     * Called after an element has been made visible. The fence keeps the check from being reordered before
+     * the element, and the flag is only written when a waiter is registered, so that the cache line stays shared
+     * while nobody is parked.
+     */
+    public void signal() {
+        VarHandle.fullFence();
+        if (AtomicBoolean.getAcquire(this, WAITING) && AtomicBoolean.compareAndSetVolatile(this, WAITING, true, false)) {
+            LockSupport.unpark(waiter);
+        }
+    }
+
+    @Override
+    public void reset() {
+        counter = spinIterations;
+    }
+
+    @Override
+    public void tick() {
+        if (shouldPark()) {
+            LockSupport.park(this);
+        }
+    }
+
+    @Override
+    public void tick(long deadline) {
+        if (shouldPark()) {
+            LockSupport.parkNanos(this, deadline - System.nanoTime());
+        }
+    }
+
+    private boolean shouldPark() {
+        if (counter != 0) {
+            counter--;
+            Thread.onSpinWait();
+            return false;
+        }
+        // A wait that timed out leaves its thread registered
+        if (AtomicBoolean.getOpaque(this, WAITING) && waiter == Thread.currentThread()) {
+            return true;
+        }
+        // The condition is checked again after registering, before parking
+        waiter = Thread.currentThread();
+        AtomicBoolean.setVolatile(this, WAITING, true);
+        return false;
+    }
+}
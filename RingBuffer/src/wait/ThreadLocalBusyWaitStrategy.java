@@ -0,0 +1,32 @@
+package org.ringbuffer.wait;
+
+import eu.menzani.lang.Assume;
+import eu.menzani.object.ObjectFactory;
+
+/**
+ * Delegates to a strategy created for each thread, so that one that has state can be used by many readers or writers
+ * which wait at the same time. Every call looks up the strategy of the current thread.
+ */
+public class ThreadLocalBusyWaitStrategy implements BusyWaitStrategy {
+    private final ThreadLocal<BusyWaitStrategy> strategies;
+
+    public ThreadLocalBusyWaitStrategy(ObjectFactory<? extends BusyWaitStrategy> factory) {
+        Assume.notNull(factory);
+        strategies = ThreadLocal.withInitial(factory::newInstance);
+    }
+
+    @Override
+    public void reset() {
+        strategies.get().reset();
+    }
+
+    @Override
+    public void tick() {
+        strategies.get().tick();
+    }
+
+    @Override
+    public void tick(long deadline) {
+        strategies.get().tick(deadline);
+    }
+}
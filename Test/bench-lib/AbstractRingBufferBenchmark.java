@@ -8,6 +8,7 @@ import eu.menzani.system.ThreadManipulation;
 
 public abstract class AbstractRingBufferBenchmark extends Benchmark {
     protected static final int NUM_ITERATIONS = 1_000_000;
+    protected static final int CONCURRENT_PRODUCERS_AND_CONSUMERS = Config.concurrentProducersAndConsumers;
     protected static final int TOTAL_ELEMENTS = NUM_ITERATIONS * Config.concurrentProducersAndConsumers;
 
     protected static final long ONE_TO_ONE_SUM = getOneToOneSum();
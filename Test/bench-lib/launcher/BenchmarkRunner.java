@@ -2,9 +2,11 @@ package bench.launcher;
 
 import bench.Config;
 import bench.competitors.*;
+import bench.dependant.*;
 import bench.launcher.options.*;
 import bench.marshalling.*;
 import bench.object.*;
+import bench.primitive.*;
 import bench.wait.*;
 import eu.menzani.benchmark.Benchmark;
 import eu.menzani.swing.DisableFocus;
@@ -1198,6 +1200,505 @@ class BenchmarkRunner {
                             default:
                                 throw new AssertionError();
                         }
+                    case CLAIMING:
+                        switch (concurrency.getOption()) {
+                            case CONCURRENT:
+                                switch (contention.getOption()) {
+                                    case CONTENTION:
+                                        return ClaimingManyToManyBlockingContentionBenchmark.class;
+                                    case UNBLOCKED_CONTENTION:
+                                        return ClaimingManyToManyBlockingContentionPerfBenchmark.class;
+                                    case NO_CONTENTION:
+                                    default:
+                                        throw new AssertionError();
+                                }
+                            case MANY_WRITERS:
+                                switch (granularity.getOption()) {
+                                    case NO_BATCH:
+                                        switch (contention.getOption()) {
+                                            case CONTENTION:
+                                                return ClaimingManyWritersBlockingContentionBenchmark.class;
+                                            case UNBLOCKED_CONTENTION:
+                                                return ClaimingManyWritersBlockingContentionPerfBenchmark.class;
+                                            case NO_CONTENTION:
+                                            default:
+                                                throw new AssertionError();
+                                        }
+                                    case BATCH:
+                                        switch (contention.getOption()) {
+                                            case CONTENTION:
+                                                return ClaimingManyWritersBlockingPutAllContentionBenchmark.class;
+                                            case NO_CONTENTION:
+                                            case UNBLOCKED_CONTENTION:
+                                            default:
+                                                throw new AssertionError();
+                                        }
+                                }
+                            case MANY_READERS:
+                                switch (elementSource.getOption()) {
+                                    case EMPTY:
+                                        switch (granularity.getOption()) {
+                                            case NO_BATCH:
+                                                switch (contention.getOption()) {
+                                                    case CONTENTION:
+                                                        return ClaimingManyReadersBlockingContentionBenchmark.class;
+                                                    case UNBLOCKED_CONTENTION:
+                                                        return ClaimingManyReadersBlockingContentionPerfBenchmark.class;
+                                                    case NO_CONTENTION:
+                                                    default:
+                                                        throw new AssertionError();
+                                                }
+                                            case BATCH:
+                                                switch (contention.getOption()) {
+                                                    case CONTENTION:
+                                                        return ClaimingManyReadersBlockingBatchContentionBenchmark.class;
+                                                    case NO_CONTENTION:
+                                                    case UNBLOCKED_CONTENTION:
+                                                    default:
+                                                        throw new AssertionError();
+                                                }
+                                        }
+                                    case PREFILLED:
+                                        switch (granularity.getOption()) {
+                                            case BATCH:
+                                                switch (contention.getOption()) {
+                                                    case CONTENTION:
+                                                        return ClaimingPrefilledManyReadersBlockingBatchContentionBenchmark.class;
+                                                    case UNBLOCKED_CONTENTION:
+                                                        return ClaimingPrefilledManyReadersBlockingBatchContentionPerfBenchmark.class;
+                                                    case NO_CONTENTION:
+                                                    default:
+                                                        throw new AssertionError();
+                                                }
+                                            case NO_BATCH:
+                                            default:
+                                                throw new AssertionError();
+                                        }
+                                }
+                            case VOLATILE:
+                            default:
+                                throw new AssertionError();
+                        }
+                    case DRAIN:
+                        switch (concurrency.getOption()) {
+                            case CONCURRENT:
+                                switch (contention.getOption()) {
+                                    case CONTENTION:
+                                        return ManyToManyBlockingDrainContentionBenchmark.class;
+                                    case NO_CONTENTION:
+                                    case UNBLOCKED_CONTENTION:
+                                    default:
+                                        throw new AssertionError();
+                                }
+                            case MANY_READERS:
+                                switch (contention.getOption()) {
+                                    case CONTENTION:
+                                        return ManyReadersBlockingDrainContentionBenchmark.class;
+                                    case NO_CONTENTION:
+                                    case UNBLOCKED_CONTENTION:
+                                    default:
+                                        throw new AssertionError();
+                                }
+                            case MANY_WRITERS:
+                                switch (contention.getOption()) {
+                                    case CONTENTION:
+                                        return ManyWritersBlockingDrainContentionBenchmark.class;
+                                    case NO_CONTENTION:
+                                    case UNBLOCKED_CONTENTION:
+                                    default:
+                                        throw new AssertionError();
+                                }
+                            case VOLATILE:
+                                switch (contention.getOption()) {
+                                    case CONTENTION:
+                                        return OneToOneBlockingDrainContentionBenchmark.class;
+                                    case NO_CONTENTION:
+                                        return OneToOneBlockingDrainBenchmark.class;
+                                    case UNBLOCKED_CONTENTION:
+                                    default:
+                                        throw new AssertionError();
+                                }
+                            default:
+                                throw new AssertionError();
+                        }
+                    case TAKE_AVAILABLE:
+                        switch (contention.getOption()) {
+                            case CONTENTION:
+                                return OneToOneBlockingTakeAvailableContentionBenchmark.class;
+                            case NO_CONTENTION:
+                            case UNBLOCKED_CONTENTION:
+                            default:
+                                throw new AssertionError();
+                        }
+                    case PUT_ALL:
+                        switch (concurrency.getOption()) {
+                            case MANY_WRITERS:
+                                switch (threadSafetyStrategy.getOption()) {
+                                    case LOCK_BASED:
+                                        switch (contention.getOption()) {
+                                            case CONTENTION:
+                                                return ManyWritersBlockingPutAllContentionBenchmark.class;
+                                            case NO_CONTENTION:
+                                            case UNBLOCKED_CONTENTION:
+                                            default:
+                                                throw new AssertionError();
+                                        }
+                                    case LOCK_FREE:
+                                        switch (contention.getOption()) {
+                                            case CONTENTION:
+                                                return LockfreeManyWritersPutAllContentionBenchmark.class;
+                                            case NO_CONTENTION:
+                                            case UNBLOCKED_CONTENTION:
+                                            default:
+                                                throw new AssertionError();
+                                        }
+                                }
+                            case VOLATILE:
+                                switch (contention.getOption()) {
+                                    case CONTENTION:
+                                        return OneToOneBlockingPutAllContentionBenchmark.class;
+                                    case NO_CONTENTION:
+                                    case UNBLOCKED_CONTENTION:
+                                    default:
+                                        throw new AssertionError();
+                                }
+                            case CONCURRENT:
+                            case MANY_READERS:
+                            default:
+                                throw new AssertionError();
+                        }
+                    case BOUNDED_LOCKFREE:
+                        switch (concurrency.getOption()) {
+                            case CONCURRENT:
+                                switch (contention.getOption()) {
+                                    case CONTENTION:
+                                        return BoundedLockfreeManyToManyContentionBenchmark.class;
+                                    case NO_CONTENTION:
+                                    case UNBLOCKED_CONTENTION:
+                                    default:
+                                        throw new AssertionError();
+                                }
+                            case MANY_WRITERS:
+                                switch (contention.getOption()) {
+                                    case CONTENTION:
+                                        return BoundedLockfreeManyWritersContentionBenchmark.class;
+                                    case NO_CONTENTION:
+                                    case UNBLOCKED_CONTENTION:
+                                    default:
+                                        throw new AssertionError();
+                                }
+                            case VOLATILE:
+                                switch (contention.getOption()) {
+                                    case CONTENTION:
+                                        return BoundedLockfreeOneToOneContentionBenchmark.class;
+                                    case NO_CONTENTION:
+                                    case UNBLOCKED_CONTENTION:
+                                    default:
+                                        throw new AssertionError();
+                                }
+                            case MANY_READERS:
+                            default:
+                                throw new AssertionError();
+                        }
+                    case OFFER_POLL:
+                        switch (contention.getOption()) {
+                            case CONTENTION:
+                                return OneToOneBlockingOfferPollContentionBenchmark.class;
+                            case NO_CONTENTION:
+                            case UNBLOCKED_CONTENTION:
+                            default:
+                                throw new AssertionError();
+                        }
+                    case TIMED:
+                        switch (contention.getOption()) {
+                            case CONTENTION:
+                                return OneToOneBlockingTimedContentionBenchmark.class;
+                            case NO_CONTENTION:
+                            case UNBLOCKED_CONTENTION:
+                            default:
+                                throw new AssertionError();
+                        }
+                    case SEQUENCED:
+                        switch (concurrency.getOption()) {
+                            case CONCURRENT:
+                                switch (contention.getOption()) {
+                                    case CONTENTION:
+                                        return ManyToManyBlockingSequencedContentionBenchmark.class;
+                                    case NO_CONTENTION:
+                                    case UNBLOCKED_CONTENTION:
+                                    default:
+                                        throw new AssertionError();
+                                }
+                            case VOLATILE:
+                                switch (contention.getOption()) {
+                                    case CONTENTION:
+                                        return OneToOneBlockingSequencedContentionBenchmark.class;
+                                    case NO_CONTENTION:
+                                    case UNBLOCKED_CONTENTION:
+                                    default:
+                                        throw new AssertionError();
+                                }
+                            case MANY_READERS:
+                            case MANY_WRITERS:
+                            default:
+                                throw new AssertionError();
+                        }
+                    case POWER_OF_TWO:
+                        switch (elementSource.getOption()) {
+                            case EMPTY:
+                                switch (contention.getOption()) {
+                                    case CONTENTION:
+                                        return PowerOfTwoOneToOneBlockingContentionBenchmark.class;
+                                    case NO_CONTENTION:
+                                        return PowerOfTwoOneToOneBlockingBenchmark.class;
+                                    case UNBLOCKED_CONTENTION:
+                                        return PowerOfTwoOneToOneBlockingContentionPerfBenchmark.class;
+                                    default:
+                                        throw new AssertionError();
+                                }
+                            case PREFILLED:
+                                switch (contention.getOption()) {
+                                    case CONTENTION:
+                                        return PowerOfTwoPrefilledOneToOneBlockingContentionBenchmark.class;
+                                    case NO_CONTENTION:
+                                        return PowerOfTwoPrefilledOneToOneBlockingBenchmark.class;
+                                    case UNBLOCKED_CONTENTION:
+                                        return PowerOfTwoPrefilledOneToOneBlockingContentionPerfBenchmark.class;
+                                    default:
+                                        throw new AssertionError();
+                                }
+                            default:
+                                throw new AssertionError();
+                        }
+                    case INT:
+                        switch (threadSafetyStrategy.getOption()) {
+                            case LOCK_BASED:
+                                switch (concurrency.getOption()) {
+                                    case CONCURRENT:
+                                        switch (contention.getOption()) {
+                                            case CONTENTION:
+                                                return ManyToManyIntBlockingContentionBenchmark.class;
+                                            case NO_CONTENTION:
+                                            case UNBLOCKED_CONTENTION:
+                                            default:
+                                                throw new AssertionError();
+                                        }
+                                    case VOLATILE:
+                                        switch (contention.getOption()) {
+                                            case CONTENTION:
+                                                return OneToOneIntBlockingContentionBenchmark.class;
+                                            case UNBLOCKED_CONTENTION:
+                                                return OneToOneIntBlockingContentionPerfBenchmark.class;
+                                            case NO_CONTENTION:
+                                            default:
+                                                throw new AssertionError();
+                                        }
+                                    case MANY_READERS:
+                                    case MANY_WRITERS:
+                                    default:
+                                        throw new AssertionError();
+                                }
+                            case LOCK_FREE:
+                                switch (concurrency.getOption()) {
+                                    case CONCURRENT:
+                                        switch (contention.getOption()) {
+                                            case CONTENTION:
+                                                return LockfreeManyToManyIntContentionBenchmark.class;
+                                            case NO_CONTENTION:
+                                            case UNBLOCKED_CONTENTION:
+                                            default:
+                                                throw new AssertionError();
+                                        }
+                                    case VOLATILE:
+                                        switch (contention.getOption()) {
+                                            case CONTENTION:
+                                                return LockfreeOneToOneIntContentionBenchmark.class;
+                                            case NO_CONTENTION:
+                                            case UNBLOCKED_CONTENTION:
+                                            default:
+                                                throw new AssertionError();
+                                        }
+                                    case MANY_READERS:
+                                    case MANY_WRITERS:
+                                    default:
+                                        throw new AssertionError();
+                                }
+                        }
+                    case LONG:
+                        switch (contention.getOption()) {
+                            case CONTENTION:
+                                return OneToOneLongBlockingContentionBenchmark.class;
+                            case NO_CONTENTION:
+                            case UNBLOCKED_CONTENTION:
+                            default:
+                                throw new AssertionError();
+                        }
+                    case MULTICAST:
+                        switch (contention.getOption()) {
+                            case CONTENTION:
+                                return PrefilledMulticastContentionBenchmark.class;
+                            case NO_CONTENTION:
+                            case UNBLOCKED_CONTENTION:
+                            default:
+                                throw new AssertionError();
+                        }
+                    case PIPELINE:
+                        switch (contention.getOption()) {
+                            case CONTENTION:
+                                return PrefilledPipelineContentionBenchmark.class;
+                            case NO_CONTENTION:
+                            case UNBLOCKED_CONTENTION:
+                            default:
+                                throw new AssertionError();
+                        }
+                    case STRIPED:
+                        switch (contention.getOption()) {
+                            case CONTENTION:
+                                return ManyWritersStripedContentionBenchmark.class;
+                            case NO_CONTENTION:
+                            case UNBLOCKED_CONTENTION:
+                            default:
+                                throw new AssertionError();
+                        }
+                    case WORK_STEALING:
+                        switch (contention.getOption()) {
+                            case CONTENTION:
+                                return WorkStealingSchedulerContentionBenchmark.class;
+                            case NO_CONTENTION:
+                            case UNBLOCKED_CONTENTION:
+                            default:
+                                throw new AssertionError();
+                        }
+                    case FORK_JOIN:
+                        switch (contention.getOption()) {
+                            case CONTENTION:
+                                return ForkJoinPoolContentionBenchmark.class;
+                            case NO_CONTENTION:
+                            case UNBLOCKED_CONTENTION:
+                            default:
+                                throw new AssertionError();
+                        }
+                    case EVENT_PROCESSOR:
+                        switch (contention.getOption()) {
+                            case CONTENTION:
+                                return OneToOneBlockingEventProcessorContentionBenchmark.class;
+                            case NO_CONTENTION:
+                            case UNBLOCKED_CONTENTION:
+                            default:
+                                throw new AssertionError();
+                        }
+                    case SIGNAL:
+                        switch (contention.getOption()) {
+                            case CONTENTION:
+                                return OneToOneBlockingSignalContentionBenchmark.class;
+                            case NO_CONTENTION:
+                            case UNBLOCKED_CONTENTION:
+                            default:
+                                throw new AssertionError();
+                        }
+                    case UNBOUNDED_LOCKFREE:
+                        switch (concurrency.getOption()) {
+                            case MANY_WRITERS:
+                                switch (contention.getOption()) {
+                                    case CONTENTION:
+                                        return UnboundedLockfreeManyWritersContentionBenchmark.class;
+                                    case NO_CONTENTION:
+                                    case UNBLOCKED_CONTENTION:
+                                    default:
+                                        throw new AssertionError();
+                                }
+                            case VOLATILE:
+                                switch (contention.getOption()) {
+                                    case CONTENTION:
+                                        return UnboundedLockfreeOneToOneContentionBenchmark.class;
+                                    case NO_CONTENTION:
+                                    case UNBLOCKED_CONTENTION:
+                                    default:
+                                        throw new AssertionError();
+                                }
+                            case CONCURRENT:
+                            case MANY_READERS:
+                            default:
+                                throw new AssertionError();
+                        }
+                    case RESIZABLE:
+                        switch (elementType.getOption()) {
+                            case OBJECT:
+                                switch (contention.getOption()) {
+                                    case CONTENTION:
+                                        return ResizableOneToOneBlockingContentionBenchmark.class;
+                                    case NO_CONTENTION:
+                                    case UNBLOCKED_CONTENTION:
+                                    default:
+                                        throw new AssertionError();
+                                }
+                            case HEAP:
+                                switch (contention.getOption()) {
+                                    case CONTENTION:
+                                        return ResizableOneToOneHeapBlockingContentionBenchmark.class;
+                                    case NO_CONTENTION:
+                                    case UNBLOCKED_CONTENTION:
+                                    default:
+                                        throw new AssertionError();
+                                }
+                            case DIRECT:
+                            default:
+                                throw new AssertionError();
+                        }
+                    case PRIORITY:
+                        switch (contention.getOption()) {
+                            case CONTENTION:
+                                return OneToOneBlockingPriorityContentionBenchmark.class;
+                            case NO_CONTENTION:
+                            case UNBLOCKED_CONTENTION:
+                            default:
+                                throw new AssertionError();
+                        }
+                    case OVERWRITING:
+                        switch (contention.getOption()) {
+                            case CONTENTION:
+                                return ManyToManyOverwritingContentionBenchmark.class;
+                            case NO_CONTENTION:
+                            case UNBLOCKED_CONTENTION:
+                            default:
+                                throw new AssertionError();
+                        }
+                    case LOCKFREE_OVERWRITING:
+                        switch (contention.getOption()) {
+                            case CONTENTION:
+                                return LockfreeManyToManyOverwritingContentionBenchmark.class;
+                            case NO_CONTENTION:
+                            case UNBLOCKED_CONTENTION:
+                            default:
+                                throw new AssertionError();
+                        }
+                    case LOCKFREE_STACK:
+                        switch (contention.getOption()) {
+                            case CONTENTION:
+                                return LockfreeStackContentionBenchmark.class;
+                            case NO_CONTENTION:
+                            case UNBLOCKED_CONTENTION:
+                            default:
+                                throw new AssertionError();
+                        }
+                    case BLOCKING_QUEUE:
+                        switch (contention.getOption()) {
+                            case NO_CONTENTION:
+                                return OneToOneBlockingQueueDrainBenchmark.class;
+                            case CONTENTION:
+                            case UNBLOCKED_CONTENTION:
+                            default:
+                                throw new AssertionError();
+                        }
+                    case CONFLATING:
+                        switch (contention.getOption()) {
+                            case CONTENTION:
+                                return ManyToManyConflatingContentionBenchmark.class;
+                            case NO_CONTENTION:
+                            case UNBLOCKED_CONTENTION:
+                            default:
+                                throw new AssertionError();
+                        }
                     case WAIT:
                         switch (wait.getOption()) {
                             case ARRAY:
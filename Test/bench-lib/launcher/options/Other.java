@@ -6,7 +6,33 @@ public enum Other implements Option {
     STACK("Stack"),
     COMPLEX("Complex"),
     WAIT("Wait"),
-    WAIT_TWO_STEP("Wait Two Step");
+    WAIT_TWO_STEP("Wait Two Step"),
+    CLAIMING("Claiming"),
+    DRAIN("Drain"),
+    TAKE_AVAILABLE("Take Available"),
+    PUT_ALL("Put All"),
+    BOUNDED_LOCKFREE("Bounded Lock-free"),
+    OFFER_POLL("Offer Poll"),
+    TIMED("Timed"),
+    SEQUENCED("Sequenced"),
+    POWER_OF_TWO("Power of 2"),
+    INT("Int"),
+    LONG("Long"),
+    MULTICAST("Multicast"),
+    PIPELINE("Pipeline"),
+    STRIPED("Striped"),
+    WORK_STEALING("Work stealing"),
+    FORK_JOIN("ForkJoinPool"),
+    EVENT_PROCESSOR("Event processor"),
+    SIGNAL("Signal"),
+    UNBOUNDED_LOCKFREE("Unbounded lock-free"),
+    RESIZABLE("Resizable"),
+    PRIORITY("Priority"),
+    OVERWRITING("Overwriting"),
+    LOCKFREE_OVERWRITING("Lock-free overwriting"),
+    LOCKFREE_STACK("Lock-free stack"),
+    BLOCKING_QUEUE("Blocking queue"),
+    CONFLATING("Conflating");
 
     private final String name;
 
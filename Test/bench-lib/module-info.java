@@ -7,5 +7,6 @@ module bench {
     opens bench.competitors to eu.menzani;
     opens bench.marshalling to eu.menzani;
     opens bench.object to eu.menzani;
+    opens bench.primitive to eu.menzani;
     opens bench.wait to eu.menzani;
 }
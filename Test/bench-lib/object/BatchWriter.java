@@ -0,0 +1,48 @@
+package bench.object;
+
+import bench.BenchmarkThreadGroup;
+import eu.menzani.benchmark.Profiler;
+import org.ringbuffer.object.ObjectRingBuffer;
+import org.ringbuffer.object.RingBuffer;
+
+class BatchWriter extends BenchmarkThread {
+    static BenchmarkThreadGroup startGroupAsync(int batchSize, ObjectRingBuffer<Event> ringBuffer, Profiler profiler) {
+        BenchmarkThreadGroup group = new BenchmarkThreadGroup(numIterations -> new BatchWriter(numIterations, batchSize, ringBuffer));
+        group.start(profiler);
+        return group;
+    }
+
+    static void runGroupAsync(int batchSize, ObjectRingBuffer<Event> ringBuffer, Profiler profiler) {
+        startGroupAsync(batchSize, ringBuffer, profiler).waitForCompletion(null);
+    }
+
+    static BatchWriter startAsync(int numIterations, int batchSize, ObjectRingBuffer<Event> ringBuffer, Profiler profiler) {
+        BatchWriter writer = new BatchWriter(numIterations, batchSize, ringBuffer);
+        writer.startNow(profiler);
+        return writer;
+    }
+
+    static void runAsync(int numIterations, int batchSize, ObjectRingBuffer<Event> ringBuffer, Profiler profiler) {
+        startAsync(numIterations, batchSize, ringBuffer, profiler).waitForCompletion(null);
+    }
+
+    private final int batchSize;
+
+    private BatchWriter(int numIterations, int batchSize, ObjectRingBuffer<Event> ringBuffer) {
+        super(numIterations, ringBuffer);
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    protected void loop() {
+        RingBuffer<Event> ringBuffer = getRingBuffer();
+        Event[] batch = new Event[batchSize];
+        for (int numIterations = getNumIterations(); numIterations > 0; ) {
+            int length = Math.min(batch.length, numIterations);
+            for (int i = 0; i < length; i++) {
+                batch[i] = new Event(numIterations--);
+            }
+            ringBuffer.putAll(batch, 0, length);
+        }
+    }
+}
@@ -18,6 +18,11 @@ abstract class BenchmarkThread extends AbstractBenchmarkThread {
         return (RingBuffer<Event>) dataStructure;
     }
 
+    @SuppressWarnings("unchecked")
+    ClaimingObjectRingBuffer<Event> getClaimingObjectRingBuffer() {
+        return (ClaimingObjectRingBuffer<Event>) dataStructure;
+    }
+
     @SuppressWarnings("unchecked")
     LockfreeRingBuffer<Event> getLockfreeRingBuffer() {
         return (LockfreeRingBuffer<Event>) dataStructure;
@@ -38,8 +43,43 @@ abstract class BenchmarkThread extends AbstractBenchmarkThread {
         return (LockfreePrefilledRingBuffer<Event>) dataStructure;
     }
 
+    @SuppressWarnings("unchecked")
+    MulticastPrefilledRingBuffer<Event> getMulticastPrefilledRingBuffer() {
+        return (MulticastPrefilledRingBuffer<Event>) dataStructure;
+    }
+
+    @SuppressWarnings("unchecked")
+    MulticastReader<Event> getMulticastReader() {
+        return (MulticastReader<Event>) dataStructure;
+    }
+
+    @SuppressWarnings("unchecked")
+    OverwritingObjectRingBuffer<Event> getOverwritingObjectRingBuffer() {
+        return (OverwritingObjectRingBuffer<Event>) dataStructure;
+    }
+
+    @SuppressWarnings("unchecked")
+    OverwritingRingBuffer<Event> getOverwritingRingBuffer() {
+        return (OverwritingRingBuffer<Event>) dataStructure;
+    }
+
+    @SuppressWarnings("unchecked")
+    ConflatingRingBuffer<Event> getConflatingRingBuffer() {
+        return (ConflatingRingBuffer<Event>) dataStructure;
+    }
+
+    @SuppressWarnings("unchecked")
+    PriorityRingBuffer<Event> getPriorityRingBuffer() {
+        return (PriorityRingBuffer<Event>) dataStructure;
+    }
+
     @SuppressWarnings("unchecked")
     Stack<Event> getStack() {
         return (Stack<Event>) dataStructure;
     }
+
+    @SuppressWarnings("unchecked")
+    LockfreeStack<Event> getLockfreeStack() {
+        return (LockfreeStack<Event>) dataStructure;
+    }
 }
@@ -0,0 +1,40 @@
+package bench.object;
+
+import bench.BenchmarkThreadGroup;
+import eu.menzani.benchmark.Profiler;
+import org.ringbuffer.object.ClaimingObjectRingBuffer;
+
+class ClaimingBatchReader extends BatchReader {
+    static long runGroupAsync(int batchSize, ClaimingObjectRingBuffer<Event> ringBuffer, Profiler profiler) {
+        BenchmarkThreadGroup group = new BenchmarkThreadGroup(numIterations -> new ClaimingBatchReader(numIterations, batchSize, ringBuffer));
+        group.start(null);
+        group.waitForCompletion(profiler);
+        return group.getReaderSum();
+    }
+
+    static long runAsync(int numIterations, int batchSize, ClaimingObjectRingBuffer<Event> ringBuffer, Profiler profiler) {
+        ClaimingBatchReader reader = new ClaimingBatchReader(numIterations, batchSize, ringBuffer);
+        reader.startNow(null);
+        reader.waitForCompletion(profiler);
+        return reader.getSum();
+    }
+
+    private ClaimingBatchReader(int numIterations, int batchSize, ClaimingObjectRingBuffer<Event> ringBuffer) {
+        super(numIterations, batchSize, ringBuffer);
+    }
+
+    @Override
+    long collect() {
+        ClaimingObjectRingBuffer<Event> ringBuffer = getClaimingObjectRingBuffer();
+        int batchSize = this.batchSize;
+        long sum = 0L;
+        for (int numIterations = getNumIterations(); numIterations > 0; numIterations--) {
+            int key = ringBuffer.claimBatch(batchSize);
+            for (int i = 0; i < batchSize; i++) {
+                sum += ringBuffer.takePlain(key, i).getData();
+            }
+            ringBuffer.releaseBatch(key, batchSize);
+        }
+        return sum;
+    }
+}
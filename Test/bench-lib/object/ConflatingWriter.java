@@ -0,0 +1,26 @@
+package bench.object;
+
+import bench.BenchmarkThreadGroup;
+import eu.menzani.benchmark.Profiler;
+import org.ringbuffer.object.ConflatingRingBuffer;
+
+class ConflatingWriter extends BenchmarkThread {
+    static BenchmarkThreadGroup startGroupAsync(ConflatingRingBuffer<Event> ringBuffer, Profiler profiler) {
+        BenchmarkThreadGroup group = new BenchmarkThreadGroup(numIterations -> new ConflatingWriter(numIterations, ringBuffer));
+        group.start(profiler);
+        return group;
+    }
+
+    private ConflatingWriter(int numIterations, ConflatingRingBuffer<Event> ringBuffer) {
+        super(numIterations, ringBuffer);
+    }
+
+    @Override
+    protected void loop() {
+        ConflatingRingBuffer<Event> ringBuffer = getConflatingRingBuffer();
+        long keyBase = getId() << 32;
+        for (int numIterations = getNumIterations(); numIterations > 0; numIterations--) {
+            ringBuffer.put(keyBase | numIterations, new Event(numIterations));
+        }
+    }
+}
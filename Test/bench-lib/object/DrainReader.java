@@ -0,0 +1,46 @@
+package bench.object;
+
+import bench.BenchmarkThreadGroup;
+import eu.menzani.benchmark.Profiler;
+import org.ringbuffer.object.ObjectRingBuffer;
+
+import java.util.function.Consumer;
+
+class DrainReader extends Reader implements Consumer<Event> {
+    static long runGroupAsync(int maxBatchSize, ObjectRingBuffer<Event> ringBuffer, Profiler profiler) {
+        BenchmarkThreadGroup group = new BenchmarkThreadGroup(numIterations -> new DrainReader(numIterations, maxBatchSize, ringBuffer));
+        group.start(null);
+        group.waitForCompletion(profiler);
+        return group.getReaderSum();
+    }
+
+    static long runAsync(int numIterations, int maxBatchSize, ObjectRingBuffer<Event> ringBuffer, Profiler profiler) {
+        DrainReader reader = new DrainReader(numIterations, maxBatchSize, ringBuffer);
+        reader.startNow(null);
+        reader.waitForCompletion(profiler);
+        return reader.getSum();
+    }
+
+    private final int maxBatchSize;
+    private long drainSum;
+
+    private DrainReader(int numIterations, int maxBatchSize, ObjectRingBuffer<Event> ringBuffer) {
+        super(numIterations, ringBuffer);
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    @Override
+    public void accept(Event event) {
+        drainSum += event.getData();
+    }
+
+    @Override
+    long collect() {
+        ObjectRingBuffer<Event> ringBuffer = getObjectRingBuffer();
+        int maxBatchSize = this.maxBatchSize;
+        for (int remaining = getNumIterations(); remaining > 0; ) {
+            remaining -= ringBuffer.drain(this, Math.min(maxBatchSize, remaining));
+        }
+        return drainSum;
+    }
+}
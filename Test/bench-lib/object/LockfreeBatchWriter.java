@@ -0,0 +1,47 @@
+package bench.object;
+
+import bench.BenchmarkThreadGroup;
+import eu.menzani.benchmark.Profiler;
+import org.ringbuffer.object.LockfreeRingBuffer;
+
+class LockfreeBatchWriter extends BenchmarkThread {
+    static BenchmarkThreadGroup startGroupAsync(int batchSize, LockfreeRingBuffer<Event> ringBuffer, Profiler profiler) {
+        BenchmarkThreadGroup group = new BenchmarkThreadGroup(numIterations -> new LockfreeBatchWriter(numIterations, batchSize, ringBuffer));
+        group.start(profiler);
+        return group;
+    }
+
+    static void runGroupAsync(int batchSize, LockfreeRingBuffer<Event> ringBuffer, Profiler profiler) {
+        startGroupAsync(batchSize, ringBuffer, profiler).waitForCompletion(null);
+    }
+
+    static LockfreeBatchWriter startAsync(int numIterations, int batchSize, LockfreeRingBuffer<Event> ringBuffer, Profiler profiler) {
+        LockfreeBatchWriter writer = new LockfreeBatchWriter(numIterations, batchSize, ringBuffer);
+        writer.startNow(profiler);
+        return writer;
+    }
+
+    static void runAsync(int numIterations, int batchSize, LockfreeRingBuffer<Event> ringBuffer, Profiler profiler) {
+        startAsync(numIterations, batchSize, ringBuffer, profiler).waitForCompletion(null);
+    }
+
+    private final int batchSize;
+
+    private LockfreeBatchWriter(int numIterations, int batchSize, LockfreeRingBuffer<Event> ringBuffer) {
+        super(numIterations, ringBuffer);
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    protected void loop() {
+        LockfreeRingBuffer<Event> ringBuffer = getLockfreeRingBuffer();
+        Event[] batch = new Event[batchSize];
+        for (int numIterations = getNumIterations(); numIterations > 0; ) {
+            int length = Math.min(batch.length, numIterations);
+            for (int i = 0; i < length; i++) {
+                batch[i] = new Event(numIterations--);
+            }
+            ringBuffer.putAll(batch, 0, length);
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package bench.object;
+
+import bench.AbstractReader;
+import bench.BenchmarkThreadGroup;
+import eu.menzani.benchmark.Profiler;
+import org.ringbuffer.object.LockfreeStack;
+
+class LockfreeStackReader extends BenchmarkThread implements AbstractReader {
+    static long runGroupAsync(LockfreeStack<Event> stack, Profiler profiler) {
+        BenchmarkThreadGroup group = new BenchmarkThreadGroup(numIterations -> new LockfreeStackReader(numIterations, stack));
+        group.start(null);
+        group.waitForCompletion(profiler);
+        return group.getReaderSum();
+    }
+
+    private long sum;
+
+    private LockfreeStackReader(int numIterations, LockfreeStack<Event> stack) {
+        super(numIterations, stack);
+    }
+
+    @Override
+    public long getSum() {
+        return sum;
+    }
+
+    @Override
+    protected void loop() {
+        LockfreeStack<Event> stack = getLockfreeStack();
+        long sum = 0L;
+        for (int numIterations = getNumIterations(); numIterations > 0; numIterations--) {
+            Event event;
+            while ((event = stack.take()) == null) {
+                Thread.onSpinWait();
+            }
+            sum += event.getData();
+        }
+        this.sum = sum;
+    }
+}
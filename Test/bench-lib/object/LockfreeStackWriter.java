@@ -0,0 +1,28 @@
+package bench.object;
+
+import bench.BenchmarkThreadGroup;
+import eu.menzani.benchmark.Profiler;
+import org.ringbuffer.object.LockfreeStack;
+
+class LockfreeStackWriter extends BenchmarkThread {
+    static BenchmarkThreadGroup startGroupAsync(LockfreeStack<Event> stack, Profiler profiler) {
+        BenchmarkThreadGroup group = new BenchmarkThreadGroup(numIterations -> new LockfreeStackWriter(numIterations, stack));
+        group.start(profiler);
+        return group;
+    }
+
+    private LockfreeStackWriter(int numIterations, LockfreeStack<Event> stack) {
+        super(numIterations, stack);
+    }
+
+    @Override
+    protected void loop() {
+        LockfreeStack<Event> stack = getLockfreeStack();
+        for (int numIterations = getNumIterations(); numIterations > 0; numIterations--) {
+            Event event = new Event(numIterations);
+            while (!stack.put(event)) {
+                Thread.onSpinWait();
+            }
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package bench.object;
+
+import org.ringbuffer.object.MulticastReader;
+
+class MulticastPrefilledProcessor extends BenchmarkThread {
+    static MulticastPrefilledProcessor startAsync(int numIterations, MulticastReader<Event> reader) {
+        MulticastPrefilledProcessor processor = new MulticastPrefilledProcessor(numIterations, reader);
+        processor.startNow(null);
+        return processor;
+    }
+
+    static void runAsync(int numIterations, MulticastReader<Event> reader) {
+        startAsync(numIterations, reader).waitForCompletion(null);
+    }
+
+    private MulticastPrefilledProcessor(int numIterations, MulticastReader<Event> reader) {
+        super(numIterations, reader);
+    }
+
+    @Override
+    protected void loop() {
+        MulticastReader<Event> reader = getMulticastReader();
+        for (int numIterations = getNumIterations(); numIterations > 0; numIterations--) {
+            reader.take();
+        }
+        reader.release();
+    }
+}
@@ -0,0 +1,42 @@
+package bench.object;
+
+import bench.AbstractReader;
+import bench.BenchmarkThreadGroup;
+import eu.menzani.benchmark.Profiler;
+import org.ringbuffer.object.MulticastPrefilledRingBuffer;
+import org.ringbuffer.object.MulticastReader;
+
+class MulticastPrefilledReader extends BenchmarkThread implements AbstractReader {
+    static long runGroupAsync(MulticastPrefilledRingBuffer<Event> ringBuffer, Profiler profiler) {
+        return runGroupAsync(ringBuffer, 0, profiler);
+    }
+
+    static long runGroupAsync(MulticastPrefilledRingBuffer<Event> ringBuffer, int firstReader, Profiler profiler) {
+        int[] nextReader = {firstReader};
+        BenchmarkThreadGroup group = new BenchmarkThreadGroup(numIterations -> new MulticastPrefilledReader(numIterations, ringBuffer.getReader(nextReader[0]++)));
+        group.start(null);
+        group.waitForCompletion(profiler);
+        return group.getReaderSum();
+    }
+
+    private long sum;
+
+    private MulticastPrefilledReader(int numIterations, MulticastReader<Event> reader) {
+        super(numIterations, reader);
+    }
+
+    @Override
+    public long getSum() {
+        return sum;
+    }
+
+    @Override
+    protected void loop() {
+        MulticastReader<Event> reader = getMulticastReader();
+        long sum = 0L;
+        for (int numIterations = getNumIterations(); numIterations > 0; numIterations--) {
+            sum += reader.take().getData();
+        }
+        this.sum = sum;
+    }
+}
@@ -0,0 +1,30 @@
+package bench.object;
+
+import eu.menzani.benchmark.Profiler;
+import org.ringbuffer.object.MulticastPrefilledRingBuffer;
+
+class MulticastPrefilledWriter extends BenchmarkThread {
+    static MulticastPrefilledWriter startAsync(int numIterations, MulticastPrefilledRingBuffer<Event> ringBuffer, Profiler profiler) {
+        MulticastPrefilledWriter writer = new MulticastPrefilledWriter(numIterations, ringBuffer);
+        writer.startNow(profiler);
+        return writer;
+    }
+
+    static void runAsync(int numIterations, MulticastPrefilledRingBuffer<Event> ringBuffer, Profiler profiler) {
+        startAsync(numIterations, ringBuffer, profiler).waitForCompletion(null);
+    }
+
+    private MulticastPrefilledWriter(int numIterations, MulticastPrefilledRingBuffer<Event> ringBuffer) {
+        super(numIterations, ringBuffer);
+    }
+
+    @Override
+    protected void loop() {
+        MulticastPrefilledRingBuffer<Event> ringBuffer = getMulticastPrefilledRingBuffer();
+        for (int numIterations = getNumIterations(); numIterations > 0; numIterations--) {
+            long sequence = ringBuffer.nextSequence();
+            ringBuffer.next(sequence).setData(numIterations);
+            ringBuffer.put(sequence);
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package bench.object;
+
+import eu.menzani.benchmark.Profiler;
+import org.ringbuffer.object.ObjectRingBuffer;
+import org.ringbuffer.object.RingBuffer;
+
+class OfferWriter extends BenchmarkThread {
+    static OfferWriter startAsync(int numIterations, ObjectRingBuffer<Event> ringBuffer, Profiler profiler) {
+        OfferWriter writer = new OfferWriter(numIterations, ringBuffer);
+        writer.startNow(profiler);
+        return writer;
+    }
+
+    private OfferWriter(int numIterations, ObjectRingBuffer<Event> ringBuffer) {
+        super(numIterations, ringBuffer);
+    }
+
+    @Override
+    protected void loop() {
+        RingBuffer<Event> ringBuffer = getRingBuffer();
+        for (int numIterations = getNumIterations(); numIterations > 0; numIterations--) {
+            Event event = new Event(numIterations);
+            while (!ringBuffer.offer(event)) {
+                Thread.onSpinWait();
+            }
+        }
+    }
+}
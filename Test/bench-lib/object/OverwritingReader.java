@@ -0,0 +1,36 @@
+package bench.object;
+
+import bench.AbstractReader;
+import bench.BenchmarkThreadGroup;
+import eu.menzani.benchmark.Profiler;
+import org.ringbuffer.object.OverwritingObjectRingBuffer;
+
+class OverwritingReader extends BenchmarkThread implements AbstractReader {
+    static long runGroupAsync(OverwritingObjectRingBuffer<Event> ringBuffer, Profiler profiler) {
+        BenchmarkThreadGroup group = new BenchmarkThreadGroup(numIterations -> new OverwritingReader(numIterations, ringBuffer));
+        group.start(null);
+        group.waitForCompletion(profiler);
+        return group.getReaderSum();
+    }
+
+    private long sum;
+
+    private OverwritingReader(int numIterations, OverwritingObjectRingBuffer<Event> ringBuffer) {
+        super(numIterations, ringBuffer);
+    }
+
+    @Override
+    public long getSum() {
+        return sum;
+    }
+
+    @Override
+    protected void loop() {
+        OverwritingObjectRingBuffer<Event> ringBuffer = getOverwritingObjectRingBuffer();
+        long sum = 0L;
+        for (int numIterations = getNumIterations(); numIterations > 0; numIterations--) {
+            sum += ringBuffer.take().getData();
+        }
+        this.sum = sum;
+    }
+}
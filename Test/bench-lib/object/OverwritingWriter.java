@@ -0,0 +1,25 @@
+package bench.object;
+
+import bench.BenchmarkThreadGroup;
+import eu.menzani.benchmark.Profiler;
+import org.ringbuffer.object.OverwritingRingBuffer;
+
+class OverwritingWriter extends BenchmarkThread {
+    static BenchmarkThreadGroup startGroupAsync(OverwritingRingBuffer<Event> ringBuffer, Profiler profiler) {
+        BenchmarkThreadGroup group = new BenchmarkThreadGroup(numIterations -> new OverwritingWriter(numIterations, ringBuffer));
+        group.start(profiler);
+        return group;
+    }
+
+    private OverwritingWriter(int numIterations, OverwritingRingBuffer<Event> ringBuffer) {
+        super(numIterations, ringBuffer);
+    }
+
+    @Override
+    protected void loop() {
+        OverwritingRingBuffer<Event> ringBuffer = getOverwritingRingBuffer();
+        for (int numIterations = getNumIterations(); numIterations > 0; numIterations--) {
+            ringBuffer.put(new Event(numIterations));
+        }
+    }
+}
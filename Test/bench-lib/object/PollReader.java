@@ -0,0 +1,39 @@
+package bench.object;
+
+import bench.AbstractReader;
+import eu.menzani.benchmark.Profiler;
+import org.ringbuffer.object.ObjectRingBuffer;
+
+class PollReader extends BenchmarkThread implements AbstractReader {
+    static long runAsync(int numIterations, ObjectRingBuffer<Event> ringBuffer, Profiler profiler) {
+        PollReader reader = new PollReader(numIterations, ringBuffer);
+        reader.startNow(null);
+        reader.waitForCompletion(profiler);
+        return reader.getSum();
+    }
+
+    private long sum;
+
+    private PollReader(int numIterations, ObjectRingBuffer<Event> ringBuffer) {
+        super(numIterations, ringBuffer);
+    }
+
+    @Override
+    public long getSum() {
+        return sum;
+    }
+
+    @Override
+    protected void loop() {
+        ObjectRingBuffer<Event> ringBuffer = getObjectRingBuffer();
+        long sum = 0L;
+        for (int numIterations = getNumIterations(); numIterations > 0; numIterations--) {
+            Event event;
+            while ((event = ringBuffer.poll()) == null) {
+                Thread.onSpinWait();
+            }
+            sum += event.getData();
+        }
+        this.sum = sum;
+    }
+}
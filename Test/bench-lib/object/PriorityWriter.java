@@ -0,0 +1,25 @@
+package bench.object;
+
+import eu.menzani.benchmark.Profiler;
+import org.ringbuffer.object.PriorityRingBuffer;
+
+class PriorityWriter extends BenchmarkThread {
+    static PriorityWriter startAsync(int numIterations, PriorityRingBuffer<Event> ringBuffer, Profiler profiler) {
+        PriorityWriter writer = new PriorityWriter(numIterations, ringBuffer);
+        writer.startNow(profiler);
+        return writer;
+    }
+
+    private PriorityWriter(int numIterations, PriorityRingBuffer<Event> ringBuffer) {
+        super(numIterations, ringBuffer);
+    }
+
+    @Override
+    protected void loop() {
+        PriorityRingBuffer<Event> ringBuffer = getPriorityRingBuffer();
+        int numPriorities = ringBuffer.getNumPriorities();
+        for (int numIterations = getNumIterations(); numIterations > 0; numIterations--) {
+            ringBuffer.put(new Event(numIterations), numIterations % numPriorities);
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package bench.object;
+
+import eu.menzani.benchmark.Profiler;
+import org.ringbuffer.object.RingBuffer;
+import org.ringbuffer.object.RingBufferBlockingQueue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+
+class QueueDrainReader extends Reader {
+    static long runAsync(int numIterations, int maxBatchSize, RingBuffer<Event> ringBuffer, Profiler profiler) {
+        QueueDrainReader reader = new QueueDrainReader(numIterations, maxBatchSize, ringBuffer);
+        reader.startNow(null);
+        reader.waitForCompletion(profiler);
+        return reader.getSum();
+    }
+
+    private final int maxBatchSize;
+
+    private QueueDrainReader(int numIterations, int maxBatchSize, RingBuffer<Event> ringBuffer) {
+        super(numIterations, ringBuffer);
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    @Override
+    long collect() {
+        BlockingQueue<Event> queue = new RingBufferBlockingQueue<>(getRingBuffer());
+        int maxBatchSize = this.maxBatchSize;
+        List<Event> batch = new ArrayList<>(maxBatchSize);
+        long sum = 0L;
+        for (int remaining = getNumIterations(); remaining > 0; ) {
+            remaining -= queue.drainTo(batch, Math.min(maxBatchSize, remaining));
+            for (Event event : batch) {
+                sum += event.getData();
+            }
+            batch.clear();
+        }
+        return sum;
+    }
+}
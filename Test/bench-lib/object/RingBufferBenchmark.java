@@ -6,11 +6,16 @@ import eu.menzani.object.ObjectFactory;
 
 public abstract class RingBufferBenchmark extends AbstractRingBufferBenchmark {
     static final int BLOCKING_SIZE = 5;
+    static final int POWER_OF_TWO_BLOCKING_SIZE = Numbers.getNextPowerOfTwo(BLOCKING_SIZE);
     protected static final int ONE_TO_ONE_SIZE = NUM_ITERATIONS + 1;
     protected static final int NOT_ONE_TO_ONE_SIZE = TOTAL_ELEMENTS + 1;
     protected static final int LOCKFREE_ONE_TO_ONE_SIZE = Numbers.getNextPowerOfTwo(ONE_TO_ONE_SIZE);
     protected static final int LOCKFREE_NOT_ONE_TO_ONE_SIZE = Numbers.getNextPowerOfTwo(NOT_ONE_TO_ONE_SIZE);
+    protected static final int POWER_OF_TWO_ONE_TO_ONE_SIZE = LOCKFREE_ONE_TO_ONE_SIZE;
 
+    static final int UNBOUNDED_CHUNK_SIZE = 1024;
+    static final int PRIORITIES = 3;
+    static final int PRIORITY_STARVATION_LIMIT = 8;
     static final int BATCH_SIZE = 20;
     static final int BLOCKING_BATCH_SIZE = 4;
 
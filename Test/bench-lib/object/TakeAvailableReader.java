@@ -0,0 +1,46 @@
+package bench.object;
+
+import bench.BenchmarkThreadGroup;
+import eu.menzani.benchmark.Profiler;
+import org.ringbuffer.object.ObjectRingBuffer;
+
+class TakeAvailableReader extends Reader {
+    static long runGroupAsync(int maxBatchSize, ObjectRingBuffer<Event> ringBuffer, Profiler profiler) {
+        BenchmarkThreadGroup group = new BenchmarkThreadGroup(numIterations -> new TakeAvailableReader(numIterations, maxBatchSize, ringBuffer));
+        group.start(null);
+        group.waitForCompletion(profiler);
+        return group.getReaderSum();
+    }
+
+    static long runAsync(int numIterations, int maxBatchSize, ObjectRingBuffer<Event> ringBuffer, Profiler profiler) {
+        TakeAvailableReader reader = new TakeAvailableReader(numIterations, maxBatchSize, ringBuffer);
+        reader.startNow(null);
+        reader.waitForCompletion(profiler);
+        return reader.getSum();
+    }
+
+    private final int maxBatchSize;
+
+    private TakeAvailableReader(int numIterations, int maxBatchSize, ObjectRingBuffer<Event> ringBuffer) {
+        super(numIterations, ringBuffer);
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    @Override
+    long collect() {
+        ObjectRingBuffer<Event> ringBuffer = getObjectRingBuffer();
+        Event[] batch = new Event[maxBatchSize];
+        long sum = 0L;
+        for (int remaining = getNumIterations(); remaining > 0; ) {
+            if (remaining < batch.length) {
+                batch = new Event[remaining];
+            }
+            int size = ringBuffer.takeAvailable(batch);
+            for (int i = 0; i < size; i++) {
+                sum += batch[i].getData();
+            }
+            remaining -= size;
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,41 @@
+package bench.object;
+
+import bench.AbstractReader;
+import eu.menzani.benchmark.Profiler;
+import org.ringbuffer.object.ObjectRingBuffer;
+
+import java.util.concurrent.TimeUnit;
+
+class TimedReader extends BenchmarkThread implements AbstractReader {
+    static long runAsync(int numIterations, ObjectRingBuffer<Event> ringBuffer, Profiler profiler) {
+        TimedReader reader = new TimedReader(numIterations, ringBuffer);
+        reader.startNow(null);
+        reader.waitForCompletion(profiler);
+        return reader.getSum();
+    }
+
+    private long sum;
+
+    private TimedReader(int numIterations, ObjectRingBuffer<Event> ringBuffer) {
+        super(numIterations, ringBuffer);
+    }
+
+    @Override
+    public long getSum() {
+        return sum;
+    }
+
+    @Override
+    protected void loop() {
+        ObjectRingBuffer<Event> ringBuffer = getObjectRingBuffer();
+        long sum = 0L;
+        for (int numIterations = getNumIterations(); numIterations > 0; ) {
+            Event event = ringBuffer.take(100L, TimeUnit.MICROSECONDS);
+            if (event != null) {
+                sum += event.getData();
+                numIterations--;
+            }
+        }
+        this.sum = sum;
+    }
+}
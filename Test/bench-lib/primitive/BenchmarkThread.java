@@ -0,0 +1,22 @@
+package bench.primitive;
+
+import bench.AbstractBenchmarkThread;
+import org.ringbuffer.primitive.*;
+
+abstract class BenchmarkThread extends AbstractBenchmarkThread {
+    BenchmarkThread(int numIterations, Object ringBuffer) {
+        super(numIterations, ringBuffer);
+    }
+
+    IntRingBuffer getIntRingBuffer() {
+        return (IntRingBuffer) dataStructure;
+    }
+
+    LockfreeIntRingBuffer getLockfreeIntRingBuffer() {
+        return (LockfreeIntRingBuffer) dataStructure;
+    }
+
+    LongRingBuffer getLongRingBuffer() {
+        return (LongRingBuffer) dataStructure;
+    }
+}
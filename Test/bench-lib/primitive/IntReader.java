@@ -0,0 +1,43 @@
+package bench.primitive;
+
+import bench.AbstractReader;
+import bench.BenchmarkThreadGroup;
+import eu.menzani.benchmark.Profiler;
+import org.ringbuffer.primitive.IntRingBuffer;
+
+class IntReader extends BenchmarkThread implements AbstractReader {
+    static long runGroupAsync(IntRingBuffer ringBuffer, Profiler profiler) {
+        BenchmarkThreadGroup group = new BenchmarkThreadGroup(numIterations -> new IntReader(numIterations, ringBuffer));
+        group.start(null);
+        group.waitForCompletion(profiler);
+        return group.getReaderSum();
+    }
+
+    static long runAsync(int numIterations, IntRingBuffer ringBuffer, Profiler profiler) {
+        IntReader reader = new IntReader(numIterations, ringBuffer);
+        reader.startNow(null);
+        reader.waitForCompletion(profiler);
+        return reader.getSum();
+    }
+
+    private long sum;
+
+    private IntReader(int numIterations, IntRingBuffer ringBuffer) {
+        super(numIterations, ringBuffer);
+    }
+
+    @Override
+    public long getSum() {
+        return sum;
+    }
+
+    @Override
+    protected void loop() {
+        IntRingBuffer ringBuffer = getIntRingBuffer();
+        long sum = 0L;
+        for (int numIterations = getNumIterations(); numIterations > 0; numIterations--) {
+            sum += ringBuffer.takeInt();
+        }
+        this.sum = sum;
+    }
+}
@@ -0,0 +1,39 @@
+package bench.primitive;
+
+import bench.BenchmarkThreadGroup;
+import eu.menzani.benchmark.Profiler;
+import org.ringbuffer.primitive.IntRingBuffer;
+
+class IntWriter extends BenchmarkThread {
+    static BenchmarkThreadGroup startGroupAsync(IntRingBuffer ringBuffer, Profiler profiler) {
+        BenchmarkThreadGroup group = new BenchmarkThreadGroup(numIterations -> new IntWriter(numIterations, ringBuffer));
+        group.start(profiler);
+        return group;
+    }
+
+    static void runGroupAsync(IntRingBuffer ringBuffer, Profiler profiler) {
+        startGroupAsync(ringBuffer, profiler).waitForCompletion(null);
+    }
+
+    static IntWriter startAsync(int numIterations, IntRingBuffer ringBuffer, Profiler profiler) {
+        IntWriter writer = new IntWriter(numIterations, ringBuffer);
+        writer.startNow(profiler);
+        return writer;
+    }
+
+    static void runAsync(int numIterations, IntRingBuffer ringBuffer, Profiler profiler) {
+        startAsync(numIterations, ringBuffer, profiler).waitForCompletion(null);
+    }
+
+    private IntWriter(int numIterations, IntRingBuffer ringBuffer) {
+        super(numIterations, ringBuffer);
+    }
+
+    @Override
+    protected void loop() {
+        IntRingBuffer ringBuffer = getIntRingBuffer();
+        for (int numIterations = getNumIterations(); numIterations > 0; numIterations--) {
+            ringBuffer.put(numIterations);
+        }
+    }
+}
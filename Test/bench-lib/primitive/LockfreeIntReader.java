@@ -0,0 +1,43 @@
+package bench.primitive;
+
+import bench.AbstractReader;
+import bench.BenchmarkThreadGroup;
+import eu.menzani.benchmark.Profiler;
+import org.ringbuffer.primitive.LockfreeIntRingBuffer;
+
+class LockfreeIntReader extends BenchmarkThread implements AbstractReader {
+    static long runGroupAsync(LockfreeIntRingBuffer ringBuffer, Profiler profiler) {
+        BenchmarkThreadGroup group = new BenchmarkThreadGroup(numIterations -> new LockfreeIntReader(numIterations, ringBuffer));
+        group.start(null);
+        group.waitForCompletion(profiler);
+        return group.getReaderSum();
+    }
+
+    static long runAsync(int numIterations, LockfreeIntRingBuffer ringBuffer, Profiler profiler) {
+        LockfreeIntReader reader = new LockfreeIntReader(numIterations, ringBuffer);
+        reader.startNow(null);
+        reader.waitForCompletion(profiler);
+        return reader.getSum();
+    }
+
+    private long sum;
+
+    private LockfreeIntReader(int numIterations, LockfreeIntRingBuffer ringBuffer) {
+        super(numIterations, ringBuffer);
+    }
+
+    @Override
+    public long getSum() {
+        return sum;
+    }
+
+    @Override
+    protected void loop() {
+        LockfreeIntRingBuffer ringBuffer = getLockfreeIntRingBuffer();
+        long sum = 0L;
+        for (int numIterations = getNumIterations(); numIterations > 0; numIterations--) {
+            sum += ringBuffer.takeInt();
+        }
+        this.sum = sum;
+    }
+}
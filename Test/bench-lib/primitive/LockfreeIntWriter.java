@@ -0,0 +1,39 @@
+package bench.primitive;
+
+import bench.BenchmarkThreadGroup;
+import eu.menzani.benchmark.Profiler;
+import org.ringbuffer.primitive.LockfreeIntRingBuffer;
+
+class LockfreeIntWriter extends BenchmarkThread {
+    static BenchmarkThreadGroup startGroupAsync(LockfreeIntRingBuffer ringBuffer, Profiler profiler) {
+        BenchmarkThreadGroup group = new BenchmarkThreadGroup(numIterations -> new LockfreeIntWriter(numIterations, ringBuffer));
+        group.start(profiler);
+        return group;
+    }
+
+    static void runGroupAsync(LockfreeIntRingBuffer ringBuffer, Profiler profiler) {
+        startGroupAsync(ringBuffer, profiler).waitForCompletion(null);
+    }
+
+    static LockfreeIntWriter startAsync(int numIterations, LockfreeIntRingBuffer ringBuffer, Profiler profiler) {
+        LockfreeIntWriter writer = new LockfreeIntWriter(numIterations, ringBuffer);
+        writer.startNow(profiler);
+        return writer;
+    }
+
+    static void runAsync(int numIterations, LockfreeIntRingBuffer ringBuffer, Profiler profiler) {
+        startAsync(numIterations, ringBuffer, profiler).waitForCompletion(null);
+    }
+
+    private LockfreeIntWriter(int numIterations, LockfreeIntRingBuffer ringBuffer) {
+        super(numIterations, ringBuffer);
+    }
+
+    @Override
+    protected void loop() {
+        LockfreeIntRingBuffer ringBuffer = getLockfreeIntRingBuffer();
+        for (int numIterations = getNumIterations(); numIterations > 0; numIterations--) {
+            ringBuffer.put(numIterations);
+        }
+    }
+}
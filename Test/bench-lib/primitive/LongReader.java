@@ -0,0 +1,43 @@
+package bench.primitive;
+
+import bench.AbstractReader;
+import bench.BenchmarkThreadGroup;
+import eu.menzani.benchmark.Profiler;
+import org.ringbuffer.primitive.LongRingBuffer;
+
+class LongReader extends BenchmarkThread implements AbstractReader {
+    static long runGroupAsync(LongRingBuffer ringBuffer, Profiler profiler) {
+        BenchmarkThreadGroup group = new BenchmarkThreadGroup(numIterations -> new LongReader(numIterations, ringBuffer));
+        group.start(null);
+        group.waitForCompletion(profiler);
+        return group.getReaderSum();
+    }
+
+    static long runAsync(int numIterations, LongRingBuffer ringBuffer, Profiler profiler) {
+        LongReader reader = new LongReader(numIterations, ringBuffer);
+        reader.startNow(null);
+        reader.waitForCompletion(profiler);
+        return reader.getSum();
+    }
+
+    private long sum;
+
+    private LongReader(int numIterations, LongRingBuffer ringBuffer) {
+        super(numIterations, ringBuffer);
+    }
+
+    @Override
+    public long getSum() {
+        return sum;
+    }
+
+    @Override
+    protected void loop() {
+        LongRingBuffer ringBuffer = getLongRingBuffer();
+        long sum = 0L;
+        for (int numIterations = getNumIterations(); numIterations > 0; numIterations--) {
+            sum += ringBuffer.takeLong();
+        }
+        this.sum = sum;
+    }
+}
@@ -0,0 +1,39 @@
+package bench.primitive;
+
+import bench.BenchmarkThreadGroup;
+import eu.menzani.benchmark.Profiler;
+import org.ringbuffer.primitive.LongRingBuffer;
+
+class LongWriter extends BenchmarkThread {
+    static BenchmarkThreadGroup startGroupAsync(LongRingBuffer ringBuffer, Profiler profiler) {
+        BenchmarkThreadGroup group = new BenchmarkThreadGroup(numIterations -> new LongWriter(numIterations, ringBuffer));
+        group.start(profiler);
+        return group;
+    }
+
+    static void runGroupAsync(LongRingBuffer ringBuffer, Profiler profiler) {
+        startGroupAsync(ringBuffer, profiler).waitForCompletion(null);
+    }
+
+    static LongWriter startAsync(int numIterations, LongRingBuffer ringBuffer, Profiler profiler) {
+        LongWriter writer = new LongWriter(numIterations, ringBuffer);
+        writer.startNow(profiler);
+        return writer;
+    }
+
+    static void runAsync(int numIterations, LongRingBuffer ringBuffer, Profiler profiler) {
+        startAsync(numIterations, ringBuffer, profiler).waitForCompletion(null);
+    }
+
+    private LongWriter(int numIterations, LongRingBuffer ringBuffer) {
+        super(numIterations, ringBuffer);
+    }
+
+    @Override
+    protected void loop() {
+        LongRingBuffer ringBuffer = getLongRingBuffer();
+        for (int numIterations = getNumIterations(); numIterations > 0; numIterations--) {
+            ringBuffer.put(numIterations);
+        }
+    }
+}
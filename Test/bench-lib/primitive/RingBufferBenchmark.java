@@ -0,0 +1,10 @@
+package bench.primitive;
+
+import bench.AbstractRingBufferBenchmark;
+import eu.menzani.lang.Numbers;
+
+abstract class RingBufferBenchmark extends AbstractRingBufferBenchmark {
+    static final int BLOCKING_SIZE = 5;
+    static final int ONE_TO_ONE_SIZE = NUM_ITERATIONS + 1;
+    static final int LOCKFREE_BLOCKING_SIZE = Numbers.getNextPowerOfTwo(BLOCKING_SIZE);
+}
@@ -0,0 +1,32 @@
+package bench.object;
+
+import eu.menzani.benchmark.Profiler;
+import org.ringbuffer.object.LockfreeStack;
+
+public class LockfreeStackContentionBenchmark extends RingBufferBenchmark {
+    private static class Holder {
+        static final LockfreeStack<Event> stack = new LockfreeStack<>(NOT_ONE_TO_ONE_SIZE * 2);
+
+        static {
+            stack.pushMany(stack.getCapacity() / 2, FILLER);
+        }
+    }
+
+    public static void main(String[] args) {
+        LockfreeStackContentionBenchmark benchmark = new LockfreeStackContentionBenchmark();
+        benchmark.doNotCheckSum();
+        benchmark.runBenchmark();
+    }
+
+    @Override
+    protected long getSum() {
+        return MANY_WRITERS_SUM;
+    }
+
+    @Override
+    protected long measure() {
+        Profiler profiler = createThroughputProfiler(TOTAL_ELEMENTS);
+        LockfreeStackWriter.startGroupAsync(Holder.stack, profiler);
+        return LockfreeStackReader.runGroupAsync(Holder.stack, profiler);
+    }
+}
@@ -0,0 +1,16 @@
+package bench.object;
+
+import eu.menzani.benchmark.Profiler;
+
+public class OneToOneBlockingDrainBenchmark extends OneToOneBlockingBenchmark {
+    public static void main(String[] args) {
+        new OneToOneBlockingDrainBenchmark().runBenchmark();
+    }
+
+    @Override
+    protected long measure() {
+        Profiler profiler = createThroughputProfiler(NUM_ITERATIONS);
+        Writer.runAsync(NUM_ITERATIONS, RING_BUFFER, profiler);
+        return DrainReader.runAsync(NUM_ITERATIONS, BATCH_SIZE, RING_BUFFER, profiler);
+    }
+}
@@ -0,0 +1,16 @@
+package bench.object;
+
+import eu.menzani.benchmark.Profiler;
+
+public class OneToOneBlockingQueueDrainBenchmark extends OneToOneBlockingBenchmark {
+    public static void main(String[] args) {
+        new OneToOneBlockingQueueDrainBenchmark().runBenchmark();
+    }
+
+    @Override
+    protected long measure() {
+        Profiler profiler = createThroughputProfiler(NUM_ITERATIONS);
+        Writer.runAsync(NUM_ITERATIONS, RING_BUFFER, profiler);
+        return QueueDrainReader.runAsync(NUM_ITERATIONS, BATCH_SIZE, RING_BUFFER, profiler);
+    }
+}
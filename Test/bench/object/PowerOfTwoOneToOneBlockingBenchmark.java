@@ -0,0 +1,16 @@
+package bench.object;
+
+import eu.menzani.benchmark.Profiler;
+
+public class PowerOfTwoOneToOneBlockingBenchmark extends PowerOfTwoOneToOneBlockingContentionPerfBenchmark {
+    public static void main(String[] args) {
+        new PowerOfTwoOneToOneBlockingBenchmark().runBenchmark();
+    }
+
+    @Override
+    protected long measure() {
+        Profiler profiler = createThroughputProfiler(NUM_ITERATIONS);
+        Writer.runAsync(NUM_ITERATIONS, RING_BUFFER, profiler);
+        return Reader.runAsync(NUM_ITERATIONS, RING_BUFFER, profiler);
+    }
+}
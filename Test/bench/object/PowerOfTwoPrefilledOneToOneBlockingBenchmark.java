@@ -0,0 +1,16 @@
+package bench.object;
+
+import eu.menzani.benchmark.Profiler;
+
+public class PowerOfTwoPrefilledOneToOneBlockingBenchmark extends PowerOfTwoPrefilledOneToOneBlockingContentionPerfBenchmark {
+    public static void main(String[] args) {
+        new PowerOfTwoPrefilledOneToOneBlockingBenchmark().runBenchmark();
+    }
+
+    @Override
+    protected long measure() {
+        Profiler profiler = createThroughputProfiler(NUM_ITERATIONS);
+        PrefilledWriter2.runAsync(NUM_ITERATIONS, RING_BUFFER, profiler);
+        return Reader.runAsync(NUM_ITERATIONS, RING_BUFFER, profiler);
+    }
+}
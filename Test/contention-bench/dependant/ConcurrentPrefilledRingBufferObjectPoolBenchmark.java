@@ -4,9 +4,7 @@ import bench.Config;
 import eu.menzani.benchmark.Benchmark;
 import eu.menzani.benchmark.ResultFormat;
 import eu.menzani.lang.Numbers;
-import eu.menzani.object.ConcurrentObjectPoolThreadLocalCache;
 import eu.menzani.object.ObjectPool;
-import eu.menzani.object.PrefilledObjectPool;
 import org.ringbuffer.dependant.ConcurrentPrefilledRingBufferObjectPool;
 
 public class ConcurrentPrefilledRingBufferObjectPoolBenchmark extends Benchmark {
@@ -28,9 +26,7 @@ public class ConcurrentPrefilledRingBufferObjectPoolBenchmark extends Benchmark
 
     @Override
     protected void init() {
-        objectPool = new ConcurrentObjectPoolThreadLocalCache<>(
-                () -> new PrefilledObjectPool<>(64, PoolObject.FILLER),
-                new ConcurrentPrefilledRingBufferObjectPool<>(Numbers.getNextPowerOfTwo(1_000_000), PoolObject.FILLER));
+        objectPool = new ConcurrentPrefilledRingBufferObjectPool<>(Numbers.getNextPowerOfTwo(1_000_000), PoolObject.FILLER);
     }
 
     @Override
@@ -0,0 +1,16 @@
+package bench.dependant;
+
+import java.util.concurrent.ForkJoinPool;
+
+public class ForkJoinPoolContentionBenchmark extends SchedulerContentionBenchmark {
+    private static final ForkJoinPool POOL = new ForkJoinPool(CONCURRENT_PRODUCERS_AND_CONSUMERS);
+
+    public static void main(String[] args) {
+        new ForkJoinPoolContentionBenchmark().runBenchmark();
+    }
+
+    @Override
+    void execute(Runnable task) {
+        POOL.execute(task);
+    }
+}
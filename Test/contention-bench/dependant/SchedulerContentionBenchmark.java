@@ -0,0 +1,65 @@
+package bench.dependant;
+
+import bench.AbstractRingBufferBenchmark;
+import eu.menzani.benchmark.Profiler;
+
+import java.util.concurrent.atomic.LongAdder;
+
+abstract class SchedulerContentionBenchmark extends AbstractRingBufferBenchmark {
+    private static final int BURST_SIZE = 1024;
+
+    private final LongAdder sum = new LongAdder();
+    private final LongAdder count = new LongAdder();
+
+    @Override
+    protected long getSum() {
+        return ONE_TO_MANY_SUM;
+    }
+
+    @Override
+    protected long measure() {
+        sum.reset();
+        count.reset();
+        Profiler profiler = createThroughputProfiler(TOTAL_ELEMENTS);
+        profiler.start();
+        execute(this::fork);
+        while (count.sum() != TOTAL_ELEMENTS) {
+            Thread.onSpinWait();
+        }
+        profiler.stop();
+        return sum.sum();
+    }
+
+    /**
+     * All tasks are forked by a single worker, in bursts, so that the others have to steal them.
+     */
+    private void fork() {
+        for (int i = 1; i <= TOTAL_ELEMENTS; i++) {
+            int value = i;
+            execute(() -> run(value));
+            if (i % BURST_SIZE == 0) {
+                compute(i);
+            }
+        }
+    }
+
+    private void run(int value) {
+        compute(value);
+        sum.add(value);
+        count.increment();
+    }
+
+    private static void compute(int value) {
+        int x = value;
+        for (int i = 0; i < 100; i++) {
+            x ^= x << 13;
+            x ^= x >>> 17;
+            x ^= x << 5;
+        }
+        if (x == 0) {
+            throw new AssertionError();
+        }
+    }
+
+    abstract void execute(Runnable task);
+}
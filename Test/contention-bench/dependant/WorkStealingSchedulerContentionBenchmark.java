@@ -0,0 +1,20 @@
+package bench.dependant;
+
+import org.ringbuffer.dependant.WorkStealingScheduler;
+
+public class WorkStealingSchedulerContentionBenchmark extends SchedulerContentionBenchmark {
+    private static final WorkStealingScheduler SCHEDULER = new WorkStealingScheduler(CONCURRENT_PRODUCERS_AND_CONSUMERS, 4096);
+
+    static {
+        SCHEDULER.start();
+    }
+
+    public static void main(String[] args) {
+        new WorkStealingSchedulerContentionBenchmark().runBenchmark();
+    }
+
+    @Override
+    void execute(Runnable task) {
+        SCHEDULER.execute(task);
+    }
+}
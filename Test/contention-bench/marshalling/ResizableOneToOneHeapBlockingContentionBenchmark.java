@@ -0,0 +1,26 @@
+package bench.marshalling;
+
+import org.ringbuffer.ResizePolicy;
+import org.ringbuffer.marshalling.HeapRingBuffer;
+
+public class ResizableOneToOneHeapBlockingContentionBenchmark extends OneToOneHeapBlockingContentionBenchmark {
+    public static class Holder {
+        public static final HeapRingBuffer RING_BUFFER =
+                HeapRingBuffer.withCapacity(BLOCKING_SIZE)
+                        .oneReader()
+                        .oneWriter()
+                        .blocking()
+                        .resizable()
+                        .resizingWith(ResizePolicy.occupancy(BLOCKING_SIZE, ONE_TO_ONE_SIZE))
+                        .build();
+    }
+
+    public static void main(String[] args) {
+        new ResizableOneToOneHeapBlockingContentionBenchmark().runBenchmark();
+    }
+
+    @Override
+    HeapRingBuffer getRingBuffer() {
+        return Holder.RING_BUFFER;
+    }
+}
@@ -0,0 +1,33 @@
+package bench.object;
+
+import eu.menzani.benchmark.Profiler;
+import org.ringbuffer.object.BoundedLockfreeRingBuffer;
+import org.ringbuffer.object.RingBuffer;
+
+public class BoundedLockfreeManyWritersContentionBenchmark extends RingBufferBenchmark {
+    public static class Holder {
+        public static final BoundedLockfreeRingBuffer<Event> RING_BUFFER =
+                RingBuffer.<Event>withCapacity(LOCKFREE_NOT_ONE_TO_ONE_SIZE)
+                        .oneReader()
+                        .manyWriters()
+                        .lockfree()
+                        .bounded()
+                        .build();
+    }
+
+    public static void main(String[] args) {
+        new BoundedLockfreeManyWritersContentionBenchmark().runBenchmark();
+    }
+
+    @Override
+    protected long getSum() {
+        return MANY_WRITERS_SUM;
+    }
+
+    @Override
+    protected long measure() {
+        Profiler profiler = createThroughputProfiler(TOTAL_ELEMENTS);
+        LockfreeWriter.startGroupAsync(Holder.RING_BUFFER, profiler);
+        return LockfreeReader.runAsync(TOTAL_ELEMENTS, Holder.RING_BUFFER, profiler);
+    }
+}
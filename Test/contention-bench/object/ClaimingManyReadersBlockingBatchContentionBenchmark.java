@@ -0,0 +1,16 @@
+package bench.object;
+
+import eu.menzani.benchmark.Profiler;
+
+public class ClaimingManyReadersBlockingBatchContentionBenchmark extends ClaimingManyReadersBlockingContentionBenchmark {
+    public static void main(String[] args) {
+        new ClaimingManyReadersBlockingBatchContentionBenchmark().runBenchmark();
+    }
+
+    @Override
+    protected long measure() {
+        Profiler profiler = createThroughputProfiler(TOTAL_ELEMENTS);
+        Writer.startAsync(TOTAL_ELEMENTS, getRingBuffer(), profiler);
+        return ClaimingBatchReader.runGroupAsync(BLOCKING_BATCH_SIZE, getRingBuffer(), profiler);
+    }
+}
@@ -0,0 +1,24 @@
+package bench.object;
+
+import org.ringbuffer.object.ClaimingRingBuffer;
+import org.ringbuffer.object.RingBuffer;
+
+public class ClaimingManyReadersBlockingContentionBenchmark extends ManyReadersBlockingContentionBenchmark {
+    public static class Holder {
+        public static final ClaimingRingBuffer<Event> RING_BUFFER =
+                RingBuffer.<Event>withCapacity(BLOCKING_SIZE)
+                        .manyReaders()
+                        .oneWriter()
+                        .blocking()
+                        .claiming()
+                        .build();
+    }
+
+    public static void main(String[] args) {
+        new ClaimingManyReadersBlockingContentionBenchmark().runBenchmark();
+    }
+
+    ClaimingRingBuffer<Event> getRingBuffer() {
+        return Holder.RING_BUFFER;
+    }
+}
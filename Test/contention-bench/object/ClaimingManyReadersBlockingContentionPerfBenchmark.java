@@ -0,0 +1,22 @@
+package bench.object;
+
+import org.ringbuffer.object.ClaimingRingBuffer;
+import org.ringbuffer.object.RingBuffer;
+
+public class ClaimingManyReadersBlockingContentionPerfBenchmark extends ClaimingManyReadersBlockingContentionBenchmark {
+    public static final ClaimingRingBuffer<Event> RING_BUFFER =
+            RingBuffer.<Event>withCapacity(NOT_ONE_TO_ONE_SIZE)
+                    .manyReaders()
+                    .oneWriter()
+                    .blocking()
+                    .claiming()
+                    .build();
+
+    public static void main(String[] args) {
+        new ClaimingManyReadersBlockingContentionPerfBenchmark().runBenchmark();
+    }
+
+    ClaimingRingBuffer<Event> getRingBuffer() {
+        return RING_BUFFER;
+    }
+}
@@ -0,0 +1,21 @@
+package bench.object;
+
+import org.ringbuffer.object.RingBuffer;
+
+public class ClaimingManyToManyBlockingContentionPerfBenchmark extends ClaimingManyToManyBlockingContentionBenchmark {
+    public static final RingBuffer<Event> RING_BUFFER =
+            RingBuffer.<Event>withCapacity(NOT_ONE_TO_ONE_SIZE)
+                    .manyReaders()
+                    .manyWriters()
+                    .blocking()
+                    .claiming()
+                    .build();
+
+    public static void main(String[] args) {
+        new ClaimingManyToManyBlockingContentionPerfBenchmark().runBenchmark();
+    }
+
+    RingBuffer<Event> getRingBuffer() {
+        return RING_BUFFER;
+    }
+}
@@ -0,0 +1,23 @@
+package bench.object;
+
+import org.ringbuffer.object.RingBuffer;
+
+public class ClaimingManyWritersBlockingContentionBenchmark extends ManyWritersBlockingContentionBenchmark {
+    public static class Holder {
+        public static final RingBuffer<Event> RING_BUFFER =
+                RingBuffer.<Event>withCapacity(BLOCKING_SIZE)
+                        .oneReader()
+                        .manyWriters()
+                        .blocking()
+                        .claiming()
+                        .build();
+    }
+
+    public static void main(String[] args) {
+        new ClaimingManyWritersBlockingContentionBenchmark().runBenchmark();
+    }
+
+    RingBuffer<Event> getRingBuffer() {
+        return Holder.RING_BUFFER;
+    }
+}
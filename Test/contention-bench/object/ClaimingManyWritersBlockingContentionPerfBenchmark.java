@@ -0,0 +1,21 @@
+package bench.object;
+
+import org.ringbuffer.object.RingBuffer;
+
+public class ClaimingManyWritersBlockingContentionPerfBenchmark extends ClaimingManyWritersBlockingContentionBenchmark {
+    public static final RingBuffer<Event> RING_BUFFER =
+            RingBuffer.<Event>withCapacity(NOT_ONE_TO_ONE_SIZE)
+                    .oneReader()
+                    .manyWriters()
+                    .blocking()
+                    .claiming()
+                    .build();
+
+    public static void main(String[] args) {
+        new ClaimingManyWritersBlockingContentionPerfBenchmark().runBenchmark();
+    }
+
+    RingBuffer<Event> getRingBuffer() {
+        return RING_BUFFER;
+    }
+}
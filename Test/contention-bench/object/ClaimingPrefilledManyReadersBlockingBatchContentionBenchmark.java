@@ -0,0 +1,33 @@
+package bench.object;
+
+import eu.menzani.benchmark.Profiler;
+import org.ringbuffer.object.ClaimingPrefilledRingBuffer;
+import org.ringbuffer.object.PrefilledRingBuffer;
+
+public class ClaimingPrefilledManyReadersBlockingBatchContentionBenchmark extends PrefilledManyReadersBlockingContentionBenchmark {
+    public static class Holder {
+        public static final ClaimingPrefilledRingBuffer<Event> RING_BUFFER =
+                PrefilledRingBuffer.<Event>withCapacity(BLOCKING_SIZE)
+                        .fillWith(FILLER)
+                        .manyReaders()
+                        .oneWriter()
+                        .blocking()
+                        .claiming()
+                        .build();
+    }
+
+    public static void main(String[] args) {
+        new ClaimingPrefilledManyReadersBlockingBatchContentionBenchmark().runBenchmark();
+    }
+
+    @Override
+    protected long measure() {
+        Profiler profiler = createThroughputProfiler(TOTAL_ELEMENTS);
+        PrefilledWriter2.startAsync(TOTAL_ELEMENTS, getRingBuffer(), profiler);
+        return ClaimingBatchReader.runGroupAsync(BLOCKING_BATCH_SIZE, getRingBuffer(), profiler);
+    }
+
+    ClaimingPrefilledRingBuffer<Event> getRingBuffer() {
+        return Holder.RING_BUFFER;
+    }
+}
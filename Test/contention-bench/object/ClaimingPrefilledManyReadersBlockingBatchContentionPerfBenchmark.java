@@ -0,0 +1,23 @@
+package bench.object;
+
+import org.ringbuffer.object.ClaimingPrefilledRingBuffer;
+import org.ringbuffer.object.PrefilledRingBuffer;
+
+public class ClaimingPrefilledManyReadersBlockingBatchContentionPerfBenchmark extends ClaimingPrefilledManyReadersBlockingBatchContentionBenchmark {
+    public static final ClaimingPrefilledRingBuffer<Event> RING_BUFFER =
+            PrefilledRingBuffer.<Event>withCapacity(NOT_ONE_TO_ONE_SIZE)
+                    .fillWith(FILLER)
+                    .manyReaders()
+                    .oneWriter()
+                    .blocking()
+                    .claiming()
+                    .build();
+
+    public static void main(String[] args) {
+        new ClaimingPrefilledManyReadersBlockingBatchContentionPerfBenchmark().runBenchmark();
+    }
+
+    ClaimingPrefilledRingBuffer<Event> getRingBuffer() {
+        return RING_BUFFER;
+    }
+}
@@ -0,0 +1,19 @@
+package bench.object;
+
+import org.ringbuffer.object.LockfreeConcurrentOverwritingRingBuffer;
+import org.ringbuffer.object.OverwritingRingBuffer;
+
+public class LockfreeManyToManyOverwritingContentionBenchmark extends ManyToManyOverwritingContentionBenchmark {
+    public static class Holder {
+        public static final OverwritingRingBuffer<Event> RING_BUFFER = new LockfreeConcurrentOverwritingRingBuffer<>(LOCKFREE_NOT_ONE_TO_ONE_SIZE);
+    }
+
+    public static void main(String[] args) {
+        new LockfreeManyToManyOverwritingContentionBenchmark().runBenchmark();
+    }
+
+    @Override
+    OverwritingRingBuffer<Event> getRingBuffer() {
+        return Holder.RING_BUFFER;
+    }
+}
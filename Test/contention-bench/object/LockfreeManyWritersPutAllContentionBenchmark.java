@@ -0,0 +1,16 @@
+package bench.object;
+
+import eu.menzani.benchmark.Profiler;
+
+public class LockfreeManyWritersPutAllContentionBenchmark extends LockfreeManyWritersContentionBenchmark {
+    public static void main(String[] args) {
+        new LockfreeManyWritersPutAllContentionBenchmark().runBenchmark();
+    }
+
+    @Override
+    protected long measure() {
+        Profiler profiler = createThroughputProfiler(TOTAL_ELEMENTS);
+        LockfreeBatchWriter.startGroupAsync(BATCH_SIZE, Holder.RING_BUFFER, profiler);
+        return LockfreeReader.runAsync(TOTAL_ELEMENTS, Holder.RING_BUFFER, profiler);
+    }
+}
@@ -0,0 +1,16 @@
+package bench.object;
+
+import eu.menzani.benchmark.Profiler;
+
+public class ManyReadersBlockingDrainContentionBenchmark extends ManyReadersBlockingContentionBenchmark {
+    public static void main(String[] args) {
+        new ManyReadersBlockingDrainContentionBenchmark().runBenchmark();
+    }
+
+    @Override
+    protected long measure() {
+        Profiler profiler = createThroughputProfiler(TOTAL_ELEMENTS);
+        Writer.startAsync(TOTAL_ELEMENTS, getRingBuffer(), profiler);
+        return DrainReader.runGroupAsync(BATCH_SIZE, getRingBuffer(), profiler);
+    }
+}
@@ -0,0 +1,16 @@
+package bench.object;
+
+import eu.menzani.benchmark.Profiler;
+
+public class ManyToManyBlockingDrainContentionBenchmark extends ManyToManyBlockingContentionBenchmark {
+    public static void main(String[] args) {
+        new ManyToManyBlockingDrainContentionBenchmark().runBenchmark();
+    }
+
+    @Override
+    protected long measure() {
+        Profiler profiler = createThroughputProfiler(TOTAL_ELEMENTS);
+        Writer.startGroupAsync(getRingBuffer(), profiler);
+        return DrainReader.runGroupAsync(BATCH_SIZE, getRingBuffer(), profiler);
+    }
+}
@@ -0,0 +1,37 @@
+package bench.object;
+
+import eu.menzani.benchmark.Profiler;
+import org.ringbuffer.object.RingBuffer;
+import org.ringbuffer.object.SequencedRingBuffer;
+
+public class ManyToManyBlockingSequencedContentionBenchmark extends RingBufferBenchmark {
+    public static class Holder {
+        public static final SequencedRingBuffer<Event> RING_BUFFER =
+                RingBuffer.<Event>withCapacity(BLOCKING_SIZE)
+                        .manyReaders()
+                        .manyWriters()
+                        .blocking()
+                        .sequenced()
+                        .build();
+    }
+
+    public static void main(String[] args) {
+        new ManyToManyBlockingSequencedContentionBenchmark().runBenchmark();
+    }
+
+    @Override
+    protected long getSum() {
+        return MANY_WRITERS_SUM;
+    }
+
+    @Override
+    protected long measure() {
+        Profiler profiler = createThroughputProfiler(TOTAL_ELEMENTS);
+        Writer.startGroupAsync(getRingBuffer(), profiler);
+        return Reader.runGroupAsync(getRingBuffer(), profiler);
+    }
+
+    RingBuffer<Event> getRingBuffer() {
+        return Holder.RING_BUFFER;
+    }
+}
@@ -0,0 +1,31 @@
+package bench.object;
+
+import eu.menzani.benchmark.Profiler;
+import org.ringbuffer.object.ConflatingRingBuffer;
+import org.ringbuffer.object.RingBuffer;
+
+/**
+ * Each writer puts distinct keys, and the capacity is large enough that no element is discarded,
+ * so that the sum can be checked.
+ */
+public class ManyToManyConflatingContentionBenchmark extends RingBufferBenchmark {
+    public static class Holder {
+        public static final ConflatingRingBuffer<Event> RING_BUFFER = RingBuffer.<Event>withCapacity(NOT_ONE_TO_ONE_SIZE).conflating();
+    }
+
+    public static void main(String[] args) {
+        new ManyToManyConflatingContentionBenchmark().runBenchmark();
+    }
+
+    @Override
+    protected long getSum() {
+        return MANY_WRITERS_SUM;
+    }
+
+    @Override
+    protected long measure() {
+        Profiler profiler = createThroughputProfiler(TOTAL_ELEMENTS);
+        ConflatingWriter.startGroupAsync(Holder.RING_BUFFER, profiler);
+        return OverwritingReader.runGroupAsync(Holder.RING_BUFFER, profiler);
+    }
+}
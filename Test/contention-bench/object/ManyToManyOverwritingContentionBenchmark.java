@@ -0,0 +1,34 @@
+package bench.object;
+
+import eu.menzani.benchmark.Profiler;
+import org.ringbuffer.object.ConcurrentOverwritingRingBuffer;
+import org.ringbuffer.object.OverwritingRingBuffer;
+
+/**
+ * The capacity is large enough that no element is overwritten, so that the sum can be checked.
+ */
+public class ManyToManyOverwritingContentionBenchmark extends RingBufferBenchmark {
+    public static class Holder {
+        public static final OverwritingRingBuffer<Event> RING_BUFFER = new ConcurrentOverwritingRingBuffer<>(LOCKFREE_NOT_ONE_TO_ONE_SIZE);
+    }
+
+    public static void main(String[] args) {
+        new ManyToManyOverwritingContentionBenchmark().runBenchmark();
+    }
+
+    @Override
+    protected long getSum() {
+        return MANY_WRITERS_SUM;
+    }
+
+    @Override
+    protected long measure() {
+        Profiler profiler = createThroughputProfiler(TOTAL_ELEMENTS);
+        OverwritingWriter.startGroupAsync(getRingBuffer(), profiler);
+        return OverwritingReader.runGroupAsync(getRingBuffer(), profiler);
+    }
+
+    OverwritingRingBuffer<Event> getRingBuffer() {
+        return Holder.RING_BUFFER;
+    }
+}
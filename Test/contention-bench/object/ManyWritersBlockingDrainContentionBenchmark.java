@@ -0,0 +1,16 @@
+package bench.object;
+
+import eu.menzani.benchmark.Profiler;
+
+public class ManyWritersBlockingDrainContentionBenchmark extends ManyWritersBlockingContentionBenchmark {
+    public static void main(String[] args) {
+        new ManyWritersBlockingDrainContentionBenchmark().runBenchmark();
+    }
+
+    @Override
+    protected long measure() {
+        Profiler profiler = createThroughputProfiler(TOTAL_ELEMENTS);
+        Writer.startGroupAsync(getRingBuffer(), profiler);
+        return DrainReader.runAsync(TOTAL_ELEMENTS, BATCH_SIZE, getRingBuffer(), profiler);
+    }
+}
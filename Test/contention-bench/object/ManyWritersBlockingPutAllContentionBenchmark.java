@@ -0,0 +1,16 @@
+package bench.object;
+
+import eu.menzani.benchmark.Profiler;
+
+public class ManyWritersBlockingPutAllContentionBenchmark extends ManyWritersBlockingContentionBenchmark {
+    public static void main(String[] args) {
+        new ManyWritersBlockingPutAllContentionBenchmark().runBenchmark();
+    }
+
+    @Override
+    protected long measure() {
+        Profiler profiler = createThroughputProfiler(TOTAL_ELEMENTS);
+        BatchWriter.startGroupAsync(BLOCKING_BATCH_SIZE, getRingBuffer(), profiler);
+        return Reader.runAsync(TOTAL_ELEMENTS, getRingBuffer(), profiler);
+    }
+}
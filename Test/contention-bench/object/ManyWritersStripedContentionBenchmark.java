@@ -0,0 +1,33 @@
+package bench.object;
+
+import eu.menzani.benchmark.Profiler;
+import org.ringbuffer.object.RingBuffer;
+
+public class ManyWritersStripedContentionBenchmark extends RingBufferBenchmark {
+    public static class Holder {
+        public static final RingBuffer<Event> RING_BUFFER =
+                RingBuffer.<Event>withCapacity(BLOCKING_SIZE)
+                        .oneReader()
+                        .manyWriters()
+                        .blocking()
+                        .striped()
+                        .lanes(CONCURRENT_PRODUCERS_AND_CONSUMERS)
+                        .build();
+    }
+
+    public static void main(String[] args) {
+        new ManyWritersStripedContentionBenchmark().runBenchmark();
+    }
+
+    @Override
+    protected long getSum() {
+        return MANY_WRITERS_SUM;
+    }
+
+    @Override
+    protected long measure() {
+        Profiler profiler = createThroughputProfiler(TOTAL_ELEMENTS);
+        Writer.startGroupAsync(Holder.RING_BUFFER, profiler);
+        return Reader.runAsync(TOTAL_ELEMENTS, Holder.RING_BUFFER, profiler);
+    }
+}
@@ -0,0 +1,16 @@
+package bench.object;
+
+import eu.menzani.benchmark.Profiler;
+
+public class OneToOneBlockingDrainContentionBenchmark extends OneToOneBlockingContentionBenchmark {
+    public static void main(String[] args) {
+        new OneToOneBlockingDrainContentionBenchmark().runBenchmark();
+    }
+
+    @Override
+    protected long measure() {
+        Profiler profiler = createThroughputProfiler(NUM_ITERATIONS);
+        Writer.startAsync(NUM_ITERATIONS, getRingBuffer(), profiler);
+        return DrainReader.runAsync(NUM_ITERATIONS, BATCH_SIZE, getRingBuffer(), profiler);
+    }
+}
@@ -0,0 +1,51 @@
+package bench.object;
+
+import eu.menzani.benchmark.Profiler;
+import org.ringbuffer.dependant.EventHandler;
+import org.ringbuffer.dependant.EventProcessor;
+import org.ringbuffer.object.RingBuffer;
+
+public class OneToOneBlockingEventProcessorContentionBenchmark extends RingBufferBenchmark {
+    public static class Holder {
+        public static final RingBuffer<Event> RING_BUFFER =
+                RingBuffer.<Event>withCapacity(BLOCKING_SIZE)
+                        .oneReader()
+                        .oneWriter()
+                        .blocking()
+                        .build();
+    }
+
+    public static void main(String[] args) {
+        new OneToOneBlockingEventProcessorContentionBenchmark().runBenchmark();
+    }
+
+    @Override
+    protected long getSum() {
+        return ONE_TO_ONE_SUM;
+    }
+
+    @Override
+    protected long measure() {
+        SumHandler handler = new SumHandler();
+        EventProcessor<Event> eventProcessor = new EventProcessor<>(Holder.RING_BUFFER, handler);
+        eventProcessor.start();
+        Profiler profiler = createThroughputProfiler(NUM_ITERATIONS);
+        Writer.runAsync(NUM_ITERATIONS, Holder.RING_BUFFER, profiler);
+        try {
+            eventProcessor.drainAndHalt();
+        } catch (InterruptedException e) {
+            throw new AssertionError(e);
+        }
+        profiler.stop();
+        return handler.sum;
+    }
+
+    private static class SumHandler implements EventHandler<Event> {
+        long sum;
+
+        @Override
+        public void onEvent(Event event, boolean endOfBatch) {
+            sum += event.getData();
+        }
+    }
+}
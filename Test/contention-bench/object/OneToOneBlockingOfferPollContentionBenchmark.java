@@ -0,0 +1,35 @@
+package bench.object;
+
+import eu.menzani.benchmark.Profiler;
+import org.ringbuffer.object.RingBuffer;
+
+public class OneToOneBlockingOfferPollContentionBenchmark extends RingBufferBenchmark {
+    public static class Holder {
+        public static final RingBuffer<Event> RING_BUFFER =
+                RingBuffer.<Event>withCapacity(BLOCKING_SIZE)
+                        .oneReader()
+                        .oneWriter()
+                        .blocking()
+                        .build();
+    }
+
+    public static void main(String[] args) {
+        new OneToOneBlockingOfferPollContentionBenchmark().runBenchmark();
+    }
+
+    @Override
+    protected long getSum() {
+        return ONE_TO_ONE_SUM;
+    }
+
+    @Override
+    protected long measure() {
+        Profiler profiler = createThroughputProfiler(NUM_ITERATIONS);
+        OfferWriter.startAsync(NUM_ITERATIONS, getRingBuffer(), profiler);
+        return PollReader.runAsync(NUM_ITERATIONS, getRingBuffer(), profiler);
+    }
+
+    RingBuffer<Event> getRingBuffer() {
+        return Holder.RING_BUFFER;
+    }
+}
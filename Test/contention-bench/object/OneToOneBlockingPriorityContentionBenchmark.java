@@ -0,0 +1,35 @@
+package bench.object;
+
+import eu.menzani.benchmark.Profiler;
+import org.ringbuffer.object.PriorityRingBuffer;
+import org.ringbuffer.object.RingBuffer;
+
+public class OneToOneBlockingPriorityContentionBenchmark extends RingBufferBenchmark {
+    public static class Holder {
+        public static final PriorityRingBuffer<Event> RING_BUFFER =
+                RingBuffer.<Event>withCapacity(BLOCKING_SIZE)
+                        .oneReader()
+                        .oneWriter()
+                        .blocking()
+                        .prioritized()
+                        .priorities(PRIORITIES)
+                        .starvationLimit(PRIORITY_STARVATION_LIMIT)
+                        .build();
+    }
+
+    public static void main(String[] args) {
+        new OneToOneBlockingPriorityContentionBenchmark().runBenchmark();
+    }
+
+    @Override
+    protected long getSum() {
+        return ONE_TO_ONE_SUM;
+    }
+
+    @Override
+    protected long measure() {
+        Profiler profiler = createThroughputProfiler(NUM_ITERATIONS);
+        PriorityWriter.startAsync(NUM_ITERATIONS, Holder.RING_BUFFER, profiler);
+        return Reader.runAsync(NUM_ITERATIONS, Holder.RING_BUFFER, profiler);
+    }
+}
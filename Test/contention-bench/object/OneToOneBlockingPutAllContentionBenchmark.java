@@ -0,0 +1,16 @@
+package bench.object;
+
+import eu.menzani.benchmark.Profiler;
+
+public class OneToOneBlockingPutAllContentionBenchmark extends OneToOneBlockingContentionBenchmark {
+    public static void main(String[] args) {
+        new OneToOneBlockingPutAllContentionBenchmark().runBenchmark();
+    }
+
+    @Override
+    protected long measure() {
+        Profiler profiler = createThroughputProfiler(NUM_ITERATIONS);
+        BatchWriter.startAsync(NUM_ITERATIONS, BLOCKING_BATCH_SIZE, getRingBuffer(), profiler);
+        return Reader.runAsync(NUM_ITERATIONS, getRingBuffer(), profiler);
+    }
+}
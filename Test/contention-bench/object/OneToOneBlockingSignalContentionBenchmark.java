@@ -0,0 +1,33 @@
+package bench.object;
+
+import eu.menzani.benchmark.Profiler;
+import org.ringbuffer.object.RingBuffer;
+import org.ringbuffer.wait.SignalBusyWaitStrategy;
+
+public class OneToOneBlockingSignalContentionBenchmark extends RingBufferBenchmark {
+    public static class Holder {
+        public static final RingBuffer<Event> RING_BUFFER =
+                RingBuffer.<Event>withCapacity(BLOCKING_SIZE)
+                        .oneReader()
+                        .oneWriter()
+                        .blocking(new SignalBusyWaitStrategy())
+                        .waitingWith(new SignalBusyWaitStrategy())
+                        .build();
+    }
+
+    public static void main(String[] args) {
+        new OneToOneBlockingSignalContentionBenchmark().runBenchmark();
+    }
+
+    @Override
+    protected long getSum() {
+        return ONE_TO_ONE_SUM;
+    }
+
+    @Override
+    protected long measure() {
+        Profiler profiler = createThroughputProfiler(NUM_ITERATIONS);
+        Writer.startAsync(NUM_ITERATIONS, Holder.RING_BUFFER, profiler);
+        return Reader.runAsync(NUM_ITERATIONS, Holder.RING_BUFFER, profiler);
+    }
+}
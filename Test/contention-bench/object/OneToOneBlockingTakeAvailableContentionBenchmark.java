@@ -0,0 +1,16 @@
+package bench.object;
+
+import eu.menzani.benchmark.Profiler;
+
+public class OneToOneBlockingTakeAvailableContentionBenchmark extends OneToOneBlockingContentionBenchmark {
+    public static void main(String[] args) {
+        new OneToOneBlockingTakeAvailableContentionBenchmark().runBenchmark();
+    }
+
+    @Override
+    protected long measure() {
+        Profiler profiler = createThroughputProfiler(NUM_ITERATIONS);
+        Writer.startAsync(NUM_ITERATIONS, getRingBuffer(), profiler);
+        return TakeAvailableReader.runAsync(NUM_ITERATIONS, BATCH_SIZE, getRingBuffer(), profiler);
+    }
+}
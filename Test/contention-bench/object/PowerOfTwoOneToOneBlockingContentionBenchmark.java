@@ -0,0 +1,24 @@
+package bench.object;
+
+import org.ringbuffer.object.RingBuffer;
+
+public class PowerOfTwoOneToOneBlockingContentionBenchmark extends OneToOneBlockingContentionBenchmark {
+    public static class Holder {
+        public static final RingBuffer<Event> RING_BUFFER =
+                RingBuffer.<Event>withCapacity(POWER_OF_TWO_BLOCKING_SIZE)
+                        .oneReader()
+                        .oneWriter()
+                        .blocking()
+                        .powerOfTwo()
+                        .build();
+    }
+
+    public static void main(String[] args) {
+        new PowerOfTwoOneToOneBlockingContentionBenchmark().runBenchmark();
+    }
+
+    @Override
+    RingBuffer<Event> getRingBuffer() {
+        return Holder.RING_BUFFER;
+    }
+}
@@ -0,0 +1,22 @@
+package bench.object;
+
+import org.ringbuffer.object.RingBuffer;
+
+public class PowerOfTwoOneToOneBlockingContentionPerfBenchmark extends PowerOfTwoOneToOneBlockingContentionBenchmark {
+    public static final RingBuffer<Event> RING_BUFFER =
+            RingBuffer.<Event>withCapacity(POWER_OF_TWO_ONE_TO_ONE_SIZE)
+                    .oneReader()
+                    .oneWriter()
+                    .blocking()
+                    .powerOfTwo()
+                    .build();
+
+    public static void main(String[] args) {
+        new PowerOfTwoOneToOneBlockingContentionPerfBenchmark().runBenchmark();
+    }
+
+    @Override
+    RingBuffer<Event> getRingBuffer() {
+        return RING_BUFFER;
+    }
+}
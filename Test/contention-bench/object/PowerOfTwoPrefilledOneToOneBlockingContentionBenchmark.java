@@ -0,0 +1,26 @@
+package bench.object;
+
+import org.ringbuffer.object.PrefilledRingBuffer;
+import org.ringbuffer.object.PrefilledRingBuffer2;
+
+public class PowerOfTwoPrefilledOneToOneBlockingContentionBenchmark extends PrefilledOneToOneBlockingContentionBenchmark {
+    public static class Holder {
+        public static final PrefilledRingBuffer2<Event> RING_BUFFER =
+                PrefilledRingBuffer.<Event>withCapacity(POWER_OF_TWO_BLOCKING_SIZE)
+                        .fillWith(FILLER)
+                        .oneReader()
+                        .oneWriter()
+                        .powerOfTwo()
+                        .blocking()
+                        .build();
+    }
+
+    public static void main(String[] args) {
+        new PowerOfTwoPrefilledOneToOneBlockingContentionBenchmark().runBenchmark();
+    }
+
+    @Override
+    PrefilledRingBuffer2<Event> getRingBuffer() {
+        return Holder.RING_BUFFER;
+    }
+}
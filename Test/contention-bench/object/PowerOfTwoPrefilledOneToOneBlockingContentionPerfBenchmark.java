@@ -0,0 +1,24 @@
+package bench.object;
+
+import org.ringbuffer.object.PrefilledRingBuffer;
+import org.ringbuffer.object.PrefilledRingBuffer2;
+
+public class PowerOfTwoPrefilledOneToOneBlockingContentionPerfBenchmark extends PowerOfTwoPrefilledOneToOneBlockingContentionBenchmark {
+    public static final PrefilledRingBuffer2<Event> RING_BUFFER =
+            PrefilledRingBuffer.<Event>withCapacity(POWER_OF_TWO_ONE_TO_ONE_SIZE)
+                    .fillWith(FILLER)
+                    .oneReader()
+                    .oneWriter()
+                    .powerOfTwo()
+                    .blocking()
+                    .build();
+
+    public static void main(String[] args) {
+        new PowerOfTwoPrefilledOneToOneBlockingContentionPerfBenchmark().runBenchmark();
+    }
+
+    @Override
+    PrefilledRingBuffer2<Event> getRingBuffer() {
+        return RING_BUFFER;
+    }
+}
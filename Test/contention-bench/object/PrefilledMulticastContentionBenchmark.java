@@ -0,0 +1,33 @@
+package bench.object;
+
+import eu.menzani.benchmark.Profiler;
+import org.ringbuffer.object.MulticastPrefilledRingBuffer;
+import org.ringbuffer.object.PrefilledRingBuffer;
+
+public class PrefilledMulticastContentionBenchmark extends RingBufferBenchmark {
+    public static final MulticastPrefilledRingBuffer<Event> RING_BUFFER =
+            PrefilledRingBuffer.<Event>withCapacity(ONE_TO_ONE_SIZE)
+                    .fillWith(FILLER)
+                    .oneReader()
+                    .oneWriter()
+                    .blocking()
+                    .multicast()
+                    .readers(CONCURRENT_PRODUCERS_AND_CONSUMERS)
+                    .build();
+
+    public static void main(String[] args) {
+        new PrefilledMulticastContentionBenchmark().runBenchmark();
+    }
+
+    @Override
+    protected long getSum() {
+        return MANY_WRITERS_SUM;
+    }
+
+    @Override
+    protected long measure() {
+        Profiler profiler = createThroughputProfiler(NUM_ITERATIONS);
+        MulticastPrefilledWriter.startAsync(NUM_ITERATIONS, RING_BUFFER, profiler);
+        return MulticastPrefilledReader.runGroupAsync(RING_BUFFER, profiler);
+    }
+}
@@ -0,0 +1,42 @@
+package bench.object;
+
+import eu.menzani.benchmark.Profiler;
+import org.ringbuffer.object.MulticastPrefilledRingBuffer;
+import org.ringbuffer.object.MulticastPrefilledRingBufferBuilder;
+import org.ringbuffer.object.PrefilledRingBuffer;
+
+public class PrefilledPipelineContentionBenchmark extends RingBufferBenchmark {
+    public static final MulticastPrefilledRingBuffer<Event> RING_BUFFER = createRingBuffer();
+
+    private static MulticastPrefilledRingBuffer<Event> createRingBuffer() {
+        MulticastPrefilledRingBufferBuilder<Event> builder =
+                PrefilledRingBuffer.<Event>withCapacity(ONE_TO_ONE_SIZE)
+                        .fillWith(FILLER)
+                        .oneReader()
+                        .oneWriter()
+                        .blocking()
+                        .multicast()
+                        .readers(1 + CONCURRENT_PRODUCERS_AND_CONSUMERS);
+        for (int i = 1; i <= CONCURRENT_PRODUCERS_AND_CONSUMERS; i++) {
+            builder.dependsOn(i, 0);
+        }
+        return builder.build();
+    }
+
+    public static void main(String[] args) {
+        new PrefilledPipelineContentionBenchmark().runBenchmark();
+    }
+
+    @Override
+    protected long getSum() {
+        return MANY_WRITERS_SUM;
+    }
+
+    @Override
+    protected long measure() {
+        Profiler profiler = createThroughputProfiler(NUM_ITERATIONS);
+        MulticastPrefilledWriter.startAsync(NUM_ITERATIONS, RING_BUFFER, profiler);
+        MulticastPrefilledProcessor.startAsync(NUM_ITERATIONS, RING_BUFFER.getReader(0));
+        return MulticastPrefilledReader.runGroupAsync(RING_BUFFER, 1, profiler);
+    }
+}
@@ -0,0 +1,26 @@
+package bench.object;
+
+import org.ringbuffer.ResizePolicy;
+import org.ringbuffer.object.RingBuffer;
+
+public class ResizableOneToOneBlockingContentionBenchmark extends OneToOneBlockingContentionBenchmark {
+    public static class Holder {
+        public static final RingBuffer<Event> RING_BUFFER =
+                RingBuffer.<Event>withCapacity(POWER_OF_TWO_BLOCKING_SIZE)
+                        .oneReader()
+                        .oneWriter()
+                        .blocking()
+                        .resizable()
+                        .resizingWith(ResizePolicy.occupancy(POWER_OF_TWO_BLOCKING_SIZE, POWER_OF_TWO_ONE_TO_ONE_SIZE))
+                        .build();
+    }
+
+    public static void main(String[] args) {
+        new ResizableOneToOneBlockingContentionBenchmark().runBenchmark();
+    }
+
+    @Override
+    RingBuffer<Event> getRingBuffer() {
+        return Holder.RING_BUFFER;
+    }
+}
@@ -0,0 +1,33 @@
+package bench.object;
+
+import eu.menzani.benchmark.Profiler;
+import org.ringbuffer.object.RingBuffer;
+import org.ringbuffer.object.UnboundedLockfreeRingBuffer;
+
+public class UnboundedLockfreeManyWritersContentionBenchmark extends RingBufferBenchmark {
+    public static class Holder {
+        public static final UnboundedLockfreeRingBuffer<Event> RING_BUFFER =
+                RingBuffer.<Event>withCapacity(UNBOUNDED_CHUNK_SIZE)
+                        .oneReader()
+                        .manyWriters()
+                        .lockfree()
+                        .unbounded()
+                        .build();
+    }
+
+    public static void main(String[] args) {
+        new UnboundedLockfreeManyWritersContentionBenchmark().runBenchmark();
+    }
+
+    @Override
+    protected long getSum() {
+        return MANY_WRITERS_SUM;
+    }
+
+    @Override
+    protected long measure() {
+        Profiler profiler = createThroughputProfiler(TOTAL_ELEMENTS);
+        LockfreeWriter.startGroupAsync(Holder.RING_BUFFER, profiler);
+        return LockfreeReader.runAsync(TOTAL_ELEMENTS, Holder.RING_BUFFER, profiler);
+    }
+}
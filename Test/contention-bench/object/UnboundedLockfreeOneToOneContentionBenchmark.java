@@ -0,0 +1,33 @@
+package bench.object;
+
+import eu.menzani.benchmark.Profiler;
+import org.ringbuffer.object.RingBuffer;
+import org.ringbuffer.object.UnboundedLockfreeRingBuffer;
+
+public class UnboundedLockfreeOneToOneContentionBenchmark extends RingBufferBenchmark {
+    public static class Holder {
+        public static final UnboundedLockfreeRingBuffer<Event> RING_BUFFER =
+                RingBuffer.<Event>withCapacity(UNBOUNDED_CHUNK_SIZE)
+                        .oneReader()
+                        .oneWriter()
+                        .lockfree()
+                        .unbounded()
+                        .build();
+    }
+
+    public static void main(String[] args) {
+        new UnboundedLockfreeOneToOneContentionBenchmark().runBenchmark();
+    }
+
+    @Override
+    protected long getSum() {
+        return ONE_TO_ONE_SUM;
+    }
+
+    @Override
+    protected long measure() {
+        Profiler profiler = createThroughputProfiler(NUM_ITERATIONS);
+        LockfreeWriter.startAsync(NUM_ITERATIONS, Holder.RING_BUFFER, profiler);
+        return LockfreeReader.runAsync(NUM_ITERATIONS, Holder.RING_BUFFER, profiler);
+    }
+}
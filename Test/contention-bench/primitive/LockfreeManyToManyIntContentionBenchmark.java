@@ -0,0 +1,34 @@
+package bench.primitive;
+
+import eu.menzani.benchmark.Profiler;
+import org.ringbuffer.primitive.IntRingBuffer;
+import org.ringbuffer.primitive.LockfreeIntRingBuffer;
+
+public class LockfreeManyToManyIntContentionBenchmark extends RingBufferBenchmark {
+    public static final LockfreeIntRingBuffer RING_BUFFER =
+            IntRingBuffer.withCapacity(LOCKFREE_BLOCKING_SIZE)
+                    .manyReaders()
+                    .manyWriters()
+                    .lockfree()
+                    .build();
+
+    public static void main(String[] args) {
+        new LockfreeManyToManyIntContentionBenchmark().runBenchmark();
+    }
+
+    @Override
+    protected long getSum() {
+        return MANY_WRITERS_SUM;
+    }
+
+    @Override
+    protected long measure() {
+        Profiler profiler = createThroughputProfiler(TOTAL_ELEMENTS);
+        LockfreeIntWriter.startGroupAsync(getRingBuffer(), profiler);
+        return LockfreeIntReader.runGroupAsync(getRingBuffer(), profiler);
+    }
+
+    LockfreeIntRingBuffer getRingBuffer() {
+        return RING_BUFFER;
+    }
+}
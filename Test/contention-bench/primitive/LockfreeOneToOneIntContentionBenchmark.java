@@ -0,0 +1,34 @@
+package bench.primitive;
+
+import eu.menzani.benchmark.Profiler;
+import org.ringbuffer.primitive.IntRingBuffer;
+import org.ringbuffer.primitive.LockfreeIntRingBuffer;
+
+public class LockfreeOneToOneIntContentionBenchmark extends RingBufferBenchmark {
+    public static final LockfreeIntRingBuffer RING_BUFFER =
+            IntRingBuffer.withCapacity(LOCKFREE_BLOCKING_SIZE)
+                    .oneReader()
+                    .oneWriter()
+                    .lockfree()
+                    .build();
+
+    public static void main(String[] args) {
+        new LockfreeOneToOneIntContentionBenchmark().runBenchmark();
+    }
+
+    @Override
+    protected long getSum() {
+        return ONE_TO_ONE_SUM;
+    }
+
+    @Override
+    protected long measure() {
+        Profiler profiler = createThroughputProfiler(NUM_ITERATIONS);
+        LockfreeIntWriter.startAsync(NUM_ITERATIONS, getRingBuffer(), profiler);
+        return LockfreeIntReader.runAsync(NUM_ITERATIONS, getRingBuffer(), profiler);
+    }
+
+    LockfreeIntRingBuffer getRingBuffer() {
+        return RING_BUFFER;
+    }
+}
@@ -0,0 +1,35 @@
+package bench.primitive;
+
+import eu.menzani.benchmark.Profiler;
+import org.ringbuffer.primitive.IntRingBuffer;
+
+public class ManyToManyIntBlockingContentionBenchmark extends RingBufferBenchmark {
+    public static class Holder {
+        public static final IntRingBuffer RING_BUFFER =
+                IntRingBuffer.withCapacity(BLOCKING_SIZE)
+                        .manyReaders()
+                        .manyWriters()
+                        .blocking()
+                        .build();
+    }
+
+    public static void main(String[] args) {
+        new ManyToManyIntBlockingContentionBenchmark().runBenchmark();
+    }
+
+    @Override
+    protected long getSum() {
+        return MANY_WRITERS_SUM;
+    }
+
+    @Override
+    protected long measure() {
+        Profiler profiler = createThroughputProfiler(TOTAL_ELEMENTS);
+        IntWriter.startGroupAsync(getRingBuffer(), profiler);
+        return IntReader.runGroupAsync(getRingBuffer(), profiler);
+    }
+
+    IntRingBuffer getRingBuffer() {
+        return Holder.RING_BUFFER;
+    }
+}
@@ -0,0 +1,35 @@
+package bench.primitive;
+
+import eu.menzani.benchmark.Profiler;
+import org.ringbuffer.primitive.IntRingBuffer;
+
+public class OneToOneIntBlockingContentionBenchmark extends RingBufferBenchmark {
+    public static class Holder {
+        public static final IntRingBuffer RING_BUFFER =
+                IntRingBuffer.withCapacity(BLOCKING_SIZE)
+                        .oneReader()
+                        .oneWriter()
+                        .blocking()
+                        .build();
+    }
+
+    public static void main(String[] args) {
+        new OneToOneIntBlockingContentionBenchmark().runBenchmark();
+    }
+
+    @Override
+    protected long getSum() {
+        return ONE_TO_ONE_SUM;
+    }
+
+    @Override
+    protected long measure() {
+        Profiler profiler = createThroughputProfiler(NUM_ITERATIONS);
+        IntWriter.startAsync(NUM_ITERATIONS, getRingBuffer(), profiler);
+        return IntReader.runAsync(NUM_ITERATIONS, getRingBuffer(), profiler);
+    }
+
+    IntRingBuffer getRingBuffer() {
+        return Holder.RING_BUFFER;
+    }
+}
@@ -0,0 +1,21 @@
+package bench.primitive;
+
+import org.ringbuffer.primitive.IntRingBuffer;
+
+public class OneToOneIntBlockingContentionPerfBenchmark extends OneToOneIntBlockingContentionBenchmark {
+    public static final IntRingBuffer RING_BUFFER =
+            IntRingBuffer.withCapacity(ONE_TO_ONE_SIZE)
+                    .oneReader()
+                    .oneWriter()
+                    .blocking()
+                    .build();
+
+    public static void main(String[] args) {
+        new OneToOneIntBlockingContentionPerfBenchmark().runBenchmark();
+    }
+
+    @Override
+    IntRingBuffer getRingBuffer() {
+        return RING_BUFFER;
+    }
+}
@@ -0,0 +1,35 @@
+package bench.primitive;
+
+import eu.menzani.benchmark.Profiler;
+import org.ringbuffer.primitive.LongRingBuffer;
+
+public class OneToOneLongBlockingContentionBenchmark extends RingBufferBenchmark {
+    public static class Holder {
+        public static final LongRingBuffer RING_BUFFER =
+                LongRingBuffer.withCapacity(BLOCKING_SIZE)
+                        .oneReader()
+                        .oneWriter()
+                        .blocking()
+                        .build();
+    }
+
+    public static void main(String[] args) {
+        new OneToOneLongBlockingContentionBenchmark().runBenchmark();
+    }
+
+    @Override
+    protected long getSum() {
+        return ONE_TO_ONE_SUM;
+    }
+
+    @Override
+    protected long measure() {
+        Profiler profiler = createThroughputProfiler(NUM_ITERATIONS);
+        LongWriter.startAsync(NUM_ITERATIONS, getRingBuffer(), profiler);
+        return LongReader.runAsync(NUM_ITERATIONS, getRingBuffer(), profiler);
+    }
+
+    LongRingBuffer getRingBuffer() {
+        return Holder.RING_BUFFER;
+    }
+}
@@ -22,6 +22,7 @@ public class MarshallingRingBufferBuilderTest extends RingBufferBuilderTest {
 
         expectClass(VolatileHeapRingBuffer.class, OneToOneHeapContentionBenchmark.RING_BUFFER);
         expectClass(VolatileHeapBlockingRingBuffer.class, OneToOneHeapBlockingContentionBenchmark.Holder.RING_BUFFER, OneToOneHeapBlockingContentionPerfBenchmark.RING_BUFFER);
+        expectClass(VolatileHeapBlockingResizableRingBuffer.class, ResizableOneToOneHeapBlockingContentionBenchmark.Holder.RING_BUFFER);
         expectClass(VolatileDirectRingBuffer.class, OneToOneDirectContentionBenchmark.RING_BUFFER);
         expectClass(VolatileDirectBlockingRingBuffer.class, OneToOneDirectBlockingContentionBenchmark.Holder.RING_BUFFER, OneToOneDirectBlockingContentionPerfBenchmark.RING_BUFFER);
 
@@ -0,0 +1,78 @@
+package org.ringbuffer.marshalling;
+
+import eu.menzani.lang.Assert;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static eu.menzani.struct.HeapOffsets.INT;
+
+public class TimedMarshallingRingBufferTest {
+    private static final long TIMEOUT = TimeUnit.MILLISECONDS.toNanos(20L);
+    private static final long LONG_TIMEOUT = TimeUnit.SECONDS.toNanos(10L);
+
+    private static List<HeapRingBuffer> newRingBuffers() {
+        return List.of(
+                HeapRingBuffer.withCapacity(64)
+                        .oneWriter()
+                        .oneReader()
+                        .blocking()
+                        .build(),
+                HeapRingBuffer.withCapacity(64)
+                        .manyWriters()
+                        .manyReaders()
+                        .blocking()
+                        .build());
+    }
+
+    public void testTakeTimesOut() {
+        for (HeapRingBuffer ringBuffer : newRingBuffers()) {
+            long start = System.nanoTime();
+            Assert.equal(ringBuffer.take(INT, TIMEOUT, TimeUnit.NANOSECONDS), -1);
+            Assert.notGreater(TIMEOUT, System.nanoTime() - start);
+
+            // Not enough bytes
+            write(ringBuffer, 1);
+            Assert.equal(ringBuffer.take(INT + INT, TIMEOUT, TimeUnit.NANOSECONDS), -1);
+            int offset = ringBuffer.take(INT, TIMEOUT, TimeUnit.NANOSECONDS);
+            Assert.equal(ringBuffer.readInt(offset), 1);
+            ringBuffer.advance(offset + INT);
+        }
+    }
+
+    public void testTakeBeforeDeadline() throws InterruptedException {
+        for (HeapRingBuffer ringBuffer : newRingBuffers()) {
+            Thread writer = new Thread(() -> {
+                try {
+                    TimeUnit.NANOSECONDS.sleep(TIMEOUT);
+                } catch (InterruptedException e) {
+                    throw new AssertionError(e);
+                }
+                write(ringBuffer, 2);
+            });
+            writer.start();
+            int offset = ringBuffer.take(INT, LONG_TIMEOUT, TimeUnit.NANOSECONDS);
+            Assert.equal(ringBuffer.readInt(offset), 2);
+            ringBuffer.advance(offset + INT);
+            writer.join();
+        }
+    }
+
+    public void testNonPositiveTimeout() {
+        for (HeapRingBuffer ringBuffer : newRingBuffers()) {
+            Assert.equal(ringBuffer.take(INT, 0L, TimeUnit.NANOSECONDS), -1);
+            Assert.equal(ringBuffer.take(INT, -1L, TimeUnit.NANOSECONDS), -1);
+            // Does not wait, but still takes if possible
+            write(ringBuffer, 3);
+            int offset = ringBuffer.take(INT, 0L, TimeUnit.NANOSECONDS);
+            Assert.equal(ringBuffer.readInt(offset), 3);
+            ringBuffer.advance(offset + INT);
+        }
+    }
+
+    private static void write(HeapRingBuffer ringBuffer, int value) {
+        int offset = ringBuffer.next(INT);
+        ringBuffer.writeInt(offset, value);
+        ringBuffer.put(offset + INT);
+    }
+}
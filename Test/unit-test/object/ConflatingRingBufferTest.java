@@ -0,0 +1,78 @@
+package org.ringbuffer.object;
+
+import eu.menzani.lang.Assert;
+
+public class ConflatingRingBufferTest {
+    private final ConflatingRingBuffer<String> ringBuffer = RingBuffer.<String>withCapacity(3).conflating();
+
+    public void testReplacePending() {
+        ringBuffer.put(1L, "a");
+        ringBuffer.put(2L, "b");
+        ringBuffer.put(1L, "c");
+        Assert.equal(ringBuffer.size(), 2);
+        Assert.equal(ringBuffer.take(), "c");
+        Assert.equal(ringBuffer.take(), "b");
+        Assert.equal(ringBuffer.isEmpty(), true);
+    }
+
+    public void testArrivalOrder() {
+        ringBuffer.put(3L, "a");
+        ringBuffer.put(1L, "b");
+        ringBuffer.put(2L, "c");
+        Assert.equal(ringBuffer.take(), "a");
+        ringBuffer.put(3L, "d");
+        Assert.equal(ringBuffer.take(), "b");
+        Assert.equal(ringBuffer.take(), "c");
+        Assert.equal(ringBuffer.take(), "d");
+        Assert.equal(ringBuffer.poll(), null);
+    }
+
+    public void testEvictWhenFull() {
+        ringBuffer.put(1L, "a");
+        ringBuffer.put(2L, "b");
+        ringBuffer.put(3L, "c");
+        ringBuffer.put(4L, "d");
+        Assert.equal(ringBuffer.size(), 3);
+        // The index entry of the evicted key must be gone, or "e" would replace the slot now used by "d"
+        ringBuffer.put(1L, "e");
+        Assert.equal(ringBuffer.size(), 3);
+        Assert.equal(ringBuffer.take(), "c");
+        Assert.equal(ringBuffer.take(), "d");
+        Assert.equal(ringBuffer.take(), "e");
+        Assert.equal(ringBuffer.isEmpty(), true);
+    }
+
+    public void testIndexRemoveWrapsAround() {
+        ConflationIndex index = new ConflationIndex(4);
+        int lastSlot = 7;
+        long[] lastSlotKeys = findKeys(index, lastSlot, 3);
+        long firstSlotKey = findKeys(index, 0, 1)[0];
+        // Probing wraps around: the keys end up in slots 7, 0 and 1, and firstSlotKey in slot 2
+        for (int i = 0; i < lastSlotKeys.length; i++) {
+            index.put(lastSlotKeys[i], i);
+        }
+        index.put(firstSlotKey, 3);
+
+        index.remove(lastSlotKeys[0]);
+        Assert.equal(index.get(lastSlotKeys[0]), -1);
+        Assert.equal(index.get(lastSlotKeys[1]), 1);
+        Assert.equal(index.get(lastSlotKeys[2]), 2);
+        Assert.equal(index.get(firstSlotKey), 3);
+
+        index.remove(lastSlotKeys[1]);
+        index.remove(lastSlotKeys[2]);
+        Assert.equal(index.get(lastSlotKeys[2]), -1);
+        Assert.equal(index.get(firstSlotKey), 3);
+    }
+
+    private static long[] findKeys(ConflationIndex index, int slot, int count) {
+        long[] keys = new long[count];
+        int found = 0;
+        for (long key = 0L; found < count; key++) {
+            if (index.slotOf(key) == slot) {
+                keys[found++] = key;
+            }
+        }
+        return keys;
+    }
+}
@@ -3,6 +3,8 @@ package org.ringbuffer.object;
 import bench.object.*;
 import eu.menzani.lang.Assert;
 import org.ringbuffer.RingBufferBuilderTest;
+import org.ringbuffer.wait.SignalBusyWaitStrategy;
+import org.ringbuffer.wait.YieldBusyWaitStrategy;
 
 public class ObjectRingBufferBuilderTest extends RingBufferBuilderTest {
     private final RingBufferBuilder<?> builder = new RingBufferBuilder<>(2);
@@ -39,6 +41,159 @@ public class ObjectRingBufferBuilderTest extends RingBufferBuilderTest {
         Assert.fails(builder::build, IllegalStateException.class);
     }
 
+    public void testClaimingNotBlocking() {
+        builder.manyWriters();
+        builder.oneReader();
+        Assert.fails(builder.claiming()::build, IllegalStateException.class);
+    }
+
+    public void testClaimingOneToOne() {
+        builder.oneWriter();
+        builder.oneReader();
+        builder.blocking();
+        Assert.fails(builder.claiming()::build, IllegalStateException.class);
+    }
+
+    public void testSequencedNotBlocking() {
+        builder.oneWriter();
+        builder.oneReader();
+        Assert.fails(builder.sequenced()::build, IllegalStateException.class);
+    }
+
+    public void testMulticastReadersNotSet() {
+        PrefilledRingBufferBuilder<Object> builder = new PrefilledRingBufferBuilder<>(2);
+        builder.fillWith(Object::new);
+        builder.oneWriter();
+        builder.oneReader();
+        Assert.fails(builder.blocking().multicast()::build, IllegalStateException.class);
+    }
+
+    public void testMulticastManyWriters() {
+        PrefilledRingBufferBuilder<Object> builder = new PrefilledRingBufferBuilder<>(2);
+        builder.fillWith(Object::new);
+        builder.manyWriters();
+        builder.oneReader();
+        Assert.fails(builder.blocking().multicast().readers(2)::build, IllegalStateException.class);
+    }
+
+    public void testMulticastNotPowerOfTwoCapacity() {
+        PrefilledRingBufferBuilder<Object> builder = new PrefilledRingBufferBuilder<>(3);
+        builder.fillWith(Object::new);
+        builder.oneWriter();
+        builder.oneReader();
+        Assert.fails(builder.blocking().multicast().readers(2)::build, IllegalArgumentException.class);
+    }
+
+    public void testMulticastDependsOnLaterReader() {
+        PrefilledRingBufferBuilder<Object> builder = new PrefilledRingBufferBuilder<>(2);
+        builder.fillWith(Object::new);
+        MulticastPrefilledRingBufferBuilder<Object> multicastBuilder = builder.blocking().multicast().readers(3);
+        Assert.fails(() -> multicastBuilder.dependsOn(1, 2), IllegalArgumentException.class);
+    }
+
+    public void testPowerOfTwoNotPowerOfTwoCapacity() {
+        Assert.fails(new RingBufferBuilder<>(3)::powerOfTwo, IllegalArgumentException.class);
+    }
+
+    public void testPowerOfTwoManyWriters() {
+        builder.manyWriters();
+        builder.oneReader();
+        builder.powerOfTwo();
+        Assert.fails(builder::build, IllegalStateException.class);
+    }
+
+    public void testStripedLanesNotSet() {
+        builder.manyWriters();
+        builder.oneReader();
+        Assert.fails(builder.striped()::build, IllegalStateException.class);
+    }
+
+    public void testStripedOneWriter() {
+        builder.oneWriter();
+        builder.oneReader();
+        Assert.fails(builder.striped().lanes(2)::build, IllegalStateException.class);
+    }
+
+    public void testSignal() {
+        builder.oneWriter();
+        builder.oneReader();
+        builder.blocking(new SignalBusyWaitStrategy());
+        expectClass(SignallingRingBuffer.class, builder.build());
+    }
+
+    public void testSignalClaiming() {
+        builder.manyWriters();
+        builder.oneReader();
+        builder.blocking(new SignalBusyWaitStrategy());
+        Assert.fails(builder.claiming()::build, IllegalStateException.class);
+    }
+
+    public void testClaimingSharedWriteStrategy() {
+        builder.manyWriters();
+        builder.oneReader();
+        builder.blocking(YieldBusyWaitStrategy.getDefault());
+        Assert.fails(builder.claiming()::build, IllegalStateException.class);
+    }
+
+    public void testClaimingSharedReadStrategy() {
+        builder.oneWriter();
+        builder.manyReaders();
+        builder.blocking();
+        builder.waitingWith(YieldBusyWaitStrategy.getDefault());
+        Assert.fails(builder.claiming()::build, IllegalStateException.class);
+    }
+
+    public void testClaimingWritingWith() {
+        builder.manyWriters();
+        builder.oneReader();
+        builder.blocking(YieldBusyWaitStrategy.getDefault());
+        expectClass(ClaimingAtomicWriteBlockingRingBuffer.class, builder.claiming().writingWith(YieldBusyWaitStrategy::getDefault).build());
+    }
+
+    public void testBoundedLockfreeSharedWriteStrategy() {
+        LockfreeRingBufferBuilder<?> builder = new RingBufferBuilder<>(2).lockfree();
+        builder.manyWriters();
+        builder.oneReader();
+        Assert.fails(builder.bounded(YieldBusyWaitStrategy.getDefault())::build, IllegalStateException.class);
+    }
+
+    public void testSignalPrioritizedWriters() {
+        builder.oneWriter();
+        builder.oneReader();
+        builder.blocking(new SignalBusyWaitStrategy());
+        Assert.fails(builder.prioritized().priorities(2)::build, IllegalStateException.class);
+    }
+
+    public void testUnboundedManyReaders() {
+        LockfreeRingBufferBuilder<?> builder = new RingBufferBuilder<>(2).lockfree();
+        builder.oneWriter();
+        builder.manyReaders();
+        Assert.fails(builder.unbounded()::build, IllegalStateException.class);
+    }
+
+    public void testResizableNotBlocking() {
+        builder.oneWriter();
+        builder.oneReader();
+        Assert.fails(builder.resizable()::build, IllegalStateException.class);
+    }
+
+    public void testResizableManyWriters() {
+        builder.blocking();
+        builder.manyWriters();
+        builder.oneReader();
+        Assert.fails(builder.resizable()::build, IllegalStateException.class);
+    }
+
+    public void testResizableCapacityNotPowerOfTwo() {
+        Assert.fails(new RingBufferBuilder<>(3)::resizable, IllegalArgumentException.class);
+    }
+
+    public void testPrioritiesNotSet() {
+        builder.oneWriter();
+        builder.oneReader();
+        Assert.fails(builder.prioritized()::build, IllegalStateException.class);
+    }
+
     public void testClasses() {
         expectClass(ConcurrentBlockingRingBuffer.class, ManyToManyBlockingContentionBenchmark.Holder.RING_BUFFER, ManyToManyBlockingContentionPerfBenchmark.RING_BUFFER);
         expectClass(ConcurrentRingBuffer.class, ManyToManyContentionBenchmark.Holder.RING_BUFFER);
@@ -48,9 +203,14 @@ public class ObjectRingBufferBuilderTest extends RingBufferBuilderTest {
 
         expectClass(AtomicWriteBlockingRingBuffer.class, ManyWritersBlockingContentionBenchmark.Holder.RING_BUFFER, ManyWritersBlockingContentionPerfBenchmark.RING_BUFFER);
         expectClass(AtomicWriteRingBuffer.class, ManyWritersContentionBenchmark.Holder.RING_BUFFER);
+        expectClass(AtomicWriteStripedRingBuffer.class, ManyWritersStripedContentionBenchmark.Holder.RING_BUFFER);
 
-        expectClass(VolatileBlockingRingBuffer.class, OneToOneBlockingContentionBenchmark.Holder.RING_BUFFER, OneToOneBlockingContentionPerfBenchmark.RING_BUFFER);
+        expectClass(VolatileBlockingRingBuffer.class, OneToOneBlockingContentionBenchmark.Holder.RING_BUFFER, OneToOneBlockingContentionPerfBenchmark.RING_BUFFER, OneToOneBlockingEventProcessorContentionBenchmark.Holder.RING_BUFFER);
         expectClass(VolatileRingBuffer.class, OneToOneContentionBenchmark.Holder.RING_BUFFER);
+        expectClass(SignallingRingBuffer.class, OneToOneBlockingSignalContentionBenchmark.Holder.RING_BUFFER);
+        expectClass(PowerOfTwoVolatileBlockingRingBuffer.class, PowerOfTwoOneToOneBlockingContentionBenchmark.Holder.RING_BUFFER, PowerOfTwoOneToOneBlockingContentionPerfBenchmark.RING_BUFFER);
+        expectClass(VolatileBlockingResizableRingBuffer.class, ResizableOneToOneBlockingContentionBenchmark.Holder.RING_BUFFER);
+        expectClass(VolatilePriorityRingBuffer.class, OneToOneBlockingPriorityContentionBenchmark.Holder.RING_BUFFER);
 
         expectClass(ConcurrentBlockingPrefilledRingBuffer.class, PrefilledManyToManyBlockingContentionBenchmark.Holder.RING_BUFFER, PrefilledManyToManyBlockingContentionPerfBenchmark.RING_BUFFER);
         expectClass(ConcurrentPrefilledRingBuffer.class, PrefilledManyToManyContentionBenchmark.RING_BUFFER);
@@ -62,7 +222,9 @@ public class ObjectRingBufferBuilderTest extends RingBufferBuilderTest {
         expectClass(AtomicWritePrefilledRingBuffer.class, PrefilledManyWritersContentionBenchmark.RING_BUFFER);
 
         expectClass(VolatileBlockingPrefilledRingBuffer.class, PrefilledOneToOneBlockingContentionBenchmark.Holder.RING_BUFFER, PrefilledOneToOneBlockingContentionPerfBenchmark.RING_BUFFER);
+        expectClass(PowerOfTwoVolatileBlockingPrefilledRingBuffer.class, PowerOfTwoPrefilledOneToOneBlockingContentionBenchmark.Holder.RING_BUFFER, PowerOfTwoPrefilledOneToOneBlockingContentionPerfBenchmark.RING_BUFFER);
         expectClass(VolatilePrefilledRingBuffer.class, PrefilledOneToOneContentionBenchmark.RING_BUFFER);
+        expectClass(VolatileMulticastPrefilledRingBuffer.class, PrefilledMulticastContentionBenchmark.RING_BUFFER, PrefilledPipelineContentionBenchmark.RING_BUFFER);
 
         expectClass(LockfreeAtomicWriteRingBuffer.class, ProducersToProcessorToConsumersContentionBenchmark.PRODUCERS_RING_BUFFER);
         expectClass(LockfreeAtomicReadPrefilledRingBuffer.class, ProducersToProcessorToConsumersContentionBenchmark.CONSUMERS_RING_BUFFER);
@@ -71,10 +233,24 @@ public class ObjectRingBufferBuilderTest extends RingBufferBuilderTest {
         expectClass(LockfreeAtomicReadRingBuffer.class, LockfreeManyReadersContentionBenchmark.Holder.RING_BUFFER);
         expectClass(LockfreeAtomicWriteRingBuffer.class, LockfreeManyWritersContentionBenchmark.Holder.RING_BUFFER);
         expectClass(LockfreeVolatileRingBuffer.class, LockfreeOneToOneContentionBenchmark.Holder.RING_BUFFER);
+        expectClass(UnboundedLockfreeAtomicWriteRingBuffer.class, UnboundedLockfreeManyWritersContentionBenchmark.Holder.RING_BUFFER);
+        expectClass(UnboundedLockfreeVolatileRingBuffer.class, UnboundedLockfreeOneToOneContentionBenchmark.Holder.RING_BUFFER);
+
+        expectClass(BoundedLockfreeConcurrentRingBuffer.class, BoundedLockfreeManyToManyContentionBenchmark.Holder.RING_BUFFER);
+        expectClass(BoundedLockfreeAtomicWriteRingBuffer.class, BoundedLockfreeManyWritersContentionBenchmark.Holder.RING_BUFFER);
+        expectClass(BoundedLockfreeVolatileRingBuffer.class, BoundedLockfreeOneToOneContentionBenchmark.Holder.RING_BUFFER);
 
         expectClass(LockfreeConcurrentPrefilledRingBuffer.class, LockfreePrefilledManyToManyContentionBenchmark.RING_BUFFER);
         expectClass(LockfreeAtomicReadPrefilledRingBuffer.class, LockfreePrefilledManyReadersContentionBenchmark.RING_BUFFER);
         expectClass(LockfreeAtomicWritePrefilledRingBuffer.class, LockfreePrefilledManyWritersContentionBenchmark.RING_BUFFER);
         expectClass(LockfreeVolatilePrefilledRingBuffer.class, LockfreePrefilledOneToOneContentionBenchmark.RING_BUFFER);
+
+        expectClass(ClaimingConcurrentBlockingRingBuffer.class, ClaimingManyToManyBlockingContentionBenchmark.Holder.RING_BUFFER, ClaimingManyToManyBlockingContentionPerfBenchmark.RING_BUFFER);
+        expectClass(ClaimingAtomicReadBlockingRingBuffer.class, ClaimingManyReadersBlockingContentionBenchmark.Holder.RING_BUFFER, ClaimingManyReadersBlockingContentionPerfBenchmark.RING_BUFFER);
+        expectClass(ClaimingAtomicWriteBlockingRingBuffer.class, ClaimingManyWritersBlockingContentionBenchmark.Holder.RING_BUFFER, ClaimingManyWritersBlockingContentionPerfBenchmark.RING_BUFFER);
+        expectClass(ClaimingAtomicReadBlockingPrefilledRingBuffer.class, ClaimingPrefilledManyReadersBlockingBatchContentionBenchmark.Holder.RING_BUFFER, ClaimingPrefilledManyReadersBlockingBatchContentionPerfBenchmark.RING_BUFFER);
+
+        expectClass(SequencedConcurrentBlockingRingBuffer.class, ManyToManyBlockingSequencedContentionBenchmark.Holder.RING_BUFFER);
+        expectClass(SequencedVolatileBlockingRingBuffer.class, OneToOneBlockingSequencedContentionBenchmark.Holder.RING_BUFFER);
     }
 }
@@ -0,0 +1,38 @@
+package org.ringbuffer.object;
+
+import eu.menzani.lang.Assert;
+
+public class PriorityRingBufferTest {
+    private final PriorityRingBuffer<Integer> ringBuffer = RingBuffer.<Integer>withCapacity(16)
+            .oneWriter()
+            .oneReader()
+            .blocking()
+            .prioritized()
+            .priorities(3)
+            .starvationLimit(2)
+            .build();
+
+    public void testHighestPriorityFirst() {
+        ringBuffer.put(0, 0);
+        ringBuffer.put(2, 2);
+        ringBuffer.put(1, 1);
+        Assert.equal((int) ringBuffer.take(), 2);
+        Assert.equal((int) ringBuffer.take(), 1);
+        Assert.equal((int) ringBuffer.take(), 0);
+    }
+
+    public void testStarvationLimit() {
+        for (int i = 0; i < 6; i++) {
+            ringBuffer.put(2, 2);
+        }
+        for (int i = 0; i < 3; i++) {
+            ringBuffer.put(1, 1);
+            ringBuffer.put(0, 0);
+        }
+        // The lowest lane must not wait for the middle one to be empty
+        int[] priorities = {2, 2, 0, 1, 2, 0, 2, 1, 0};
+        for (int priority : priorities) {
+            Assert.equal((int) ringBuffer.take(), priority);
+        }
+    }
+}
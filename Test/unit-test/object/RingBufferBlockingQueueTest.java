@@ -0,0 +1,124 @@
+package org.ringbuffer.object;
+
+import eu.menzani.lang.Assert;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class RingBufferBlockingQueueTest {
+    private final RingBufferBlockingQueue<Runnable> queue = new RingBufferBlockingQueue<>(
+            RingBuffer.<Runnable>withCapacity(16)
+                    .manyReaders()
+                    .manyWriters()
+                    .blocking()
+                    .build());
+
+    public void testRemainingCapacity() {
+        Assert.equal(queue.remainingCapacity(), 15);
+        queue.offer(() -> {});
+        Assert.equal(queue.remainingCapacity(), 14);
+    }
+
+    public void testTakeInterrupted() {
+        Thread.currentThread().interrupt();
+        Assert.fails(() -> {
+            try {
+                queue.take();
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+        }, IllegalStateException.class);
+    }
+
+    public void testPeek() {
+        Assert.equal(queue.peek(), null);
+        Runnable first = () -> {};
+        Runnable second = () -> {};
+        queue.offer(first);
+        queue.offer(second);
+        Assert.equal(queue.peek(), first);
+        Assert.equal(queue.peek(), first);
+        Assert.equal(queue.size(), 2);
+        Assert.equal(queue.poll(), first);
+        Assert.equal(queue.poll(), second);
+        Assert.equal(queue.isEmpty(), true);
+    }
+
+    public void testRemove() {
+        Runnable first = () -> {};
+        Runnable second = () -> {};
+        Runnable third = () -> {};
+        queue.offer(first);
+        queue.offer(second);
+        queue.offer(third);
+        Assert.equal(queue.remove(second), true);
+        Assert.equal(queue.remove(second), false);
+        Assert.equal(queue.size(), 2);
+        Assert.equal(queue.contains(first), true);
+        Assert.equal(queue.poll(), first);
+        Assert.equal(queue.poll(), third);
+        Assert.equal(queue.poll(), null);
+    }
+
+    public void testPurge() {
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, queue);
+        queue.offer(() -> {});
+        queue.offer(new FutureTask<>(() -> {}, null));
+        ((FutureTask<?>) queue.toArray()[1]).cancel(false);
+        executor.purge();
+        Assert.equal(queue.size(), 1);
+        executor.shutdownNow();
+    }
+
+    public void testDrainToClaimingEmpty() {
+        RingBufferBlockingQueue<Runnable> queue = new RingBufferBlockingQueue<>(
+                RingBuffer.<Runnable>withCapacity(16)
+                        .manyReaders()
+                        .manyWriters()
+                        .blocking()
+                        .claiming()
+                        .build());
+        List<Runnable> tasks = new ArrayList<>();
+        Assert.equal(queue.drainTo(tasks), 0);
+        queue.offer(() -> {});
+        queue.offer(() -> {});
+        Assert.equal(queue.drainTo(tasks), 2);
+        Assert.equal(queue.drainTo(tasks), 0);
+        Assert.equal(tasks.size(), 2);
+    }
+
+    public void testShutdown() throws InterruptedException {
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(2, 2, 0L, TimeUnit.MILLISECONDS, queue);
+        AtomicInteger numExecuted = new AtomicInteger();
+        for (int i = 0; i < 10; i++) {
+            executor.execute(numExecuted::incrementAndGet);
+        }
+        executor.shutdown();
+        Assert.equal(executor.awaitTermination(10L, TimeUnit.SECONDS), true);
+        Assert.equal(numExecuted.get(), 10);
+    }
+
+    public void testShutdownNow() throws InterruptedException {
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(2, 2, 0L, TimeUnit.MILLISECONDS, queue);
+        executor.prestartAllCoreThreads();
+        CountDownLatch started = new CountDownLatch(1);
+        executor.execute(() -> {
+            started.countDown();
+            try {
+                new CountDownLatch(1).await();
+            } catch (InterruptedException ignored) {
+            }
+        });
+        started.await();
+        executor.execute(() -> {});
+        executor.execute(() -> {});
+        int numNotExecuted = executor.shutdownNow().size();
+        Assert.equal(executor.awaitTermination(10L, TimeUnit.SECONDS), true);
+        Assert.notGreater(numNotExecuted, 2);
+    }
+}
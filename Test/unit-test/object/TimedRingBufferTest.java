@@ -0,0 +1,124 @@
+package org.ringbuffer.object;
+
+import eu.menzani.lang.Assert;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+public class TimedRingBufferTest {
+    private static final int CAPACITY = 4;
+    private static final long TIMEOUT = TimeUnit.MILLISECONDS.toNanos(20L);
+    private static final long LONG_TIMEOUT = TimeUnit.SECONDS.toNanos(10L);
+
+    private static List<RingBuffer<Integer>> newRingBuffers() {
+        return List.of(
+                RingBuffer.<Integer>withCapacity(CAPACITY)
+                        .oneWriter()
+                        .oneReader()
+                        .blocking()
+                        .build(),
+                RingBuffer.<Integer>withCapacity(CAPACITY)
+                        .oneWriter()
+                        .manyReaders()
+                        .blocking()
+                        .build(),
+                RingBuffer.<Integer>withCapacity(CAPACITY)
+                        .manyWriters()
+                        .oneReader()
+                        .blocking()
+                        .build(),
+                RingBuffer.<Integer>withCapacity(CAPACITY)
+                        .manyWriters()
+                        .manyReaders()
+                        .blocking()
+                        .build(),
+                RingBuffer.<Integer>withCapacity(CAPACITY)
+                        .manyWriters()
+                        .manyReaders()
+                        .blocking()
+                        .claiming()
+                        .build());
+    }
+
+    public void testTakeTimesOut() {
+        for (RingBuffer<Integer> ringBuffer : newRingBuffers()) {
+            long start = System.nanoTime();
+            Assert.equal(ringBuffer.take(TIMEOUT, TimeUnit.NANOSECONDS), null);
+            Assert.notGreater(TIMEOUT, System.nanoTime() - start);
+        }
+    }
+
+    public void testPutTimesOut() {
+        for (RingBuffer<Integer> ringBuffer : newRingBuffers()) {
+            int size = fill(ringBuffer);
+            long start = System.nanoTime();
+            Assert.equal(ringBuffer.put(-1, TIMEOUT, TimeUnit.NANOSECONDS), false);
+            Assert.notGreater(TIMEOUT, System.nanoTime() - start);
+            // The element must not have been put
+            for (int i = 0; i < size; i++) {
+                Assert.equal((int) ringBuffer.take(), i);
+            }
+            Assert.equal(ringBuffer.poll(), null);
+        }
+    }
+
+    public void testTakeBeforeDeadline() throws InterruptedException {
+        for (RingBuffer<Integer> ringBuffer : newRingBuffers()) {
+            Thread writer = startAfterTimeout(() -> ringBuffer.put(1));
+            Assert.equal((int) ringBuffer.take(LONG_TIMEOUT, TimeUnit.NANOSECONDS), 1);
+            writer.join();
+        }
+    }
+
+    public void testPutBeforeDeadline() throws InterruptedException {
+        for (RingBuffer<Integer> ringBuffer : newRingBuffers()) {
+            int size = fill(ringBuffer);
+            Thread reader = startAfterTimeout(ringBuffer::take);
+            Assert.equal(ringBuffer.put(size, LONG_TIMEOUT, TimeUnit.NANOSECONDS), true);
+            reader.join();
+            for (int i = 1; i <= size; i++) {
+                Assert.equal((int) ringBuffer.take(), i);
+            }
+        }
+    }
+
+    public void testNonPositiveTimeout() {
+        for (RingBuffer<Integer> ringBuffer : newRingBuffers()) {
+            // Does not wait, but still takes and puts if possible
+            Assert.equal(ringBuffer.take(0L, TimeUnit.NANOSECONDS), null);
+            Assert.equal(ringBuffer.take(-1L, TimeUnit.NANOSECONDS), null);
+            Assert.equal(ringBuffer.put(1, 0L, TimeUnit.NANOSECONDS), true);
+            Assert.equal(ringBuffer.put(2, -1L, TimeUnit.NANOSECONDS), true);
+            Assert.equal((int) ringBuffer.take(0L, TimeUnit.NANOSECONDS), 1);
+            Assert.equal((int) ringBuffer.take(-1L, TimeUnit.NANOSECONDS), 2);
+
+            fill(ringBuffer);
+            Assert.equal(ringBuffer.put(-1, 0L, TimeUnit.NANOSECONDS), false);
+            Assert.equal(ringBuffer.put(-1, -1L, TimeUnit.NANOSECONDS), false);
+        }
+    }
+
+    /**
+     * @return the number of elements put, which are 0, 1, 2...
+     */
+    private static int fill(RingBuffer<Integer> ringBuffer) {
+        int size = 0;
+        while (ringBuffer.offer(size)) {
+            size++;
+        }
+        return size;
+    }
+
+    private static Thread startAfterTimeout(Runnable action) {
+        Thread thread = new Thread(() -> {
+            try {
+                TimeUnit.NANOSECONDS.sleep(TIMEOUT);
+            } catch (InterruptedException e) {
+                throw new AssertionError(e);
+            }
+            action.run();
+        });
+        thread.start();
+        return thread;
+    }
+}
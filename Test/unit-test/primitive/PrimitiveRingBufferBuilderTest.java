@@ -0,0 +1,28 @@
+package org.ringbuffer.primitive;
+
+import bench.primitive.*;
+import eu.menzani.lang.Assert;
+import org.ringbuffer.RingBufferBuilderTest;
+import org.ringbuffer.wait.YieldBusyWaitStrategy;
+
+public class PrimitiveRingBufferBuilderTest extends RingBufferBuilderTest {
+    public void testLockfreeNotPowerOfTwoCapacity() {
+        Assert.fails(IntRingBuffer.withCapacity(3)::lockfree, IllegalArgumentException.class);
+    }
+
+    public void testLockfreeSharedWriteStrategy() {
+        LockfreeIntRingBufferBuilder builder = IntRingBuffer.withCapacity(2).lockfree(YieldBusyWaitStrategy.getDefault());
+        builder.manyWriters();
+        builder.oneReader();
+        Assert.fails(builder::build, IllegalStateException.class);
+    }
+
+    public void testClasses() {
+        expectClass(VolatileBlockingIntRingBuffer.class, OneToOneIntBlockingContentionBenchmark.Holder.RING_BUFFER, OneToOneIntBlockingContentionPerfBenchmark.RING_BUFFER);
+        expectClass(VolatileBlockingLongRingBuffer.class, OneToOneLongBlockingContentionBenchmark.Holder.RING_BUFFER);
+        expectClass(ConcurrentBlockingIntRingBuffer.class, ManyToManyIntBlockingContentionBenchmark.Holder.RING_BUFFER);
+
+        expectClass(LockfreeVolatileIntRingBuffer.class, LockfreeOneToOneIntContentionBenchmark.RING_BUFFER);
+        expectClass(LockfreeConcurrentIntRingBuffer.class, LockfreeManyToManyIntContentionBenchmark.RING_BUFFER);
+    }
+}